@@ -0,0 +1,107 @@
+/**
+ * Project     : LutzensAdvancedInterfaceBenchmark
+ * Klasse      : AddObjectAttributesBenchmark
+ * Version     : 1
+ * Date        : 18.10.2026 13:20:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Misst {@link InterfaceWithAttributes#addObjectAttributes(InterfaceWithAttributes)} in
+ * Abhängigkeit von der Anzahl der übernommenen Attribute.
+ * <p>
+ * Zum Vergleich wird das Objekt als Prototyp über
+ * {@link InterfaceWithAttributes#setObjectAttributePrototype(InterfaceWithAttributes, boolean)}
+ * gesetzt, dabei wird nichts je Objekt kopiert.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 13:20:02 agent | Realisierung
+ * @since 18.10.2026 17:04:20 agent | Vergleich mit der Vererbung über einen Prototyp
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AddObjectAttributesBenchmark {
+  /** @since 18.10.2026 13:20:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * @param registry {@link RegistryState}
+   * @param cursor {@link RegistryState.Cursor}
+   * @param source {@link Source}
+   * @since 18.10.2026 13:20:30 agent | Realisierung
+   */
+  @Benchmark
+  public void addObjectAttributes(RegistryState registry, RegistryState.Cursor cursor, Source source) {
+    cursor.next(registry).addObjectAttributes(source.object);
+  }
+  
+  /**
+   * @param registry {@link RegistryState}
+   * @param cursor {@link RegistryState.Cursor}
+   * @param source {@link Source}
+   * @since 18.10.2026 17:04:31 agent | Realisierung
+   */
+  @Benchmark
+  public void prototype(RegistryState registry, RegistryState.Cursor cursor, Source source) {
+    cursor.next(registry).setObjectAttributePrototype(source.object, false);
+  }
+  
+  /**
+   * @param registry {@link RegistryState}
+   * @param cursor {@link RegistryState.Cursor}
+   * @param source {@link Source}
+   * @since 18.10.2026 17:04:40 agent | Realisierung
+   */
+  @Benchmark
+  public void livePrototype(RegistryState registry, RegistryState.Cursor cursor, Source source) {
+    cursor.next(registry).setObjectAttributePrototype(source.object, true);
+  }
+  
+  /* -- Innere Klassen ---------------------------------------------------------------------------- */
+  
+  /**
+   * Objekt, dessen Attribute übernommen werden.
+   * @since 18.10.2026 13:20:50 agent | Realisierung
+   */
+  @State(Scope.Benchmark)
+  public static class Source {
+    /** Anzahl der Attribute.
+     * @since 18.10.2026 13:21:02 agent | Realisierung */
+    @Param({"1", "8", "64"})
+    public int attributes;
+    
+    /** Objekt mit den Attributen.
+     * @since 18.10.2026 13:21:14 agent | Realisierung */
+    BenchmarkObject object;
+    
+    /**
+     * Legt das Objekt mit den Attributen an.
+     * @since 18.10.2026 13:21:26 agent | Realisierung
+     */
+    @Setup(Level.Trial)
+    public void create() {
+      this.object = new BenchmarkObject();
+      for (int i = 0; i < this.attributes; i++) {
+        this.object.setObjectAttribute("benchmark.source." + i, Integer.valueOf(i));
+      }
+    }
+  }
+  
+}
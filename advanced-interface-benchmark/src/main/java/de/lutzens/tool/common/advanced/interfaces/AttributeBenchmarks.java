@@ -0,0 +1,73 @@
+/**
+ * Project     : LutzensAdvancedInterfaceBenchmark
+ * Klasse      : AttributeBenchmarks
+ * Version     : 1
+ * Date        : 18.10.2026 13:24:40
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.File;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Startet alle Benchmarks einmal mit einem Thread und einmal mit einem Thread je Prozessor.
+ * <p>
+ * Die Ergebnisse werden maschinenlesbar als JSON unter <code>target/jmh-&lt;threads&gt;.json</code>
+ * abgelegt. Zusätzliche Argumente werden wie beim Standardaufruf von JMH ausgewertet, z.B.
+ * <pre>
+ * java -jar target/benchmarks.jar ObjectAttribute -p size=1000
+ * </pre>
+ * Wird <code>-t</code> angegeben, entfällt der Durchlauf mit der jeweils anderen Anzahl an Threads.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 13:24:40 agent | Realisierung
+ */
+public final class AttributeBenchmarks {
+  /** @since 18.10.2026 13:24:44 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Keine Instanzen.
+   * @since 18.10.2026 13:24:50 agent | Realisierung
+   */
+  private AttributeBenchmarks() {
+  }
+  
+  /* -- statisch ---------------------------------------------------------------------------------- */
+  
+  /**
+   * @param args Argumente für JMH
+   * @throws RunnerException Fehler beim Ausführen
+   * @throws CommandLineOptionException Ungültige Argumente
+   * @since 18.10.2026 13:25:02 agent | Realisierung
+   */
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+    CommandLineOptions parent = new CommandLineOptions(args);
+    int processors = Runtime.getRuntime().availableProcessors();
+    int[] threads = parent.getThreads().hasValue() ? new int[] { parent.getThreads().get().intValue() }
+        : processors > 1 ? new int[] { 1, processors } : new int[] { 1 };
+    new File("target").mkdirs();
+    for (int count : threads) {
+      OptionsBuilder builder = new OptionsBuilder();
+      builder.parent(parent);
+      if (parent.getIncludes().isEmpty()) builder.include(AttributeBenchmarks.class.getPackage().getName() + ".*Benchmark");
+      if (!parent.getJvmArgsPrepend().hasValue()) builder.jvmArgsPrepend("-Xms4g", "-Xmx8g");
+      builder.threads(count);
+      builder.resultFormat(ResultFormatType.JSON);
+      builder.result("target/jmh-" + count + ".json");
+      new Runner(builder.build()).run();
+    }
+  }
+  
+}
@@ -0,0 +1,32 @@
+/**
+ * Project     : LutzensAdvancedInterfaceBenchmark
+ * Klasse      : BenchmarkObject
+ * Version     : 1
+ * Date        : 18.10.2026 13:10:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+/**
+ * Implementierung des {@link InterfaceWithAttributes} für die Benchmarks.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 13:10:02 agent | Realisierung
+ */
+public class BenchmarkObject implements InterfaceWithAttributes {
+  /** @since 18.10.2026 13:10:05 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Konstruiert ein {@link BenchmarkObject} und meldet es in der Registry an.
+   * @since 18.10.2026 13:10:11 agent | Realisierung
+   */
+  public BenchmarkObject() {
+    initInterfaceWithAttribute();
+  }
+  
+}
@@ -0,0 +1,88 @@
+/**
+ * Project     : LutzensAdvancedInterfaceBenchmark
+ * Klasse      : ExpungeBenchmark
+ * Version     : 1
+ * Date        : 18.10.2026 13:22:10
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Misst das Entfernen verwaister Einträge aus einer {@link ConcurrentWeakRegistry}.
+ * <p>
+ * Vor jeder Messung wird eine eigene Registry mit Einträgen gefüllt, deren Schlüssel sofort
+ * unerreichbar werden. Nach einer GarbageCollection stehen alle Einträge zur Bereinigung an, die
+ * Messung umfasst genau einen vollständigen Durchlauf.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 13:22:10 agent | Realisierung
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class ExpungeBenchmark {
+  /** @since 18.10.2026 13:22:14 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long                      serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Anzahl der verwaisten Einträge.
+   * @since 18.10.2026 13:22:30 agent | Realisierung */
+  @Param({"1000", "100000", "1000000", "10000000"})
+  public int                                     size;
+  
+  /** Registry mit verwaisten Einträgen.
+   * @since 18.10.2026 13:22:44 agent | Realisierung */
+  private ConcurrentWeakRegistry<Object, Object> registry;
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * Füllt die Registry und wartet, bis die Schlüssel entfernt wurden.
+   * <p>
+   * @throws InterruptedException Beim Warten unterbrochen
+   * @since 18.10.2026 13:23:02 agent | Realisierung
+   */
+  @Setup(Level.Invocation)
+  public void populate() throws InterruptedException {
+    this.registry = new ConcurrentWeakRegistry<>();
+    Object value = new Object();
+    for (int i = 0; i < this.size; i++) {
+      this.registry.put(new Object(), value);
+    }
+    System.gc();
+    // Die Referenzen werden asynchron vom Reference-Handler in die Queue gestellt.
+    Thread.sleep(100 + this.size / 10_000);
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * @return Anzahl der entfernten Einträge
+   * @since 18.10.2026 13:23:30 agent | Realisierung
+   */
+  @Benchmark
+  public int expunge() {
+    return this.registry.expungeStaleEntries(Integer.MAX_VALUE);
+  }
+  
+}
@@ -0,0 +1,48 @@
+/**
+ * Project     : LutzensAdvancedInterfaceBenchmark
+ * Klasse      : InitBenchmark
+ * Version     : 1
+ * Date        : 18.10.2026 13:15:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+/**
+ * Misst {@link InterfaceWithAttributes#initInterfaceWithAttribute()} bei gefüllter Registry.
+ * <p>
+ * Die Initialisierung legt keine Attribute an und schreibt nicht in die Registry. Gemessen wird
+ * daher nur das Anlegen des Objekts und das Nachschlagen seiner Klassen-Attribute.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 13:15:02 agent | Realisierung
+ * @since 18.10.2026 18:56:31 agent | Initialisierung ohne Schreibzugriff auf die Registry
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InitBenchmark {
+  /** @since 18.10.2026 13:15:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * @param registry {@link RegistryState}
+   * @return Neu angemeldetes Objekt
+   * @since 18.10.2026 13:15:20 agent | Realisierung
+   * @since 18.10.2026 16:58:10 agent | Ablage im {@link AttributeHolder}
+   */
+  @Benchmark
+  public InterfaceWithAttributes init(RegistryState registry) {
+    return "holder".equals(registry.storage) ? new InlineBenchmarkObject() : new BenchmarkObject();
+  }
+  
+}
@@ -0,0 +1,51 @@
+/**
+ * Project     : LutzensAdvancedInterfaceBenchmark
+ * Klasse      : InlineBenchmarkObject
+ * Version     : 1
+ * Date        : 18.10.2026 16:57:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+/**
+ * Implementierung des {@link InterfaceWithAttributes} für die Benchmarks, die ihre Attribute in
+ * einem eigenen {@link AttributeHolder} hält.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 16:57:02 agent | Realisierung
+ */
+public class InlineBenchmarkObject implements InterfaceWithAttributes {
+  /** @since 18.10.2026 16:57:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long     serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Attribute des Objekts.
+   * @since 18.10.2026 16:57:10 agent | Realisierung */
+  private final AttributeHolder attributes       = new AttributeHolder();
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Konstruiert ein {@link InlineBenchmarkObject}.
+   * @since 18.10.2026 16:57:20 agent | Realisierung
+   */
+  public InlineBenchmarkObject() {
+    initInterfaceWithAttribute();
+  }
+  
+  /* -- get/set/add/is ---------------------------------------------------------------------------- */
+  
+  /**
+   * @see de.lutzens.tool.common.advanced.interfaces.InterfaceWithAttributes#getAttributeHolder()
+   * @since 18.10.2026 16:57:31 agent | Realisierung
+   */
+  @Override
+  public AttributeHolder getAttributeHolder() {
+    return this.attributes;
+  }
+  
+}
@@ -0,0 +1,120 @@
+/**
+ * Project     : LutzensAdvancedInterfaceBenchmark
+ * Klasse      : JournalBenchmark
+ * Version     : 1
+ * Date        : 18.10.2026 17:51:31
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Misst schreibende Zugriffe ohne und mit geöffnetem Journal der Änderungen.
+ * <p>
+ * Mit {@link #journal} <code>on</code> protokolliert ein Journal in einem temporären Verzeichnis
+ * alle Änderungen, der Schlüssel eines Objekts ist sein Attribut {@link RegistryState#NAME}. Der
+ * Unterschied zu <code>off</code> ist der Aufwand des schreibenden Threads, das Schreiben der
+ * Segmente läuft im Hintergrund.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 17:51:31 agent | Realisierung
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JournalBenchmark {
+  /** @since 18.10.2026 17:51:35 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Journal: <code>off</code> oder <code>on</code>.
+   * @since 18.10.2026 17:51:40 agent | Realisierung */
+  @Param({"off", "on"})
+  public String             journal;
+  
+  /** Verzeichnis des Journals.
+   * @since 18.10.2026 17:51:51 agent | Realisierung */
+  private Path              directory;
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * Öffnet das Journal.
+   * @since 18.10.2026 17:52:02 agent | Realisierung
+   */
+  @Setup(Level.Trial)
+  public void open() throws IOException {
+    if (!"on".equals(this.journal)) return;
+    this.directory = Files.createTempDirectory("journal");
+    InterfaceWithAttributes.startAttributeJournal(this.directory, object -> (String) object.getObjectAttribute(RegistryState.NAME));
+  }
+  
+  /**
+   * Schließt das Journal und löscht das Verzeichnis.
+   * @since 18.10.2026 17:52:10 agent | Realisierung
+   */
+  @TearDown(Level.Trial)
+  public void close() throws IOException {
+    if (this.directory == null) return;
+    InterfaceWithAttributes.stopAttributeJournal();
+    try (Stream<Path> paths = Files.walk(this.directory)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+    this.directory = null;
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * @param registry {@link RegistryState}
+   * @param cursor {@link RegistryState.Cursor}
+   * @since 18.10.2026 17:52:20 agent | Realisierung
+   */
+  @Benchmark
+  public void setObjectAttribute(RegistryState registry, RegistryState.Cursor cursor) {
+    cursor.next(registry).setObjectAttribute(RegistryState.KEY, Integer.valueOf(1));
+  }
+  
+  /**
+   * @param registry {@link RegistryState}
+   * @param cursor {@link RegistryState.Cursor}
+   * @return Neuer Wert des Zählers
+   * @since 18.10.2026 17:52:31 agent | Realisierung
+   */
+  @Benchmark
+  public long addObjectAttributeLong(RegistryState registry, RegistryState.Cursor cursor) {
+    return cursor.next(registry).addObjectAttributeLong(RegistryState.COUNTER, 1);
+  }
+  
+  /**
+   * @param registry {@link RegistryState}
+   * @param cursor {@link RegistryState.Cursor}
+   * @since 18.10.2026 17:52:40 agent | Realisierung
+   */
+  @Benchmark
+  public void setClassAttribute(RegistryState registry, RegistryState.Cursor cursor) {
+    cursor.next(registry).setClassAttribute(RegistryState.NAME, Integer.valueOf(1));
+  }
+  
+}
@@ -0,0 +1,86 @@
+/**
+ * Project     : LutzensAdvancedInterfaceBenchmark
+ * Klasse      : ObjectAttributeBenchmark
+ * Version     : 1
+ * Date        : 18.10.2026 13:16:10
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+/**
+ * Misst lesende und schreibende Zugriffe auf Objektattribute.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 13:16:10 agent | Realisierung
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ObjectAttributeBenchmark {
+  /** @since 18.10.2026 13:16:14 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * @param registry {@link RegistryState}
+   * @param cursor {@link RegistryState.Cursor}
+   * @return Wert des Attributs
+   * @since 18.10.2026 13:16:30 agent | Realisierung
+   */
+  @Benchmark
+  public Object getByName(RegistryState registry, RegistryState.Cursor cursor) {
+    return cursor.next(registry).getObjectAttribute(RegistryState.NAME);
+  }
+  
+  /**
+   * @param registry {@link RegistryState}
+   * @param cursor {@link RegistryState.Cursor}
+   * @return Wert des Attributs
+   * @since 18.10.2026 13:16:44 agent | Realisierung
+   */
+  @Benchmark
+  public Integer getByKey(RegistryState registry, RegistryState.Cursor cursor) {
+    return cursor.next(registry).getObjectAttribute(RegistryState.KEY);
+  }
+  
+  /**
+   * @param registry {@link RegistryState}
+   * @param cursor {@link RegistryState.Cursor}
+   * @since 18.10.2026 13:16:58 agent | Realisierung
+   */
+  @Benchmark
+  public void setByName(RegistryState registry, RegistryState.Cursor cursor) {
+    cursor.next(registry).setObjectAttribute(RegistryState.NAME, RegistryState.NAME);
+  }
+  
+  /**
+   * @param registry {@link RegistryState}
+   * @param cursor {@link RegistryState.Cursor}
+   * @since 18.10.2026 13:17:12 agent | Realisierung
+   */
+  @Benchmark
+  public void setByKey(RegistryState registry, RegistryState.Cursor cursor) {
+    cursor.next(registry).setObjectAttribute(RegistryState.KEY, Integer.valueOf(1));
+  }
+  
+  /**
+   * @param registry {@link RegistryState}
+   * @param cursor {@link RegistryState.Cursor}
+   * @return Neuer Wert des Zählers
+   * @since 18.10.2026 13:17:30 agent | Realisierung
+   */
+  @Benchmark
+  public long addLong(RegistryState registry, RegistryState.Cursor cursor) {
+    return cursor.next(registry).addObjectAttributeLong(RegistryState.COUNTER, 1L);
+  }
+  
+}
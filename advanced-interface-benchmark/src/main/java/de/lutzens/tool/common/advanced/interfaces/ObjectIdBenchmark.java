@@ -0,0 +1,58 @@
+/**
+ * Project     : LutzensAdvancedInterfaceBenchmark
+ * Klasse      : ObjectIdBenchmark
+ * Version     : 1
+ * Date        : 18.10.2026 18:10:40
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+/**
+ * Misst die Vergabe der Objekt-Identifikatoren und die Suche eines Objekts über seinen
+ * Identifikator.
+ * <p>
+ * Mit mehreren Threads zeigt {@link #newObjectId(RegistryState)}, ob die Vergabe um den
+ * gemeinsamen Zähler konkurriert.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 18:10:40 agent | Realisierung
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ObjectIdBenchmark {
+  /** @since 18.10.2026 18:10:44 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * @param registry {@link RegistryState}
+   * @return Identifikator eines neuen Objekts
+   * @since 18.10.2026 18:10:51 agent | Realisierung
+   */
+  @Benchmark
+  public long newObjectId(RegistryState registry) {
+    return ("holder".equals(registry.storage) ? new InlineBenchmarkObject() : new BenchmarkObject()).getObjectId();
+  }
+  
+  /**
+   * @param registry {@link RegistryState}
+   * @param cursor {@link RegistryState.Cursor}
+   * @return Gefundenes Objekt
+   * @since 18.10.2026 18:11:02 agent | Realisierung
+   */
+  @Benchmark
+  public InterfaceWithAttributes findObjectById(RegistryState registry, RegistryState.Cursor cursor) {
+    return InterfaceWithAttributes.findObjectById(cursor.next(registry).getObjectId());
+  }
+  
+}
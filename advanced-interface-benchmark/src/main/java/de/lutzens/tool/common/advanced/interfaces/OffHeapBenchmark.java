@@ -0,0 +1,134 @@
+/**
+ * Project     : LutzensAdvancedInterfaceBenchmark
+ * Klasse      : OffHeapBenchmark
+ * Version     : 1
+ * Date        : 18.10.2026 16:32:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Vergleicht Objekt-Attribute im Heap und außerhalb des Heaps bei sehr vielen Objekten.
+ * <p>
+ * Je Objekt werden ein <code>long</code>- und ein <code>double</code>-Attribut gesetzt. Gemessen
+ * wird die Dauer einer vollständigen GarbageCollection, solange alle Objekte erreichbar sind, sowie
+ * das Lesen aller <code>long</code>-Werte. Nach jeder Iteration werden der belegte Heap und der
+ * Speicher außerhalb des Heaps ausgegeben.
+ * <p>
+ * Benötigt einen ausreichend großen Heap, z.B. <code>-Xmx8g</code>.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 16:32:02 agent | Realisierung
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Benchmark)
+public class OffHeapBenchmark {
+  /** @since 18.10.2026 16:32:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Ablage der Attribute: <code>heap</code> oder <code>offheap</code>.
+   * @since 18.10.2026 16:32:20 agent | Realisierung */
+  @Param({"heap", "offheap"})
+  public String             storage;
+  
+  /** Anzahl der Objekte.
+   * @since 18.10.2026 16:32:31 agent | Realisierung */
+  @Param({"10000000"})
+  public int                size;
+  
+  /** Objekte mit Attributen.
+   * @since 18.10.2026 16:32:40 agent | Realisierung */
+  private BenchmarkObject[] objects;
+  
+  /** Name des <code>long</code>-Attributs.
+   * @since 18.10.2026 16:32:51 agent | Realisierung */
+  private String            longKey;
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * Legt die Objekte mit ihren Attributen an.
+   * @since 18.10.2026 16:33:02 agent | Realisierung
+   */
+  @Setup(Level.Trial)
+  public void populate() {
+    this.longKey = "benchmark." + this.storage + ".long";
+    String doubleKey = "benchmark." + this.storage + ".double";
+    if ("offheap".equals(this.storage)) {
+      InterfaceWithAttributes.setObjectAttributeOffHeap(this.longKey);
+      InterfaceWithAttributes.setObjectAttributeOffHeap(doubleKey);
+    }
+    this.objects = new BenchmarkObject[this.size];
+    for (int i = 0; i < this.size; i++) {
+      BenchmarkObject object = new BenchmarkObject();
+      object.setObjectAttributeLong(this.longKey, i);
+      object.setObjectAttributeDouble(doubleKey, i * .5);
+      this.objects[i] = object;
+    }
+  }
+  
+  /**
+   * Gibt den belegten Speicher nach einer GarbageCollection aus.
+   * @since 18.10.2026 16:33:20 agent | Realisierung
+   */
+  @TearDown(Level.Iteration)
+  public void report() {
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    System.gc();
+    System.out.println();
+    System.out.println(this.storage + ": Heap " + memory.getHeapMemoryUsage().getUsed() / (1024 * 1024) + " MB, außerhalb "
+        + InterfaceWithAttributes.getAttributeStatistics().getOffHeapBytes() / (1024 * 1024) + " MB");
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * Dauer einer vollständigen GarbageCollection über alle erreichbaren Objekte.
+   * @since 18.10.2026 16:33:31 agent | Realisierung
+   */
+  @Benchmark
+  public void gc() {
+    System.gc();
+  }
+  
+  /**
+   * @return Summe aller <code>long</code>-Werte
+   * @since 18.10.2026 16:33:40 agent | Realisierung
+   */
+  @Benchmark
+  public long sum() {
+    long sum = 0;
+    for (BenchmarkObject object : this.objects) {
+      sum += object.getObjectAttributeLong(this.longKey);
+    }
+    return sum;
+  }
+  
+}
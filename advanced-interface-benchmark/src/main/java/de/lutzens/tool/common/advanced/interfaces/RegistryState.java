@@ -0,0 +1,130 @@
+/**
+ * Project     : LutzensAdvancedInterfaceBenchmark
+ * Klasse      : RegistryState
+ * Version     : 1
+ * Date        : 18.10.2026 13:11:20
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Gemeinsamer Zustand der Benchmarks: eine Registry mit der gewünschten Anzahl an Objekten.
+ * <p>
+ * Jedes Objekt trägt bereits die Attribute {@link #NAME} und {@link #KEY}, so dass lesende und
+ * ersetzende Zugriffe auf einen eingeschwungenen Zustand treffen. Die Objekte werden über ein
+ * Array festgehalten und bleiben damit für die Dauer eines Durchlaufs in der Registry.
+ * <p>
+ * Mit {@link #storage} <code>holder</code> halten die Objekte ihre Attribute stattdessen in einem
+ * eigenen {@link AttributeHolder}, die Registry bleibt dann leer.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 13:11:20 agent | Realisierung
+ * @since 18.10.2026 16:57:40 agent | Ablage im {@link AttributeHolder}
+ */
+@State(Scope.Benchmark)
+public class RegistryState {
+  /** @since 18.10.2026 13:11:24 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long          serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  /** Name des Attributs für Zugriffe über einen {@link String}.
+   * @since 18.10.2026 13:11:40 agent | Realisierung */
+  static final String                NAME             = "benchmark.name";
+  
+  /** Schlüssel des Attributs für typisierte Zugriffe.
+   * @since 18.10.2026 13:11:52 agent | Realisierung */
+  static final AttributeKey<Integer> KEY              = AttributeKey.of("benchmark.key", Integer.class);
+  
+  /** Name des Zählers für {@link InterfaceWithAttributes#addObjectAttributeLong(String, long)}.
+   * @since 18.10.2026 13:12:04 agent | Realisierung */
+  static final String                COUNTER          = "benchmark.counter";
+  
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Anzahl der Objekte in der Registry.
+   * @since 18.10.2026 13:12:20 agent | Realisierung */
+  @Param({"1000", "100000", "1000000", "10000000"})
+  public int                         size;
+  
+  /** Ablage der Attribute: <code>registry</code> oder <code>holder</code>.
+   * @since 18.10.2026 16:57:51 agent | Realisierung */
+  @Param({"registry", "holder"})
+  public String                      storage;
+  
+  /** Angemeldete Objekte.
+   * @since 18.10.2026 13:12:31 agent | Realisierung
+   * @since 18.10.2026 16:57:51 agent | Auch {@link InlineBenchmarkObject} */
+  InterfaceWithAttributes[]          objects;
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * Füllt die Registry.
+   * @since 18.10.2026 13:12:50 agent | Realisierung
+   * @since 18.10.2026 16:58:02 agent | Ablage im {@link AttributeHolder}
+   */
+  @Setup(Level.Trial)
+  public void populate() {
+    boolean holder = "holder".equals(this.storage);
+    this.objects = new InterfaceWithAttributes[this.size];
+    for (int i = 0; i < this.size; i++) {
+      InterfaceWithAttributes object = holder ? new InlineBenchmarkObject() : new BenchmarkObject();
+      object.setObjectAttribute(NAME, "object-" + i);
+      object.setObjectAttribute(KEY, Integer.valueOf(i));
+      this.objects[i] = object;
+    }
+  }
+  
+  /**
+   * Gibt die Objekte frei, damit der nächste Durchlauf mit einer leeren Registry beginnt.
+   * @since 18.10.2026 13:13:05 agent | Realisierung
+   */
+  @TearDown(Level.Trial)
+  public void release() {
+    this.objects = null;
+    System.gc();
+  }
+  
+  /* -- Innere Klassen ---------------------------------------------------------------------------- */
+  
+  /**
+   * Wählt je Thread pseudozufällig Objekte aus der Registry, damit die Zugriffe nicht nur den
+   * Cache einer einzelnen Stelle treffen.
+   * @since 18.10.2026 13:13:30 agent | Realisierung
+   */
+  @State(Scope.Thread)
+  public static class Cursor {
+    /** Zustand des Xorshift-Generators.
+     * @since 18.10.2026 13:13:41 agent | Realisierung */
+    private int seed = (int) System.nanoTime() | 1;
+    
+    /**
+     * Liefert das nächste Objekt.
+     * <p>
+     * @param registry {@link RegistryState}
+     * @return {@link InterfaceWithAttributes}
+     * @since 18.10.2026 13:13:55 agent | Realisierung
+     * @since 18.10.2026 16:58:02 agent | Beliebige {@link InterfaceWithAttributes}
+     */
+    InterfaceWithAttributes next(RegistryState registry) {
+      int x = this.seed;
+      x ^= x << 13;
+      x ^= x >>> 17;
+      x ^= x << 5;
+      this.seed = x;
+      return registry.objects[(x & Integer.MAX_VALUE) % registry.size];
+    }
+  }
+  
+}
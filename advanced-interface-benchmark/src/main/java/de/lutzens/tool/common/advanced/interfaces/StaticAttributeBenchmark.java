@@ -0,0 +1,101 @@
+/**
+ * Project     : LutzensAdvancedInterfaceBenchmark
+ * Klasse      : StaticAttributeBenchmark
+ * Version     : 1
+ * Date        : 18.10.2026 13:18:20
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+/**
+ * Misst Zugriffe auf Klassen- und Interfaceattribute.
+ * <p>
+ * Alle Threads greifen auf dieselbe Menge an Attributen zu, mehrere Threads messen daher die
+ * Konkurrenz um einen einzelnen Eintrag.
+ * <p>
+ * {@link #overlay(RegistryState, RegistryState.Cursor)} misst je Anfrage das Binden eines
+ * {@link AttributeOverlay}, einen Zugriff und das Lösen.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 13:18:20 agent | Realisierung
+ * @since 18.10.2026 17:21:02 agent | Zugriff über einen {@link AttributeOverlay}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StaticAttributeBenchmark {
+  /** @since 18.10.2026 13:18:24 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long             serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  /** Überlagert das Interface-Attribut.
+   * @since 18.10.2026 17:21:10 agent | Realisierung */
+  private static final AttributeOverlay OVERLAY          = AttributeOverlay.create().withInterfaceAttribute(RegistryState.KEY, Integer.valueOf(2));
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * @param registry {@link RegistryState}
+   * @param cursor {@link RegistryState.Cursor}
+   * @return Wert des Attributs
+   * @since 18.10.2026 13:18:40 agent | Realisierung
+   */
+  @Benchmark
+  public Object getClassAttribute(RegistryState registry, RegistryState.Cursor cursor) {
+    return cursor.next(registry).getClassAttribute(RegistryState.KEY);
+  }
+  
+  /**
+   * @param registry {@link RegistryState}
+   * @param cursor {@link RegistryState.Cursor}
+   * @since 18.10.2026 13:18:52 agent | Realisierung
+   */
+  @Benchmark
+  public void setClassAttribute(RegistryState registry, RegistryState.Cursor cursor) {
+    cursor.next(registry).setClassAttribute(RegistryState.KEY, Integer.valueOf(1));
+  }
+  
+  /**
+   * @param registry {@link RegistryState}
+   * @param cursor {@link RegistryState.Cursor}
+   * @return Wert des Attributs
+   * @since 18.10.2026 13:19:04 agent | Realisierung
+   */
+  @Benchmark
+  public Object getInterfaceAttribute(RegistryState registry, RegistryState.Cursor cursor) {
+    return cursor.next(registry).getInterfaceAttribute(RegistryState.KEY);
+  }
+  
+  /**
+   * @param registry {@link RegistryState}
+   * @param cursor {@link RegistryState.Cursor}
+   * @since 18.10.2026 13:19:16 agent | Realisierung
+   */
+  @Benchmark
+  public void setInterfaceAttribute(RegistryState registry, RegistryState.Cursor cursor) {
+    cursor.next(registry).setInterfaceAttribute(RegistryState.KEY, Integer.valueOf(1));
+  }
+  
+  /**
+   * @param registry {@link RegistryState}
+   * @param cursor {@link RegistryState.Cursor}
+   * @return Überlagerter Wert des Attributs
+   * @since 18.10.2026 17:21:20 agent | Realisierung
+   */
+  @Benchmark
+  public Object overlay(RegistryState registry, RegistryState.Cursor cursor) {
+    InterfaceWithAttributes object = cursor.next(registry);
+    return OVERLAY.call(() -> object.getInterfaceAttribute(RegistryState.KEY));
+  }
+  
+}
@@ -0,0 +1,130 @@
+/**
+ * Project     : LutzensAdvancedInterfaceBenchmark
+ * Klasse      : StreamBenchmark
+ * Version     : 1
+ * Date        : 18.10.2026 16:52:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Misst die Summe eines <code>long</code>-Attributs über alle registrierten Objekte mit einem
+ * parallelen {@link java.util.stream.Stream} aus {@link InterfaceWithAttributes#streamObjects(boolean)}.
+ * <p>
+ * Der Stream läuft in einem eigenen {@link ForkJoinPool} mit der übergebenen Parallelität. Bei
+ * ausreichend vielen Prozessorkernen sinkt die Dauer annähernd linear mit der Parallelität.
+ * {@link #sequential()} ist der Vergleichswert ohne Teilung. Aussagekräftig sind die Werte nur auf
+ * einem Rechner mit mindestens so vielen Kernen wie die höchste Parallelität.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 16:52:02 agent | Realisierung
+ * @since 18.10.2026 19:40:51 agent | Über {@link InterfaceWithAttributes#streamObjects(boolean)}, sequentieller Vergleichswert
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class StreamBenchmark {
+  /** @since 18.10.2026 16:52:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long   serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  /** Name des summierten Attributs.
+   * @since 18.10.2026 16:52:10 agent | Realisierung */
+  private static final String KEY              = "benchmark.stream";
+  
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Anzahl der Threads.
+   * @since 18.10.2026 16:52:20 agent | Realisierung */
+  @Param({"1", "2", "4", "8"})
+  public int                  parallelism;
+  
+  /** Anzahl der Objekte.
+   * @since 18.10.2026 16:52:31 agent | Realisierung */
+  @Param({"1000000"})
+  public int                  size;
+  
+  /** Hält die Objekte erreichbar.
+   * @since 18.10.2026 16:52:40 agent | Realisierung */
+  private BenchmarkObject[]   objects;
+  
+  /** Pool für den parallelen Stream.
+   * @since 18.10.2026 16:52:51 agent | Realisierung */
+  private ForkJoinPool        pool;
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * Legt die Objekte und den Pool an.
+   * @since 18.10.2026 16:53:02 agent | Realisierung
+   */
+  @Setup(Level.Trial)
+  public void populate() {
+    this.objects = new BenchmarkObject[this.size];
+    for (int i = 0; i < this.size; i++) {
+      BenchmarkObject object = new BenchmarkObject();
+      object.setObjectAttributeLong(KEY, i);
+      this.objects[i] = object;
+    }
+    this.pool = new ForkJoinPool(this.parallelism);
+  }
+  
+  /**
+   * Beendet den Pool.
+   * @since 18.10.2026 16:53:10 agent | Realisierung
+   */
+  @TearDown(Level.Trial)
+  public void shutdown() {
+    this.pool.shutdown();
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * @return Summe über alle Objekte
+   * @throws InterruptedException Beim Warten unterbrochen
+   * @throws ExecutionException Fehler im Stream
+   * @since 18.10.2026 16:53:20 agent | Realisierung
+   * @since 18.10.2026 19:41:02 agent | Über {@link InterfaceWithAttributes#streamObjects(boolean)}
+   */
+  @Benchmark
+  public long sum() throws InterruptedException, ExecutionException {
+    return this.pool.submit(() -> InterfaceWithAttributes.streamObjects(true)
+        .mapToLong(object -> object.getObjectAttributeLong(KEY)).sum()).get().longValue();
+  }
+  
+  /**
+   * @return Summe über alle Objekte im aufrufenden Thread
+   * @since 18.10.2026 19:41:10 agent | Realisierung
+   */
+  @Benchmark
+  public long sequential() {
+    return InterfaceWithAttributes.streamObjects(false).mapToLong(object -> object.getObjectAttributeLong(KEY)).sum();
+  }
+  
+}
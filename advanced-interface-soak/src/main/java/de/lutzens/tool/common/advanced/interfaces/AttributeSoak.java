@@ -0,0 +1,568 @@
+/**
+ * Project     : LutzensAdvancedInterfaceSoak
+ * Klasse      : AttributeSoak
+ * Version     : 1
+ * Date        : 18.10.2026 17:57:40
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dauerlauf, der über mehrere Threads laufend Objekte mit Attributen erzeugt und fallen lässt.
+ * <p>
+ * Der Lauf besteht aus vier Abschnitten:
+ * <ol>
+ * <li>Last: Jeder Thread hält ein Fenster lebender Objekte und ersetzt darin je Schritt ein Objekt
+ * durch ein neues mit Attributen. Zugriffe auf Objekte im Fenster werden einzeln gemessen und als
+ * Perzentile berichtet, der GarbageCollector läuft dabei ständig.</li>
+ * <li>Freigabe: Nach dem Fallenlassen aller Objekte muss die Registrierung auf den Stand vor dem
+ * Lauf zurückgehen und der Heap nach GC darf nur um die erlaubte Menge gewachsen sein.</li>
+ * <li>Verweise: Verbleibende Objekte werden darauf untersucht, ob sie von Werten der
+ * Registrierung gehalten werden. Ein Wert, der sein eigenes oder ein anderes verbliebenes Objekt
+ * referenziert, verhindert dessen Freigabe, solange die Attribute in der Registrierung liegen.</li>
+ * <li>Probe: Objekte mit einem Verweis auf sich selbst prüfen, dass diese Verweise erkannt werden
+ * und Objekte mit {@link AttributeHolder} trotz des Verweises freigegeben werden.</li>
+ * </ol>
+ * Die Argumente werden als <code>name=wert</code> übergeben, z.B.
+ * <pre>
+ * java -Xmx1g -jar target/soak.jar duration=600 threads=8 self=1
+ * </pre>
+ * <table summary="Argumente">
+ * <tr><td><code>duration</code></td><td>Dauer der Last in Sekunden, Vorgabe 60</td></tr>
+ * <tr><td><code>threads</code></td><td>Anzahl der Threads, Vorgabe je Prozessor einer</td></tr>
+ * <tr><td><code>window</code></td><td>Lebende Objekte je Thread, Vorgabe 10000</td></tr>
+ * <tr><td><code>payload</code></td><td>Bytes je Objekt im Attribut <code>soak.payload</code>, Vorgabe 256</td></tr>
+ * <tr><td><code>holder</code></td><td>Anteil der Objekte mit {@link AttributeHolder} in Prozent, Vorgabe 25</td></tr>
+ * <tr><td><code>self</code></td><td>Anteil der Objekte mit Verweis auf sich selbst in Prozent, Vorgabe 0</td></tr>
+ * <tr><td><code>probe</code></td><td>Objekte der Probe je Ablage, Vorgabe 1000</td></tr>
+ * <tr><td><code>cleanup</code></td><td><code>background</code> oder <code>inline</code>, Vorgabe <code>background</code></td></tr>
+ * <tr><td><code>reclaim</code></td><td>Längste Wartezeit auf die Freigabe in Sekunden, Vorgabe 30</td></tr>
+ * <tr><td><code>heap</code></td><td>Erlaubtes Wachstum des Heaps nach GC in MB, Vorgabe 32</td></tr>
+ * <tr><td><code>p99</code></td><td>Grenze des 99. Perzentils je Zugriff in Mikrosekunden, Vorgabe 100</td></tr>
+ * </table>
+ * Der Bericht endet mit <code>PASS</code> oder <code>FAIL</code>, bei <code>FAIL</code> endet der
+ * Prozess mit dem Code 1.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 17:57:40 agent | Realisierung
+ */
+public final class AttributeSoak {
+  /** @since 18.10.2026 17:57:44 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long   serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  /** Attribut mit den Nutzdaten.
+   * @since 18.10.2026 17:57:51 agent | Realisierung */
+  static final String         PAYLOAD          = "soak.payload";
+  
+  /** Attribut mit einem Zähler.
+   * @since 18.10.2026 17:57:55 agent | Realisierung */
+  static final String         COUNTER          = "soak.counter";
+  
+  /** Attribut mit einem Verweis auf das eigene Objekt.
+   * @since 18.10.2026 17:58:02 agent | Realisierung */
+  static final String         SELF             = "soak.self";
+  
+  /** Abstand der Zwischenstände in Sekunden.
+   * @since 18.10.2026 17:58:10 agent | Realisierung */
+  private static final int    PROGRESS         = 10;
+  
+  /** Bytes je MB.
+   * @since 18.10.2026 17:58:14 agent | Realisierung */
+  private static final long   MB               = 1 << 20;
+  
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Dauer der Last in Sekunden.
+   * @since 18.10.2026 17:58:20 agent | Realisierung */
+  private final int           duration;
+  
+  /** Anzahl der Threads.
+   * @since 18.10.2026 17:58:24 agent | Realisierung */
+  private final int           threads;
+  
+  /** Lebende Objekte je Thread.
+   * @since 18.10.2026 17:58:31 agent | Realisierung */
+  private final int           window;
+  
+  /** Bytes je Objekt.
+   * @since 18.10.2026 17:58:35 agent | Realisierung */
+  private final int           payload;
+  
+  /** Anteil der Objekte mit {@link AttributeHolder} in Prozent.
+   * @since 18.10.2026 17:58:40 agent | Realisierung */
+  private final int           holder;
+  
+  /** Anteil der Objekte mit Verweis auf sich selbst in Prozent.
+   * @since 18.10.2026 17:58:44 agent | Realisierung */
+  private final int           self;
+  
+  /** Objekte der Probe je Ablage.
+   * @since 18.10.2026 17:58:51 agent | Realisierung */
+  private final int           probe;
+  
+  /** Bereinigung im Hintergrund.
+   * @since 18.10.2026 17:58:55 agent | Realisierung */
+  private final boolean       background;
+  
+  /** Längste Wartezeit auf die Freigabe in Sekunden.
+   * @since 18.10.2026 17:59:02 agent | Realisierung */
+  private final int           reclaim;
+  
+  /** Erlaubtes Wachstum des Heaps in MB.
+   * @since 18.10.2026 17:59:06 agent | Realisierung */
+  private final int           heap;
+  
+  /** Grenze des 99. Perzentils in Mikrosekunden.
+   * @since 18.10.2026 17:59:10 agent | Realisierung */
+  private final int           p99;
+  
+  /** Zeilen des Berichts.
+   * @since 18.10.2026 17:59:14 agent | Realisierung */
+  private final StringBuilder report           = new StringBuilder();
+  
+  /** Alle Prüfungen bestanden.
+   * @since 18.10.2026 17:59:20 agent | Realisierung */
+  private boolean             passed           = true;
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Konstruiert einen {@link AttributeSoak}.
+   * <p>
+   * @param args Argumente als <code>name=wert</code>
+   * @throws IllegalArgumentException Unbekanntes oder ungültiges Argument
+   * @since 18.10.2026 17:59:31 agent | Realisierung
+   */
+  AttributeSoak(String... args) {
+    HashMap<String, String> values = new HashMap<>();
+    for (String arg : args) {
+      int split = arg.indexOf('=');
+      if (split < 1) throw new IllegalArgumentException("Argument ohne Wert: " + arg);
+      values.put(arg.substring(0, split), arg.substring(split + 1));
+    }
+    this.duration = value(values, "duration", 60);
+    this.threads = value(values, "threads", Runtime.getRuntime().availableProcessors());
+    this.window = value(values, "window", 10000);
+    this.payload = value(values, "payload", 256);
+    this.holder = value(values, "holder", 25);
+    this.self = value(values, "self", 0);
+    this.probe = value(values, "probe", 1000);
+    this.reclaim = value(values, "reclaim", 30);
+    this.heap = value(values, "heap", 32);
+    this.p99 = value(values, "p99", 100);
+    String cleanup = values.getOrDefault("cleanup", "background");
+    values.remove("cleanup");
+    if (!cleanup.equals("background") && !cleanup.equals("inline")) throw new IllegalArgumentException("cleanup=" + cleanup);
+    this.background = cleanup.equals("background");
+    if (!values.isEmpty()) throw new IllegalArgumentException("Unbekannte Argumente: " + values.keySet());
+  }
+  
+  /* -- statisch ---------------------------------------------------------------------------------- */
+  
+  /**
+   * @param args Argumente als <code>name=wert</code>
+   * @throws InterruptedException Unterbrechung
+   * @since 18.10.2026 17:59:40 agent | Realisierung
+   */
+  public static void main(String[] args) throws InterruptedException {
+    AttributeSoak soak = new AttributeSoak(args);
+    boolean passed = soak.run();
+    System.out.println(soak.report);
+    System.exit(passed ? 0 : 1);
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * Führt alle Abschnitte aus und erstellt den Bericht.
+   * <p>
+   * @return <code>true</code>, falls alle Prüfungen bestanden sind.
+   * @throws InterruptedException Unterbrechung
+   * @since 18.10.2026 17:59:51 agent | Realisierung
+   */
+  boolean run() throws InterruptedException {
+    InterfaceWithAttributes.setAttributeBackgroundCleanupEnabled(this.background);
+    line("advanced-interface soak: %d s, %d Threads, Fenster %,d, Holder %d %%, Verweis %d %%, Bereinigung %s, Java %s",
+        this.duration, this.threads, this.window, this.holder, this.self, this.background ? "background" : "inline", System.getProperty("java.version"));
+    long baseHeap = usedHeap();
+    int baseCount = InterfaceWithAttributes.getAttributeStatistics().getObjectCount();
+    List<Worker> workers = churn();
+    long created = 0;
+    LatencyHistogram get = new LatencyHistogram();
+    LatencyHistogram set = new LatencyHistogram();
+    for (Worker worker : workers) {
+      created += worker.created;
+      get.add(worker.get);
+      set.add(worker.set);
+    }
+    workers.clear();
+    line("Objekte erzeugt    : %,d (%,d/s)", created, created / Math.max(1, this.duration));
+    latency("get", get);
+    latency("set", set);
+    long start = System.nanoTime();
+    long deadline = start + TimeUnit.SECONDS.toNanos(this.reclaim);
+    long used;
+    int count;
+    do {
+      if (!this.background) expunge();
+      used = usedHeap();
+      count = InterfaceWithAttributes.getAttributeStatistics().getObjectCount();
+    } while ((count > baseCount || used - baseHeap > this.heap * MB) && System.nanoTime() < deadline);
+    long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    check(count <= baseCount, "Registrierung", "%,d registriert nach %,d ms, vor dem Lauf %,d", count, millis, baseCount);
+    check(used - baseHeap <= this.heap * MB, "Heap nach GC", "%+.1f MB (Grenze %d MB)", (double) (used - baseHeap) / MB, this.heap);
+    Leaks leaks = leaks();
+    check(leaks.retained == 0, "Wert->Objekt", leaks.retained == 0 ? "keine Objekte verblieben" : "%,d Objekte verblieben, Verweise in %s", leaks.retained, leaks.names);
+    leaks.release();
+    probe();
+    check(get.percentile(99) <= this.p99 * 1000L, "Latenz p99 get", "%.2f us (Grenze %d us)", get.percentile(99) / 1000d, this.p99);
+    check(set.percentile(99) <= this.p99 * 1000L, "Latenz p99 set", "%.2f us (Grenze %d us)", set.percentile(99) / 1000d, this.p99);
+    line("Ergebnis: %s", this.passed ? "PASS" : "FAIL");
+    return this.passed;
+  }
+  
+  /**
+   * Erzeugt über alle Threads Objekte, bis die Dauer abgelaufen ist.
+   * <p>
+   * @return Beendete {@link Worker}
+   * @throws InterruptedException Unterbrechung
+   * @since 18.10.2026 18:00:02 agent | Realisierung
+   */
+  private List<Worker> churn() throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(this.duration);
+    ArrayList<Worker> workers = new ArrayList<>();
+    ArrayList<Thread> running = new ArrayList<>();
+    for (int i = 0; i < this.threads; i++) {
+      Worker worker = new Worker(deadline);
+      Thread thread = new Thread(worker, "soak-" + i);
+      workers.add(worker);
+      running.add(thread);
+      thread.start();
+    }
+    long begin = System.nanoTime();
+    for (Thread thread : running) {
+      while (thread.isAlive()) {
+        thread.join(TimeUnit.SECONDS.toMillis(PROGRESS));
+        if (!thread.isAlive()) break;
+        long created = workers.stream().mapToLong(worker -> worker.created).sum();
+        Runtime runtime = Runtime.getRuntime();
+        System.out.println(String.format("%5d s: %,d Objekte, %,d registriert, Heap %,d MB", TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - begin), created,
+            InterfaceWithAttributes.getAttributeStatistics().getObjectCount(), (runtime.totalMemory() - runtime.freeMemory()) / MB));
+      }
+    }
+    return workers;
+  }
+  
+  /**
+   * Sucht verbliebene Objekte und die Attribute, deren Werte ein verbliebenes Objekt referenzieren.
+   * <p>
+   * @return {@link Leaks}
+   * @since 18.10.2026 18:00:10 agent | Realisierung
+   */
+  private static Leaks leaks() {
+    Set<InterfaceWithAttributes> retained = Collections.newSetFromMap(new IdentityHashMap<>());
+    InterfaceWithAttributes.streamObjects().filter(SoakObject.class::isInstance).forEach(retained::add);
+    Leaks leaks = new Leaks(retained);
+    for (InterfaceWithAttributes object : retained) {
+      for (Map.Entry<String, Object> entry : object.getObjectAttributeView().entrySet()) {
+        if (references(entry.getValue(), retained, 2)) leaks.names.merge(entry.getKey(), Integer.valueOf(1), Integer::sum);
+      }
+    }
+    return leaks;
+  }
+  
+  /**
+   * Objekte mit einem Verweis auf sich selbst müssen in der Registrierung erkannt und mit
+   * {@link AttributeHolder} freigegeben werden.
+   * <p>
+   * @since 18.10.2026 18:00:20 agent | Realisierung
+   */
+  private void probe() {
+    ArrayList<WeakReference<SoakObject>> holders = new ArrayList<>();
+    for (int i = 0; i < this.probe; i++) {
+      SoakObject registered = new SoakObject();
+      registered.setObjectAttribute(SELF, registered);
+      SoakObject held = new SoakHolder();
+      held.setObjectAttribute(SELF, held);
+      holders.add(new WeakReference<>(held));
+    }
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(this.reclaim);
+    long cleared;
+    do {
+      usedHeap();
+      cleared = holders.stream().filter(reference -> reference.get() == null).count();
+    } while (cleared < this.probe && System.nanoTime() < deadline);
+    Leaks leaks = leaks();
+    int detected = leaks.names.getOrDefault(SELF, Integer.valueOf(0)).intValue();
+    check(detected == this.probe && leaks.retained == this.probe, "Erkennung", "%,d von %,d Objekten mit Verweis auf sich selbst erkannt", detected, this.probe);
+    check(cleared == this.probe, "AttributeHolder", "%,d von %,d Objekten mit Verweis auf sich selbst freigegeben", cleared, this.probe);
+    leaks.release();
+  }
+  
+  /* -- Hilfsmethoden ----------------------------------------------------------------------------- */
+  
+  /**
+   * @param values Argumente, das gelesene wird entfernt
+   * @param name Name des Arguments
+   * @param fallback Vorgabe
+   * @return Wert, nicht negativ
+   * @since 18.10.2026 18:00:31 agent | Realisierung
+   */
+  private static int value(Map<String, String> values, String name, int fallback) {
+    String value = values.remove(name);
+    int result = value == null ? fallback : Integer.parseInt(value);
+    if (result < 0) throw new IllegalArgumentException(name + "=" + value);
+    return result;
+  }
+  
+  /**
+   * @param value Wert eines Attributs
+   * @param retained Verbliebene Objekte
+   * @param depth Tiefe in Sammlungen und Feldern
+   * @return <code>true</code>, falls der Wert ein verbliebenes Objekt referenziert.
+   * @since 18.10.2026 18:00:40 agent | Realisierung
+   */
+  private static boolean references(Object value, Set<InterfaceWithAttributes> retained, int depth) {
+    if (value == null) return false;
+    if (retained.contains(value)) return true;
+    if (depth == 0) return false;
+    if (value instanceof Map) {
+      Map<?, ?> map = (Map<?, ?>) value;
+      return references(map.keySet(), retained, depth) || references(map.values(), retained, depth);
+    }
+    if (value instanceof Object[]) return references(Arrays.asList((Object[]) value), retained, depth);
+    if (value instanceof Collection) {
+      for (Object element : (Collection<?>) value) {
+        if (references(element, retained, depth - 1)) return true;
+      }
+    }
+    return false;
+  }
+  
+  /**
+   * Löst das Bereinigen verwaister Einträge über Schreibzugriffe aus.
+   * @since 18.10.2026 18:00:51 agent | Realisierung
+   */
+  private static void expunge() {
+    SoakObject object = new SoakObject();
+    for (int i = 0; i < 1000; i++) {
+      object.releaseInterfaceWithAttribute();
+    }
+  }
+  
+  /**
+   * Führt den GarbageCollector mehrfach aus.
+   * <p>
+   * @return Belegter Heap in Bytes
+   * @since 18.10.2026 18:01:02 agent | Realisierung
+   */
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+  
+  /**
+   * @param name Zugriff
+   * @param histogram {@link LatencyHistogram}
+   * @since 18.10.2026 18:01:10 agent | Realisierung
+   */
+  private void latency(String name, LatencyHistogram histogram) {
+    line("Latenz %-3s [us]   : p50 %.2f  p90 %.2f  p99 %.2f  p99.9 %.2f  max %.2f (%,d Zugriffe)", name, histogram.percentile(50) / 1000d,
+        histogram.percentile(90) / 1000d, histogram.percentile(99) / 1000d, histogram.percentile(99.9) / 1000d, histogram.getMax() / 1000d, histogram.getCount());
+  }
+  
+  /**
+   * @param ok Prüfung bestanden
+   * @param name Name der Prüfung
+   * @param format Format der Details
+   * @param args Argumente der Details
+   * @since 18.10.2026 18:01:20 agent | Realisierung
+   */
+  private void check(boolean ok, String name, String format, Object... args) {
+    this.passed &= ok;
+    line("%-4s %-15s: %s", ok ? "PASS" : "FAIL", name, String.format(format, args));
+  }
+  
+  /**
+   * @param format Format der Zeile
+   * @param args Argumente
+   * @since 18.10.2026 18:01:31 agent | Realisierung
+   */
+  private void line(String format, Object... args) {
+    this.report.append(String.format(format, args)).append(System.lineSeparator());
+  }
+  
+  /* -- Innere Klassen ---------------------------------------------------------------------------- */
+  
+  /**
+   * Erzeugt Objekte im eigenen Fenster und misst die Zugriffe.
+   * @since 18.10.2026 18:01:40 agent | Realisierung
+   */
+  private final class Worker implements Runnable {
+    /** @since 18.10.2026 18:01:44 agent | Realisierung */
+    @SuppressWarnings("unused")
+    private static final long serialVersionUID = 1L;
+    
+    /** Ende der Last.
+     * @since 18.10.2026 18:01:51 agent | Realisierung */
+    private final long        deadline;
+    
+    /** Dauer der Lesezugriffe.
+     * @since 18.10.2026 18:01:55 agent | Realisierung */
+    final LatencyHistogram    get              = new LatencyHistogram();
+    
+    /** Dauer der Schreibzugriffe.
+     * @since 18.10.2026 18:02:02 agent | Realisierung */
+    final LatencyHistogram    set              = new LatencyHistogram();
+    
+    /** Anzahl erzeugter Objekte.
+     * @since 18.10.2026 18:02:06 agent | Realisierung */
+    volatile long             created;
+    
+    /**
+     * Konstruiert einen {@link Worker}.
+     * @param deadline Ende der Last
+     * @since 18.10.2026 18:02:10 agent | Realisierung
+     */
+    Worker(long deadline) {
+      this.deadline = deadline;
+    }
+    
+    /**
+     * @see java.lang.Runnable#run()
+     * @since 18.10.2026 18:02:20 agent | Realisierung
+     */
+    @Override
+    public void run() {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      SoakObject[] live = new SoakObject[Math.max(1, AttributeSoak.this.window)];
+      long created = 0;
+      do {
+        for (int i = 0; i < 256; i++) {
+          SoakObject object = random.nextInt(100) < AttributeSoak.this.holder ? new SoakHolder() : new SoakObject();
+          long start = System.nanoTime();
+          object.setObjectAttribute(PAYLOAD, new byte[AttributeSoak.this.payload]);
+          long end = System.nanoTime();
+          this.set.record(end - start);
+          if (random.nextInt(100) < AttributeSoak.this.self) object.setObjectAttribute(SELF, object);
+          live[random.nextInt(live.length)] = object;
+          SoakObject other = live[random.nextInt(live.length)];
+          if (other == null) continue;
+          start = System.nanoTime();
+          Object value = other.getObjectAttribute(COUNTER);
+          end = System.nanoTime();
+          this.get.record(end - start);
+          Integer counter = Integer.valueOf(value == null ? 0 : (((Integer) value).intValue() + 1) & 0x7F);
+          start = System.nanoTime();
+          other.setObjectAttribute(COUNTER, counter);
+          end = System.nanoTime();
+          this.set.record(end - start);
+        }
+        created += 256;
+        this.created = created;
+      } while (System.nanoTime() < this.deadline);
+    }
+  }
+  
+  /**
+   * Verbliebene Objekte und die Attribute mit Verweisen auf sie.
+   * @since 18.10.2026 18:02:31 agent | Realisierung
+   */
+  private static final class Leaks {
+    /** @since 18.10.2026 18:02:35 agent | Realisierung */
+    @SuppressWarnings("unused")
+    private static final long                   serialVersionUID = 1L;
+    
+    /** Verbliebene Objekte.
+     * @since 18.10.2026 18:02:40 agent | Realisierung */
+    private final List<InterfaceWithAttributes> objects;
+    
+    /** Anzahl verbliebener Objekte.
+     * @since 18.10.2026 18:02:44 agent | Realisierung */
+    final int                                   retained;
+    
+    /** Anzahl der Objekte je Attribut mit Verweis auf ein verbliebenes Objekt.
+     * @since 18.10.2026 18:02:51 agent | Realisierung */
+    final TreeMap<String, Integer>              names            = new TreeMap<>();
+    
+    /**
+     * Konstruiert {@link Leaks}.
+     * @param retained Verbliebene Objekte
+     * @since 18.10.2026 18:02:55 agent | Realisierung
+     */
+    Leaks(Set<InterfaceWithAttributes> retained) {
+      this.objects = new ArrayList<>(retained);
+      this.retained = retained.size();
+    }
+    
+    /**
+     * Gibt die verbliebenen Objekte frei, damit sie folgende Abschnitte nicht verfälschen.
+     * @since 18.10.2026 18:03:02 agent | Realisierung
+     */
+    void release() {
+      this.objects.forEach(InterfaceWithAttributes::releaseInterfaceWithAttribute);
+      this.objects.clear();
+    }
+  }
+  
+  /**
+   * Objekt mit Attributen in der Registrierung.
+   * @since 18.10.2026 18:03:10 agent | Realisierung
+   */
+  static class SoakObject implements InterfaceWithAttributes {
+    /** @since 18.10.2026 18:03:14 agent | Realisierung */
+    @SuppressWarnings("unused")
+    private static final long serialVersionUID = 1L;
+  }
+  
+  /**
+   * Objekt mit Attributen im {@link AttributeHolder}.
+   * @since 18.10.2026 18:03:20 agent | Realisierung
+   */
+  static final class SoakHolder extends SoakObject {
+    /** @since 18.10.2026 18:03:24 agent | Realisierung */
+    @SuppressWarnings("unused")
+    private static final long     serialVersionUID = 1L;
+    
+    /** Ablage der Attribute.
+     * @since 18.10.2026 18:03:31 agent | Realisierung */
+    private final AttributeHolder attributes       = new AttributeHolder();
+    
+    /**
+     * @see de.lutzens.tool.common.advanced.interfaces.InterfaceWithAttributes#getAttributeHolder()
+     * @since 18.10.2026 18:03:40 agent | Realisierung
+     */
+    @Override
+    public AttributeHolder getAttributeHolder() {
+      return this.attributes;
+    }
+  }
+  
+}
@@ -0,0 +1,140 @@
+/**
+ * Project     : LutzensAdvancedInterfaceSoak
+ * Klasse      : LatencyHistogram
+ * Version     : 1
+ * Date        : 18.10.2026 17:56:10
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+/**
+ * Histogramm der Dauer einzelner Zugriffe in Nanosekunden.
+ * <p>
+ * Jede Zweierpotenz ist in {@link #SUB} gleich breite Bereiche geteilt, die Perzentile sind damit
+ * auf etwa 6 % genau bei fester Größe und ohne Allokation je Messung. Eine Instanz gehört einem
+ * Thread, die Ergebnisse werden am Ende über {@link #add(LatencyHistogram)} zusammengeführt.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 17:56:10 agent | Realisierung
+ */
+final class LatencyHistogram {
+  /** @since 18.10.2026 17:56:14 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  /** Bits der Unterteilung einer Zweierpotenz.
+   * @since 18.10.2026 17:56:20 agent | Realisierung */
+  private static final int  BITS             = 4;
+  
+  /** Bereiche je Zweierpotenz.
+   * @since 18.10.2026 17:56:24 agent | Realisierung */
+  private static final int  SUB              = 1 << BITS;
+  
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Anzahl je Bereich.
+   * @since 18.10.2026 17:56:31 agent | Realisierung */
+  private final long[]      counts           = new long[(64 - BITS) * SUB];
+  
+  /** Anzahl aller Messungen.
+   * @since 18.10.2026 17:56:35 agent | Realisierung */
+  private long              count;
+  
+  /** Größter Messwert.
+   * @since 18.10.2026 17:56:40 agent | Realisierung */
+  private long              max;
+  
+  /* -- get/set/add/is ---------------------------------------------------------------------------- */
+  
+  /**
+   * @return Anzahl aller Messungen
+   * @since 18.10.2026 17:56:44 agent | Realisierung
+   */
+  long getCount() {
+    return this.count;
+  }
+  
+  /**
+   * @return Größter Messwert in Nanosekunden
+   * @since 18.10.2026 17:56:50 agent | Realisierung
+   */
+  long getMax() {
+    return this.max;
+  }
+  
+  /**
+   * Übernimmt die Messungen eines anderen Histogramms.
+   * <p>
+   * @param other {@link LatencyHistogram}
+   * @since 18.10.2026 17:56:55 agent | Realisierung
+   */
+  void add(LatencyHistogram other) {
+    for (int i = 0; i < this.counts.length; i++) {
+      this.counts[i] += other.counts[i];
+    }
+    this.count += other.count;
+    this.max = Math.max(this.max, other.max);
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * Zählt eine Messung.
+   * <p>
+   * @param nanos Dauer in Nanosekunden
+   * @since 18.10.2026 17:57:02 agent | Realisierung
+   */
+  void record(long nanos) {
+    long value = Math.max(nanos, 0);
+    this.counts[index(value)]++;
+    this.count++;
+    if (value > this.max) this.max = value;
+  }
+  
+  /**
+   * Liefert die obere Grenze des Bereichs, bis zu dem der Anteil der Messungen reicht.
+   * <p>
+   * @param percent Anteil in Prozent, z.B. <code>99.9</code>
+   * @return Dauer in Nanosekunden, höchstens {@link #getMax()}
+   * @since 18.10.2026 17:57:10 agent | Realisierung
+   */
+  long percentile(double percent) {
+    if (this.count == 0) return 0;
+    long rank = Math.max(1, (long) Math.ceil(percent / 100 * this.count));
+    long seen = 0;
+    for (int i = 0; i < this.counts.length; i++) {
+      seen += this.counts[i];
+      if (seen >= rank) return Math.min(highest(i), this.max);
+    }
+    return this.max;
+  }
+  
+  /* -- Hilfsmethoden ----------------------------------------------------------------------------- */
+  
+  /**
+   * @param value Messwert, nicht negativ
+   * @return Bereich des Messwerts
+   * @since 18.10.2026 17:57:20 agent | Realisierung
+   */
+  private static int index(long value) {
+    if (value < SUB) return (int) value;
+    int shift = 63 - Long.numberOfLeadingZeros(value) - BITS;
+    return (shift + 1) * SUB + (int) (value >>> shift) - SUB;
+  }
+  
+  /**
+   * @param index Bereich
+   * @return Größter Messwert des Bereichs
+   * @since 18.10.2026 17:57:31 agent | Realisierung
+   */
+  private static long highest(int index) {
+    if (index < SUB) return index;
+    int shift = index / SUB - 1;
+    return ((long) (index % SUB + SUB) << shift) + (1L << shift) - 1;
+  }
+  
+}
@@ -0,0 +1,919 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeArena
+ * Version     : 1
+ * Date        : 18.10.2026 16:12:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Ablage eines Attributs außerhalb des Heaps für alle Objekte.
+ * <p>
+ * Die Werte liegen spaltenweise in direkten {@link ByteBuffer}, die Zeile ist der Identifikator der
+ * {@link AttributesOfInterface}. Je Zeile werden 8 Byte für den Wert und 1 Byte für dessen Art
+ * belegt. Die Zeilen sind in Blöcke zu {@link #ROWS} Zeilen aufgeteilt, ein Block wird erst beim
+ * ersten Wert angelegt und verworfen, sobald er keinen Wert mehr enthält. Da Identifikatoren nicht
+ * wiederverwendet werden, leeren sich die Blöcke mit dem Entfernen der Objekte und ihr Speicher
+ * wird vom GarbageCollector freigegeben. Das Verzeichnis der Blöcke beginnt beim ältesten belegten
+ * Block und wird verkleinert, sobald es zur Hälfte aus verworfenen Blöcken besteht. Es wächst daher
+ * nicht mit dem höchsten Identifikator, sondern mit dem Abstand der belegten Zeilen.
+ * <p>
+ * <code>byte[]</code> werden in Seiten zu 1 MB mit Größenklassen abgelegt, in der Zeile steht nur
+ * ihre Position. Freigegebene Plätze werden für neue Werte derselben Größenklasse wiederverwendet.
+ * <p>
+ * Schreibzugriffe sperren eine von {@link #STRIPES} {@link StampedLock} je Spalte, Lesezugriffe
+ * erfolgen optimistisch ohne Sperre und werden nur bei einer gleichzeitigen Änderung wiederholt.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 16:12:02 agent | Realisierung
+ * @since 18.10.2026 19:33:02 agent | Verzeichnis der Blöcke ab dem ältesten belegten Block
+ * @see AttributesOfInterface
+ */
+final class AttributeArena {
+  /** @since 18.10.2026 16:12:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long                serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  /** Ergebnis von {@link #get(long)}, falls die Zeile keinen Wert enthält.
+   * @since 18.10.2026 16:12:31 agent | Realisierung */
+  static final Object                      ABSENT           = new Object();
+  
+  /** Anzahl der Bits der Zeile innerhalb eines Blocks.
+   * @since 18.10.2026 16:12:40 agent | Realisierung */
+  static final int                         ROW_BITS         = 12;
+  
+  /** Anzahl der Zeilen eines Blocks.
+   * @since 18.10.2026 16:12:51 agent | Realisierung */
+  static final int                         ROWS             = 1 << ROW_BITS;
+  
+  /** Anzahl der Sperren je Spalte.
+   * @since 18.10.2026 16:13:02 agent | Realisierung */
+  private static final int                 STRIPES          = 64;
+  
+  /** Art: kein Wert. Die primitiven Arten folgen in der Reihenfolge von {@link PrimitiveAttribute.Kind}.
+   * @since 18.10.2026 16:13:10 agent | Realisierung */
+  private static final int                 NONE             = 0;
+  
+  /** Art: <code>long</code>.
+   * @since 18.10.2026 16:13:20 agent | Realisierung */
+  private static final int                 LONG             = 1;
+  
+  /** Art: <code>int</code>.
+   * @since 18.10.2026 16:13:31 agent | Realisierung */
+  private static final int                 INT              = 2;
+  
+  /** Art: <code>double</code>.
+   * @since 18.10.2026 16:13:40 agent | Realisierung */
+  private static final int                 DOUBLE           = 3;
+  
+  /** Art: <code>boolean</code>.
+   * @since 18.10.2026 16:13:51 agent | Realisierung */
+  private static final int                 BOOLEAN          = 4;
+  
+  /** Art: <code>byte[]</code>, der Wert ist die Position in der {@link Slab}.
+   * @since 18.10.2026 16:14:02 agent | Realisierung */
+  private static final int                 BYTES            = 5;
+  
+  /** Art: <code>null</code>.
+   * @since 18.10.2026 16:14:10 agent | Realisierung */
+  private static final int                 NULL             = 6;
+  
+  /** Belegter Speicher außerhalb des Heaps in Byte.
+   * @since 18.10.2026 16:14:20 agent | Realisierung */
+  private static final AtomicLong          RESERVED         = new AtomicLong();
+  
+  /** Gemeinsame Ablage der <code>byte[]</code> aller Spalten.
+   * @since 18.10.2026 16:14:31 agent | Realisierung */
+  private static final Slab                SLAB             = new Slab();
+  
+  /*   -- Klasse ------------------------------------------------------------------- */
+  
+  /** Alle Spalten, wird bei jeder neuen Spalte ersetzt.
+   * @since 18.10.2026 16:14:40 agent | Realisierung */
+  private static volatile AttributeArena[] arenas           = new AttributeArena[0];
+  
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Name des Attributs.
+   * @since 18.10.2026 16:14:51 agent | Realisierung */
+  final AttributeName                      name;
+  
+  /** Sperren, die Zeile bestimmt die Sperre.
+   * @since 18.10.2026 16:15:02 agent | Realisierung */
+  private final StampedLock[]              locks            = new StampedLock[STRIPES];
+  
+  /** Blöcke, deren Einträge unter der Sperre der Spalte gesetzt werden.
+   * @since 18.10.2026 16:15:10 agent | Realisierung
+   * @since 18.10.2026 19:33:10 agent | Ab dem ältesten belegten Block */
+  private volatile Chunks                  chunks           = Chunks.EMPTY;
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Konstruiert eine {@link AttributeArena}.
+   * <p>
+   * @param name Name des Attributs
+   * @since 18.10.2026 16:15:20 agent | Realisierung
+   */
+  private AttributeArena(AttributeName name) {
+    this.name = name;
+    for (int i = 0; i < STRIPES; i++) {
+      this.locks[i] = new StampedLock();
+    }
+  }
+  
+  /* -- statisch ---------------------------------------------------------------------------------- */
+  
+  /**
+   * Liefert die Spalte des Attributs und legt sie bei Bedarf an.
+   * <p>
+   * @param name {@link AttributeName}
+   * @return {@link AttributeArena}
+   * @since 18.10.2026 16:15:31 agent | Realisierung
+   */
+  static synchronized AttributeArena of(AttributeName name) {
+    AttributeArena arena = name.arena;
+    if (arena != null) return arena;
+    arena = new AttributeArena(name);
+    AttributeArena[] grown = Arrays.copyOf(arenas, arenas.length + 1);
+    grown[grown.length - 1] = arena;
+    arenas = grown;
+    name.arena = arena;
+    return arena;
+  }
+  
+  /**
+   * Liefert alle Spalten.
+   * <p>
+   * @return Spalten, nicht verändern
+   * @since 18.10.2026 16:15:40 agent | Realisierung
+   */
+  static AttributeArena[] all() {
+    return arenas;
+  }
+  
+  /**
+   * Entfernt die Werte der Zeile aus allen Spalten.
+   * <p>
+   * @param id Identifikator der {@link AttributesOfInterface}
+   * @since 18.10.2026 16:15:51 agent | Realisierung
+   */
+  static void release(long id) {
+    for (AttributeArena arena : arenas) {
+      arena.remove(id);
+    }
+  }
+  
+  /**
+   * Liefert den belegten Speicher außerhalb des Heaps.
+   * <p>
+   * Verworfene Blöcke werden bereits abgezogen, auch wenn der GarbageCollector ihren Speicher noch
+   * nicht freigegeben hat.
+   * <p>
+   * @return Belegter Speicher in Byte
+   * @since 18.10.2026 16:16:02 agent | Realisierung
+   */
+  static long reserved() {
+    return RESERVED.get();
+  }
+  
+  /* -- get/set/add/is ---------------------------------------------------------------------------- */
+  
+  /**
+   * Prüft, ob die Zeile einen Wert enthält, auch wenn er <code>null</code> ist.
+   * <p>
+   * @param id Zeile
+   * @return <code>true</code>, falls ein Wert vorhanden ist.
+   * @since 18.10.2026 16:16:10 agent | Realisierung
+   */
+  boolean contains(long id) {
+    Chunk chunk = chunk(id);
+    return chunk != null && chunk.tag(row(id)) != NONE;
+  }
+  
+  /**
+   * Liefert die Anzahl der Plätze im Verzeichnis der Blöcke, belegt oder verworfen.
+   * <p>
+   * @return Anzahl der Plätze
+   * @since 18.10.2026 19:35:20 agent | Realisierung
+   */
+  int capacity() {
+    return this.chunks.length();
+  }
+  
+  /**
+   * Liefert den Wert der Zeile.
+   * <p>
+   * @param id Zeile
+   * @return Wert, <code>byte[]</code> als Kopie, oder {@link #ABSENT}
+   * @since 18.10.2026 16:16:20 agent | Realisierung
+   */
+  Object get(long id) {
+    StampedLock lock = lock(id);
+    long stamp = lock.tryOptimisticRead();
+    if (stamp != 0) {
+      try {
+        Object value = read(id);
+        if (lock.validate(stamp)) return value;
+      } catch (RuntimeException e) {
+        // Während einer Änderung gelesen, die Prüfung unter der Sperre entscheidet.
+      }
+    }
+    stamp = lock.readLock();
+    try {
+      return read(id);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+  
+  /**
+   * Liefert den Wert der Zeile als <code>long</code>.
+   * <p>
+   * @param id Zeile
+   * @return Wert, <code>0</code> ohne Wert
+   * @throws ClassCastException Die Zeile enthält ein <code>byte[]</code>.
+   * @since 18.10.2026 16:16:31 agent | Realisierung
+   */
+  long getLong(long id) {
+    StampedLock lock = lock(id);
+    long stamp = lock.tryOptimisticRead();
+    Chunk chunk = chunk(id);
+    int row = row(id);
+    int tag = chunk == null ? NONE : chunk.tag(row);
+    long bits = chunk == null ? 0 : chunk.bits(row);
+    if (stamp == 0 || !lock.validate(stamp)) {
+      stamp = lock.readLock();
+      try {
+        chunk = chunk(id);
+        tag = chunk == null ? NONE : chunk.tag(row);
+        bits = chunk == null ? 0 : chunk.bits(row);
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+    return longOf(tag, bits);
+  }
+  
+  /**
+   * Liefert den Wert der Zeile als <code>double</code>.
+   * <p>
+   * @param id Zeile
+   * @return Wert, <code>0</code> ohne Wert
+   * @throws ClassCastException Die Zeile enthält ein <code>byte[]</code>.
+   * @since 18.10.2026 16:16:40 agent | Realisierung
+   */
+  double getDouble(long id) {
+    StampedLock lock = lock(id);
+    long stamp = lock.tryOptimisticRead();
+    Chunk chunk = chunk(id);
+    int row = row(id);
+    int tag = chunk == null ? NONE : chunk.tag(row);
+    long bits = chunk == null ? 0 : chunk.bits(row);
+    if (stamp == 0 || !lock.validate(stamp)) {
+      stamp = lock.readLock();
+      try {
+        chunk = chunk(id);
+        tag = chunk == null ? NONE : chunk.tag(row);
+        bits = chunk == null ? 0 : chunk.bits(row);
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+    return doubleOf(tag, bits);
+  }
+  
+  /**
+   * Setzt den Wert der Zeile.
+   * <p>
+   * @param id Zeile
+   * @param value Primitiver Wert, <code>byte[]</code>, {@link AttributeCell} oder <code>null</code>
+   * @throws IllegalArgumentException Der Wert kann nicht außerhalb des Heaps abgelegt werden.
+   * @since 18.10.2026 16:16:51 agent | Realisierung
+   */
+  void put(long id, Object value) {
+    if (value instanceof PrimitiveAttribute) {
+      PrimitiveAttribute cell = (PrimitiveAttribute) value;
+      putBits(id, cell.kind, cell.bits());
+      return;
+    }
+    value = AttributeCell.valueOf(value);
+    int tag;
+    long bits;
+    if (value == null) {
+      tag = NULL;
+      bits = 0;
+    } else if (value instanceof Long) {
+      tag = LONG;
+      bits = ((Long) value).longValue();
+    } else if (value instanceof Integer) {
+      tag = INT;
+      bits = ((Integer) value).intValue();
+    } else if (value instanceof Double) {
+      tag = DOUBLE;
+      bits = Double.doubleToRawLongBits(((Double) value).doubleValue());
+    } else if (value instanceof Boolean) {
+      tag = BOOLEAN;
+      bits = ((Boolean) value).booleanValue() ? 1 : 0;
+    } else if (value instanceof byte[]) {
+      putBytes(id, (byte[]) value);
+      return;
+    } else {
+      throw new IllegalArgumentException("Außerhalb des Heaps nur primitive Werte und byte[]: " + this.name + " = "
+          + value.getClass().getName());
+    }
+    StampedLock lock = lock(id);
+    long stamp = lock.writeLock();
+    try {
+      write(id, tag, bits);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+  
+  /**
+   * Setzt einen primitiven Wert der Zeile.
+   * <p>
+   * @param id Zeile
+   * @param kind Art des Wertes
+   * @param bits Wert bzw. Bitmuster
+   * @since 18.10.2026 16:17:02 agent | Realisierung
+   */
+  void putBits(long id, PrimitiveAttribute.Kind kind, long bits) {
+    StampedLock lock = lock(id);
+    long stamp = lock.writeLock();
+    try {
+      write(id, 1 + kind.ordinal(), bits);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+  
+  /**
+   * Addiert atomar auf den <code>long</code>-Wert der Zeile, ein anderer Wert wird umgewandelt.
+   * <p>
+   * @param id Zeile
+   * @param delta Summand
+   * @return Neuer Wert
+   * @since 18.10.2026 16:17:10 agent | Realisierung
+   */
+  long addLong(long id, long delta) {
+    StampedLock lock = lock(id);
+    long stamp = lock.writeLock();
+    try {
+      Chunk chunk = chunk(id);
+      int row = row(id);
+      long value = (chunk == null ? 0 : longOf(chunk.tag(row), chunk.bits(row))) + delta;
+      write(id, LONG, value);
+      return value;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+  
+  /**
+   * Addiert atomar auf den <code>int</code>-Wert der Zeile, ein anderer Wert wird umgewandelt.
+   * <p>
+   * @param id Zeile
+   * @param delta Summand
+   * @return Neuer Wert
+   * @since 18.10.2026 16:17:20 agent | Realisierung
+   */
+  int addInt(long id, int delta) {
+    StampedLock lock = lock(id);
+    long stamp = lock.writeLock();
+    try {
+      Chunk chunk = chunk(id);
+      int row = row(id);
+      int value = (chunk == null ? 0 : (int) longOf(chunk.tag(row), chunk.bits(row))) + delta;
+      write(id, INT, value);
+      return value;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+  
+  /**
+   * Addiert atomar auf den <code>double</code>-Wert der Zeile, ein anderer Wert wird umgewandelt.
+   * <p>
+   * @param id Zeile
+   * @param delta Summand
+   * @return Neuer Wert
+   * @since 18.10.2026 16:17:31 agent | Realisierung
+   */
+  double addDouble(long id, double delta) {
+    StampedLock lock = lock(id);
+    long stamp = lock.writeLock();
+    try {
+      Chunk chunk = chunk(id);
+      int row = row(id);
+      double value = (chunk == null ? 0 : doubleOf(chunk.tag(row), chunk.bits(row))) + delta;
+      write(id, DOUBLE, Double.doubleToRawLongBits(value));
+      return value;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+  
+  /**
+   * Entfernt den Wert der Zeile und verwirft den Block, sobald er leer ist.
+   * <p>
+   * @param id Zeile
+   * @since 18.10.2026 16:17:40 agent | Realisierung
+   * @since 18.10.2026 19:33:20 agent | Verkleinert das Verzeichnis der Blöcke
+   */
+  void remove(long id) {
+    if (!contains(id)) return;
+    StampedLock lock = lock(id);
+    long stamp = lock.writeLock();
+    try {
+      Chunk chunk = chunk(id);
+      int row = row(id);
+      if (chunk == null || chunk.tag(row) == NONE) return;
+      if (chunk.tag(row) == BYTES) SLAB.free(chunk.bits(row));
+      synchronized (this) {
+        chunk.set(row, NONE, 0);
+        if (--chunk.live == 0) {
+          this.chunks = this.chunks.without(id >>> ROW_BITS);
+          RESERVED.addAndGet(-Chunk.SIZE);
+        }
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+  
+  /* -- Hilfsmethoden ----------------------------------------------------------------------------- */
+  
+  /**
+   * Legt ein <code>byte[]</code> in der {@link Slab} ab und setzt seine Position in der Zeile.
+   * <p>
+   * @param id Zeile
+   * @param value Wert, wird kopiert
+   * @since 18.10.2026 16:17:51 agent | Realisierung
+   */
+  private void putBytes(long id, byte[] value) {
+    long handle = SLAB.allocate(value.length);
+    SLAB.write(handle, value);
+    StampedLock lock = lock(id);
+    long stamp = lock.writeLock();
+    try {
+      write(id, BYTES, handle);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+  
+  /**
+   * Setzt Art und Wert der Zeile, die Sperre der Zeile muss gehalten werden.
+   * <p>
+   * Der erste Wert eines Blocks wird unter der Sperre der Spalte gesetzt, damit der Block nicht
+   * gleichzeitig verworfen wird. Ein bisher abgelegtes <code>byte[]</code> wird freigegeben.
+   * <p>
+   * @param id Zeile
+   * @param tag Art
+   * @param bits Wert, Bitmuster oder Position
+   * @since 18.10.2026 16:18:02 agent | Realisierung
+   * @since 18.10.2026 19:33:31 agent | Verzeichnis ab dem ältesten belegten Block
+   */
+  private void write(long id, int tag, long bits) {
+    int row = row(id);
+    Chunk chunk = chunk(id);
+    if (chunk != null && chunk.tag(row) != NONE) {
+      int previous = chunk.tag(row);
+      long handle = chunk.bits(row);
+      chunk.set(row, tag, bits);
+      if (previous == BYTES) SLAB.free(handle);
+      return;
+    }
+    synchronized (this) {
+      long index = id >>> ROW_BITS;
+      chunk = this.chunks.get(index);
+      if (chunk == null) {
+        chunk = new Chunk();
+        this.chunks = this.chunks.with(index, chunk);
+        RESERVED.addAndGet(Chunk.SIZE);
+      }
+      chunk.live++;
+      chunk.set(row, tag, bits);
+    }
+  }
+  
+  /**
+   * Liest den Wert der Zeile ohne Sperre.
+   * <p>
+   * @param id Zeile
+   * @return Wert oder {@link #ABSENT}
+   * @since 18.10.2026 16:18:10 agent | Realisierung
+   */
+  private Object read(long id) {
+    Chunk chunk = chunk(id);
+    if (chunk == null) return ABSENT;
+    int row = row(id);
+    int tag = chunk.tag(row);
+    long bits = chunk.bits(row);
+    switch (tag) {
+      case NONE:
+        return ABSENT;
+      case NULL:
+        return null;
+      case INT:
+        return Integer.valueOf((int) bits);
+      case DOUBLE:
+        return Double.valueOf(Double.longBitsToDouble(bits));
+      case BOOLEAN:
+        return Boolean.valueOf(bits != 0);
+      case BYTES:
+        return SLAB.read(bits);
+      default:
+        return Long.valueOf(bits);
+    }
+  }
+  
+  /**
+   * Liefert die Sperre der Zeile.
+   * <p>
+   * @param id Zeile
+   * @return {@link StampedLock}
+   * @since 18.10.2026 16:18:20 agent | Realisierung
+   */
+  private StampedLock lock(long id) {
+    return this.locks[(int) id & (STRIPES - 1)];
+  }
+  
+  /**
+   * Liefert den Block der Zeile.
+   * <p>
+   * @param id Zeile
+   * @return {@link Chunk} oder <code>null</code>
+   * @since 18.10.2026 16:18:31 agent | Realisierung
+   * @since 18.10.2026 19:33:40 agent | Über {@link Chunks}
+   */
+  private Chunk chunk(long id) {
+    return this.chunks.get(id >>> ROW_BITS);
+  }
+  
+  /**
+   * Liefert die Zeile innerhalb ihres Blocks.
+   * <p>
+   * @param id Zeile
+   * @return Zeile im Block
+   * @since 18.10.2026 16:18:40 agent | Realisierung
+   */
+  private static int row(long id) {
+    return (int) id & (ROWS - 1);
+  }
+  
+  /**
+   * Wandelt einen Wert in einen <code>long</code> um.
+   * <p>
+   * @param tag Art
+   * @param bits Wert bzw. Bitmuster
+   * @return Wert
+   * @throws ClassCastException Der Wert ist ein <code>byte[]</code>.
+   * @since 18.10.2026 16:18:51 agent | Realisierung
+   */
+  private static long longOf(int tag, long bits) {
+    switch (tag) {
+      case NONE:
+      case NULL:
+        return 0;
+      case DOUBLE:
+        return (long) Double.longBitsToDouble(bits);
+      case BYTES:
+        throw new ClassCastException("byte[] ist kein primitiver Wert");
+      default:
+        return bits;
+    }
+  }
+  
+  /**
+   * Wandelt einen Wert in einen <code>double</code> um.
+   * <p>
+   * @param tag Art
+   * @param bits Wert bzw. Bitmuster
+   * @return Wert
+   * @throws ClassCastException Der Wert ist ein <code>byte[]</code>.
+   * @since 18.10.2026 16:19:02 agent | Realisierung
+   */
+  private static double doubleOf(int tag, long bits) {
+    return tag == DOUBLE ? Double.longBitsToDouble(bits) : longOf(tag, bits);
+  }
+  
+  /* -- Innere Klassen ---------------------------------------------------------------------------- */
+  
+  /**
+   * Block aus {@link AttributeArena#ROWS} Zeilen.
+   * @since 18.10.2026 16:19:10 agent | Realisierung
+   */
+  private static final class Chunk {
+    /** Größe eines Blocks in Byte: je Zeile 8 Byte Wert und 1 Byte Art.
+     * @since 18.10.2026 16:19:20 agent | Realisierung */
+    static final int         SIZE   = ROWS * 9;
+    
+    /** Werte ab Position <code>0</code>, Arten ab Position <code>ROWS * 8</code>.
+     * @since 18.10.2026 16:19:31 agent | Realisierung */
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(SIZE).order(ByteOrder.nativeOrder());
+    
+    /** Anzahl der Zeilen mit Wert, Zugriff nur unter Sperre der Spalte.
+     * @since 18.10.2026 16:19:40 agent | Realisierung */
+    int                      live;
+    
+    /**
+     * @param row Zeile im Block
+     * @return Art
+     * @since 18.10.2026 16:19:51 agent | Realisierung
+     */
+    int tag(int row) {
+      return this.buffer.get(ROWS * 8 + row);
+    }
+    
+    /**
+     * @param row Zeile im Block
+     * @return Wert, Bitmuster oder Position
+     * @since 18.10.2026 16:20:02 agent | Realisierung
+     */
+    long bits(int row) {
+      return this.buffer.getLong(row << 3);
+    }
+    
+    /**
+     * Setzt zuerst den Wert und danach die Art.
+     * @param row Zeile im Block
+     * @param tag Art
+     * @param bits Wert, Bitmuster oder Position
+     * @since 18.10.2026 16:20:10 agent | Realisierung
+     */
+    void set(int row, int tag, long bits) {
+      this.buffer.putLong(row << 3, bits);
+      this.buffer.put(ROWS * 8 + row, (byte) tag);
+    }
+  }
+  
+  /**
+   * Verzeichnis der Blöcke ab einem ersten Block.
+   * <p>
+   * Neue Blöcke werden unter der Sperre der Spalte in das Array eingetragen. Verschiebt sich der
+   * Bereich, wird das Verzeichnis ersetzt, Leser sehen damit immer Beginn und Array zusammen.
+   * <p>
+   * @since 18.10.2026 19:33:51 agent | Realisierung
+   */
+  private static final class Chunks {
+    /** Verzeichnis ohne Blöcke.
+     * @since 18.10.2026 19:34:02 agent | Realisierung */
+    static final Chunks   EMPTY = new Chunks(0, new Chunk[0]);
+    
+    /** Index des ersten Blocks im Array.
+     * @since 18.10.2026 19:34:10 agent | Realisierung */
+    private final long    base;
+    
+    /** Blöcke ab {@link #base}, verworfene Blöcke sind <code>null</code>.
+     * @since 18.10.2026 19:34:20 agent | Realisierung */
+    private final Chunk[] chunks;
+    
+    /**
+     * Konstruiert ein {@link Chunks}.
+     * @param base Index des ersten Blocks
+     * @param chunks Blöcke ab dem ersten Block
+     * @since 18.10.2026 19:34:31 agent | Realisierung
+     */
+    Chunks(long base, Chunk[] chunks) {
+      this.base = base;
+      this.chunks = chunks;
+    }
+    
+    /**
+     * @param index Index des Blocks
+     * @return {@link Chunk} oder <code>null</code>
+     * @since 18.10.2026 19:34:40 agent | Realisierung
+     */
+    Chunk get(long index) {
+      long i = index - this.base;
+      return i >= 0 && i < this.chunks.length ? this.chunks[(int) i] : null;
+    }
+    
+    /**
+     * Trägt einen neuen Block ein, die Sperre der Spalte muss gehalten werden.
+     * <p>
+     * Liegt der Block außerhalb des Bereichs, wird ein neues Verzeichnis mit Reserve für weitere
+     * Blöcke angelegt.
+     * <p>
+     * @param index Index des Blocks
+     * @param chunk Neuer {@link Chunk}
+     * @return Verzeichnis mit dem Block
+     * @since 18.10.2026 19:34:51 agent | Realisierung
+     */
+    Chunks with(long index, Chunk chunk) {
+      Chunks chunks = this;
+      if (this.chunks.length == 0) {
+        chunks = new Chunks(index, new Chunk[1]);
+      } else if (index < this.base || index >= this.base + this.chunks.length) {
+        long base = Math.min(this.base, index);
+        long end = this.base + this.chunks.length;
+        if (index >= end) end = Math.max(index + 1, end + (this.chunks.length >> 1));
+        Chunk[] grown = new Chunk[(int) (end - base)];
+        System.arraycopy(this.chunks, 0, grown, (int) (this.base - base), this.chunks.length);
+        chunks = new Chunks(base, grown);
+      }
+      chunks.chunks[(int) (index - chunks.base)] = chunk;
+      return chunks;
+    }
+    
+    /**
+     * Verwirft einen leeren Block, die Sperre der Spalte muss gehalten werden.
+     * <p>
+     * Besteht das Verzeichnis danach höchstens zur Hälfte aus belegten Blöcken, wird es auf den
+     * Bereich vom ersten bis zum letzten belegten Block verkleinert.
+     * <p>
+     * @param index Index des Blocks
+     * @return Verzeichnis ohne den Block
+     * @since 18.10.2026 19:35:02 agent | Realisierung
+     */
+    Chunks without(long index) {
+      this.chunks[(int) (index - this.base)] = null;
+      int first = 0;
+      while (first < this.chunks.length && this.chunks[first] == null) {
+        first++;
+      }
+      if (first == this.chunks.length) return EMPTY;
+      int last = this.chunks.length - 1;
+      while (this.chunks[last] == null) {
+        last--;
+      }
+      if ((last - first + 1) * 2 > this.chunks.length) return this;
+      return new Chunks(this.base + first, Arrays.copyOfRange(this.chunks, first, last + 1));
+    }
+    
+    /**
+     * @return Anzahl der Plätze im Verzeichnis
+     * @since 18.10.2026 19:35:10 agent | Realisierung
+     */
+    int length() {
+      return this.chunks.length;
+    }
+  }
+  
+  /**
+   * Ablage der <code>byte[]</code> in Seiten außerhalb des Heaps.
+   * <p>
+   * Jede Seite gehört zu einer Größenklasse und wird in gleich große Plätze aufgeteilt. Die Position
+   * enthält Länge, Seite und Versatz, so dass ein Platz keinen Kopf benötigt.
+   * <p>
+   * @since 18.10.2026 16:20:20 agent | Realisierung
+   */
+  private static final class Slab {
+    /** Größe einer Seite.
+     * @since 18.10.2026 16:20:31 agent | Realisierung */
+    static final int              PAGE   = 1 << 20;
+    
+    /** Größenklassen, jeweils etwa um die Hälfte größer.
+     * @since 18.10.2026 16:20:40 agent | Realisierung */
+    static final int[]            SIZES  = sizes();
+    
+    /** Seiten, wird bei jeder neuen Seite ersetzt.
+     * @since 18.10.2026 16:20:51 agent | Realisierung */
+    private volatile ByteBuffer[] pages  = new ByteBuffer[0];
+    
+    /** Freie Plätze je Größenklasse.
+     * @since 18.10.2026 16:21:02 agent | Realisierung */
+    private final long[][]        free   = new long[SIZES.length][];
+    
+    /** Anzahl der freien Plätze je Größenklasse.
+     * @since 18.10.2026 16:21:10 agent | Realisierung */
+    private final int[]           count  = new int[SIZES.length];
+    
+    /** Aktuelle Seite je Größenklasse oder <code>-1</code>.
+     * @since 18.10.2026 16:21:20 agent | Realisierung */
+    private final int[]           page   = new int[SIZES.length];
+    
+    /** Nächster unbenutzter Versatz der aktuellen Seite je Größenklasse.
+     * @since 18.10.2026 16:21:31 agent | Realisierung */
+    private final int[]           offset = new int[SIZES.length];
+    
+    /**
+     * Konstruiert eine {@link Slab}.
+     * @since 18.10.2026 16:21:40 agent | Realisierung
+     */
+    Slab() {
+      Arrays.fill(this.page, -1);
+    }
+    
+    /**
+     * Belegt einen Platz.
+     * <p>
+     * @param length Länge des Wertes
+     * @return Position
+     * @throws IllegalArgumentException Der Wert ist größer als eine Seite.
+     * @since 18.10.2026 16:21:51 agent | Realisierung
+     */
+    synchronized long allocate(int length) {
+      if (length == 0) return 0;
+      if (length > PAGE) throw new IllegalArgumentException("byte[] größer als " + PAGE + " Byte: " + length);
+      int size = sizeClass(length);
+      long position;
+      if (this.count[size] > 0) {
+        position = this.free[size][--this.count[size]];
+      } else {
+        if (this.page[size] < 0 || this.offset[size] + SIZES[size] > PAGE) {
+          ByteBuffer[] pages = Arrays.copyOf(this.pages, this.pages.length + 1);
+          pages[pages.length - 1] = ByteBuffer.allocateDirect(PAGE);
+          this.page[size] = pages.length - 1;
+          this.offset[size] = 0;
+          this.pages = pages;
+          RESERVED.addAndGet(PAGE);
+        }
+        position = (long) this.page[size] << 20 | this.offset[size];
+        this.offset[size] += SIZES[size];
+      }
+      return (long) length << 43 | position;
+    }
+    
+    /**
+     * Gibt einen Platz frei.
+     * <p>
+     * @param handle Position
+     * @since 18.10.2026 16:22:02 agent | Realisierung
+     */
+    synchronized void free(long handle) {
+      int length = (int) (handle >>> 43);
+      if (length == 0) return;
+      int size = sizeClass(length);
+      long[] free = this.free[size];
+      if (free == null || this.count[size] == free.length) {
+        free = this.free[size] = Arrays.copyOf(free == null ? new long[0] : free, Math.max(16, this.count[size] * 2));
+      }
+      free[this.count[size]++] = handle & ((1L << 43) - 1);
+    }
+    
+    /**
+     * Schreibt den Wert an die Position.
+     * <p>
+     * @param handle Position
+     * @param value Wert
+     * @since 18.10.2026 16:22:10 agent | Realisierung
+     */
+    void write(long handle, byte[] value) {
+      if (value.length == 0) return;
+      ByteBuffer page = this.pages[(int) (handle >>> 20) & ((1 << 23) - 1)].duplicate();
+      page.position((int) handle & (PAGE - 1));
+      page.put(value);
+    }
+    
+    /**
+     * Liest den Wert an der Position.
+     * <p>
+     * @param handle Position
+     * @return Kopie des Wertes
+     * @since 18.10.2026 16:22:20 agent | Realisierung
+     */
+    byte[] read(long handle) {
+      byte[] value = new byte[(int) (handle >>> 43)];
+      if (value.length == 0) return value;
+      ByteBuffer page = this.pages[(int) (handle >>> 20) & ((1 << 23) - 1)].duplicate();
+      page.position((int) handle & (PAGE - 1));
+      page.get(value);
+      return value;
+    }
+    
+    /**
+     * Liefert die Größenklasse zur Länge.
+     * <p>
+     * @param length Länge, größer <code>0</code>
+     * @return Index in {@link #SIZES}
+     * @since 18.10.2026 16:22:31 agent | Realisierung
+     */
+    private static int sizeClass(int length) {
+      int index = Arrays.binarySearch(SIZES, length);
+      return index >= 0 ? index : -index - 1;
+    }
+    
+    /**
+     * Ermittelt die Größenklassen von 8 Byte bis zur Größe einer Seite.
+     * <p>
+     * @return Aufsteigende Größen
+     * @since 18.10.2026 16:22:40 agent | Realisierung
+     */
+    private static int[] sizes() {
+      int[] sizes = new int[64];
+      int count = 0;
+      for (int size = 8; size < PAGE; size <<= 1) {
+        sizes[count++] = size;
+        sizes[count++] = size + (size >> 1);
+      }
+      sizes[count++] = PAGE;
+      return Arrays.copyOf(sizes, count);
+    }
+  }
+  
+}
@@ -0,0 +1,560 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeCache
+ * Version     : 1
+ * Date        : 18.10.2026 14:40:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Verwaltet Ablauf und Begrenzung der Attribute eines {@link AttributesOfInterface} im Cache-Modus.
+ * <p>
+ * Die Werte liegen weiterhin in der {@link ConcurrentHashMap} der Attribute, der Cache führt je
+ * Attribut Ablaufzeit, Gewicht und Lesehäufigkeit. Änderungen an Werten und Verwaltung erfolgen
+ * gemeinsam unter der Sperre des Caches, Lesezugriffe bleiben ohne Sperre.
+ * <p>
+ * Die Arbeit wird auf die Zugriffe verteilt:
+ * <ul>
+ * <li>Abgelaufene Attribute werden beim Lesen erkannt und entfernt. Zusätzlich prüft jedes
+ * Schreiben reihum {@link #SWEEP} weitere Attribute.</li>
+ * <li>Wird das maximale Gewicht überschritten, wird aus {@link #SAMPLE} aufeinanderfolgenden
+ * Attributen das am seltensten gelesene entfernt, bis das Gewicht wieder eingehalten wird.</li>
+ * <li>Die Häufigkeiten sind auf {@link #MAX_FREQUENCY} begrenzt und werden nach zehnmal so vielen
+ * Lesezugriffen, wie Attribute vorhanden sind, halbiert.</li>
+ * </ul>
+ * Über alle Objekte im Cache-Modus kann zusätzlich ein {@link #setLimit(long) Gesamtgewicht}
+ * festgelegt werden. Wird es überschritten, entfernt der schreibende Thread reihum aus den Caches
+ * je ein Attribut. Dabei wird immer nur die Sperre eines Caches gehalten, nie die eines
+ * {@link AttributesOfInterface}, so dass keine Verklemmung entstehen kann.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 14:40:02 agent | Realisierung
+ * @see AttributeCachePolicy
+ */
+final class AttributeCache {
+  /** @since 18.10.2026 14:40:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long                              serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  /** Anzahl der Kandidaten für eine Verdrängung.
+   * @since 18.10.2026 14:40:31 agent | Realisierung */
+  static final int                                       SAMPLE           = 5;
+  
+  /** Anzahl der je Schreibzugriff auf Ablauf geprüften Attribute.
+   * @since 18.10.2026 14:40:50 agent | Realisierung */
+  static final int                                       SWEEP            = 2;
+  
+  /** Obergrenze der Lesehäufigkeit eines Attributs.
+   * @since 18.10.2026 14:41:10 agent | Realisierung */
+  static final int                                       MAX_FREQUENCY    = 15;
+  
+  /** Alle Caches für die Verdrängung über das Gesamtgewicht.
+   * @since 18.10.2026 14:41:31 agent | Realisierung */
+  private static final ConcurrentLinkedQueue<Ref>        CACHES           = new ConcurrentLinkedQueue<>();
+  
+  /** Es verdrängt immer nur ein Thread über das Gesamtgewicht.
+   * @since 18.10.2026 14:41:50 agent | Realisierung */
+  private static final ReentrantLock                     BALANCE          = new ReentrantLock();
+  
+  /** Gesamtgewicht aller Caches.
+   * @since 18.10.2026 14:42:10 agent | Realisierung */
+  private static final AtomicLong                        TOTAL_WEIGHT     = new AtomicLong();
+  
+  /** Statistik über alle Caches.
+   * @since 18.10.2026 14:42:31 agent | Realisierung */
+  private static final Counters                          TOTAL            = new Counters();
+  
+  /*   -- Klasse ------------------------------------------------------------------- */
+  
+  /** Maximales Gesamtgewicht aller Caches.
+   * @since 18.10.2026 14:42:50 agent | Realisierung */
+  private static volatile long                           limit            = Long.MAX_VALUE;
+  
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Regeln des Caches.
+   * @since 18.10.2026 14:43:10 agent | Realisierung */
+  final AttributeCachePolicy                             policy;
+  
+  /** Abgelegte Werte der Attribute.
+   * @since 18.10.2026 14:43:31 agent | Realisierung */
+  private final ConcurrentHashMap<AttributeName, Object> values;
+  
+  /** Verwaltung je Attribut.
+   * @since 18.10.2026 14:43:50 agent | Realisierung */
+  private final ConcurrentHashMap<AttributeName, Entry>  entries          = new ConcurrentHashMap<>();
+  
+  /** Verwaltung in wahlfreier Reihenfolge für Stichproben. Zugriff nur unter Sperre.
+   * @since 18.10.2026 14:44:10 agent | Realisierung */
+  private final ArrayList<Entry>                         order            = new ArrayList<>();
+  
+  /** Statistik des Caches.
+   * @since 18.10.2026 14:44:31 agent | Realisierung */
+  private final Counters                                 counters         = new Counters();
+  
+  /** Gewicht des Caches, wird mit der Referenz in {@link #CACHES} geteilt.
+   * @since 18.10.2026 14:44:50 agent | Realisierung */
+  private final AtomicLong                               weight           = new AtomicLong();
+  
+  /** Position der nächsten Prüfung auf Ablauf. Zugriff nur unter Sperre.
+   * @since 18.10.2026 14:45:10 agent | Realisierung */
+  private int                                            sweep;
+  
+  /** Lesezugriffe seit der letzten Halbierung der Häufigkeiten, ungenau unter Konkurrenz.
+   * @since 18.10.2026 14:45:31 agent | Realisierung */
+  private int                                            ticks;
+  
+  /** Der Cache wurde abgeschaltet. Zugriff nur unter Sperre.
+   * @since 18.10.2026 14:45:50 agent | Realisierung */
+  private boolean                                        closed;
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Konstruiert einen {@link AttributeCache} und übernimmt die vorhandenen Attribute.
+   * <p>
+   * @param policy Regeln des Caches
+   * @param values Abgelegte Werte der Attribute
+   * @since 18.10.2026 14:46:10 agent | Realisierung
+   */
+  AttributeCache(AttributeCachePolicy policy, ConcurrentHashMap<AttributeName, Object> values) {
+    this.policy = policy;
+    this.values = values;
+    synchronized (this) {
+      for (Map.Entry<AttributeName, Object> e : values.entrySet()) {
+        account(e.getKey(), AttributeCell.valueOf(AttributesOfInterface.unmask(e.getValue())));
+      }
+      evict(null);
+    }
+    CACHES.add(new Ref(this));
+    balance();
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * Liefert den abgelegten Inhalt und zählt Treffer oder Fehlzugriff.
+   * <p>
+   * @param name {@link AttributeName}
+   * @return Abgelegter Inhalt oder <code>null</code>, falls er fehlt oder abgelaufen ist.
+   * @since 18.10.2026 14:46:31 agent | Realisierung
+   */
+  Object read(AttributeName name) {
+    Object content = this.values.get(name);
+    Entry entry = content == null ? null : this.entries.get(name);
+    if (entry == null || entry.expired(this.policy.expires() ? System.nanoTime() : 0)) {
+      if (entry != null) expire(entry);
+      this.counters.misses.increment();
+      TOTAL.misses.increment();
+      return null;
+    }
+    this.counters.hits.increment();
+    TOTAL.hits.increment();
+    if (entry.frequency < MAX_FREQUENCY) entry.frequency++;
+    if (++this.ticks >= Math.max(16, 10 * this.entries.size())) age();
+    return AttributesOfInterface.unmask(content);
+  }
+  
+  /**
+   * Liefert den abgelegten Inhalt ohne Statistik und ohne Häufigkeit, etwa für schreibende Zugriffe.
+   * <p>
+   * @param name {@link AttributeName}
+   * @return Abgelegter Inhalt oder <code>null</code>, falls er fehlt oder abgelaufen ist.
+   * @since 18.10.2026 14:46:40 agent | Realisierung
+   */
+  Object peek(AttributeName name) {
+    Object content = this.values.get(name);
+    return content != null && live(name) ? AttributesOfInterface.unmask(content) : null;
+  }
+  
+  /**
+   * Prüft ohne Statistik, ob das Attribut vorhanden und nicht abgelaufen ist.
+   * <p>
+   * @param name {@link AttributeName}
+   * @return <code>true</code>, falls das Attribut gültig ist.
+   * @since 18.10.2026 14:46:50 agent | Realisierung
+   */
+  boolean live(AttributeName name) {
+    Entry entry = this.entries.get(name);
+    return entry != null && !entry.expired(this.policy.expires() ? System.nanoTime() : 0);
+  }
+  
+  /**
+   * Legt den Wert ab, prüft reihum auf Ablauf und verdrängt bei Überschreitung des Gewichts.
+   * <p>
+   * @param name {@link AttributeName}
+   * @param value Wert
+   * @since 18.10.2026 14:47:10 agent | Realisierung
+   */
+  void put(AttributeName name, Object value) {
+    synchronized (this) {
+      this.values.put(name, AttributesOfInterface.mask(value));
+      account(name, AttributeCell.valueOf(value));
+      sweep();
+      evict(name);
+    }
+    balance();
+  }
+  
+  /**
+   * Verlängert die Lebensdauer des Attributs, dessen Wert ohne {@link #put(AttributeName, Object)}
+   * geändert wurde.
+   * <p>
+   * @param name {@link AttributeName}
+   * @since 18.10.2026 14:47:31 agent | Realisierung
+   */
+  void renew(AttributeName name) {
+    Entry entry = this.entries.get(name);
+    if (entry != null) entry.expires = expiry(name);
+  }
+  
+  /**
+   * Schaltet den Cache ab. Die Attribute bleiben erhalten, ihr Gewicht wird nicht mehr gezählt.
+   * <p>
+   * @since 18.10.2026 14:47:50 agent | Realisierung
+   */
+  synchronized void close() {
+    if (this.closed) return;
+    this.closed = true;
+    TOTAL_WEIGHT.addAndGet(-this.weight.getAndSet(0));
+    this.entries.clear();
+    this.order.clear();
+  }
+  
+  /**
+   * Liefert die Statistik des Caches.
+   * <p>
+   * @return {@link AttributeCacheStats}
+   * @since 18.10.2026 14:48:10 agent | Realisierung
+   */
+  AttributeCacheStats stats() {
+    return this.counters.snapshot(this.weight.get());
+  }
+  
+  /* -- statisch ---------------------------------------------------------------------------------- */
+  
+  /**
+   * Legt das maximale Gesamtgewicht aller Caches fest und verdrängt bei Bedarf sofort.
+   * <p>
+   * @param maximumWeight Maximales Gesamtgewicht
+   * @throws IllegalArgumentException Das Gewicht ist negativ.
+   * @since 18.10.2026 14:48:31 agent | Realisierung
+   */
+  static void setLimit(long maximumWeight) {
+    if (maximumWeight < 0) throw new IllegalArgumentException("Negatives Gewicht " + maximumWeight);
+    limit = maximumWeight;
+    balance();
+  }
+  
+  /**
+   * Liefert die Statistik über alle Caches.
+   * <p>
+   * @return {@link AttributeCacheStats}
+   * @since 18.10.2026 14:48:50 agent | Realisierung
+   */
+  static AttributeCacheStats totalStats() {
+    return TOTAL.snapshot(TOTAL_WEIGHT.get());
+  }
+  
+  /* -- Hilfsmethoden ----------------------------------------------------------------------------- */
+  
+  /**
+   * Erfasst Gewicht und Ablauf des geschriebenen Attributs, die Sperre muss gehalten werden.
+   * <p>
+   * @param name {@link AttributeName}
+   * @param value Wert
+   * @since 18.10.2026 14:49:10 agent | Realisierung
+   */
+  private void account(AttributeName name, Object value) {
+    if (this.closed) return;
+    long weight = this.policy.weigher.applyAsLong(value);
+    Entry entry = this.entries.get(name);
+    if (entry == null) {
+      entry = new Entry(name, this.order.size());
+      this.order.add(entry);
+      this.entries.put(name, entry);
+    }
+    add(weight - entry.weight);
+    entry.weight = weight;
+    entry.expires = expiry(name);
+  }
+  
+  /**
+   * Prüft reihum {@link #SWEEP} Attribute auf Ablauf, die Sperre muss gehalten werden.
+   * <p>
+   * @since 18.10.2026 14:49:31 agent | Realisierung
+   */
+  private void sweep() {
+    if (!this.policy.expires()) return;
+    long now = System.nanoTime();
+    for (int i = 0; i < SWEEP && !this.order.isEmpty(); i++) {
+      if (this.sweep >= this.order.size()) this.sweep = 0;
+      Entry entry = this.order.get(this.sweep);
+      if (entry.expired(now)) {
+        remove(entry);
+        this.counters.expirations.increment();
+        TOTAL.expirations.increment();
+      } else {
+        this.sweep++;
+      }
+    }
+  }
+  
+  /**
+   * Verdrängt Attribute, bis das maximale Gewicht eingehalten wird, die Sperre muss gehalten werden.
+   * <p>
+   * @param protect Gerade geschriebenes Attribut, das nur als letztes verdrängt wird, oder <code>null</code>
+   * @since 18.10.2026 14:49:50 agent | Realisierung
+   */
+  private void evict(AttributeName protect) {
+    while (this.weight.get() > this.policy.maximumWeight && evictOne(protect)) {
+      // Je Durchlauf wird genau ein Attribut entfernt.
+    }
+  }
+  
+  /**
+   * Verdrängt das am seltensten gelesene Attribut einer Stichprobe, die Sperre muss gehalten werden.
+   * <p>
+   * Bei höchstens {@link #SAMPLE} Attributen werden alle betrachtet, sonst {@link #SAMPLE}
+   * aufeinanderfolgende ab einer zufälligen Position.
+   * <p>
+   * @param protect Attribut, das nur verdrängt wird, wenn es das einzige ist, oder <code>null</code>
+   * @return <code>true</code>, falls ein Attribut entfernt wurde.
+   * @since 18.10.2026 14:50:10 agent | Realisierung
+   */
+  private boolean evictOne(AttributeName protect) {
+    int size = this.order.size();
+    if (size == 0) return false;
+    int count = Math.min(size, SAMPLE);
+    int start = size <= SAMPLE ? 0 : ThreadLocalRandom.current().nextInt(size);
+    Entry victim = null;
+    for (int i = 0; i < count; i++) {
+      Entry entry = this.order.get((start + i) % size);
+      if (entry.name == protect && size > 1) continue;
+      if (victim == null || entry.frequency < victim.frequency) victim = entry;
+    }
+    remove(victim);
+    this.counters.evictions.increment();
+    TOTAL.evictions.increment();
+    return true;
+  }
+  
+  /**
+   * Entfernt ein abgelaufenes Attribut, falls es nicht zwischenzeitlich neu geschrieben wurde.
+   * <p>
+   * @param entry Abgelaufene Verwaltung
+   * @since 18.10.2026 14:50:31 agent | Realisierung
+   */
+  private synchronized void expire(Entry entry) {
+    if (this.entries.get(entry.name) != entry || !entry.expired(System.nanoTime())) return;
+    remove(entry);
+    this.counters.expirations.increment();
+    TOTAL.expirations.increment();
+  }
+  
+  /**
+   * Entfernt Attribut und Verwaltung, die Sperre muss gehalten werden.
+   * <p>
+   * @param entry Verwaltung des Attributs
+   * @since 18.10.2026 14:50:50 agent | Realisierung
+   */
+  private void remove(Entry entry) {
+    this.values.remove(entry.name);
+    this.entries.remove(entry.name);
+    Entry last = this.order.remove(this.order.size() - 1);
+    if (last != entry) {
+      last.index = entry.index;
+      this.order.set(entry.index, last);
+    }
+    add(-entry.weight);
+  }
+  
+  /**
+   * Halbiert die Häufigkeiten aller Attribute, damit früher häufig gelesene nicht dauerhaft bevorzugt werden.
+   * <p>
+   * @since 18.10.2026 14:51:10 agent | Realisierung
+   */
+  private void age() {
+    this.ticks = 0;
+    for (Entry entry : this.entries.values()) {
+      entry.frequency >>= 1;
+    }
+  }
+  
+  /**
+   * Ändert das Gewicht des Caches und das Gesamtgewicht.
+   * <p>
+   * @param delta Änderung des Gewichts
+   * @since 18.10.2026 14:51:31 agent | Realisierung
+   */
+  private void add(long delta) {
+    if (delta == 0) return;
+    this.weight.addAndGet(delta);
+    TOTAL_WEIGHT.addAndGet(delta);
+  }
+  
+  /**
+   * Liefert den Ablaufzeitpunkt eines jetzt geschriebenen Attributs.
+   * <p>
+   * @param name {@link AttributeName}
+   * @return Zeitpunkt in {@link System#nanoTime()} oder <code>0</code> für unbegrenzt
+   * @since 18.10.2026 14:51:50 agent | Realisierung
+   */
+  private long expiry(AttributeName name) {
+    long nanos = this.policy.expireAfterWrite(name);
+    if (nanos == 0) return 0;
+    long expires = System.nanoTime() + nanos;
+    return expires == 0 ? 1 : expires;
+  }
+  
+  /**
+   * Verdrängt reihum je ein Attribut aus den Caches, bis das Gesamtgewicht eingehalten wird.
+   * <p>
+   * Hält bereits ein anderer Thread die Verdrängung, kehrt der Aufruf sofort zurück. Caches, deren
+   * Objekt nicht mehr erreichbar ist, werden dabei ausgetragen.
+   * <p>
+   * @since 18.10.2026 14:52:10 agent | Realisierung
+   */
+  private static void balance() {
+    if (TOTAL_WEIGHT.get() <= limit || !BALANCE.tryLock()) return;
+    try {
+      int rounds = CACHES.size();
+      int idle = 0;
+      while (TOTAL_WEIGHT.get() > limit && idle <= rounds) {
+        Ref ref = CACHES.poll();
+        if (ref == null) return;
+        AttributeCache cache = ref.get();
+        if (cache == null) {
+          TOTAL_WEIGHT.addAndGet(-ref.weight.getAndSet(0));
+          continue;
+        }
+        boolean evicted;
+        synchronized (cache) {
+          if (cache.closed) continue;
+          evicted = cache.evictOne(null);
+        }
+        idle = evicted ? 0 : idle + 1;
+        CACHES.add(ref);
+      }
+    } finally {
+      BALANCE.unlock();
+    }
+  }
+  
+  /* -- Innere Klassen ---------------------------------------------------------------------------- */
+  
+  /**
+   * Verwaltung eines Attributs.
+   * @since 18.10.2026 14:52:31 agent | Realisierung
+   */
+  private static final class Entry {
+    /** Eindeutiger Name.
+     * @since 18.10.2026 14:52:40 agent | Realisierung */
+    final AttributeName name;
+    
+    /** Position in {@link AttributeCache#order}.
+     * @since 18.10.2026 14:52:51 agent | Realisierung */
+    int                 index;
+    
+    /** Gewicht des Wertes.
+     * @since 18.10.2026 14:53:02 agent | Realisierung */
+    long                weight;
+    
+    /** Ablaufzeitpunkt in {@link System#nanoTime()} oder <code>0</code> für unbegrenzt.
+     * @since 18.10.2026 14:53:10 agent | Realisierung */
+    volatile long       expires;
+    
+    /** Lesehäufigkeit, ungenau unter Konkurrenz.
+     * @since 18.10.2026 14:53:20 agent | Realisierung */
+    volatile int        frequency;
+    
+    /**
+     * Konstruiert eine {@link Entry}.
+     * <p>
+     * @param name Eindeutiger Name
+     * @param index Position in {@link AttributeCache#order}
+     * @since 18.10.2026 14:53:31 agent | Realisierung
+     */
+    Entry(AttributeName name, int index) {
+      this.name = name;
+      this.index = index;
+    }
+    
+    /**
+     * @param now Aktueller Zeitpunkt in {@link System#nanoTime()}, <code>0</code> ohne Ablauf
+     * @return <code>true</code>, falls das Attribut abgelaufen ist.
+     * @since 18.10.2026 14:53:40 agent | Realisierung
+     */
+    boolean expired(long now) {
+      long expires = this.expires;
+      return now != 0 && expires != 0 && now - expires >= 0;
+    }
+  }
+  
+  /**
+   * Schwache Referenz auf einen Cache für die Verdrängung über das Gesamtgewicht.
+   * <p>
+   * Das Gewicht wird mit dem Cache geteilt, so dass es nach dessen Entfernung durch den
+   * GarbageCollector vom Gesamtgewicht abgezogen werden kann.
+   * @since 18.10.2026 14:53:51 agent | Realisierung
+   */
+  private static final class Ref extends WeakReference<AttributeCache> {
+    /** Gewicht des Caches.
+     * @since 18.10.2026 14:54:02 agent | Realisierung */
+    final AtomicLong weight;
+    
+    /**
+     * Konstruiert eine {@link Ref}.
+     * <p>
+     * @param cache {@link AttributeCache}
+     * @since 18.10.2026 14:54:10 agent | Realisierung
+     */
+    Ref(AttributeCache cache) {
+      super(cache);
+      this.weight = cache.weight;
+    }
+  }
+  
+  /**
+   * Zähler einer Statistik.
+   * @since 18.10.2026 14:54:20 agent | Realisierung
+   */
+  private static final class Counters {
+    /** @since 18.10.2026 14:54:31 agent | Realisierung */
+    final LongAdder hits        = new LongAdder();
+    
+    /** @since 18.10.2026 14:54:40 agent | Realisierung */
+    final LongAdder misses      = new LongAdder();
+    
+    /** @since 18.10.2026 14:54:51 agent | Realisierung */
+    final LongAdder evictions   = new LongAdder();
+    
+    /** @since 18.10.2026 14:55:02 agent | Realisierung */
+    final LongAdder expirations = new LongAdder();
+    
+    /**
+     * @param weight Aktuelles Gewicht
+     * @return {@link AttributeCacheStats} zum aktuellen Stand
+     * @since 18.10.2026 14:55:10 agent | Realisierung
+     */
+    AttributeCacheStats snapshot(long weight) {
+      return new AttributeCacheStats(this.hits.sum(), this.misses.sum(), this.evictions.sum(), this.expirations.sum(), weight);
+    }
+  }
+  
+}
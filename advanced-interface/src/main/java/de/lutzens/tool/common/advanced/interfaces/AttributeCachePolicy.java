@@ -0,0 +1,215 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeCachePolicy
+ * Version     : 1
+ * Date        : 18.10.2026 14:30:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * Regeln für Objekt-Attribute im Cache-Modus.
+ * <p>
+ * Ein {@link AttributeCachePolicy} ist unveränderlich, jede Methode liefert eine neue Instanz.
+ * Dieselbe Instanz kann daher für beliebig viele Objekte verwendet werden:
+ * <pre>
+ * static final AttributeCachePolicy POLICY = AttributeCachePolicy.create()
+ *     .expireAfterWrite(10, TimeUnit.MINUTES)
+ *     .expireAfterWrite("session", 30, TimeUnit.SECONDS)
+ *     .maximumSize(100);
+ * ...
+ * setObjectAttributeCache(POLICY);
+ * </pre>
+ * Wird die maximale Größe überschritten, wird aus einer kleinen Stichprobe das am seltensten
+ * gelesene Attribut entfernt. Die Häufigkeiten werden regelmäßig halbiert, so dass früher häufig
+ * gelesene Attribute nicht dauerhaft bevorzugt werden.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 14:30:02 agent | Realisierung
+ * @see InterfaceWithAttributes#setObjectAttributeCache(AttributeCachePolicy)
+ */
+public final class AttributeCachePolicy {
+  /** @since 18.10.2026 14:30:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long                   serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  /** Jedes Attribut wiegt 1.
+   * @since 18.10.2026 14:30:31 agent | Realisierung */
+  private static final ToLongFunction<Object> UNIT             = value -> 1;
+  
+  /** Regeln ohne Ablauf und ohne Begrenzung.
+   * @since 18.10.2026 14:30:50 agent | Realisierung */
+  private static final AttributeCachePolicy   UNBOUNDED        = new AttributeCachePolicy(0, new HashMap<>(), Long.MAX_VALUE, UNIT);
+  
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Standard-Lebensdauer in Nanosekunden, <code>0</code> für unbegrenzt.
+   * @since 18.10.2026 14:31:10 agent | Realisierung */
+  final long                                  expireAfterWrite;
+  
+  /** Lebensdauer einzelner Attribute in Nanosekunden.
+   * @since 18.10.2026 14:31:31 agent | Realisierung */
+  private final HashMap<AttributeName, Long>  expireAfterWriteOf;
+  
+  /** Maximales Gewicht aller Attribute des Objekts.
+   * @since 18.10.2026 14:31:50 agent | Realisierung */
+  final long                                  maximumWeight;
+  
+  /** Ermittelt das Gewicht eines Wertes.
+   * @since 18.10.2026 14:32:10 agent | Realisierung */
+  final ToLongFunction<Object>                weigher;
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Konstruiert ein {@link AttributeCachePolicy}.
+   * <p>
+   * @param expireAfterWrite Standard-Lebensdauer in Nanosekunden
+   * @param expireAfterWriteOf Lebensdauer einzelner Attribute
+   * @param maximumWeight Maximales Gewicht
+   * @param weigher Ermittelt das Gewicht eines Wertes.
+   * @since 18.10.2026 14:32:31 agent | Realisierung
+   */
+  private AttributeCachePolicy(long expireAfterWrite, HashMap<AttributeName, Long> expireAfterWriteOf, long maximumWeight,
+      ToLongFunction<Object> weigher) {
+    this.expireAfterWrite = expireAfterWrite;
+    this.expireAfterWriteOf = expireAfterWriteOf;
+    this.maximumWeight = maximumWeight;
+    this.weigher = weigher;
+  }
+  
+  /* -- create ------------------------------------------------------------------------------------ */
+  
+  /**
+   * Liefert Regeln ohne Ablauf und ohne Begrenzung.
+   * <p>
+   * @return {@link AttributeCachePolicy}
+   * @since 18.10.2026 14:32:50 agent | Realisierung
+   */
+  public static AttributeCachePolicy create() {
+    return UNBOUNDED;
+  }
+  
+  /**
+   * Liefert Regeln, bei denen Attribute nach der übergebenen Zeit seit dem letzten Schreiben ablaufen.
+   * <p>
+   * @param duration Lebensdauer, <code>0</code> für unbegrenzt
+   * @param unit Einheit der Lebensdauer
+   * @return {@link AttributeCachePolicy}
+   * @throws IllegalArgumentException Die Lebensdauer ist negativ.
+   * @since 18.10.2026 14:33:10 agent | Realisierung
+   */
+  public AttributeCachePolicy expireAfterWrite(long duration, TimeUnit unit) {
+    return new AttributeCachePolicy(nanos(duration, unit), this.expireAfterWriteOf, this.maximumWeight, this.weigher);
+  }
+  
+  /**
+   * Liefert Regeln mit einer eigenen Lebensdauer für das übergebene Attribut.
+   * <p>
+   * @param key Attributname
+   * @param duration Lebensdauer, <code>0</code> für unbegrenzt
+   * @param unit Einheit der Lebensdauer
+   * @return {@link AttributeCachePolicy}
+   * @throws IllegalArgumentException Die Lebensdauer ist negativ.
+   * @since 18.10.2026 14:33:31 agent | Realisierung
+   */
+  public AttributeCachePolicy expireAfterWrite(String key, long duration, TimeUnit unit) {
+    HashMap<AttributeName, Long> expireAfterWriteOf = new HashMap<>(this.expireAfterWriteOf);
+    expireAfterWriteOf.put(AttributeName.of(key), Long.valueOf(nanos(duration, unit)));
+    return new AttributeCachePolicy(this.expireAfterWrite, expireAfterWriteOf, this.maximumWeight, this.weigher);
+  }
+  
+  /**
+   * Liefert Regeln mit einer eigenen Lebensdauer für das Attribut zum typisierten Schlüssel.
+   * <p>
+   * @param key {@link AttributeKey}
+   * @param duration Lebensdauer, <code>0</code> für unbegrenzt
+   * @param unit Einheit der Lebensdauer
+   * @return {@link AttributeCachePolicy}
+   * @throws IllegalArgumentException Die Lebensdauer ist negativ.
+   * @since 18.10.2026 14:33:50 agent | Realisierung
+   */
+  public AttributeCachePolicy expireAfterWrite(AttributeKey<?> key, long duration, TimeUnit unit) {
+    return expireAfterWrite(key.getName(), duration, unit);
+  }
+  
+  /**
+   * Liefert Regeln, bei denen ein Objekt höchstens die übergebene Anzahl an Attributen hält.
+   * <p>
+   * Ersetzt ein zuvor gesetztes {@link #maximumWeight(long, ToLongFunction) Gewicht}.
+   * <p>
+   * @param maximumSize Maximale Anzahl an Attributen
+   * @return {@link AttributeCachePolicy}
+   * @throws IllegalArgumentException Die Anzahl ist negativ.
+   * @since 18.10.2026 14:34:10 agent | Realisierung
+   */
+  public AttributeCachePolicy maximumSize(long maximumSize) {
+    return maximumWeight(maximumSize, UNIT);
+  }
+  
+  /**
+   * Liefert Regeln, bei denen das Gewicht aller Attribute eines Objekts begrenzt ist.
+   * <p>
+   * Ersetzt eine zuvor gesetzte {@link #maximumSize(long) Anzahl}.
+   * <p>
+   * @param maximumWeight Maximales Gewicht
+   * @param weigher Ermittelt das Gewicht eines Wertes, wird bei jedem Schreiben aufgerufen.
+   * @return {@link AttributeCachePolicy}
+   * @throws IllegalArgumentException Das Gewicht ist negativ.
+   * @since 18.10.2026 14:34:31 agent | Realisierung
+   */
+  public AttributeCachePolicy maximumWeight(long maximumWeight, ToLongFunction<Object> weigher) {
+    if (maximumWeight < 0) throw new IllegalArgumentException("Negatives Gewicht " + maximumWeight);
+    return new AttributeCachePolicy(this.expireAfterWrite, this.expireAfterWriteOf, maximumWeight, weigher);
+  }
+  
+  /* -- get/set/add/is ---------------------------------------------------------------------------- */
+  
+  /**
+   * Liefert die Lebensdauer des Attributs.
+   * <p>
+   * @param name {@link AttributeName}
+   * @return Lebensdauer in Nanosekunden, <code>0</code> für unbegrenzt
+   * @since 18.10.2026 14:34:50 agent | Realisierung
+   */
+  long expireAfterWrite(AttributeName name) {
+    if (this.expireAfterWriteOf.isEmpty()) return this.expireAfterWrite;
+    Long nanos = this.expireAfterWriteOf.get(name);
+    return nanos == null ? this.expireAfterWrite : nanos.longValue();
+  }
+  
+  /**
+   * Prüft, ob Attribute ablaufen können.
+   * <p>
+   * @return <code>true</code>, falls eine Lebensdauer gesetzt ist.
+   * @since 18.10.2026 14:35:10 agent | Realisierung
+   */
+  boolean expires() {
+    return this.expireAfterWrite > 0 || !this.expireAfterWriteOf.isEmpty();
+  }
+  
+  /* -- Hilfsmethoden ----------------------------------------------------------------------------- */
+  
+  /**
+   * Rechnet die Lebensdauer in Nanosekunden um.
+   * <p>
+   * @param duration Lebensdauer
+   * @param unit Einheit der Lebensdauer
+   * @return Lebensdauer in Nanosekunden
+   * @throws IllegalArgumentException Die Lebensdauer ist negativ.
+   * @since 18.10.2026 14:35:31 agent | Realisierung
+   */
+  private static long nanos(long duration, TimeUnit unit) {
+    if (duration < 0) throw new IllegalArgumentException("Negative Lebensdauer " + duration);
+    return unit.toNanos(duration);
+  }
+  
+}
@@ -0,0 +1,127 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeCacheStats
+ * Version     : 1
+ * Date        : 18.10.2026 14:36:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+/**
+ * Unveränderliche Statistik der Objekt-Attribute im Cache-Modus zum Zeitpunkt der Abfrage.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 14:36:02 agent | Realisierung
+ * @see AttributeCachePolicy
+ */
+public final class AttributeCacheStats {
+  /** @since 18.10.2026 14:36:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Lesezugriffe mit Wert.
+   * @since 18.10.2026 14:36:20 agent | Realisierung */
+  private final long        hitCount;
+  
+  /** Lesezugriffe ohne Wert.
+   * @since 18.10.2026 14:36:31 agent | Realisierung */
+  private final long        missCount;
+  
+  /** Wegen der Größe entfernte Attribute.
+   * @since 18.10.2026 14:36:40 agent | Realisierung */
+  private final long        evictionCount;
+  
+  /** Abgelaufene Attribute.
+   * @since 18.10.2026 14:36:51 agent | Realisierung */
+  private final long        expirationCount;
+  
+  /** Gesamtgewicht der Attribute.
+   * @since 18.10.2026 14:37:02 agent | Realisierung */
+  private final long        weight;
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Konstruiert eine {@link AttributeCacheStats}.
+   * <p>
+   * @param hitCount Lesezugriffe mit Wert
+   * @param missCount Lesezugriffe ohne Wert
+   * @param evictionCount Wegen der Größe entfernte Attribute
+   * @param expirationCount Abgelaufene Attribute
+   * @param weight Gesamtgewicht der Attribute
+   * @since 18.10.2026 14:37:20 agent | Realisierung
+   */
+  AttributeCacheStats(long hitCount, long missCount, long evictionCount, long expirationCount, long weight) {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.evictionCount = evictionCount;
+    this.expirationCount = expirationCount;
+    this.weight = weight;
+  }
+  
+  /* -- get/set/add/is ---------------------------------------------------------------------------- */
+  
+  /**
+   * @return Anzahl der Lesezugriffe mit Wert
+   * @since 18.10.2026 14:37:40 agent | Realisierung
+   */
+  public long getHitCount() {
+    return this.hitCount;
+  }
+  
+  /**
+   * @return Anzahl der Lesezugriffe ohne Wert, einschließlich abgelaufener Attribute
+   * @since 18.10.2026 14:37:51 agent | Realisierung
+   */
+  public long getMissCount() {
+    return this.missCount;
+  }
+  
+  /**
+   * @return Anteil der Lesezugriffe mit Wert, <code>1</code> ohne Lesezugriffe
+   * @since 18.10.2026 14:38:02 agent | Realisierung
+   */
+  public double getHitRate() {
+    long requests = this.hitCount + this.missCount;
+    return requests == 0 ? 1 : (double) this.hitCount / requests;
+  }
+  
+  /**
+   * @return Anzahl der wegen der Größe entfernten Attribute
+   * @since 18.10.2026 14:38:20 agent | Realisierung
+   */
+  public long getEvictionCount() {
+    return this.evictionCount;
+  }
+  
+  /**
+   * @return Anzahl der abgelaufenen Attribute
+   * @since 18.10.2026 14:38:31 agent | Realisierung
+   */
+  public long getExpirationCount() {
+    return this.expirationCount;
+  }
+  
+  /**
+   * @return Gesamtgewicht der Attribute, ohne Gewichtung die Anzahl
+   * @since 18.10.2026 14:38:40 agent | Realisierung
+   */
+  public long getWeight() {
+    return this.weight;
+  }
+  
+  /**
+   * @see java.lang.Object#toString()
+   * @since 18.10.2026 14:38:51 agent | Realisierung
+   */
+  @Override
+  public String toString() {
+    return "AttributeCacheStats[hits=" + this.hitCount + ", misses=" + this.missCount + ", evictions=" + this.evictionCount
+        + ", expirations=" + this.expirationCount + ", weight=" + this.weight + "]";
+  }
+  
+}
@@ -0,0 +1,51 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeCell
+ * Version     : 1
+ * Date        : 18.10.2026 12:20:14
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+/**
+ * Inhalt einer Position in {@link AttributesOfInterface}, der nicht unmittelbar der Wert des
+ * Attributs ist.
+ * <p>
+ * Eine {@link AttributeCell} hält den Wert in einer eigenen Darstellung, beispielsweise als
+ * primitiven Wert ohne Boxing. Beim Lesen über die allgemeinen Methoden wird über
+ * {@link #value()} der Wert als {@link Object} geliefert.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 12:20:14 agent | Realisierung
+ * @see AttributesOfInterface
+ */
+abstract class AttributeCell {
+  /** @since 18.10.2026 12:20:20 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /* -- get/set/add/is ---------------------------------------------------------------------------- */
+  
+  /**
+   * Liefert den Wert des Attributs.
+   * <p>
+   * @return Wert des Attributs
+   * @since 18.10.2026 12:20:41 agent | Realisierung
+   */
+  abstract Object value();
+  
+  /* -- statisch ---------------------------------------------------------------------------------- */
+  
+  /**
+   * Liefert den Wert des Attributs zum abgelegten Inhalt.
+   * <p>
+   * @param content Abgelegter Inhalt
+   * @return Wert des Attributs
+   * @since 18.10.2026 12:21:02 agent | Realisierung
+   */
+  static Object valueOf(Object content) {
+    return content instanceof AttributeCell ? ((AttributeCell) content).value() : content;
+  }
+  
+}
@@ -0,0 +1,69 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeChangeEvent
+ * Version     : 1
+ * Date        : 18.10.2026 15:11:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.util.EventObject;
+import java.util.Map;
+
+/**
+ * Zusammengefasste Änderungen an den Attributen eines Bereichs.
+ * <p>
+ * Quelle ist das Objekt bei Objekt-Attributen, sonst die Klasse oder das Interface.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 15:11:02 agent | Realisierung
+ * @see AttributeListener
+ */
+public class AttributeChangeEvent extends EventObject {
+  /** @since 18.10.2026 15:11:06 agent | Realisierung */
+  private static final long         serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Geänderte Attribute mit ihrem Wert zum Zeitpunkt der Zustellung.
+   * @since 18.10.2026 15:11:31 agent | Realisierung */
+  private final Map<String, Object> changes;
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Konstruiert ein {@link AttributeChangeEvent}.
+   * <p>
+   * @param source Objekt, Klasse oder Interface
+   * @param changes Unveränderliche geänderte Attribute
+   * @since 18.10.2026 15:11:50 agent | Realisierung
+   */
+  AttributeChangeEvent(Object source, Map<String, Object> changes) {
+    super(source);
+    this.changes = changes;
+  }
+  
+  /* -- get/set/add/is ---------------------------------------------------------------------------- */
+  
+  /**
+   * Liefert die geänderten Attribute.
+   * <p>
+   * @return Unveränderliche {@link Map} der Attributnamen mit ihrem Wert zum Zeitpunkt der Zustellung
+   * @since 18.10.2026 15:12:10 agent | Realisierung
+   */
+  public Map<String, Object> getChanges() {
+    return this.changes;
+  }
+  
+  /**
+   * @see java.util.EventObject#toString()
+   * @since 18.10.2026 15:12:31 agent | Realisierung
+   */
+  @Override
+  public String toString() {
+    return "AttributeChangeEvent[source=" + getSource() + ", changes=" + this.changes.keySet() + "]";
+  }
+  
+}
@@ -0,0 +1,126 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeCleaner
+ * Version     : 1
+ * Date        : 18.10.2026 16:35:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+/**
+ * Bereinigt die verwaisten Einträge einer {@link ConcurrentWeakRegistry} in einem eigenen
+ * Daemon-Thread.
+ * <p>
+ * Solange der Thread läuft, bereinigen Schreibzugriffe keine Einträge mehr. Der Thread wartet auf
+ * die Queue der Registry und entfernt die Einträge in Schritten zu höchstens {@link #BATCH}, nach
+ * einem vollen Schritt gibt er den Prozessor ab. Die Dauer eines Zugriffs hängt damit nicht mehr
+ * davon ab, wie viele Objekte der GarbageCollector zuvor entfernt hat.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 16:35:02 agent | Realisierung
+ * @see InterfaceWithAttributes#setAttributeBackgroundCleanupEnabled(boolean)
+ */
+final class AttributeCleaner implements Runnable {
+  /** @since 18.10.2026 16:35:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long                  serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  /** Anzahl der Einträge, die höchstens in einem Schritt bereinigt werden.
+   * @since 18.10.2026 16:35:20 agent | Realisierung */
+  static final int                           BATCH            = 1024;
+  
+  /** Maximale Wartezeit auf verwaiste Einträge in Millisekunden.
+   * @since 18.10.2026 16:35:31 agent | Realisierung */
+  private static final long                  TIMEOUT          = 1000;
+  
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Zu bereinigende Registry.
+   * @since 18.10.2026 16:35:40 agent | Realisierung */
+  private final ConcurrentWeakRegistry<?, ?> registry;
+  
+  /** Laufender Thread oder <code>null</code>.
+   * @since 18.10.2026 16:35:51 agent | Realisierung */
+  private volatile Thread                    thread;
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Konstruiert einen {@link AttributeCleaner}, der Thread wird erst mit {@link #start()} gestartet.
+   * <p>
+   * @param registry Zu bereinigende Registry
+   * @since 18.10.2026 16:36:02 agent | Realisierung
+   */
+  AttributeCleaner(ConcurrentWeakRegistry<?, ?> registry) {
+    this.registry = registry;
+  }
+  
+  /* -- get/set/add/is ---------------------------------------------------------------------------- */
+  
+  /**
+   * Liefert, ob der Thread läuft.
+   * <p>
+   * @return <code>true</code>, falls im Hintergrund bereinigt wird.
+   * @since 18.10.2026 16:36:10 agent | Realisierung
+   */
+  boolean isRunning() {
+    return this.thread != null;
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * Startet den Thread und schaltet die Bereinigung bei Schreibzugriffen ab.
+   * <p>
+   * @since 18.10.2026 16:36:20 agent | Realisierung
+   */
+  synchronized void start() {
+    if (this.thread != null) return;
+    Thread thread = new Thread(this, "attribute-cleaner");
+    thread.setDaemon(true);
+    this.registry.setExpungeOnWrite(false);
+    this.thread = thread;
+    thread.start();
+  }
+  
+  /**
+   * Beendet den Thread und schaltet die Bereinigung bei Schreibzugriffen wieder ein.
+   * <p>
+   * @since 18.10.2026 16:36:31 agent | Realisierung
+   */
+  synchronized void stop() {
+    Thread thread = this.thread;
+    if (thread == null) return;
+    this.thread = null;
+    thread.interrupt();
+    this.registry.setExpungeOnWrite(true);
+  }
+  
+  /**
+   * Bereinigt, bis der Thread beendet wird.
+   * <p>
+   * Fehler der Bereinigungsfunktion werden an den {@link Thread.UncaughtExceptionHandler} des
+   * Threads übergeben, der Thread läuft weiter.
+   * <p>
+   * @see java.lang.Runnable#run()
+   * @since 18.10.2026 16:36:40 agent | Realisierung
+   */
+  @Override
+  public void run() {
+    Thread self = Thread.currentThread();
+    while (this.thread == self) {
+      try {
+        if (this.registry.awaitStaleEntries(BATCH, TIMEOUT) >= BATCH) Thread.yield();
+      } catch (InterruptedException e) {
+        // Beendet über stop(), die Schleife prüft den Thread.
+      } catch (RuntimeException e) {
+        self.getUncaughtExceptionHandler().uncaughtException(self, e);
+      }
+    }
+  }
+  
+}
@@ -0,0 +1,69 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeCodec
+ * Version     : 1
+ * Date        : 18.10.2026 15:51:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Wandelt Werte eines Typs für den Snapshot der Klassen- und Interface-Attribute in Bytes und zurück.
+ * <p>
+ * Der Snapshot vermerkt zu jedem Wert den {@link #getId() Identifikator} des Codecs. Beim
+ * Wiederherstellen muss ein Codec mit demselben Identifikator registriert sein. Für
+ * {@link String}, {@link Long}, {@link Integer}, {@link Double}, {@link Boolean} und
+ * <code>byte[]</code> sind Codecs vorhanden.
+ * <p>
+ * {@link #read(DataInput)} erhält genau die Bytes, die {@link #write(Object, DataOutput)}
+ * geschrieben hat, und wird erst beim ersten Zugriff auf das Attribut aufgerufen.
+ * <p>
+ * @param <T> Typ der Werte
+ * @author agent
+ * @since 18.10.2026 15:51:02 agent | Realisierung
+ * @see InterfaceWithAttributes#registerAttributeCodec(AttributeCodec)
+ */
+public interface AttributeCodec<T> {
+  
+  /**
+   * Liefert den Identifikator, unter dem der Codec im Snapshot vermerkt wird.
+   * <p>
+   * @return Stabiler, eindeutiger Identifikator
+   * @since 18.10.2026 15:51:20 agent | Realisierung
+   */
+  String getId();
+  
+  /**
+   * Liefert den Typ der Werte. Der Codec wird für alle Instanzen des Typs verwendet.
+   * <p>
+   * @return {@link Class}
+   * @since 18.10.2026 15:51:40 agent | Realisierung
+   */
+  Class<T> getType();
+  
+  /**
+   * Schreibt den Wert.
+   * <p>
+   * @param value Wert, nicht <code>null</code>
+   * @param out {@link DataOutput}
+   * @throws IOException Fehler beim Schreiben
+   * @since 18.10.2026 15:52:02 agent | Realisierung
+   */
+  void write(T value, DataOutput out) throws IOException;
+  
+  /**
+   * Liest den Wert.
+   * <p>
+   * @param in {@link DataInput} mit den Bytes des Wertes
+   * @return Wert
+   * @throws IOException Fehler beim Lesen
+   * @since 18.10.2026 15:52:20 agent | Realisierung
+   */
+  T read(DataInput in) throws IOException;
+  
+}
@@ -0,0 +1,277 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeFlightRecorder
+ * Version     : 1
+ * Date        : 18.10.2026 15:40:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ereignisse der Attribute für den JDK Flight Recorder.
+ * <p>
+ * Die Klasse wird nur über {@link AttributeMonitor} geladen, nachdem die Messung eingeschaltet
+ * wurde. Die Klassen aus <code>jdk.jfr</code> werden ausschließlich über Reflection angesprochen und
+ * die Ereignisse über die <code>EventFactory</code> erzeugt, die Bibliothek lässt sich daher auch
+ * gegen eine Java-8-Plattform ohne <code>jdk.jfr</code> übersetzen. Fehlt der JDK Flight Recorder
+ * in der Laufzeitumgebung, verzichtet {@link AttributeMonitor} auf die Ereignisse.
+ * <p>
+ * Erzeugt werden:
+ * <ul>
+ * <li><code>de.lutzens.attributes.Expunge</code> je Bereinigung verwaister Einträge.</li>
+ * <li><code>de.lutzens.attributes.Statistics</code> periodisch mit den aktuellen
+ * {@link AttributeStatistics}.</li>
+ * </ul>
+ * <p>
+ * @author agent
+ * @since 18.10.2026 15:40:02 agent | Realisierung
+ * @since 18.10.2026 19:20:02 agent | Zugriff auf <code>jdk.jfr</code> über Reflection
+ */
+final class AttributeFlightRecorder {
+  /** @since 18.10.2026 15:40:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long                      serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  /** Paket des JDK Flight Recorder.
+   * @since 18.10.2026 19:20:10 agent | Realisierung */
+  private static final String                    JFR              = "jdk.jfr.";
+  
+  /** Erzeugt das periodische Ereignis mit den Messwerten.
+   * @since 18.10.2026 15:40:31 agent | Realisierung */
+  private static final Runnable                  STATISTICS       = AttributeFlightRecorder::statistics;
+  
+  /*   -- Klasse ------------------------------------------------------------------- */
+  
+  /** Einmal ermittelte Ereignistypen oder <code>null</code>, solange sie nicht angemeldet wurden.
+   * @since 18.10.2026 19:20:20 agent | Realisierung */
+  private static volatile AttributeFlightRecorder events;
+  
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** <code>EventFactory</code> der Bereinigung.
+   * @since 18.10.2026 19:20:31 agent | Realisierung */
+  private final Object                           expunge;
+  
+  /** <code>EventFactory</code> der periodischen Messwerte.
+   * @since 18.10.2026 19:20:40 agent | Realisierung */
+  private final Object                           statistics;
+  
+  /** <code>FlightRecorder</code>-Klasse für das An- und Abmelden.
+   * @since 18.10.2026 19:20:51 agent | Realisierung */
+  private final Class<?>                         recorder;
+  
+  /** <code>EventFactory.newEvent()</code>.
+   * @since 18.10.2026 19:21:02 agent | Realisierung */
+  private final MethodHandle                     newEvent;
+  
+  /** <code>Event.shouldCommit()</code>.
+   * @since 18.10.2026 19:21:10 agent | Realisierung */
+  private final MethodHandle                     shouldCommit;
+  
+  /** <code>Event.set(int, Object)</code>.
+   * @since 18.10.2026 19:21:20 agent | Realisierung */
+  private final MethodHandle                     set;
+  
+  /** <code>Event.commit()</code>.
+   * @since 18.10.2026 19:21:31 agent | Realisierung */
+  private final MethodHandle                     commit;
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Ermittelt die Methoden des JDK Flight Recorder und legt die Ereignistypen an.
+   * <p>
+   * @throws ReflectiveOperationException <code>jdk.jfr</code> fehlt oder ist unvollständig.
+   * @since 18.10.2026 15:40:50 agent | Realisierung
+   * @since 18.10.2026 19:21:40 agent | Ereignistypen über die <code>EventFactory</code>
+   */
+  private AttributeFlightRecorder() throws ReflectiveOperationException {
+    Class<?> factory = Class.forName(JFR + "EventFactory");
+    Class<?> event = Class.forName(JFR + "Event");
+    MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+    this.recorder = Class.forName(JFR + "FlightRecorder");
+    this.newEvent = lookup.findVirtual(factory, "newEvent", MethodType.methodType(event));
+    this.shouldCommit = lookup.findVirtual(event, "shouldCommit", MethodType.methodType(boolean.class));
+    this.set = lookup.findVirtual(event, "set", MethodType.methodType(void.class, int.class, Object.class));
+    this.commit = lookup.findVirtual(event, "commit", MethodType.methodType(void.class));
+    this.expunge = create(factory,
+        Arrays.asList(annotation("Name", "de.lutzens.attributes.Expunge"), annotation("Label", "Attribute Expunge"),
+            annotation("Category", new String[] { "Lutzens", "Attributes" }),
+            annotation("Description", "Entfernen verwaister Einträge aus der Registry der Objekt-Attribute"),
+            annotation("StackTrace", Boolean.FALSE)),
+        Arrays.asList(field(int.class, "removed", annotation("Label", "Removed Entries")),
+            field(long.class, "nanos", annotation("Label", "Cleanup Time"), annotation("Timespan", "NANOSECONDS"))));
+    this.statistics = create(factory,
+        Arrays.asList(annotation("Name", "de.lutzens.attributes.Statistics"), annotation("Label", "Attribute Statistics"),
+            annotation("Category", new String[] { "Lutzens", "Attributes" }),
+            annotation("Description", "Anzahl der Objekte, Klassen und Attributnamen sowie Treffer und Fehlzugriffe"),
+            annotation("Period", "1 s"), annotation("StackTrace", Boolean.FALSE)),
+        Arrays.asList(field(int.class, "objects", annotation("Label", "Objects")),
+            field(int.class, "classes", annotation("Label", "Classes")),
+            field(int.class, "keys", annotation("Label", "Keys")),
+            field(long.class, "hits", annotation("Label", "Hits")),
+            field(long.class, "misses", annotation("Label", "Misses")),
+            field(long.class, "expunged", annotation("Label", "Expunged Entries"))));
+  }
+  
+  /* -- statisch ---------------------------------------------------------------------------------- */
+  
+  /**
+   * Meldet das periodische Ereignis an.
+   * <p>
+   * @return <code>true</code>, falls der JDK Flight Recorder zur Verfügung steht.
+   * @since 18.10.2026 15:41:10 agent | Realisierung
+   * @since 18.10.2026 19:21:51 agent | Über Reflection
+   */
+  static synchronized boolean register() {
+    try {
+      Class<?> recorder = Class.forName(JFR + "FlightRecorder");
+      if (!((Boolean) recorder.getMethod("isAvailable").invoke(null)).booleanValue()) return false;
+      AttributeFlightRecorder events = AttributeFlightRecorder.events;
+      if (events == null) events = new AttributeFlightRecorder();
+      Object type = events.newEvent.invoke(events.statistics).getClass();
+      recorder.getMethod("addPeriodicEvent", Class.class, Runnable.class).invoke(null, type, STATISTICS);
+      AttributeFlightRecorder.events = events;
+      return true;
+    } catch (ReflectiveOperationException | LinkageError e) {
+      return false;
+    } catch (Throwable e) {
+      throw rethrow(e);
+    }
+  }
+  
+  /**
+   * Meldet das periodische Ereignis ab.
+   * <p>
+   * @since 18.10.2026 15:41:31 agent | Realisierung
+   * @since 18.10.2026 19:22:02 agent | Über Reflection
+   */
+  static synchronized void unregister() {
+    AttributeFlightRecorder events = AttributeFlightRecorder.events;
+    if (events == null) return;
+    try {
+      events.recorder.getMethod("removePeriodicEvent", Runnable.class).invoke(null, STATISTICS);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+  
+  /**
+   * Erzeugt das Ereignis einer Bereinigung, falls es aufgezeichnet wird.
+   * <p>
+   * @param removed Anzahl der entfernten Einträge
+   * @param nanos Dauer in Nanosekunden
+   * @since 18.10.2026 15:41:50 agent | Realisierung
+   * @since 18.10.2026 19:22:10 agent | Über die <code>EventFactory</code>
+   */
+  static void expunged(int removed, long nanos) {
+    AttributeFlightRecorder events = AttributeFlightRecorder.events;
+    if (events == null) return;
+    events.commit(events.expunge, Integer.valueOf(removed), Long.valueOf(nanos));
+  }
+  
+  /* -- Hilfsmethoden ----------------------------------------------------------------------------- */
+  
+  /**
+   * Erzeugt das periodische Ereignis mit den Messwerten.
+   * <p>
+   * @since 18.10.2026 15:42:10 agent | Realisierung
+   * @since 18.10.2026 19:22:20 agent | Über die <code>EventFactory</code>
+   */
+  private static void statistics() {
+    AttributeFlightRecorder events = AttributeFlightRecorder.events;
+    if (events == null) return;
+    AttributeStatistics statistics = InterfaceWithAttributesController.getAttributeStatistics();
+    events.commit(events.statistics, Integer.valueOf(statistics.getObjectCount()), Integer.valueOf(statistics.getClassCount()),
+        Integer.valueOf(statistics.getKeyCount()), Long.valueOf(statistics.getHitCount()), Long.valueOf(statistics.getMissCount()),
+        Long.valueOf(statistics.getExpungedEntries()));
+  }
+  
+  /**
+   * Erzeugt ein Ereignis und schreibt es, falls es aufgezeichnet wird.
+   * <p>
+   * @param factory <code>EventFactory</code> des Ereignistyps
+   * @param values Werte der Felder in der Reihenfolge ihrer Anlage
+   * @since 18.10.2026 19:22:31 agent | Realisierung
+   */
+  private void commit(Object factory, Object... values) {
+    try {
+      Object event = this.newEvent.invoke(factory);
+      if (!(boolean) this.shouldCommit.invoke(event)) return;
+      for (int i = 0; i < values.length; i++) {
+        this.set.invoke(event, i, values[i]);
+      }
+      this.commit.invoke(event);
+    } catch (Throwable e) {
+      throw rethrow(e);
+    }
+  }
+  
+  /**
+   * Legt einen Ereignistyp über die <code>EventFactory</code> an.
+   * <p>
+   * @param factory <code>EventFactory</code>-Klasse
+   * @param annotations <code>AnnotationElement</code>s des Ereignisses
+   * @param fields <code>ValueDescriptor</code>s der Felder
+   * @return <code>EventFactory</code>
+   * @throws ReflectiveOperationException Fehler beim Aufruf
+   * @since 18.10.2026 19:22:40 agent | Realisierung
+   */
+  private static Object create(Class<?> factory, List<Object> annotations, List<Object> fields) throws ReflectiveOperationException {
+    return factory.getMethod("create", List.class, List.class).invoke(null, annotations, fields);
+  }
+  
+  /**
+   * Legt ein <code>AnnotationElement</code> an.
+   * <p>
+   * @param type Einfacher Name der Annotation aus <code>jdk.jfr</code>
+   * @param value Wert der Annotation
+   * @return <code>AnnotationElement</code>
+   * @throws ReflectiveOperationException Fehler beim Aufruf
+   * @since 18.10.2026 19:22:51 agent | Realisierung
+   */
+  private static Object annotation(String type, Object value) throws ReflectiveOperationException {
+    Constructor<?> constructor = Class.forName(JFR + "AnnotationElement").getConstructor(Class.class, Object.class);
+    return constructor.newInstance(Class.forName(JFR + type), value);
+  }
+  
+  /**
+   * Legt einen <code>ValueDescriptor</code> für ein Feld des Ereignisses an.
+   * <p>
+   * @param type Typ des Feldes
+   * @param name Name des Feldes
+   * @param annotations <code>AnnotationElement</code>s des Feldes
+   * @return <code>ValueDescriptor</code>
+   * @throws ReflectiveOperationException Fehler beim Aufruf
+   * @since 18.10.2026 19:23:02 agent | Realisierung
+   */
+  private static Object field(Class<?> type, String name, Object... annotations) throws ReflectiveOperationException {
+    Constructor<?> constructor = Class.forName(JFR + "ValueDescriptor").getConstructor(Class.class, String.class, List.class);
+    return constructor.newInstance(type, name, Arrays.asList(annotations));
+  }
+  
+  /**
+   * Wirft einen unerwarteten Fehler eines Aufrufs weiter.
+   * <p>
+   * @param e Fehler
+   * @return Nie, dient nur dem <code>throw</code> des Aufrufers.
+   * @since 18.10.2026 19:23:10 agent | Realisierung
+   */
+  private static RuntimeException rethrow(Throwable e) {
+    if (e instanceof RuntimeException) throw (RuntimeException) e;
+    if (e instanceof Error) throw (Error) e;
+    throw new IllegalStateException(e);
+  }
+  
+}
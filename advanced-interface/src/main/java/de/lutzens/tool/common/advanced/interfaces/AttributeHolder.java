@@ -0,0 +1,115 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeHolder
+ * Version     : 1
+ * Date        : 18.10.2026 16:55:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+/**
+ * Ablage der Objekt-Attribute in einem Feld des Objekts statt in der globalen Registry.
+ * <p>
+ * Eine Klasse, die {@link InterfaceWithAttributes} implementiert, legt den {@link AttributeHolder}
+ * in einem eigenen Feld ab und liefert ihn über {@link InterfaceWithAttributes#getAttributeHolder()}:
+ * <pre>
+ * private final AttributeHolder attributes = new AttributeHolder();
+ *
+ * &#64;Override
+ * public AttributeHolder getAttributeHolder() {
+ *   return this.attributes;
+ * }
+ * </pre>
+ * Jeder Zugriff auf die Objekt-Attribute liest dann nur dieses Feld. Es entfällt die Suche in der
+ * Registry und die {@link java.lang.ref.WeakReference}, die der GarbageCollector für jedes
+ * registrierte Objekt verarbeiten muss. Die Attribute werden zusammen mit dem Objekt entfernt.
+ * <p>
+ * Da das Objekt nicht registriert ist, wird es weder von {@link InterfaceWithAttributes#streamObjects()}
+ * geliefert noch in einen Index aufgenommen. Seine Attribute liegen immer im Heap, auch wenn der
+ * Name über {@link InterfaceWithAttributes#setObjectAttributeOffHeap(String)} umgestellt wurde.
+ * <p>
+ * Ein {@link AttributeHolder} gehört zu genau einem Objekt und darf nicht geteilt werden.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 16:55:02 agent | Realisierung
+ */
+public final class AttributeHolder {
+  /** @since 18.10.2026 16:55:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long              serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Attribute des Objekts, werden beim ersten Schreibzugriff angelegt.
+   * @since 18.10.2026 16:55:10 agent | Realisierung */
+  private volatile AttributesOfInterface attributes;
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Konstruiert einen leeren {@link AttributeHolder}.
+   * <p>
+   * @since 18.10.2026 16:55:20 agent | Realisierung
+   */
+  public AttributeHolder() {
+    // Die Attribute werden erst beim ersten Schreibzugriff angelegt.
+  }
+  
+  /* -- get/set/add/is ---------------------------------------------------------------------------- */
+  
+  /**
+   * Liefert die Attribute, ohne sie anzulegen.
+   * <p>
+   * @return {@link AttributesOfInterface} oder <code>null</code>
+   * @since 18.10.2026 16:55:31 agent | Realisierung
+   */
+  AttributesOfInterface peek() {
+    return this.attributes;
+  }
+  
+  /**
+   * Liefert die Attribute und legt sie bei Bedarf an.
+   * <p>
+   * @param owner Objekt dieses {@link AttributeHolder}
+   * @return {@link AttributesOfInterface}
+   * @since 18.10.2026 16:55:40 agent | Realisierung
+   */
+  AttributesOfInterface attributes(InterfaceWithAttributes owner) {
+    AttributesOfInterface attributes = this.attributes;
+    if (attributes != null) return attributes;
+    synchronized (this) {
+      if (this.attributes == null) this.attributes = create(owner);
+      return this.attributes;
+    }
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * Entfernt die Attribute.
+   * <p>
+   * @return Bisherige {@link AttributesOfInterface} oder <code>null</code>
+   * @since 18.10.2026 16:56:02 agent | Realisierung
+   */
+  synchronized AttributesOfInterface clear() {
+    AttributesOfInterface previous = this.attributes;
+    this.attributes = null;
+    return previous;
+  }
+  
+  /* -- Hilfsmethoden ----------------------------------------------------------------------------- */
+  
+  /**
+   * Legt die Attribute für das Objekt an.
+   * <p>
+   * @param owner Objekt dieses {@link AttributeHolder}
+   * @return Neue {@link AttributesOfInterface}
+   * @since 18.10.2026 16:56:10 agent | Realisierung
+   */
+  private static AttributesOfInterface create(InterfaceWithAttributes owner) {
+    return new AttributesOfInterface(AttributeShape.rootOf(owner.getClass()), true);
+  }
+  
+}
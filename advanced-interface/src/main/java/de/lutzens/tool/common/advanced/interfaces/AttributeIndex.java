@@ -0,0 +1,224 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeIndex
+ * Version     : 1
+ * Date        : 18.10.2026 16:40:31
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sekundärindex eines Objekt-Attributs: ordnet jedem Wert die {@link AttributesOfInterface} zu,
+ * deren Attribut diesen Wert besitzt.
+ * <p>
+ * Der Index wird bei jeder Änderung des Attributs über {@link AttributesOfInterface} nachgeführt
+ * und beim Freigeben der Attribute bereinigt. Eine Abfrage kostet damit Zeit proportional zur
+ * Anzahl der Treffer, nicht zur Anzahl der Objekte. Sie ist schwach konsistent: gleichzeitige
+ * Änderungen sind eventuell noch nicht oder bereits enthalten, jeder gelieferte Treffer besaß den
+ * Wert jedoch zum Zeitpunkt der Prüfung.
+ * <p>
+ * Die Werte werden über {@link Object#equals(Object)} verglichen, <code>byte[]</code> über ihren
+ * Inhalt. Nachträgliche Änderungen an einem abgelegten Wert werden nicht erkannt.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 16:40:31 agent | Realisierung
+ * @see InterfaceWithAttributes#createObjectAttributeIndex(String)
+ */
+final class AttributeIndex {
+  /** @since 18.10.2026 16:40:35 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long                                           serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Klasse ------------------------------------------------------------------- */
+  
+  /** Alle Indizes, wird bei jedem neuen Index ersetzt.
+   * @since 18.10.2026 16:40:40 agent | Realisierung */
+  private static volatile AttributeIndex[]                            indexes          = new AttributeIndex[0];
+  
+  /** Mindestens ein Index besteht, die {@link AttributesOfInterface} kennen ab dann ihr Objekt.
+   * @since 18.10.2026 16:40:51 agent | Realisierung */
+  static volatile boolean                                             active;
+  
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Name des Attributs.
+   * @since 18.10.2026 16:41:02 agent | Realisierung */
+  final AttributeName                                                 name;
+  
+  /** Attribute je Wert.
+   * @since 18.10.2026 16:41:10 agent | Realisierung */
+  private final ConcurrentHashMap<Object, Set<AttributesOfInterface>> entries          = new ConcurrentHashMap<>();
+  
+  /** Indizierter Wert je Attribute.
+   * @since 18.10.2026 16:41:20 agent | Realisierung */
+  private final ConcurrentHashMap<AttributesOfInterface, Object>      values           = new ConcurrentHashMap<>();
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Konstruiert einen {@link AttributeIndex}.
+   * <p>
+   * @param name Name des Attributs
+   * @since 18.10.2026 16:41:31 agent | Realisierung
+   */
+  private AttributeIndex(AttributeName name) {
+    this.name = name;
+  }
+  
+  /* -- statisch ---------------------------------------------------------------------------------- */
+  
+  /**
+   * Liefert den Index des Attributs und legt ihn bei Bedarf an.
+   * <p>
+   * Ein neuer Index ist leer, die bestehenden Objekte übernimmt der Aufrufer über
+   * {@link #update(AttributesOfInterface)}.
+   * <p>
+   * @param name {@link AttributeName}
+   * @return {@link AttributeIndex}
+   * @since 18.10.2026 16:41:40 agent | Realisierung
+   */
+  static synchronized AttributeIndex of(AttributeName name) {
+    AttributeIndex index = name.index;
+    if (index != null) return index;
+    index = new AttributeIndex(name);
+    AttributeIndex[] grown = Arrays.copyOf(indexes, indexes.length + 1);
+    grown[grown.length - 1] = index;
+    indexes = grown;
+    active = true;
+    name.index = index;
+    return index;
+  }
+  
+  /**
+   * Verwirft alle Indizes.
+   * <p>
+   * @since 18.10.2026 19:07:02 agent | Realisierung
+   */
+  static synchronized void reset() {
+    for (AttributeIndex index : indexes) {
+      index.name.index = null;
+    }
+    indexes = new AttributeIndex[0];
+    active = false;
+  }
+  
+  /**
+   * Entfernt die Attribute aus allen Indizes.
+   * <p>
+   * @param attributes Freigegebene {@link AttributesOfInterface}
+   * @since 18.10.2026 16:41:51 agent | Realisierung
+   */
+  static void release(AttributesOfInterface attributes) {
+    for (AttributeIndex index : indexes) {
+      index.remove(attributes);
+    }
+  }
+  
+  /* -- get/set/add/is ---------------------------------------------------------------------------- */
+  
+  /**
+   * Liefert die Anzahl der indizierten Attribute.
+   * <p>
+   * @return Anzahl
+   * @since 18.10.2026 16:42:45 agent | Realisierung
+   */
+  int size() {
+    return this.values.size();
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * Führt den Index für die Attribute nach einer Änderung nach.
+   * <p>
+   * @param attributes Geänderte {@link AttributesOfInterface}
+   * @since 18.10.2026 16:42:02 agent | Realisierung
+   */
+  void update(AttributesOfInterface attributes) {
+    synchronized (attributes) {
+      Object value = attributes.contains(this.name) ? key(attributes.current(this.name)) : null;
+      Object previous = this.values.get(attributes);
+      if (previous != null && previous.equals(value)) return;
+      if (previous != null) detach(previous, attributes);
+      if (value == null) {
+        this.values.remove(attributes);
+        return;
+      }
+      this.values.put(attributes, value);
+      this.entries.compute(value, (k, set) -> {
+        if (set == null) set = ConcurrentHashMap.newKeySet();
+        set.add(attributes);
+        return set;
+      });
+    }
+  }
+  
+  /**
+   * Liefert alle erreichbaren Objekte, deren Attribut den übergebenen Wert besitzt.
+   * <p>
+   * @param value Gesuchter Wert, auch <code>null</code>
+   * @return Neue {@link List} der Objekte
+   * @since 18.10.2026 16:42:10 agent | Realisierung
+   */
+  List<InterfaceWithAttributes> find(Object value) {
+    Object key = key(value);
+    Set<AttributesOfInterface> set = this.entries.get(key);
+    if (set == null) return new ArrayList<>(0);
+    ArrayList<InterfaceWithAttributes> result = new ArrayList<>(set.size());
+    for (AttributesOfInterface attributes : set) {
+      InterfaceWithAttributes owner = attributes.owner();
+      if (owner != null && attributes.contains(this.name) && key.equals(key(attributes.current(this.name)))) result.add(owner);
+    }
+    return result;
+  }
+  
+  /**
+   * Entfernt die Attribute aus dem Index.
+   * <p>
+   * @param attributes Freigegebene {@link AttributesOfInterface}
+   * @since 18.10.2026 16:42:20 agent | Realisierung
+   */
+  private void remove(AttributesOfInterface attributes) {
+    synchronized (attributes) {
+      Object previous = this.values.remove(attributes);
+      if (previous != null) detach(previous, attributes);
+    }
+  }
+  
+  /* -- Hilfsmethoden ----------------------------------------------------------------------------- */
+  
+  /**
+   * Entfernt die Attribute aus der Menge des Wertes und die leere Menge aus dem Index.
+   * <p>
+   * @param value Indizierter Wert
+   * @param attributes {@link AttributesOfInterface}
+   * @since 18.10.2026 16:42:31 agent | Realisierung
+   */
+  private void detach(Object value, AttributesOfInterface attributes) {
+    this.entries.computeIfPresent(value, (k, set) -> {
+      set.remove(attributes);
+      return set.isEmpty() ? null : set;
+    });
+  }
+  
+  /**
+   * Liefert den Schlüssel des Wertes im Index.
+   * <p>
+   * @param value Wert des Attributs
+   * @return Wert, {@link ByteBuffer} für <code>byte[]</code> oder Platzhalter für <code>null</code>
+   * @since 18.10.2026 16:42:40 agent | Realisierung
+   */
+  private static Object key(Object value) {
+    return value instanceof byte[] ? ByteBuffer.wrap((byte[]) value) : AttributesOfInterface.mask(value);
+  }
+  
+}
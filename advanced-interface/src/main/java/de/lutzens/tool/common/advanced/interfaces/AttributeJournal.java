@@ -0,0 +1,1022 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeJournal
+ * Version     : 1
+ * Date        : 18.10.2026 17:34:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * Protokolliert die Änderungen der Objekt-, Klassen- und Interface-Attribute in einem binären
+ * Journal, an das nur angehängt wird.
+ * <p>
+ * Ein schreibender Zugriff legt lediglich die geänderten Attribute und den Namen in einen Ringpuffer
+ * seines Threads, ohne Sperre und ohne neue Objekte. Ein Hintergrund-Thread entnimmt alle
+ * wartenden Änderungen, liest erst dann den aktuellen Wert und schreibt ihn in das eingeblendete
+ * Segment. Mehrfache Änderungen desselben Attributs innerhalb einer Gruppe ergeben einen Eintrag,
+ * der letzte geschriebene Wert ist immer enthalten. Alle Gruppen eines Intervalls werden mit einem
+ * einzigen {@link MappedByteBuffer#force()} dauerhaft, bei {@link #sync()} sofort.
+ * <p>
+ * Aufbau eines Segments <code>journal-&lt;Nummer&gt;.seg</code>:
+ * <pre>
+ * int     Kennung, int Version
+ * je Eintrag:
+ *   int   Länge, int CRC32 der folgenden Bytes
+ *   byte  Art (0 Objekt, 1 Klasse, 2 Bereich), UTF Schlüssel des Objekts bzw. Name der Klasse,
+ *         UTF Name des Attributs, UTF Codec (leer für null), Bytes des Wertes
+ * int     0 oder Dateiende
+ * </pre>
+ * <p>
+ * Die Werte werden über die {@link AttributeCodec} des {@link AttributeSnapshot} geschrieben. Ein
+ * unvollständiger oder beschädigter Eintrag beendet das Lesen des Segments, er stammt aus einem
+ * abgebrochenen Schreibvorgang.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 17:34:02 agent | Realisierung
+ * @since 18.10.2026 18:51:02 agent | Eigene Art für die Bereiche der Interfaces
+ * @see InterfaceWithAttributes#startAttributeJournal(Path, Function)
+ */
+final class AttributeJournal implements Runnable {
+  /** @since 18.10.2026 17:34:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long                                       serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  /** Kennung am Anfang eines Segments.
+   * @since 18.10.2026 17:34:10 agent | Realisierung */
+  private static final int                                        MAGIC            = 0x4C41494A;
+  
+  /** Version des Aufbaus.
+   * @since 18.10.2026 17:34:20 agent | Realisierung */
+  private static final int                                        VERSION          = 1;
+  
+  /** Länge des Kopfes eines Segments und eines Eintrags.
+   * @since 18.10.2026 17:34:31 agent | Realisierung */
+  private static final int                                        HEADER           = 8;
+  
+  /** Vorgabe für die Größe eines Segments.
+   * @since 18.10.2026 17:34:40 agent | Realisierung */
+  static final int                                                SEGMENT_SIZE     = 16 << 20;
+  
+  /** Vorgabe für die längste Wartezeit bis zum Schreiben einer Gruppe in Millisekunden.
+   * @since 18.10.2026 17:34:51 agent | Realisierung */
+  static final long                                               INTERVAL         = 5;
+  
+  /** Art eines Eintrags für Objekt-Attribute.
+   * @since 18.10.2026 17:35:02 agent | Realisierung */
+  private static final byte                                       OBJECT           = 0;
+  
+  /** Art eines Eintrags für Klassen-Attribute.
+   * @since 18.10.2026 17:35:10 agent | Realisierung */
+  private static final byte                                       CLASS            = 1;
+  
+  /** Art eines Eintrags für Interface-Attribute und die Bereiche der Interfaces.
+   * @since 18.10.2026 18:51:10 agent | Realisierung */
+  private static final byte                                       SCOPE            = 2;
+  
+  /** Ringpuffer des Threads für das geöffnete Journal.
+   * @since 18.10.2026 17:53:02 agent | Realisierung */
+  private static final ThreadLocal<Buffer>                        BUFFERS          = new ThreadLocal<>();
+  
+  /*   -- Klasse ------------------------------------------------------------------- */
+  
+  /** Ein Journal ist geöffnet, die Änderungen werden ab dann vorgemerkt.
+   * @since 18.10.2026 17:35:20 agent | Realisierung */
+  static volatile boolean                                         active;
+  
+  /** Geöffnetes Journal.
+   * @since 18.10.2026 17:35:31 agent | Realisierung */
+  private static volatile AttributeJournal                        current;
+  
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Verzeichnis der Segmente.
+   * @since 18.10.2026 17:35:40 agent | Realisierung */
+  private final Path                                              directory;
+  
+  /** Schlüssel eines Objekts, <code>null</code> für nicht protokollierte Objekte.
+   * @since 18.10.2026 17:35:51 agent | Realisierung */
+  private final Function<? super InterfaceWithAttributes, String> keys;
+  
+  /** Größe eines neuen Segments.
+   * @since 18.10.2026 17:36:02 agent | Realisierung */
+  private final int                                               segmentSize;
+  
+  /** Längste Wartezeit bis zum Schreiben einer Gruppe in Nanosekunden.
+   * @since 18.10.2026 17:36:10 agent | Realisierung */
+  private final long                                              interval;
+  
+  /** Ringpuffer aller schreibenden Threads.
+   * @since 18.10.2026 17:36:20 agent | Realisierung */
+  private final CopyOnWriteArrayList<Buffer>                      buffers          = new CopyOnWriteArrayList<>();
+  
+  /** Wartende Aufrufe von {@link #sync()}.
+   * @since 18.10.2026 17:53:10 agent | Realisierung */
+  private final ConcurrentLinkedQueue<Sync>                       syncs            = new ConcurrentLinkedQueue<>();
+  
+  /** Schreibender Thread.
+   * @since 18.10.2026 17:36:31 agent | Realisierung */
+  private final Thread                                            flusher;
+  
+  /** Das Journal wird geschlossen, der schreibende Thread endet nach der letzten Gruppe.
+   * @since 18.10.2026 17:36:40 agent | Realisierung */
+  private volatile boolean                                        closed;
+  
+  /** Nummer des aktuellen Segments.
+   * @since 18.10.2026 17:36:51 agent | Realisierung */
+  private volatile long                                           number;
+  
+  /** Aktuelles Segment, nur im schreibenden Thread.
+   * @since 18.10.2026 17:37:02 agent | Realisierung */
+  private MappedByteBuffer                                        segment;
+  
+  /** Das Segment enthält noch nicht dauerhaft geschriebene Einträge, nur im schreibenden Thread.
+   * @since 18.10.2026 17:55:31 agent | Realisierung */
+  private boolean                                                 dirty;
+  
+  /** Zeitpunkt des letzten {@link MappedByteBuffer#force()} in Nanosekunden, nur im schreibenden Thread.
+   * @since 18.10.2026 17:55:40 agent | Realisierung */
+  private long                                                    forced;
+  
+  /** Erster Fehler seit dem letzten {@link #sync()}, nur im schreibenden Thread.
+   * @since 18.10.2026 17:37:10 agent | Realisierung */
+  private IOException                                             failure;
+  
+  /** Puffer für einen Eintrag, nur im schreibenden Thread.
+   * @since 18.10.2026 17:37:20 agent | Realisierung */
+  private final Record                                            record           = new Record();
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Konstruiert ein {@link AttributeJournal}.
+   * <p>
+   * @param directory Verzeichnis der Segmente
+   * @param keys Schlüssel eines Objekts
+   * @param segmentSize Größe eines neuen Segments
+   * @param interval Längste Wartezeit bis zum Schreiben einer Gruppe in Millisekunden
+   * @param number Nummer des ersten Segments
+   * @since 18.10.2026 17:37:31 agent | Realisierung
+   */
+  private AttributeJournal(Path directory, Function<? super InterfaceWithAttributes, String> keys, int segmentSize, long interval, long number) {
+    this.directory = directory;
+    this.keys = keys;
+    this.segmentSize = segmentSize;
+    this.interval = TimeUnit.MILLISECONDS.toNanos(interval);
+    this.number = number;
+    this.flusher = new Thread(this, "AttributeJournal");
+    this.flusher.setDaemon(true);
+  }
+  
+  /* -- statisch ---------------------------------------------------------------------------------- */
+  
+  /**
+   * Öffnet das Journal im Verzeichnis und beginnt mit einem neuen Segment.
+   * <p>
+   * @param directory Verzeichnis, wird bei Bedarf angelegt.
+   * @param keys Schlüssel eines Objekts, <code>null</code> für nicht protokollierte Objekte.
+   * @param segmentSize Größe eines neuen Segments in Bytes
+   * @param interval Längste Wartezeit bis zum Schreiben einer Gruppe in Millisekunden
+   * @throws IOException Fehler beim Anlegen des Segments
+   * @throws IllegalStateException Es ist bereits ein Journal geöffnet.
+   * @since 18.10.2026 17:37:40 agent | Realisierung
+   */
+  static synchronized void open(Path directory, Function<? super InterfaceWithAttributes, String> keys, int segmentSize, long interval) throws IOException {
+    if (directory == null) throw new NullPointerException("directory");
+    if (keys == null) throw new NullPointerException("keys");
+    if (segmentSize < 1024) throw new IllegalArgumentException("segmentSize < 1024: " + segmentSize);
+    if (interval < 0) throw new IllegalArgumentException("interval < 0: " + interval);
+    if (current != null) throw new IllegalStateException("Journal bereits geöffnet: " + current.directory);
+    Files.createDirectories(directory);
+    ArrayList<Path> segments = segments(directory);
+    AttributeJournal journal = new AttributeJournal(directory, keys, segmentSize, interval, segments.isEmpty() ? 1 : number(segments.get(segments.size() - 1)) + 1);
+    journal.segment = journal.create(journal.number, segmentSize);
+    current = journal;
+    active = true;
+    journal.flusher.start();
+  }
+  
+  /**
+   * Schreibt alle vorgemerkten Änderungen und schließt das Journal.
+   * <p>
+   * Gleichzeitige Änderungen werden eventuell nicht mehr protokolliert.
+   * <p>
+   * @throws IOException Erster Fehler seit dem letzten {@link #sync()}
+   * @since 18.10.2026 17:37:51 agent | Realisierung
+   */
+  static synchronized void close() throws IOException {
+    AttributeJournal journal = current;
+    if (journal == null) return;
+    active = false;
+    current = null;
+    journal.closed = true;
+    LockSupport.unpark(journal.flusher);
+    boolean interrupted = false;
+    while (journal.flusher.isAlive()) {
+      try {
+        journal.flusher.join();
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) Thread.currentThread().interrupt();
+    if (journal.failure != null) throw journal.failure;
+  }
+  
+  /**
+   * Wartet, bis alle bisher vorgemerkten Änderungen dauerhaft geschrieben sind.
+   * <p>
+   * @throws IOException Erster Fehler seit dem letzten Aufruf, z.B. ein Wert ohne Codec
+   * @since 18.10.2026 17:38:02 agent | Realisierung
+   */
+  static void sync() throws IOException {
+    AttributeJournal journal = current;
+    if (journal == null) return;
+    Sync sync = new Sync();
+    journal.syncs.add(sync);
+    LockSupport.unpark(journal.flusher);
+    try {
+      while (!sync.done.await(INTERVAL, TimeUnit.MILLISECONDS)) {
+        if (!journal.flusher.isAlive()) return;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Warten auf das Journal unterbrochen");
+    }
+    if (sync.failure != null) throw sync.failure;
+  }
+  
+  /**
+   * Merkt die Änderung eines Objekt-Attributs vor, falls ein Journal geöffnet ist.
+   * <p>
+   * @param attributes Geänderte {@link AttributesOfInterface} mit bekanntem Objekt
+   * @param name {@link AttributeName}
+   * @since 18.10.2026 17:38:10 agent | Realisierung
+   */
+  static void changed(AttributesOfInterface attributes, AttributeName name) {
+    add(attributes, name);
+  }
+  
+  /**
+   * Merkt die Änderung eines Klassen- oder Interface-Attributs vor, falls ein Journal geöffnet ist.
+   * <p>
+   * @param type Geänderte {@link ClassAttributes}
+   * @param name {@link AttributeName}
+   * @since 18.10.2026 17:38:20 agent | Realisierung
+   */
+  static void changed(ClassAttributes type, AttributeName name) {
+    add(type, name);
+  }
+  
+  /**
+   * Legt die Änderung im Ringpuffer des Threads ab und legt diesen bei Bedarf an.
+   * <p>
+   * @param source {@link AttributesOfInterface} eines Objekts oder {@link ClassAttributes}
+   * @param name {@link AttributeName}
+   * @since 18.10.2026 17:53:20 agent | Realisierung
+   */
+  private static void add(Object source, AttributeName name) {
+    AttributeJournal journal = current;
+    if (journal == null) return;
+    Buffer buffer = BUFFERS.get();
+    if (buffer == null || buffer.journal != journal) {
+      buffer = new Buffer(journal);
+      journal.buffers.add(buffer);
+      BUFFERS.set(buffer);
+    }
+    buffer.add(source, name);
+  }
+  
+  /**
+   * Spielt alle Segmente des Verzeichnisses in ihrer Reihenfolge ein.
+   * <p>
+   * Klassen, die der {@link ClassLoader} nicht findet, und Objekte, zu deren Schlüssel kein Objekt
+   * geliefert wird, werden übersprungen. Jeder Schlüssel wird nur einmal aufgelöst.
+   * <p>
+   * @param directory Verzeichnis der Segmente
+   * @param loader {@link ClassLoader} für die Klassen und Interfaces
+   * @param objects Liefert das Objekt zum Schlüssel oder <code>null</code>.
+   * @return Anzahl der eingespielten Einträge
+   * @throws IOException Fehler beim Lesen, unbekannter Aufbau oder nicht registrierter Codec
+   * @throws IllegalStateException Es ist ein Journal geöffnet.
+   * @since 18.10.2026 17:38:31 agent | Realisierung
+   * @since 18.10.2026 18:51:20 agent | Bereiche der Interfaces
+   */
+  static synchronized int replay(Path directory, ClassLoader loader, Function<String, ? extends InterfaceWithAttributes> objects) throws IOException {
+    if (objects == null) throw new NullPointerException("objects");
+    if (current != null) throw new IllegalStateException("Journal geöffnet: " + current.directory);
+    if (!Files.isDirectory(directory)) return 0;
+    HashMap<String, InterfaceWithAttributes> resolved = new HashMap<>();
+    HashMap<String, Class<?>> types = new HashMap<>();
+    Record record = new Record();
+    int count = 0;
+    for (Path path : segments(directory)) {
+      ByteBuffer buffer = map(path);
+      while (record.read(buffer, path)) {
+        Object value = record.value(path);
+        AttributeName name = AttributeName.of(record.name);
+        if (record.kind == CLASS || record.kind == SCOPE) {
+          Class<?> type = types.computeIfAbsent(record.key, key -> type(key, loader));
+          if (type == null) continue;
+          ClassAttributes.of(type, record.kind == SCOPE).put(name, value);
+        } else {
+          InterfaceWithAttributes object = resolved.computeIfAbsent(record.key, objects);
+          if (object == null) continue;
+          InterfaceWithAttributesController.getObjectAttributes(object).put(name, value);
+        }
+        count++;
+      }
+    }
+    return count;
+  }
+  
+  /**
+   * Fasst alle abgeschlossenen Segmente des Verzeichnisses zu einem Segment mit dem letzten Wert je
+   * Attribut zusammen.
+   * <p>
+   * Das zusammengefasste Segment ersetzt zuerst das jüngste abgeschlossene Segment, erst danach
+   * werden die älteren gelöscht. Ein Abbruch dazwischen hinterlässt daher nur überflüssige Einträge.
+   * Das Segment eines geöffneten Journals bleibt unverändert.
+   * <p>
+   * @param directory Verzeichnis der Segmente
+   * @return Anzahl der Einträge im zusammengefassten Segment
+   * @throws IOException Fehler beim Lesen oder Schreiben
+   * @since 18.10.2026 17:38:40 agent | Realisierung
+   */
+  static synchronized int compact(Path directory) throws IOException {
+    if (!Files.isDirectory(directory)) return 0;
+    AttributeJournal journal = current;
+    long open = journal != null && Files.isSameFile(journal.directory, directory) ? journal.number : Long.MAX_VALUE;
+    ArrayList<Path> segments = segments(directory);
+    segments.removeIf(path -> number(path) >= open);
+    if (segments.isEmpty()) return 0;
+    LinkedHashMap<String, byte[]> latest = new LinkedHashMap<>();
+    Record record = new Record();
+    for (Path path : segments) {
+      ByteBuffer buffer = map(path);
+      while (record.read(buffer, path)) {
+        String key = record.kind + record.key + '\u0000' + record.name;
+        latest.remove(key);
+        latest.put(key, record.body());
+      }
+    }
+    Path target = segments.get(segments.size() - 1);
+    Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+    try {
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        CRC32 crc = new CRC32();
+        for (byte[] body : latest.values()) {
+          crc.reset();
+          crc.update(body, 0, body.length);
+          out.writeInt(body.length);
+          out.writeInt((int) crc.getValue());
+          out.write(body);
+        }
+      }
+      try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+        channel.force(true);
+      }
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+    for (int i = 0; i < segments.size() - 1; i++) {
+      Files.deleteIfExists(segments.get(i));
+    }
+    return latest.size();
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * Schreibt die wartenden Änderungen gruppenweise, bis das Journal geschlossen wird.
+   * <p>
+   * @see java.lang.Runnable#run()
+   * @since 18.10.2026 17:38:51 agent | Realisierung
+   */
+  @Override
+  public void run() {
+    Group group = new Group();
+    ArrayList<Sync> syncs = new ArrayList<>();
+    while (true) {
+      boolean closing = this.closed;
+      Sync sync;
+      while ((sync = this.syncs.poll()) != null) {
+        syncs.add(sync);
+      }
+      for (Buffer buffer : this.buffers) {
+        if (!buffer.drain(group) && !buffer.alive()) this.buffers.remove(buffer);
+      }
+      if (group.size > 0) {
+        for (int i = 0; i < group.size; i++) {
+          write(group.sources[i], group.names[i]);
+        }
+        group.clear();
+        this.dirty = true;
+      }
+      if (this.dirty && (closing || !syncs.isEmpty() || System.nanoTime() - this.forced >= this.interval)) {
+        try {
+          this.segment.force();
+        } catch (RuntimeException e) {
+          fail(new IOException("Journal nicht geschrieben: " + path(this.number), e));
+        }
+        this.dirty = false;
+        this.forced = System.nanoTime();
+      }
+      if (!syncs.isEmpty()) {
+        for (Sync done : syncs) {
+          done.failure = this.failure;
+          done.done.countDown();
+        }
+        syncs.clear();
+        this.failure = null;
+      }
+      if (closing) return;
+      if (this.syncs.isEmpty()) LockSupport.parkNanos(this, this.interval);
+    }
+  }
+  
+  /* -- Hilfsmethoden ----------------------------------------------------------------------------- */
+  
+  /**
+   * Schreibt den aktuellen Wert eines geänderten Attributs in das Segment.
+   * <p>
+   * @param source {@link AttributesOfInterface} eines Objekts oder {@link ClassAttributes}
+   * @param name {@link AttributeName}
+   * @since 18.10.2026 17:39:02 agent | Realisierung
+   */
+  private void write(Object source, AttributeName name) {
+    String key;
+    Object value;
+    byte kind;
+    if (source instanceof ClassAttributes) {
+      ClassAttributes type = (ClassAttributes) source;
+      kind = type.scope ? SCOPE : CLASS;
+      key = type.type.getName();
+      value = type.attributes.current(name);
+    } else {
+      AttributesOfInterface attributes = (AttributesOfInterface) source;
+      InterfaceWithAttributes owner = attributes.owner();
+      if (owner == null) return;
+      kind = OBJECT;
+      try {
+        key = this.keys.apply(owner);
+      } catch (RuntimeException e) {
+        fail(new IOException("Kein Schlüssel für " + owner.getClass().getName(), e));
+        return;
+      }
+      if (key == null) return;
+      value = attributes.current(name);
+    }
+    try {
+      int length = this.record.write(kind, key, name.name, value);
+      if (this.segment.remaining() < HEADER + length) roll(HEADER + length);
+      this.record.copyTo(this.segment);
+    } catch (IOException e) {
+      fail(e);
+    } catch (RuntimeException e) {
+      fail(new IOException("Eintrag nicht geschrieben: " + key + "." + name.name, e));
+    }
+  }
+  
+  /**
+   * Schließt das aktuelle Segment ab und beginnt ein neues.
+   * <p>
+   * @param length Länge des nächsten Eintrags
+   * @throws IOException Fehler beim Anlegen des Segments
+   * @since 18.10.2026 17:39:10 agent | Realisierung
+   */
+  private void roll(int length) throws IOException {
+    this.segment.force();
+    long next = this.number + 1;
+    this.segment = create(next, Math.max(this.segmentSize, HEADER + length));
+    this.number = next;
+  }
+  
+  /**
+   * Legt ein neues Segment an und blendet es ein.
+   * <p>
+   * @param number Nummer des Segments
+   * @param size Größe in Bytes
+   * @return Eingeblendetes Segment nach dem Kopf
+   * @throws IOException Fehler beim Anlegen
+   * @since 18.10.2026 17:39:20 agent | Realisierung
+   */
+  private MappedByteBuffer create(long number, int size) throws IOException {
+    MappedByteBuffer segment;
+    try (FileChannel channel = FileChannel.open(path(number), StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      segment = channel.map(MapMode.READ_WRITE, 0, size);
+    }
+    segment.putInt(MAGIC);
+    segment.putInt(VERSION);
+    return segment;
+  }
+  
+  /**
+   * Merkt den ersten Fehler bis zum nächsten {@link #sync()} vor.
+   * <p>
+   * @param e Fehler
+   * @since 18.10.2026 17:39:31 agent | Realisierung
+   */
+  private void fail(IOException e) {
+    if (this.failure == null) this.failure = e;
+    else this.failure.addSuppressed(e);
+  }
+  
+  /**
+   * Liefert die Datei eines Segments.
+   * <p>
+   * @param number Nummer des Segments
+   * @return {@link Path}
+   * @since 18.10.2026 17:39:40 agent | Realisierung
+   */
+  private Path path(long number) {
+    return this.directory.resolve(String.format("journal-%016d.seg", Long.valueOf(number)));
+  }
+  
+  /**
+   * Liefert die Segmente des Verzeichnisses aufsteigend nach ihrer Nummer.
+   * <p>
+   * @param directory Verzeichnis
+   * @return Neue {@link ArrayList} der Segmente
+   * @throws IOException Fehler beim Lesen des Verzeichnisses
+   * @since 18.10.2026 17:39:51 agent | Realisierung
+   */
+  private static ArrayList<Path> segments(Path directory) throws IOException {
+    ArrayList<Path> segments = new ArrayList<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "journal-*.seg")) {
+      for (Path path : stream) {
+        if (number(path) > 0) segments.add(path);
+      }
+    }
+    segments.sort((a, b) -> Long.compare(number(a), number(b)));
+    return segments;
+  }
+  
+  /**
+   * Liefert die Nummer eines Segments.
+   * <p>
+   * @param path Datei des Segments
+   * @return Nummer oder <code>-1</code>, falls der Name keine Nummer enthält.
+   * @since 18.10.2026 17:40:02 agent | Realisierung
+   */
+  private static long number(Path path) {
+    String name = path.getFileName().toString();
+    try {
+      return Long.parseLong(name.substring("journal-".length(), name.length() - ".seg".length()));
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+  
+  /**
+   * Blendet ein Segment zum Lesen ein und prüft den Kopf.
+   * <p>
+   * @param path Datei des Segments
+   * @return {@link ByteBuffer} nach dem Kopf
+   * @throws IOException Fehler beim Lesen oder unbekannter Aufbau
+   * @since 18.10.2026 17:40:10 agent | Realisierung
+   */
+  private static ByteBuffer map(Path path) throws IOException {
+    ByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) throw new IOException("Segment größer als 2 GB: " + path);
+      buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+    }
+    if (buffer.remaining() < HEADER || buffer.getInt() != MAGIC) throw new IOException("Kein Segment des Journals: " + path);
+    int version = buffer.getInt();
+    if (version != VERSION) throw new IOException("Version " + version + " des Journals wird nicht unterstützt: " + path);
+    return buffer;
+  }
+  
+  /**
+   * Lädt die Klasse zum Namen, ohne sie zu initialisieren.
+   * <p>
+   * @param name Name der Klasse
+   * @param loader {@link ClassLoader}
+   * @return {@link Class} oder <code>null</code>, falls sie nicht gefunden wird.
+   * @since 18.10.2026 17:40:20 agent | Realisierung
+   */
+  private static Class<?> type(String name, ClassLoader loader) {
+    try {
+      return Class.forName(name, false, loader);
+    } catch (ClassNotFoundException e) {
+      return null;
+    }
+  }
+  
+  /* -- Innere Klassen ---------------------------------------------------------------------------- */
+  
+  /**
+   * Ringpuffer der Änderungen eines schreibenden Threads.
+   * <p>
+   * Nur der eigene Thread schreibt, nur der Hintergrund-Thread liest. Die Positionen werden über
+   * {@link AtomicLongFieldUpdater#lazySet(Object, long)} veröffentlicht, das Ablegen einer Änderung
+   * kostet damit zwei Zuweisungen. Ist der Puffer voll, wartet der schreibende Thread auf den
+   * Hintergrund-Thread.
+   * <p>
+   * @since 18.10.2026 17:40:31 agent | Realisierung
+   */
+  private static final class Buffer {
+    /** @since 18.10.2026 17:40:35 agent | Realisierung */
+    @SuppressWarnings("unused")
+    private static final long                           serialVersionUID = 1L;
+    
+    /** Anzahl der Plätze, eine Zweierpotenz.
+     * @since 18.10.2026 17:40:40 agent | Realisierung */
+    private static final int                            CAPACITY         = 1 << 14;
+    
+    /** Position des nächsten zu lesenden Platzes.
+     * @since 18.10.2026 17:40:51 agent | Realisierung */
+    private static final AtomicLongFieldUpdater<Buffer> HEAD             = AtomicLongFieldUpdater.newUpdater(Buffer.class, "head");
+    
+    /** Position des nächsten zu schreibenden Platzes.
+     * @since 18.10.2026 17:41:02 agent | Realisierung */
+    private static final AtomicLongFieldUpdater<Buffer> TAIL             = AtomicLongFieldUpdater.newUpdater(Buffer.class, "tail");
+    
+    /** Journal, für das der Puffer angelegt wurde.
+     * @since 18.10.2026 17:41:10 agent | Realisierung */
+    final AttributeJournal                              journal;
+    
+    /** Schreibender Thread.
+     * @since 18.10.2026 17:41:20 agent | Realisierung */
+    private final WeakReference<Thread>                 thread           = new WeakReference<>(Thread.currentThread());
+    
+    /** Geänderte {@link AttributesOfInterface} oder {@link ClassAttributes}.
+     * @since 18.10.2026 17:41:31 agent | Realisierung */
+    private final Object[]                              sources          = new Object[CAPACITY];
+    
+    /** Geänderte Namen.
+     * @since 18.10.2026 17:41:40 agent | Realisierung */
+    private final AttributeName[]                       names            = new AttributeName[CAPACITY];
+    
+    /** Position des nächsten zu lesenden Platzes.
+     * @since 18.10.2026 17:41:51 agent | Realisierung */
+    private volatile long                               head;
+    
+    /** Position des nächsten zu schreibenden Platzes.
+     * @since 18.10.2026 17:42:02 agent | Realisierung */
+    private volatile long                               tail;
+    
+    /**
+     * Konstruiert einen {@link Buffer} für den aktuellen Thread.
+     * <p>
+     * @param journal Geöffnetes Journal
+     * @since 18.10.2026 17:42:10 agent | Realisierung
+     */
+    Buffer(AttributeJournal journal) {
+      this.journal = journal;
+    }
+    
+    /**
+     * Legt eine Änderung ab, wartet bei vollem Puffer und verwirft sie nach dem Schließen.
+     * <p>
+     * @param source {@link AttributesOfInterface} eines Objekts oder {@link ClassAttributes}
+     * @param name {@link AttributeName}
+     * @since 18.10.2026 17:42:20 agent | Realisierung
+     */
+    void add(Object source, AttributeName name) {
+      long tail = this.tail;
+      for (int spins = 0; tail - this.head >= CAPACITY; spins++) {
+        if ((spins & 63) == 0) {
+          if (!this.journal.flusher.isAlive()) return;
+          LockSupport.unpark(this.journal.flusher);
+        }
+        Thread.yield();
+      }
+      int index = (int) tail & (CAPACITY - 1);
+      this.sources[index] = source;
+      this.names[index] = name;
+      TAIL.lazySet(this, tail + 1);
+    }
+    
+    /**
+     * Übernimmt alle abgelegten Änderungen in die Gruppe.
+     * <p>
+     * @param group {@link Group}
+     * @return <code>true</code>, falls Änderungen vorlagen.
+     * @since 18.10.2026 17:42:31 agent | Realisierung
+     */
+    boolean drain(Group group) {
+      long head = this.head;
+      long tail = this.tail;
+      if (head == tail) return false;
+      for (long position = head; position < tail; position++) {
+        int index = (int) position & (CAPACITY - 1);
+        group.add(this.sources[index], this.names[index]);
+        this.sources[index] = null;
+        this.names[index] = null;
+      }
+      HEAD.lazySet(this, tail);
+      return true;
+    }
+    
+    /**
+     * Prüft, ob der schreibende Thread noch läuft.
+     * <p>
+     * @return <code>false</code>, falls er beendet ist.
+     * @since 18.10.2026 17:42:40 agent | Realisierung
+     */
+    boolean alive() {
+      Thread thread = this.thread.get();
+      return thread != null && thread.isAlive();
+    }
+  }
+  
+  /**
+   * Gruppe der zu schreibenden Änderungen, jedes Attribut einer Quelle höchstens einmal.
+   * <p>
+   * Offene Adressierung über wiederverwendete Arrays, die Reihenfolge entspricht der ersten Änderung.
+   * <p>
+   * @since 18.10.2026 17:53:31 agent | Realisierung
+   */
+  private static final class Group {
+    /** @since 18.10.2026 17:53:35 agent | Realisierung */
+    @SuppressWarnings("unused")
+    private static final long serialVersionUID = 1L;
+    
+    /** Quellen in der Reihenfolge der ersten Änderung.
+     * @since 18.10.2026 17:53:40 agent | Realisierung */
+    Object[]                  sources          = new Object[1024];
+    
+    /** Namen an den Positionen der Quellen.
+     * @since 18.10.2026 17:53:51 agent | Realisierung */
+    AttributeName[]           names            = new AttributeName[1024];
+    
+    /** Anzahl der Änderungen.
+     * @since 18.10.2026 17:54:02 agent | Realisierung */
+    int                       size;
+    
+    /** Position + 1 je Hash, <code>0</code> für frei.
+     * @since 18.10.2026 17:54:10 agent | Realisierung */
+    private int[]             slots            = new int[2048];
+    
+    /**
+     * Übernimmt eine Änderung, falls dasselbe Attribut derselben Quelle noch fehlt.
+     * <p>
+     * @param source Quelle
+     * @param name {@link AttributeName}
+     * @since 18.10.2026 17:54:20 agent | Realisierung
+     */
+    void add(Object source, AttributeName name) {
+      if (this.size * 2 >= this.slots.length) grow();
+      int mask = this.slots.length - 1;
+      int slot = hash(source, name) & mask;
+      for (int entry; (entry = this.slots[slot]) != 0; slot = (slot + 1) & mask) {
+        if (this.sources[entry - 1] == source && this.names[entry - 1] == name) return;
+      }
+      this.sources[this.size] = source;
+      this.names[this.size] = name;
+      this.slots[slot] = ++this.size;
+    }
+    
+    /**
+     * Leert die Gruppe und gibt die Quellen frei.
+     * <p>
+     * @since 18.10.2026 17:54:31 agent | Realisierung
+     */
+    void clear() {
+      Arrays.fill(this.sources, 0, this.size, null);
+      Arrays.fill(this.names, 0, this.size, null);
+      Arrays.fill(this.slots, 0);
+      this.size = 0;
+    }
+    
+    /**
+     * Verdoppelt die Arrays und verteilt die Änderungen neu.
+     * <p>
+     * @since 18.10.2026 17:54:40 agent | Realisierung
+     */
+    private void grow() {
+      this.sources = Arrays.copyOf(this.sources, this.sources.length * 2);
+      this.names = Arrays.copyOf(this.names, this.names.length * 2);
+      this.slots = new int[this.slots.length * 2];
+      int mask = this.slots.length - 1;
+      for (int i = 0; i < this.size; i++) {
+        int slot = hash(this.sources[i], this.names[i]) & mask;
+        while (this.slots[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        this.slots[slot] = i + 1;
+      }
+    }
+    
+    /**
+     * @param source Quelle
+     * @param name {@link AttributeName}
+     * @return Verteilter Hash
+     * @since 18.10.2026 17:54:51 agent | Realisierung
+     */
+    private static int hash(Object source, AttributeName name) {
+      int h = System.identityHashCode(source) * 31 + System.identityHashCode(name);
+      return h ^ (h >>> 16);
+    }
+  }
+  
+  /**
+   * Wartet auf das dauerhafte Schreiben aller zuvor vorgemerkten Änderungen.
+   * <p>
+   * @since 18.10.2026 17:55:02 agent | Realisierung
+   */
+  private static final class Sync {
+    /** @since 18.10.2026 17:55:06 agent | Realisierung */
+    @SuppressWarnings("unused")
+    private static final long serialVersionUID = 1L;
+    
+    /** Wird nach dem Schreiben gezählt.
+     * @since 18.10.2026 17:55:10 agent | Realisierung */
+    final CountDownLatch      done             = new CountDownLatch(1);
+    
+    /** Erster Fehler seit dem letzten {@link AttributeJournal#sync()}.
+     * @since 18.10.2026 17:55:20 agent | Realisierung */
+    volatile IOException      failure;
+  }
+  
+  /**
+   * Kodiert und liest einzelne Einträge.
+   * <p>
+   * @since 18.10.2026 17:42:31 agent | Realisierung
+   */
+  private static final class Record extends ByteArrayOutputStream {
+    /** @since 18.10.2026 17:42:35 agent | Realisierung */
+    @SuppressWarnings("unused")
+    private static final long      serialVersionUID = 1L;
+    
+    /** Schreibt in diesen Puffer.
+     * @since 18.10.2026 17:42:40 agent | Realisierung */
+    private final DataOutputStream out              = new DataOutputStream(this);
+    
+    /** Prüfsumme.
+     * @since 18.10.2026 17:42:51 agent | Realisierung */
+    private final CRC32            crc              = new CRC32();
+    
+    /** Art des gelesenen Eintrags.
+     * @since 18.10.2026 17:43:02 agent | Realisierung */
+    byte                           kind;
+    
+    /** Schlüssel des Objekts bzw. Name der Klasse des gelesenen Eintrags.
+     * @since 18.10.2026 17:43:10 agent | Realisierung */
+    String                         key;
+    
+    /** Name des Attributs des gelesenen Eintrags.
+     * @since 18.10.2026 17:43:20 agent | Realisierung */
+    String                         name;
+    
+    /** Codec des gelesenen Eintrags, leer für <code>null</code>.
+     * @since 18.10.2026 17:43:31 agent | Realisierung */
+    private String                 codec;
+    
+    /** Bytes des gelesenen Eintrags.
+     * @since 18.10.2026 17:43:40 agent | Realisierung */
+    private DataInputStream        in;
+    
+    /**
+     * Konstruiert einen {@link Record}.
+     * <p>
+     * @since 18.10.2026 17:43:51 agent | Realisierung
+     */
+    Record() {
+      super(256);
+    }
+    
+    /**
+     * Kodiert einen Eintrag in diesen Puffer.
+     * <p>
+     * @param kind Art des Eintrags
+     * @param key Schlüssel des Objekts bzw. Name der Klasse
+     * @param name Name des Attributs
+     * @param value Wert
+     * @return Länge des Eintrags ohne Kopf
+     * @throws IOException Für den Wert ist kein Codec registriert.
+     * @since 18.10.2026 17:44:02 agent | Realisierung
+     */
+    int write(byte kind, String key, String name, Object value) throws IOException {
+      reset();
+      this.out.writeByte(kind);
+      this.out.writeUTF(key);
+      this.out.writeUTF(name);
+      if (value == null) {
+        this.out.writeUTF("");
+      } else {
+        AttributeCodec<Object> codec = AttributeSnapshot.codecFor(value);
+        if (codec == null) throw new IOException("Kein Codec für " + value.getClass().getName() + ": " + key + "." + name);
+        this.out.writeUTF(codec.getId());
+        codec.write(value, this.out);
+      }
+      return size();
+    }
+    
+    /**
+     * Schreibt den kodierten Eintrag mit Kopf in das Segment.
+     * <p>
+     * @param segment Segment mit ausreichend Platz
+     * @since 18.10.2026 17:44:10 agent | Realisierung
+     */
+    void copyTo(ByteBuffer segment) {
+      this.crc.reset();
+      this.crc.update(this.buf, 0, this.count);
+      segment.putInt(this.count);
+      segment.putInt((int) this.crc.getValue());
+      segment.put(this.buf, 0, this.count);
+    }
+    
+    /**
+     * Liest den nächsten Eintrag aus dem Segment.
+     * <p>
+     * @param buffer Segment
+     * @param path Datei des Segments
+     * @return <code>false</code> am Ende oder bei einem unvollständigen bzw. beschädigten Eintrag
+     * @throws IOException Unbekannter Aufbau des Eintrags
+     * @since 18.10.2026 17:44:20 agent | Realisierung
+     */
+    boolean read(ByteBuffer buffer, Path path) throws IOException {
+      if (buffer.remaining() < HEADER) return false;
+      int length = buffer.getInt();
+      int checksum = buffer.getInt();
+      if (length <= 0 || length > buffer.remaining()) return false;
+      reset();
+      if (this.buf.length < length) this.buf = new byte[length];
+      buffer.get(this.buf, 0, length);
+      this.count = length;
+      this.crc.reset();
+      this.crc.update(this.buf, 0, length);
+      if ((int) this.crc.getValue() != checksum) return false;
+      this.in = new DataInputStream(new ByteArrayInputStream(this.buf, 0, length));
+      try {
+        this.kind = this.in.readByte();
+        this.key = this.in.readUTF();
+        this.name = this.in.readUTF();
+        this.codec = this.in.readUTF();
+      } catch (IOException e) {
+        throw new IOException("Journal beschädigt: " + path, e);
+      }
+      return true;
+    }
+    
+    /**
+     * Dekodiert den Wert des gelesenen Eintrags.
+     * <p>
+     * @param path Datei des Segments
+     * @return Wert
+     * @throws IOException Nicht registrierter Codec oder beschädigter Wert
+     * @since 18.10.2026 17:44:31 agent | Realisierung
+     */
+    Object value(Path path) throws IOException {
+      if (this.codec.isEmpty()) return null;
+      AttributeCodec<?> codec = AttributeSnapshot.codec(this.codec);
+      if (codec == null) throw new IOException("Kein Codec registriert: " + this.codec);
+      try {
+        return codec.read(this.in);
+      } catch (IOException | RuntimeException e) {
+        throw new IOException("Journal beschädigt: " + path, e);
+      }
+    }
+    
+    /**
+     * Liefert eine Kopie des gelesenen Eintrags ohne Kopf.
+     * <p>
+     * @return Bytes des Eintrags
+     * @since 18.10.2026 17:44:40 agent | Realisierung
+     */
+    byte[] body() {
+      return toByteArray();
+    }
+  }
+  
+}
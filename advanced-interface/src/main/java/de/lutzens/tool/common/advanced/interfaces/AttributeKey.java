@@ -0,0 +1,143 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeKey
+ * Version     : 1
+ * Date        : 18.10.2026 11:33:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+/**
+ * Typisierter Schlüssel eines Attributs.
+ * <p>
+ * Ein {@link AttributeKey} wird üblicherweise als Konstante abgelegt und bei jedem Zugriff
+ * wiederverwendet:
+ * <pre>
+ * static final AttributeKey&lt;String&gt; STATUS = AttributeKey.of("status", String.class);
+ * ...
+ * String status = getObjectAttribute(STATUS);
+ * </pre>
+ * Der Zugriff über einen {@link AttributeKey} benötigt weder die Berechnung eines Hashwertes noch
+ * eine Typumwandlung beim Aufrufer. Schlüssel mit demselben Namen greifen auf dasselbe Attribut zu
+ * wie die Methoden mit einem {@link String} als Attributname.
+ * <p>
+ * @param <T> Typ des Wertes
+ * @author agent
+ * @since 18.10.2026 11:33:02 agent | Realisierung
+ * @see InterfaceWithAttributes#getObjectAttribute(AttributeKey)
+ * @see InterfaceWithAttributes#setObjectAttribute(AttributeKey, Object)
+ */
+public final class AttributeKey<T> {
+  /** @since 18.10.2026 11:33:10 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Eindeutiger Name des Attributs.
+   * @since 18.10.2026 11:33:31 agent | Realisierung */
+  final AttributeName       name;
+  
+  /** Typ des Wertes.
+   * @since 18.10.2026 11:33:40 agent | Realisierung */
+  private final Class<T>    type;
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Konstruiert einen {@link AttributeKey}.
+   * <p>
+   * @param name Eindeutiger Name des Attributs
+   * @param type Typ des Wertes
+   * @since 18.10.2026 11:34:02 agent | Realisierung
+   */
+  private AttributeKey(AttributeName name, Class<T> type) {
+    this.name = name;
+    this.type = type;
+  }
+  
+  /* -- create ------------------------------------------------------------------------------------ */
+  
+  /**
+   * Erzeugt einen {@link AttributeKey}.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param name Name des Attributs
+   * @param type Typ des Wertes, darf kein primitiver Typ sein.
+   * @return {@link AttributeKey}
+   * @throws NullPointerException Name oder Typ ist <code>null</code>.
+   * @throws IllegalArgumentException Der Typ ist primitiv.
+   * @since 18.10.2026 11:34:31 agent | Realisierung
+   */
+  public static <T> AttributeKey<T> of(String name, Class<T> type) {
+    if (type.isPrimitive()) throw new IllegalArgumentException("Primitiver Typ " + type + " für Attribut " + name);
+    return new AttributeKey<>(AttributeName.of(name), type);
+  }
+  
+  /* -- get/set/add/is ---------------------------------------------------------------------------- */
+  
+  /**
+   * Liefert den Namen des Attributs.
+   * <p>
+   * @return Name des Attributs
+   * @since 18.10.2026 11:35:02 agent | Realisierung
+   */
+  public String getName() {
+    return this.name.name;
+  }
+  
+  /**
+   * Liefert den Typ des Wertes.
+   * <p>
+   * @return Typ des Wertes
+   * @since 18.10.2026 11:35:11 agent | Realisierung
+   */
+  public Class<T> getType() {
+    return this.type;
+  }
+  
+  /**
+   * Wandelt den abgelegten Wert in den Typ des Schlüssels um.
+   * <p>
+   * @param value Abgelegter Wert
+   * @return Wert des Attributs
+   * @throws ClassCastException Der Wert wurde mit einem anderen Typ abgelegt.
+   * @since 18.10.2026 11:35:40 agent | Realisierung
+   */
+  T cast(Object value) {
+    return this.type.cast(value);
+  }
+  
+  /**
+   * @see java.lang.Object#hashCode()
+   * @since 18.10.2026 11:36:02 agent | Realisierung
+   */
+  @Override
+  public int hashCode() {
+    return 31 * this.name.hashCode() + this.type.hashCode();
+  }
+  
+  /**
+   * @see java.lang.Object#equals(java.lang.Object)
+   * @since 18.10.2026 11:36:10 agent | Realisierung
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) return true;
+    if (!(obj instanceof AttributeKey)) return false;
+    AttributeKey<?> other = (AttributeKey<?>) obj;
+    return this.name == other.name && this.type == other.type;
+  }
+  
+  /**
+   * @see java.lang.Object#toString()
+   * @since 18.10.2026 11:36:21 agent | Realisierung
+   */
+  @Override
+  public String toString() {
+    return this.name.name + " : " + this.type.getName();
+  }
+  
+}
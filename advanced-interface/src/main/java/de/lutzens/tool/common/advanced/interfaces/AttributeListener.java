@@ -0,0 +1,37 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeListener
+ * Version     : 1
+ * Date        : 18.10.2026 15:10:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.util.EventListener;
+
+/**
+ * Wird über Änderungen an Attributen benachrichtigt.
+ * <p>
+ * Die Benachrichtigung erfolgt asynchron über den
+ * {@link InterfaceWithAttributes#setAttributeListenerExecutor(java.util.concurrent.Executor) Executor}
+ * der Listener. Mehrere Änderungen desselben Bereichs werden zusammengefasst, jedes Attribut ist
+ * höchstens einmal mit seinem Wert zum Zeitpunkt der Zustellung enthalten. Für denselben Bereich
+ * wird ein Listener nie gleichzeitig aufgerufen.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 15:10:02 agent | Realisierung
+ * @see InterfaceWithAttributes#addObjectAttributeListener(AttributeListener)
+ */
+@FunctionalInterface
+public interface AttributeListener extends EventListener {
+  
+  /**
+   * Wird nach der Änderung eines oder mehrerer Attribute aufgerufen.
+   * <p>
+   * @param event {@link AttributeChangeEvent}
+   * @since 18.10.2026 15:10:31 agent | Realisierung
+   */
+  void attributesChanged(AttributeChangeEvent event);
+  
+}
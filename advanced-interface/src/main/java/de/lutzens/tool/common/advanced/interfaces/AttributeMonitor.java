@@ -0,0 +1,185 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeMonitor
+ * Version     : 1
+ * Date        : 18.10.2026 15:36:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Zählt Zugriffe und Bereinigungen der Attribute.
+ * <p>
+ * Alle Messpunkte prüfen zuerst {@link #enabled}. Ist die Messung ausgeschaltet, kostet ein
+ * Messpunkt damit nur das Lesen eines <code>volatile</code>-Feldes. Die Zähler sind
+ * {@link LongAdder}, so dass sich zählende Threads nicht gegenseitig behindern.
+ * <p>
+ * Steht der JDK Flight Recorder zur Verfügung, werden zusätzlich Ereignisse über
+ * {@link AttributeFlightRecorder} erzeugt. Fehlt er, bleibt es bei den Zählern.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 15:36:02 agent | Realisierung
+ * @see AttributeStatistics
+ */
+final class AttributeMonitor {
+  /** @since 18.10.2026 15:36:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long                                 serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  /** Lesezugriffe auf vorhandene Objekt-Attribute.
+   * @since 18.10.2026 15:36:31 agent | Realisierung */
+  private static final LongAdder                            HITS             = new LongAdder();
+  
+  /** Lesezugriffe auf fehlende Objekt-Attribute.
+   * @since 18.10.2026 15:36:40 agent | Realisierung */
+  private static final LongAdder                            MISSES           = new LongAdder();
+  
+  /** Bereinigungen mit mindestens einem entfernten Eintrag.
+   * @since 18.10.2026 15:36:51 agent | Realisierung */
+  private static final LongAdder                            EXPUNGES         = new LongAdder();
+  
+  /** Entfernte verwaiste Einträge.
+   * @since 18.10.2026 15:37:02 agent | Realisierung */
+  private static final LongAdder                            EXPUNGED         = new LongAdder();
+  
+  /** Gesamtdauer der Bereinigungen in Nanosekunden.
+   * @since 18.10.2026 15:37:10 agent | Realisierung */
+  private static final LongAdder                            EXPUNGE_NANOS    = new LongAdder();
+  
+  /** Längste Bereinigung in Nanosekunden.
+   * @since 18.10.2026 15:37:20 agent | Realisierung */
+  private static final LongAccumulator                      MAX_EXPUNGE      = new LongAccumulator(Math::max, 0);
+  
+  /** Lesezugriffe je Attributname.
+   * @since 18.10.2026 15:37:31 agent | Realisierung */
+  private static final ConcurrentHashMap<String, LongAdder> ACCESSES         = new ConcurrentHashMap<>();
+  
+  /*   -- Klasse ------------------------------------------------------------------- */
+  
+  /** Die Messung ist eingeschaltet.
+   * @since 18.10.2026 15:37:40 agent | Realisierung */
+  static volatile boolean                                   enabled;
+  
+  /** Ereignisse werden an den JDK Flight Recorder übergeben.
+   * @since 18.10.2026 15:37:51 agent | Realisierung */
+  private static volatile boolean                           recording;
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Keine Instanzen.
+   * <p>
+   * @since 18.10.2026 15:38:02 agent | Realisierung
+   */
+  private AttributeMonitor() {
+  }
+  
+  /* -- statisch ---------------------------------------------------------------------------------- */
+  
+  /**
+   * Schaltet die Messung ein oder aus.
+   * <p>
+   * Beim Einschalten werden die Ereignisse beim JDK Flight Recorder angemeldet, falls er zur
+   * Verfügung steht. Die bisherigen Zähler bleiben erhalten.
+   * <p>
+   * @param enabled <code>true</code>, um zu messen.
+   * @since 18.10.2026 15:38:20 agent | Realisierung
+   */
+  static synchronized void setEnabled(boolean enabled) {
+    if (enabled == AttributeMonitor.enabled) return;
+    if (enabled) {
+      recording = register();
+    } else if (recording) {
+      AttributeFlightRecorder.unregister();
+      recording = false;
+    }
+    AttributeMonitor.enabled = enabled;
+  }
+  
+  /**
+   * Zählt einen Lesezugriff auf ein Objekt-Attribut.
+   * <p>
+   * @param attributes Attribute des Objekts oder <code>null</code>
+   * @param key Attributname
+   * @since 18.10.2026 15:38:40 agent | Realisierung
+   */
+  static void read(AttributesOfInterface attributes, String key) {
+    AttributeName name = AttributeName.find(key);
+    (attributes != null && name != null && attributes.contains(name) ? HITS : MISSES).increment();
+    ACCESSES.computeIfAbsent(key, k -> new LongAdder()).increment();
+  }
+  
+  /**
+   * Zählt einen Lesezugriff auf ein Objekt-Attribut.
+   * <p>
+   * @param attributes Attribute des Objekts oder <code>null</code>
+   * @param name {@link AttributeName}
+   * @since 18.10.2026 15:38:51 agent | Realisierung
+   */
+  static void read(AttributesOfInterface attributes, AttributeName name) {
+    (attributes != null && attributes.contains(name) ? HITS : MISSES).increment();
+    ACCESSES.computeIfAbsent(name.name, k -> new LongAdder()).increment();
+  }
+  
+  /**
+   * Erfasst eine Bereinigung verwaister Einträge.
+   * <p>
+   * @param removed Anzahl der entfernten Einträge
+   * @param nanos Dauer in Nanosekunden
+   * @since 18.10.2026 15:39:02 agent | Realisierung
+   */
+  static void expunged(int removed, long nanos) {
+    if (removed == 0) return;
+    EXPUNGES.increment();
+    EXPUNGED.add(removed);
+    EXPUNGE_NANOS.add(nanos);
+    MAX_EXPUNGE.accumulate(nanos);
+    if (recording) AttributeFlightRecorder.expunged(removed, nanos);
+  }
+  
+  /**
+   * Liefert die Messwerte.
+   * <p>
+   * @param objectCount Anzahl der Objekte mit Attributen
+   * @return {@link AttributeStatistics}
+   * @since 18.10.2026 15:39:20 agent | Realisierung
+   * @since 18.10.2026 16:29:02 agent | Speicher außerhalb des Heaps
+   */
+  static AttributeStatistics snapshot(int objectCount) {
+    HashMap<String, Long> accesses = new HashMap<>();
+    for (Entry<String, LongAdder> e : ACCESSES.entrySet()) {
+      accesses.put(e.getKey(), Long.valueOf(e.getValue().sum()));
+    }
+    return new AttributeStatistics(objectCount, ClassAttributes.count(), AttributeName.count(), HITS.sum(), MISSES.sum(),
+        EXPUNGES.sum(), EXPUNGED.sum(), EXPUNGE_NANOS.sum(), MAX_EXPUNGE.get(), Collections.unmodifiableMap(accesses),
+        AttributeArena.reserved());
+  }
+  
+  /* -- Hilfsmethoden ----------------------------------------------------------------------------- */
+  
+  /**
+   * Meldet die Ereignisse beim JDK Flight Recorder an.
+   * <p>
+   * @return <code>true</code>, falls der JDK Flight Recorder zur Verfügung steht.
+   * @since 18.10.2026 15:39:40 agent | Realisierung
+   */
+  private static boolean register() {
+    try {
+      return AttributeFlightRecorder.register();
+    } catch (LinkageError e) {
+      return false;
+    }
+  }
+  
+}
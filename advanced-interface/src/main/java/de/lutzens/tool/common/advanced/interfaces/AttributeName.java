@@ -0,0 +1,180 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeName
+ * Version     : 1
+ * Date        : 18.10.2026 11:21:05
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Eindeutige Darstellung eines Attributnamens.
+ * <p>
+ * Zu jedem Namen existiert genau eine Instanz, die Namen können daher über ihre Identität
+ * verglichen werden. Zusätzlich merkt sich jeder Name die zuletzt aufgelöste Position in einem
+ * {@link AttributeShape}, so dass wiederholte Zugriffe ohne Suche auskommen.
+ * <p>
+ * Die Namen werden schwach gehalten. Ein Name bleibt erhalten, solange ihn ein {@link AttributeShape},
+ * die Attribute eines Objekts, ein {@link AttributeKey} oder eine Konfiguration wie
+ * {@link AttributeArena} und {@link AttributeIndex} verwendet. Zur Laufzeit gebildete Namen werden
+ * damit zusammen mit den letzten Attributen freigegeben, die sie verwenden.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 11:21:05 agent | Realisierung
+ * @since 18.10.2026 18:40:02 agent | Schwach gehaltene Namen
+ * @see AttributeKey
+ * @see AttributeShape
+ */
+final class AttributeName {
+  /** @since 18.10.2026 11:21:10 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long                                           serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  /** Alle verwendeten Namen.
+   * @since 18.10.2026 11:21:31 agent | Realisierung
+   * @since 18.10.2026 18:40:10 agent | Schwach über {@link Entry} */
+  private static final ConcurrentHashMap<String, AttributeName.Entry> NAMES            = new ConcurrentHashMap<>();
+  
+  /** Einträge, deren Name entfernt wurde.
+   * @since 18.10.2026 18:40:20 agent | Realisierung */
+  private static final ReferenceQueue<AttributeName>                  QUEUE            = new ReferenceQueue<>();
+  
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Name des Attributs.
+   * @since 18.10.2026 11:21:44 agent | Realisierung */
+  final String                                                        name;
+  
+  /** Zuletzt aufgelöste Position: Identifikator des {@link AttributeShape} in den oberen und
+   * Position in den unteren 32 Bit.
+   * @since 18.10.2026 11:22:02 agent | Realisierung */
+  volatile long                                                       cache;
+  
+  /** Ablage außerhalb des Heaps oder <code>null</code>, falls das Attribut im Heap liegt.
+   * @since 18.10.2026 16:23:02 agent | Realisierung */
+  volatile AttributeArena                                             arena;
+  
+  /** Sekundärindex der Objekt-Attribute oder <code>null</code>.
+   * @since 18.10.2026 16:42:51 agent | Realisierung */
+  volatile AttributeIndex                                             index;
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Konstruiert einen {@link AttributeName}.
+   * <p>
+   * @param name Name des Attributs
+   * @since 18.10.2026 11:22:20 agent | Realisierung
+   */
+  private AttributeName(String name) {
+    this.name = name;
+  }
+  
+  /* -- statisch ---------------------------------------------------------------------------------- */
+  
+  /**
+   * Liefert die eindeutige Instanz zum Namen und legt sie bei Bedarf an.
+   * <p>
+   * @param name Name des Attributs
+   * @return {@link AttributeName}
+   * @since 18.10.2026 11:22:41 agent | Realisierung
+   * @since 18.10.2026 18:40:31 agent | Ersetzt Einträge entfernter Namen
+   */
+  static AttributeName of(String name) {
+    AttributeName value = find(name);
+    if (value != null) return value;
+    expunge();
+    AttributeName created = new AttributeName(name);
+    AttributeName.Entry entry = new AttributeName.Entry(created);
+    for (;;) {
+      AttributeName.Entry existing = NAMES.putIfAbsent(name, entry);
+      if (existing == null) return created;
+      value = existing.get();
+      if (value != null) return value;
+      if (NAMES.replace(name, existing, entry)) return created;
+    }
+  }
+  
+  /**
+   * Liefert die eindeutige Instanz zum Namen, ohne sie anzulegen.
+   * <p>
+   * Lesende Zugriffe verwenden diese Methode, damit unbekannte Namen nicht dauerhaft abgelegt werden.
+   * <p>
+   * @param name Name des Attributs
+   * @return {@link AttributeName} oder <code>null</code>, falls der Name noch nie verwendet wurde.
+   * @since 18.10.2026 11:23:02 agent | Realisierung
+   * @since 18.10.2026 18:40:40 agent | Über den schwachen {@link Entry}
+   */
+  static AttributeName find(String name) {
+    AttributeName.Entry entry = NAMES.get(name);
+    return entry == null ? null : entry.get();
+  }
+  
+  /**
+   * Liefert die Anzahl der verwendeten Namen.
+   * <p>
+   * @return Anzahl der Namen
+   * @since 18.10.2026 15:44:20 agent | Realisierung
+   * @since 18.10.2026 18:40:51 agent | Ohne entfernte Namen
+   */
+  static int count() {
+    expunge();
+    return NAMES.size();
+  }
+  
+  /* -- Hilfsmethoden ----------------------------------------------------------------------------- */
+  
+  /**
+   * Entfernt die Einträge der Namen, die der GarbageCollector entfernt hat.
+   * @since 18.10.2026 18:41:02 agent | Realisierung
+   */
+  private static void expunge() {
+    AttributeName.Entry entry;
+    while ((entry = (AttributeName.Entry) QUEUE.poll()) != null) {
+      NAMES.remove(entry.key, entry);
+    }
+  }
+  
+  /* -- get/set/add/is ---------------------------------------------------------------------------- */
+  
+  /**
+   * @see java.lang.Object#toString()
+   * @since 18.10.2026 11:23:20 agent | Realisierung
+   */
+  @Override
+  public String toString() {
+    return this.name;
+  }
+  
+  /* -- Innere Klassen ---------------------------------------------------------------------------- */
+  
+  /**
+   * Schwacher Eintrag in {@link AttributeName#NAMES}.
+   * @since 18.10.2026 18:41:10 agent | Realisierung
+   */
+  private static final class Entry extends WeakReference<AttributeName> {
+    /** Schlüssel des Eintrags.
+     * @since 18.10.2026 18:41:20 agent | Realisierung */
+    final String key;
+    
+    /**
+     * Konstruiert einen {@link Entry}.
+     * <p>
+     * @param name {@link AttributeName}
+     * @since 18.10.2026 18:41:31 agent | Realisierung
+     */
+    Entry(AttributeName name) {
+      super(name, QUEUE);
+      this.key = name.name;
+    }
+  }
+  
+}
@@ -0,0 +1,194 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeNotifier
+ * Version     : 1
+ * Date        : 18.10.2026 15:13:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benachrichtigt die {@link AttributeListener} eines {@link AttributesOfInterface}.
+ * <p>
+ * Der schreibende Thread merkt sich nur den Namen des geänderten Attributs und plant höchstens
+ * einen Zustellungslauf ein. Der Lauf liest die aktuellen Werte und ruft die Listener auf, so dass
+ * schnell aufeinanderfolgende Änderungen desselben Attributs zu einer Benachrichtigung
+ * zusammengefasst werden. Kommen während eines Laufs neue Änderungen hinzu, wird im Anschluss ein
+ * weiterer Lauf eingeplant.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 15:13:02 agent | Realisierung
+ * @see AttributeListener
+ */
+final class AttributeNotifier implements Runnable {
+  /** @since 18.10.2026 15:13:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long                               serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  /** Vorgabe für die Zustellung, Daemon-Threads, die bei Bedarf erzeugt werden.
+   * @since 18.10.2026 15:13:31 agent | Realisierung */
+  private static final ExecutorService                    DEFAULT_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactoryImpl());
+  
+  /*   -- Klasse ------------------------------------------------------------------- */
+  
+  /** Executor für die Zustellung.
+   * @since 18.10.2026 15:13:50 agent | Realisierung */
+  private static volatile Executor                        executor         = DEFAULT_EXECUTOR;
+  
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Quelle der Benachrichtigungen, schwach referenziert, damit Objekte entfernt werden können.
+   * @since 18.10.2026 15:14:10 agent | Realisierung */
+  private final WeakReference<Object>                     source;
+  
+  /** Attribute der Quelle.
+   * @since 18.10.2026 15:14:31 agent | Realisierung */
+  private final AttributesOfInterface                     attributes;
+  
+  /** Registrierte Listener.
+   * @since 18.10.2026 15:14:50 agent | Realisierung */
+  final CopyOnWriteArrayList<AttributeListener>           listeners        = new CopyOnWriteArrayList<>();
+  
+  /** Geänderte, noch nicht zugestellte Attribute.
+   * @since 18.10.2026 15:15:10 agent | Realisierung */
+  private final ConcurrentHashMap<AttributeName, Boolean> pending          = new ConcurrentHashMap<>();
+  
+  /** Ein Zustellungslauf ist eingeplant oder läuft.
+   * @since 18.10.2026 15:15:31 agent | Realisierung */
+  private final AtomicBoolean                             scheduled        = new AtomicBoolean();
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Konstruiert einen {@link AttributeNotifier}.
+   * <p>
+   * @param source Objekt, Klasse oder Interface
+   * @param attributes Attribute der Quelle
+   * @since 18.10.2026 15:15:50 agent | Realisierung
+   */
+  AttributeNotifier(Object source, AttributesOfInterface attributes) {
+    this.source = new WeakReference<>(source);
+    this.attributes = attributes;
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * Merkt die Änderung vor und plant bei Bedarf einen Zustellungslauf ein. Blockiert nie.
+   * <p>
+   * @param name {@link AttributeName}
+   * @since 18.10.2026 15:16:10 agent | Realisierung
+   */
+  void changed(AttributeName name) {
+    this.pending.put(name, Boolean.TRUE);
+    schedule();
+  }
+  
+  /**
+   * Stellt die vorgemerkten Änderungen zu.
+   * <p>
+   * Fehler eines Listeners werden an den {@link Thread.UncaughtExceptionHandler} des Threads
+   * übergeben, die übrigen Listener werden trotzdem benachrichtigt.
+   * <p>
+   * @see java.lang.Runnable#run()
+   * @since 18.10.2026 15:16:31 agent | Realisierung
+   */
+  @Override
+  public void run() {
+    try {
+      Object source = this.source.get();
+      HashMap<String, Object> changes = new HashMap<>();
+      for (Iterator<AttributeName> it = this.pending.keySet().iterator(); it.hasNext();) {
+        AttributeName name = it.next();
+        it.remove();
+        changes.put(name.name, this.attributes.current(name));
+      }
+      if (source == null || changes.isEmpty()) return;
+      AttributeChangeEvent event = new AttributeChangeEvent(source, Collections.unmodifiableMap(changes));
+      for (AttributeListener listener : this.listeners) {
+        try {
+          listener.attributesChanged(event);
+        } catch (RuntimeException e) {
+          Thread thread = Thread.currentThread();
+          thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+        }
+      }
+    } finally {
+      this.scheduled.set(false);
+      if (!this.pending.isEmpty()) schedule();
+    }
+  }
+  
+  /* -- statisch ---------------------------------------------------------------------------------- */
+  
+  /**
+   * Legt den Executor für die Zustellung fest.
+   * <p>
+   * @param executor {@link Executor} oder <code>null</code> für die Vorgabe
+   * @since 18.10.2026 15:16:50 agent | Realisierung
+   */
+  static void setExecutor(Executor executor) {
+    AttributeNotifier.executor = executor == null ? DEFAULT_EXECUTOR : executor;
+  }
+  
+  /* -- Hilfsmethoden ----------------------------------------------------------------------------- */
+  
+  /**
+   * Plant einen Zustellungslauf ein, falls noch keiner eingeplant ist.
+   * <p>
+   * Lehnt der Executor ab, bleiben die Änderungen vorgemerkt und werden mit der nächsten Änderung
+   * zugestellt.
+   * <p>
+   * @since 18.10.2026 15:17:10 agent | Realisierung
+   */
+  private void schedule() {
+    if (!this.scheduled.compareAndSet(false, true)) return;
+    try {
+      executor.execute(this);
+    } catch (RejectedExecutionException e) {
+      this.scheduled.set(false);
+    }
+  }
+  
+  /* -- Innere Klassen ---------------------------------------------------------------------------- */
+  
+  /**
+   * Erzeugt benannte Daemon-Threads für die Zustellung.
+   * @since 18.10.2026 15:17:31 agent | Realisierung
+   */
+  private static final class ThreadFactoryImpl implements ThreadFactory {
+    /** Laufende Nummer der Threads.
+     * @since 18.10.2026 15:17:40 agent | Realisierung */
+    private final AtomicInteger count = new AtomicInteger();
+    
+    /**
+     * @see java.util.concurrent.ThreadFactory#newThread(java.lang.Runnable)
+     * @since 18.10.2026 15:17:51 agent | Realisierung
+     */
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "attribute-listener-" + this.count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+  
+}
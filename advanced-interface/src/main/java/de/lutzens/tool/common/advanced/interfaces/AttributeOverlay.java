@@ -0,0 +1,389 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeOverlay
+ * Version     : 1
+ * Date        : 18.10.2026 17:12:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map.Entry;
+import java.util.function.Supplier;
+
+/**
+ * Überlagert Klassen- und Interface-Attribute für den aktuellen Thread, z.B. für die Dauer einer
+ * Anfrage.
+ * <p>
+ * Ein {@link AttributeOverlay} ist unveränderlich, jede Methode liefert eine neue Instanz. Dieselbe
+ * Instanz kann daher in beliebig vielen Threads gleichzeitig gebunden werden:
+ * <pre>
+ * static final AttributeOverlay TENANT_A = AttributeOverlay.create()
+ *     .withInterfaceAttribute("tenant", "a")
+ *     .withClassAttribute(Service.class, FEATURE, Boolean.TRUE);
+ * ...
+ * TENANT_A.run(() -&gt; handle(request));
+ * </pre>
+ * Solange ein {@link AttributeOverlay} gebunden ist, liefern <code>getClassAttribute</code>,
+ * <code>getInterfaceAttribute</code> und die Kopien aller Attribute zuerst seine Werte, danach die
+ * gemeinsamen Werte. Auch <code>null</code> überlagert einen gemeinsamen Wert. Bei aktivierter
+ * Vererbung der Klassen-Attribute gelten die Werte der Vorfahren ebenso. Schreibende Zugriffe
+ * ändern weiterhin die gemeinsamen Werte.
+ * <p>
+ * Bindungen lassen sich verschachteln, die zuletzt gebundene Überlagerung hat Vorrang. Binden und
+ * Lösen kosten nur einen Eintrag im Stapel des Threads, {@link #run(Runnable)} und
+ * {@link #call(Supplier)} legen dabei keine Objekte an. Neue Threads erben die Bindungen nicht.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 17:12:02 agent | Realisierung
+ * @see InterfaceWithAttributes#getClassAttribute(Class, String)
+ * @see InterfaceWithAttributes#getInterfaceAttribute(String)
+ */
+public final class AttributeOverlay {
+  /** @since 18.10.2026 17:12:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long                                              serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  /** Kennzeichnet ein nicht überlagertes Attribut.
+   * @since 18.10.2026 17:12:10 agent | Realisierung */
+  static final Object                                                    ABSENT           = new Object();
+  
+  /** Überlagerung ohne Werte.
+   * @since 18.10.2026 17:12:20 agent | Realisierung */
+  private static final AttributeOverlay                                  EMPTY            = new AttributeOverlay(new HashMap<>());
+  
+  /** Gebundene Überlagerungen je Thread.
+   * @since 18.10.2026 17:12:31 agent | Realisierung */
+  private static final ThreadLocal<Binding>                              BINDINGS         = new ThreadLocal<>();
+  
+  /*   -- Klasse ------------------------------------------------------------------- */
+  
+  /** Es wurde bereits eine Überlagerung gebunden, vorher wird der Thread nicht geprüft.
+   * @since 18.10.2026 17:12:40 agent | Realisierung */
+  private static volatile boolean                                        active;
+  
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Maskierte Werte je Klasse, Interface oder Bereich eines Interfaces.
+   * @since 18.10.2026 17:12:51 agent | Realisierung
+   * @since 18.10.2026 18:50:02 agent | Je {@link ClassAttributes}, um Bereiche von Klassen-Attributen zu trennen */
+  private final HashMap<ClassAttributes, HashMap<AttributeName, Object>> values;
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Konstruiert ein {@link AttributeOverlay}.
+   * <p>
+   * @param values Maskierte Werte je {@link ClassAttributes}, werden nicht mehr verändert.
+   * @since 18.10.2026 17:13:02 agent | Realisierung
+   */
+  private AttributeOverlay(HashMap<ClassAttributes, HashMap<AttributeName, Object>> values) {
+    this.values = values;
+  }
+  
+  /* -- create ------------------------------------------------------------------------------------ */
+  
+  /**
+   * Liefert eine Überlagerung ohne Werte.
+   * <p>
+   * @return {@link AttributeOverlay}
+   * @since 18.10.2026 17:13:10 agent | Realisierung
+   */
+  public static AttributeOverlay create() {
+    return EMPTY;
+  }
+  
+  /**
+   * Liefert eine Überlagerung, die zusätzlich das Klassen-Attribut überlagert.
+   * <p>
+   * @param type Klasse oder Interface
+   * @param key Attributname
+   * @param value Wert, auch <code>null</code>
+   * @return {@link AttributeOverlay}
+   * @since 18.10.2026 17:13:20 agent | Realisierung
+   */
+  public AttributeOverlay withClassAttribute(Class<? extends InterfaceWithAttributes> type, String key, Object value) {
+    return with(ClassAttributes.of(type), AttributeName.of(key), value);
+  }
+  
+  /**
+   * Liefert eine Überlagerung, die zusätzlich das Klassen-Attribut zum typisierten Schlüssel überlagert.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param type Klasse oder Interface
+   * @param key {@link AttributeKey}
+   * @param value Wert, auch <code>null</code>
+   * @return {@link AttributeOverlay}
+   * @since 18.10.2026 17:13:31 agent | Realisierung
+   */
+  public <T> AttributeOverlay withClassAttribute(Class<? extends InterfaceWithAttributes> type, AttributeKey<T> key, T value) {
+    return with(ClassAttributes.of(type), key.name, value);
+  }
+  
+  /**
+   * Liefert eine Überlagerung, die zusätzlich das Interface-Attribut überlagert.
+   * <p>
+   * @param key Attributname
+   * @param value Wert, auch <code>null</code>
+   * @return {@link AttributeOverlay}
+   * @since 18.10.2026 17:13:40 agent | Realisierung
+   */
+  public AttributeOverlay withInterfaceAttribute(String key, Object value) {
+    return with(ClassAttributes.scopeOf(InterfaceWithAttributes.class), AttributeName.of(key), value);
+  }
+  
+  /**
+   * Liefert eine Überlagerung, die zusätzlich das Interface-Attribut zum typisierten Schlüssel überlagert.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param key {@link AttributeKey}
+   * @param value Wert, auch <code>null</code>
+   * @return {@link AttributeOverlay}
+   * @since 18.10.2026 17:13:51 agent | Realisierung
+   */
+  public <T> AttributeOverlay withInterfaceAttribute(AttributeKey<T> key, T value) {
+    return with(ClassAttributes.scopeOf(InterfaceWithAttributes.class), key.name, value);
+  }
+  
+  /**
+   * Liefert eine Überlagerung, die zusätzlich das Attribut im Bereich des Interfaces überlagert.
+   * <p>
+   * @param scope Interface, das {@link InterfaceWithAttributes} erweitert.
+   * @param key Attributname
+   * @param value Wert, auch <code>null</code>
+   * @return {@link AttributeOverlay}
+   * @throws IllegalArgumentException Der Bereich ist kein Interface, das {@link InterfaceWithAttributes} erweitert.
+   * @since 18.10.2026 17:14:02 agent | Realisierung
+   * @since 18.10.2026 18:50:10 agent | Überlagert den Bereich statt der Klassen-Attribute des Interfaces
+   */
+  public AttributeOverlay withInterfaceAttribute(Class<? extends InterfaceWithAttributes> scope, String key, Object value) {
+    InterfaceWithAttributesController.checkScope(scope);
+    return with(ClassAttributes.scopeOf(scope), AttributeName.of(key), value);
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * Führt die Aufgabe mit dieser Überlagerung im aktuellen Thread aus.
+   * <p>
+   * @param task Aufgabe
+   * @since 18.10.2026 17:14:10 agent | Realisierung
+   */
+  public void run(Runnable task) {
+    Binding binding = bind();
+    try {
+      task.run();
+    } finally {
+      binding.close();
+    }
+  }
+  
+  /**
+   * Führt die Aufgabe mit dieser Überlagerung im aktuellen Thread aus.
+   * <p>
+   * @param <R> Typ des Ergebnisses
+   * @param task Aufgabe
+   * @return Ergebnis der Aufgabe
+   * @since 18.10.2026 17:14:20 agent | Realisierung
+   */
+  public <R> R call(Supplier<R> task) {
+    Binding binding = bind();
+    try {
+      return task.get();
+    } finally {
+      binding.close();
+    }
+  }
+  
+  /**
+   * Bindet die Überlagerung an den aktuellen Thread, bis die gelieferte {@link Binding} geschlossen
+   * wird.
+   * <p>
+   * Für Anfragen, deren Beginn und Ende in getrennten Aufrufen liegen:
+   * <pre>
+   * try (AttributeOverlay.Binding binding = overlay.bind()) {
+   *   ...
+   * }
+   * </pre>
+   * <p>
+   * @return {@link Binding} des aktuellen Threads
+   * @since 18.10.2026 17:14:31 agent | Realisierung
+   */
+  public Binding bind() {
+    Binding binding = BINDINGS.get();
+    if (binding == null) {
+      binding = new Binding();
+      BINDINGS.set(binding);
+    }
+    if (!active) active = true;
+    binding.push(this);
+    return binding;
+  }
+  
+  /**
+   * Löst die Überlagerungen des aktuellen Threads und schaltet die Suche in Überlagerungen ab,
+   * bis erneut eine gebunden wird.
+   * <p>
+   * @since 18.10.2026 19:07:10 agent | Realisierung
+   */
+  static void reset() {
+    BINDINGS.remove();
+    active = false;
+  }
+  
+  /**
+   * Liefert den überlagerten Wert des Attributs im aktuellen Thread.
+   * <p>
+   * Bei Vererbung werden in jeder Überlagerung die Vorfahren in ihrer Reihenfolge geprüft.
+   * <p>
+   * @param attributes {@link ClassAttributes} der Klasse oder des Interfaces
+   * @param name {@link AttributeName}
+   * @param inherited <code>true</code>, um über die Typhierarchie aufzulösen.
+   * @return Wert oder {@link #ABSENT}
+   * @since 18.10.2026 17:14:40 agent | Realisierung
+   */
+  static Object find(ClassAttributes attributes, AttributeName name, boolean inherited) {
+    if (!active) return ABSENT;
+    Binding binding = BINDINGS.get();
+    if (binding == null || binding.depth == 0) return ABSENT;
+    ClassAttributes[] ancestors = inherited ? attributes.ancestors() : null;
+    for (int i = binding.depth - 1; i >= 0; i--) {
+      HashMap<ClassAttributes, HashMap<AttributeName, Object>> values = binding.overlays[i].values;
+      if (ancestors == null) {
+        Object value = value(values, attributes, name);
+        if (value != ABSENT) return value;
+      } else {
+        for (ClassAttributes ancestor : ancestors) {
+          Object value = value(values, ancestor, name);
+          if (value != ABSENT) return value;
+        }
+      }
+    }
+    return ABSENT;
+  }
+  
+  /**
+   * Überschreibt die Kopie der Attribute mit allen überlagerten Werten im aktuellen Thread.
+   * <p>
+   * @param attributes {@link ClassAttributes} der Klasse oder des Interfaces
+   * @param inherited <code>true</code>, um über die Typhierarchie aufzulösen.
+   * @param copy Kopie der gemeinsamen Attribute
+   * @return Übergebene Kopie
+   * @since 18.10.2026 17:14:51 agent | Realisierung
+   */
+  static HashMap<String, Object> apply(ClassAttributes attributes, boolean inherited, HashMap<String, Object> copy) {
+    if (!active) return copy;
+    Binding binding = BINDINGS.get();
+    if (binding == null || binding.depth == 0) return copy;
+    ClassAttributes[] ancestors = inherited ? attributes.ancestors() : new ClassAttributes[] { attributes };
+    for (int i = 0; i < binding.depth; i++) {
+      HashMap<ClassAttributes, HashMap<AttributeName, Object>> values = binding.overlays[i].values;
+      for (int j = ancestors.length - 1; j >= 0; j--) {
+        HashMap<AttributeName, Object> overlaid = values.get(ancestors[j]);
+        if (overlaid == null) continue;
+        for (Entry<AttributeName, Object> e : overlaid.entrySet()) {
+          copy.put(e.getKey().name, AttributesOfInterface.unmask(e.getValue()));
+        }
+      }
+    }
+    return copy;
+  }
+  
+  /* -- Hilfsmethoden ----------------------------------------------------------------------------- */
+  
+  /**
+   * Liefert eine Kopie mit dem zusätzlichen Wert.
+   * <p>
+   * @param type {@link ClassAttributes} der Klasse, des Interfaces oder des Bereichs
+   * @param name {@link AttributeName}
+   * @param value Wert
+   * @return {@link AttributeOverlay}
+   * @since 18.10.2026 17:15:02 agent | Realisierung
+   */
+  private AttributeOverlay with(ClassAttributes type, AttributeName name, Object value) {
+    HashMap<ClassAttributes, HashMap<AttributeName, Object>> values = new HashMap<>(this.values);
+    HashMap<AttributeName, Object> overlaid = values.get(type);
+    overlaid = overlaid == null ? new HashMap<>() : new HashMap<>(overlaid);
+    overlaid.put(name, AttributesOfInterface.mask(value));
+    values.put(type, overlaid);
+    return new AttributeOverlay(values);
+  }
+  
+  /**
+   * Liefert den überlagerten Wert.
+   * <p>
+   * @param values Maskierte Werte je {@link ClassAttributes}
+   * @param type {@link ClassAttributes} der Klasse, des Interfaces oder des Bereichs
+   * @param name {@link AttributeName}
+   * @return Wert oder {@link #ABSENT}
+   * @since 18.10.2026 17:15:10 agent | Realisierung
+   */
+  private static Object value(HashMap<ClassAttributes, HashMap<AttributeName, Object>> values, ClassAttributes type, AttributeName name) {
+    HashMap<AttributeName, Object> overlaid = values.get(type);
+    if (overlaid == null) return ABSENT;
+    Object value = overlaid.get(name);
+    return value == null ? ABSENT : AttributesOfInterface.unmask(value);
+  }
+  
+  /* -- Innere Klassen ---------------------------------------------------------------------------- */
+  
+  /**
+   * Stapel der gebundenen Überlagerungen eines Threads.
+   * <p>
+   * {@link #close()} löst die zuletzt gebundene Überlagerung. Jede Instanz gehört genau einem
+   * Thread und wird für alle seine Bindungen wiederverwendet.
+   * <p>
+   * @since 18.10.2026 17:15:20 agent | Realisierung
+   */
+  public static final class Binding implements AutoCloseable {
+    /** @since 18.10.2026 17:15:24 agent | Realisierung */
+    @SuppressWarnings("unused")
+    private static final long  serialVersionUID = 1L;
+    
+    /** Gebundene Überlagerungen, die letzte hat Vorrang.
+     * @since 18.10.2026 17:15:31 agent | Realisierung */
+    private AttributeOverlay[] overlays         = new AttributeOverlay[4];
+    
+    /** Anzahl der gebundenen Überlagerungen.
+     * @since 18.10.2026 17:15:40 agent | Realisierung */
+    private int                depth;
+    
+    /**
+     * Konstruiert eine {@link Binding}.
+     * @since 18.10.2026 17:15:51 agent | Realisierung
+     */
+    private Binding() {
+      // nur über bind()
+    }
+    
+    /**
+     * Löst die zuletzt gebundene Überlagerung.
+     * <p>
+     * @throws IllegalStateException Es ist keine Überlagerung gebunden.
+     * @see java.lang.AutoCloseable#close()
+     * @since 18.10.2026 17:16:02 agent | Realisierung
+     */
+    @Override
+    public void close() {
+      if (this.depth == 0) throw new IllegalStateException("Keine Überlagerung gebunden");
+      this.overlays[--this.depth] = null;
+    }
+    
+    /**
+     * Bindet die Überlagerung.
+     * <p>
+     * @param overlay {@link AttributeOverlay}
+     * @since 18.10.2026 17:16:10 agent | Realisierung
+     */
+    private void push(AttributeOverlay overlay) {
+      if (this.depth == this.overlays.length) this.overlays = Arrays.copyOf(this.overlays, this.depth * 2);
+      this.overlays[this.depth++] = overlay;
+    }
+  }
+  
+}
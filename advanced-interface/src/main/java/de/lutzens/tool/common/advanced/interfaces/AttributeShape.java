@@ -0,0 +1,269 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeShape
+ * Version     : 1
+ * Date        : 18.10.2026 11:25:12
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Beschreibt den Aufbau (Shape) der Attribute eines Objekts.
+ * <p>
+ * Ein {@link AttributeShape} ordnet jedem Attributnamen eine feste Position in einem Array zu.
+ * Objekte derselben Klasse, die dieselben Attribute in derselben Reihenfolge setzen, verwenden
+ * dieselbe Instanz. Die Werte selbst liegen in einem flachen Array des jeweiligen
+ * {@link AttributesOfInterface}.
+ * <p>
+ * Wird ein neues Attribut hinzugefügt, entsteht über einen Übergang ein Nachfolger, der sich die
+ * Position des neuen Attributs merkt. Übergänge werden zwischengespeichert und von allen Objekten
+ * gemeinsam genutzt.
+ * <p>
+ * Ein Übergang hält seinen Nachfolger nur schwach, jeder Nachfolger hält seinen Vorgänger. Ein
+ * {@link AttributeShape} bleibt damit erhalten, solange er selbst oder ein Nachfolger verwendet wird,
+ * und gibt danach auch die Namen seiner Attribute frei. Übergänge entfernter Nachfolger werden beim
+ * nächsten neuen Übergang entfernt.
+ * <p>
+ * Ein {@link AttributeShape} ist nach der Erzeugung unveränderlich und damit threadsicher.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 11:25:12 agent | Realisierung
+ * @since 18.10.2026 18:42:02 agent | Schwache Übergänge, Cache des Namens nur bei leerem Eintrag
+ * @see AttributesOfInterface
+ */
+final class AttributeShape {
+  /** @since 18.10.2026 11:25:20 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long                                                 serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  /** Bis zu dieser Anzahl an Attributen wird linear gesucht, darüber über eine {@link HashMap}.
+   * @since 18.10.2026 11:25:44 agent | Realisierung */
+  private static final int                                                  LINEAR_SEARCH    = 8;
+  
+  /** Vergibt die Identifikatoren, beginnend bei 1, damit ein leerer Cache nie passt.
+   * @since 18.10.2026 11:26:01 agent | Realisierung */
+  private static final AtomicInteger                                        IDS              = new AtomicInteger();
+  
+  /** Gemeinsamer Ursprung für Attribute, die keiner Klasse zugeordnet sind.
+   * @since 18.10.2026 11:26:22 agent | Realisierung */
+  static final AttributeShape                                               ROOT             = new AttributeShape(null, null);
+  
+  /** Übergänge, deren Nachfolger entfernt wurde.
+   * @since 18.10.2026 18:42:10 agent | Realisierung */
+  private static final ReferenceQueue<AttributeShape>                       QUEUE            = new ReferenceQueue<>();
+  
+  /** Ursprung je Klasse der Objekte.
+   * @since 18.10.2026 11:26:40 agent | Realisierung */
+  private static final ClassValue<AttributeShape>                           ROOTS            = new ClassValue<AttributeShape>() {
+    @Override
+    protected AttributeShape computeValue(Class<?> type) {
+      return new AttributeShape(null, null);
+    }
+  };
+  
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Eindeutiger Identifikator.
+   * @since 18.10.2026 11:27:02 agent | Realisierung */
+  final int                                                                 id;
+  
+  /** Vorgänger oder <code>null</code> für einen Ursprung, hält die Kette der Übergänge erreichbar.
+   * @since 18.10.2026 18:42:20 agent | Realisierung */
+  private final AttributeShape                                              parent;
+  
+  /** Namen der Attribute in der Reihenfolge ihrer Positionen.
+   * @since 18.10.2026 11:27:15 agent | Realisierung */
+  private final AttributeName[]                                             names;
+  
+  /** Index für die Suche bei vielen Attributen, wird bei Bedarf erzeugt.
+   * @since 18.10.2026 11:27:30 agent | Realisierung */
+  private volatile HashMap<AttributeName, Integer>                          index;
+  
+  /** Bereits erzeugte Nachfolger je hinzugefügtem Attribut.
+   * @since 18.10.2026 11:27:48 agent | Realisierung
+   * @since 18.10.2026 18:42:31 agent | Schwach über {@link Transition} */
+  private final ConcurrentHashMap<AttributeName, AttributeShape.Transition> transitions      = new ConcurrentHashMap<>(4);
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Konstruiert einen {@link AttributeShape}.
+   * <p>
+   * @param parent Vorgänger oder <code>null</code> für einen Ursprung
+   * @param name Hinzugefügter Name oder <code>null</code> für einen Ursprung
+   * @since 18.10.2026 11:28:10 agent | Realisierung
+   */
+  private AttributeShape(AttributeShape parent, AttributeName name) {
+    this.id = IDS.incrementAndGet();
+    this.parent = parent;
+    if (parent == null) {
+      this.names = new AttributeName[0];
+    } else {
+      this.names = new AttributeName[parent.names.length + 1];
+      System.arraycopy(parent.names, 0, this.names, 0, parent.names.length);
+      this.names[parent.names.length] = name;
+    }
+  }
+  
+  /* -- statisch ---------------------------------------------------------------------------------- */
+  
+  /**
+   * Liefert den Ursprung für Objekte der übergebenen Klasse.
+   * <p>
+   * @param type Klasse des Objekts
+   * @return {@link AttributeShape} ohne Attribute
+   * @since 18.10.2026 11:28:40 agent | Realisierung
+   */
+  static AttributeShape rootOf(Class<?> type) {
+    return ROOTS.get(type);
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * Liefert die Position des Attributs.
+   * <p>
+   * Wurde der Name zuerst in diesem {@link AttributeShape} aufgelöst, wird die Position ohne
+   * Suche direkt aus dem Namen gelesen. Der Cache des Namens wird nur beschrieben, solange er leer
+   * ist. Werden mehrere {@link AttributeShape} abwechselnd gelesen, schreibt so kein Lesezugriff
+   * auf den gemeinsamen Namen.
+   * <p>
+   * @param name {@link AttributeName}
+   * @return Position oder <code>-1</code>, falls das Attribut nicht enthalten ist.
+   * @since 18.10.2026 11:29:05 agent | Realisierung
+   * @since 18.10.2026 18:42:40 agent | Schreibt den Cache nur, solange er leer ist
+   */
+  int slotOf(AttributeName name) {
+    long cache = name.cache;
+    if ((int) (cache >>> 32) == this.id) return (int) cache;
+    int slot = lookup(name);
+    if (slot >= 0 && cache == 0) name.cache = ((long) this.id << 32) | slot;
+    return slot;
+  }
+  
+  /**
+   * Liefert den Nachfolger, der zusätzlich das übergebene Attribut enthält.
+   * <p>
+   * @param name {@link AttributeName}, das noch nicht enthalten sein darf.
+   * @return {@link AttributeShape} mit dem Attribut an der letzten Position
+   * @since 18.10.2026 11:29:40 agent | Realisierung
+   * @since 18.10.2026 18:42:51 agent | Ersetzt Übergänge entfernter Nachfolger
+   */
+  AttributeShape with(AttributeName name) {
+    AttributeShape.Transition transition = this.transitions.get(name);
+    AttributeShape next = transition == null ? null : transition.get();
+    if (next != null) return next;
+    expunge();
+    AttributeShape created = new AttributeShape(this, name);
+    AttributeShape.Transition fresh = new AttributeShape.Transition(created);
+    for (;;) {
+      transition = this.transitions.putIfAbsent(name, fresh);
+      if (transition == null) return created;
+      next = transition.get();
+      if (next != null) return next;
+      if (this.transitions.replace(name, transition, fresh)) return created;
+    }
+  }
+  
+  /* -- get/set/add/is ---------------------------------------------------------------------------- */
+  
+  /**
+   * Liefert die Anzahl der Attribute.
+   * <p>
+   * @return Anzahl der Attribute
+   * @since 18.10.2026 11:30:02 agent | Realisierung
+   */
+  int size() {
+    return this.names.length;
+  }
+  
+  /**
+   * Liefert den Namen des Attributs an der übergebenen Position.
+   * <p>
+   * @param slot Position
+   * @return {@link AttributeName}
+   * @since 18.10.2026 11:30:20 agent | Realisierung
+   */
+  AttributeName nameAt(int slot) {
+    return this.names[slot];
+  }
+  
+  /* -- Hilfsmethoden ----------------------------------------------------------------------------- */
+  
+  /**
+   * Sucht die Position des Attributs ohne Cache.
+   * <p>
+   * @param name {@link AttributeName}
+   * @return Position oder <code>-1</code>
+   * @since 18.10.2026 11:30:41 agent | Realisierung
+   */
+  private int lookup(AttributeName name) {
+    AttributeName[] names = this.names;
+    if (names.length <= LINEAR_SEARCH) {
+      for (int i = names.length - 1; i >= 0; i--) {
+        if (names[i] == name) return i;
+      }
+      return -1;
+    }
+    HashMap<AttributeName, Integer> index = this.index;
+    if (index == null) {
+      index = new HashMap<>(names.length * 2);
+      for (int i = 0; i < names.length; i++) {
+        index.put(names[i], Integer.valueOf(i));
+      }
+      this.index = index;
+    }
+    Integer slot = index.get(name);
+    return slot == null ? -1 : slot.intValue();
+  }
+  
+  /**
+   * Entfernt die Übergänge, deren Nachfolger der GarbageCollector entfernt hat.
+   * @since 18.10.2026 18:43:02 agent | Realisierung
+   */
+  private static void expunge() {
+    AttributeShape.Transition transition;
+    while ((transition = (AttributeShape.Transition) QUEUE.poll()) != null) {
+      transition.parent.transitions.remove(transition.name, transition);
+    }
+  }
+  
+  /* -- Innere Klassen ---------------------------------------------------------------------------- */
+  
+  /**
+   * Schwacher Übergang zu einem Nachfolger.
+   * @since 18.10.2026 18:43:10 agent | Realisierung
+   */
+  private static final class Transition extends WeakReference<AttributeShape> {
+    /** Vorgänger, der den Übergang enthält.
+     * @since 18.10.2026 18:43:20 agent | Realisierung */
+    final AttributeShape parent;
+    
+    /** Hinzugefügtes Attribut.
+     * @since 18.10.2026 18:43:31 agent | Realisierung */
+    final AttributeName  name;
+    
+    /**
+     * Konstruiert einen {@link Transition}.
+     * <p>
+     * @param next Nachfolger
+     * @since 18.10.2026 18:43:40 agent | Realisierung
+     */
+    Transition(AttributeShape next) {
+      super(next, QUEUE);
+      this.parent = next.parent;
+      this.name = next.names[next.names.length - 1];
+    }
+  }
+  
+}
@@ -0,0 +1,772 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeSnapshot
+ * Version     : 1
+ * Date        : 18.10.2026 15:53:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * Schreibt die Klassen- und Interface-Attribute in eine Binärdatei und stellt sie daraus wieder her.
+ * <p>
+ * Aufbau der Datei:
+ * <pre>
+ * int     Kennung, int Version
+ * int     Anzahl der Codecs, je Codec: UTF Identifikator
+ * int     Anzahl der Klassen, je Klasse:
+ *           UTF Name der Klasse, boolean Bereich des Interfaces, int Anzahl der Attribute,
+ *           int Größe des Index, int Länge des Abschnitts,
+ *           je Platz des Index: int Hashwert des Namens, int Position des Attributs (-1 für frei),
+ *           je Attribut: UTF Name, short Codec (-1 für null), int Länge, Bytes des Wertes
+ * </pre>
+ * <p>
+ * Version 1 und 2 besitzen keinen Index und werden beim Wiederherstellen vollständig gelesen.
+ * Version 1 kennt zudem keine Bereiche, ihre Attribute von {@link InterfaceWithAttributes} werden
+ * als Interface-Attribute, alle übrigen als Klassen-Attribute wiederhergestellt.
+ * <p>
+ * Beim Wiederherstellen wird die Datei in den Speicher eingeblendet und je Klasse nur der Kopf des
+ * Abschnitts gelesen. Die {@link ClassAttributes} suchen ein fehlendes Attribut beim ersten Zugriff
+ * über den Index in ihrer {@link Section}, der Wert wird als {@link Lazy} abgelegt und erst beim
+ * Lesen über seinen {@link AttributeCodec} dekodiert. Die Datei darf daher nicht verändert werden,
+ * solange wiederhergestellte Attribute nicht gelesen wurden.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 15:53:02 agent | Realisierung
+ * @since 18.10.2026 17:45:10 agent | Codecs für das {@link AttributeJournal}
+ * @since 18.10.2026 18:50:31 agent | Version 2 mit den Bereichen der Interfaces
+ * @since 18.10.2026 19:25:02 agent | Version 3 mit Index je Klasse, Namen werden erst beim Zugriff gelesen
+ * @see AttributeCodec
+ */
+final class AttributeSnapshot {
+  /** @since 18.10.2026 15:53:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long                                           serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  /** Kennung am Anfang der Datei.
+   * @since 18.10.2026 15:53:31 agent | Realisierung */
+  private static final int                                            MAGIC            = 0x4C414953;
+  
+  /** Version des Aufbaus.
+   * @since 18.10.2026 15:53:40 agent | Realisierung
+   * @since 18.10.2026 18:50:40 agent | Version 2
+   * @since 18.10.2026 19:25:10 agent | Version 3 */
+  private static final int                                            VERSION          = 3;
+  
+  /** Ergebnis von {@link Section#find(String)}, falls das Attribut nicht im Snapshot enthalten ist.
+   * @since 18.10.2026 19:25:20 agent | Realisierung */
+  static final Object                                                 ABSENT           = new Object();
+  
+  /** Registrierte Codecs je Identifikator.
+   * @since 18.10.2026 15:53:51 agent | Realisierung */
+  private static final ConcurrentHashMap<String, AttributeCodec<?>>   CODECS           = new ConcurrentHashMap<>();
+  
+  /** Bereits ermittelte Codecs je Klasse eines Wertes.
+   * @since 18.10.2026 15:54:02 agent | Realisierung */
+  private static final ConcurrentHashMap<Class<?>, AttributeCodec<?>> TYPES            = new ConcurrentHashMap<>();
+  
+  /** Anzahl der aus einem Index gelesenen Namen.
+   * @since 18.10.2026 19:25:31 agent | Realisierung */
+  static final AtomicLong                                             DECODED          = new AtomicLong();
+  
+  static {
+    register(new Standard<>("string", String.class, (value, out) -> {
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    }, in -> {
+      byte[] bytes = new byte[in.readInt()];
+      in.readFully(bytes);
+      return new String(bytes, StandardCharsets.UTF_8);
+    }));
+    register(new Standard<>("long", Long.class, (value, out) -> out.writeLong(value.longValue()), in -> Long.valueOf(in.readLong())));
+    register(new Standard<>("int", Integer.class, (value, out) -> out.writeInt(value.intValue()), in -> Integer.valueOf(in.readInt())));
+    register(new Standard<>("double", Double.class, (value, out) -> out.writeDouble(value.doubleValue()), in -> Double.valueOf(in.readDouble())));
+    register(new Standard<>("boolean", Boolean.class, (value, out) -> out.writeBoolean(value.booleanValue()), in -> Boolean.valueOf(in.readBoolean())));
+    register(new Standard<>("bytes", byte[].class, (value, out) -> {
+      out.writeInt(value.length);
+      out.write(value);
+    }, in -> {
+      byte[] bytes = new byte[in.readInt()];
+      in.readFully(bytes);
+      return bytes;
+    }));
+  }
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Keine Instanzen.
+   * <p>
+   * @since 18.10.2026 15:54:20 agent | Realisierung
+   */
+  private AttributeSnapshot() {
+  }
+  
+  /* -- statisch ---------------------------------------------------------------------------------- */
+  
+  /**
+   * Registriert einen Codec und ersetzt einen bisherigen mit demselben Identifikator.
+   * <p>
+   * @param codec {@link AttributeCodec}
+   * @since 18.10.2026 15:54:40 agent | Realisierung
+   */
+  static void register(AttributeCodec<?> codec) {
+    if (codec == null) throw new NullPointerException("codec");
+    CODECS.put(codec.getId(), codec);
+    TYPES.clear();
+  }
+  
+  /**
+   * Liefert den registrierten Codec zum Identifikator.
+   * <p>
+   * @param id Identifikator
+   * @return {@link AttributeCodec} oder <code>null</code>
+   * @since 18.10.2026 17:44:51 agent | Realisierung
+   */
+  static AttributeCodec<?> codec(String id) {
+    return CODECS.get(id);
+  }
+  
+  /**
+   * Ermittelt den Codec für den Wert unter allen registrierten Codecs.
+   * <p>
+   * @param value Wert
+   * @return {@link AttributeCodec} oder <code>null</code>
+   * @since 18.10.2026 17:45:02 agent | Realisierung
+   */
+  @SuppressWarnings("unchecked")
+  static AttributeCodec<Object> codecFor(Object value) {
+    AttributeCodec<?> codec = TYPES.get(value.getClass());
+    if (codec != null) return (AttributeCodec<Object>) codec;
+    IdentityHashMap<AttributeCodec<?>, Integer> indexes = new IdentityHashMap<>();
+    for (AttributeCodec<?> candidate : CODECS.values()) {
+      indexes.put(candidate, null);
+    }
+    return codecFor(value, indexes);
+  }
+  
+  /**
+   * Schreibt die Attribute aller Klassen und Interfaces in die Datei.
+   * <p>
+   * Geschrieben wird zunächst in eine temporäre Datei im selben Verzeichnis, die anschließend die
+   * bisherige Datei ersetzt. Bei einem Fehler bleibt die bisherige Datei unverändert.
+   * <p>
+   * @param path Datei
+   * @return Anzahl der geschriebenen Attribute
+   * @throws IOException Fehler beim Schreiben
+   * @throws IllegalArgumentException Für den Wert eines Attributs ist kein Codec registriert.
+   * @since 18.10.2026 15:55:02 agent | Realisierung
+   * @since 18.10.2026 19:25:40 agent | Index je Klasse
+   */
+  static int write(Path path) throws IOException {
+    ArrayList<ClassAttributes> types = new ArrayList<>();
+    ArrayList<HashMap<String, Object>> sections = new ArrayList<>();
+    for (ClassAttributes type : ClassAttributes.all()) {
+      HashMap<String, Object> values = type.get(false);
+      if (values.isEmpty()) continue;
+      types.add(type);
+      sections.add(values);
+    }
+    AttributeCodec<?>[] codecs = CODECS.values().toArray(new AttributeCodec<?>[0]);
+    IdentityHashMap<AttributeCodec<?>, Integer> indexes = new IdentityHashMap<>();
+    for (int i = 0; i < codecs.length; i++) {
+      indexes.put(codecs[i], Integer.valueOf(i));
+    }
+    Path target = path.toAbsolutePath();
+    Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+    int count = 0;
+    try {
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(codecs.length);
+        for (AttributeCodec<?> codec : codecs) {
+          out.writeUTF(codec.getId());
+        }
+        out.writeInt(types.size());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream value = new DataOutputStream(bytes);
+        ByteArrayOutputStream attributes = new ByteArrayOutputStream(1 << 16);
+        DataOutputStream entry = new DataOutputStream(attributes);
+        for (int i = 0; i < types.size(); i++) {
+          out.writeUTF(types.get(i).type.getName());
+          out.writeBoolean(types.get(i).scope);
+          int size = sections.get(i).size();
+          int[] table = new int[Section.capacity(size) * 2];
+          int mask = table.length / 2 - 1;
+          for (int slot = 1; slot < table.length; slot += 2) {
+            table[slot] = -1;
+          }
+          attributes.reset();
+          for (Entry<String, Object> e : sections.get(i).entrySet()) {
+            int hash = e.getKey().hashCode();
+            int slot = Section.spread(hash) & mask;
+            while (table[slot * 2 + 1] >= 0) {
+              slot = (slot + 1) & mask;
+            }
+            table[slot * 2] = hash;
+            table[slot * 2 + 1] = attributes.size();
+            entry.writeUTF(e.getKey());
+            if (e.getValue() == null) {
+              entry.writeShort(-1);
+              entry.writeInt(0);
+              continue;
+            }
+            AttributeCodec<Object> codec = codecFor(e.getValue(), indexes);
+            if (codec == null) {
+              throw new IllegalArgumentException("Kein Codec für " + e.getValue().getClass().getName() + ": "
+                  + types.get(i).type.getName() + "." + e.getKey());
+            }
+            bytes.reset();
+            codec.write(e.getValue(), value);
+            entry.writeShort(indexes.get(codec).intValue());
+            entry.writeInt(bytes.size());
+            bytes.writeTo(entry);
+          }
+          out.writeInt(size);
+          out.writeInt(mask + 1);
+          out.writeInt(table.length * 4 + attributes.size());
+          for (int slot : table) {
+            out.writeInt(slot);
+          }
+          attributes.writeTo(out);
+          count += size;
+        }
+        if (out.size() == Integer.MAX_VALUE) throw new IOException("Snapshot größer als 2 GB: " + target);
+      }
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      return count;
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+  
+  /**
+   * Stellt die Attribute aus der Datei wieder her.
+   * <p>
+   * Vorhandene Attribute gleichen Namens werden überschrieben. Klassen, die der {@link ClassLoader}
+   * nicht findet, werden übersprungen.
+   * <p>
+   * Ab Version 3 wird je Klasse nur der Kopf des Abschnitts gelesen und der Abschnitt als
+   * {@link Section} an die {@link ClassAttributes} übergeben. Der Aufwand wächst damit nur mit der
+   * Anzahl der Klassen, nicht mit der Anzahl der Attribute.
+   * <p>
+   * @param path Datei
+   * @param loader {@link ClassLoader} für die Klassen und Interfaces
+   * @return Anzahl der wiederhergestellten Attribute
+   * @throws IOException Fehler beim Lesen, unbekannter Aufbau oder nicht registrierter Codec
+   * @since 18.10.2026 15:55:31 agent | Realisierung
+   * @since 18.10.2026 18:50:51 agent | Bereiche der Interfaces, liest weiterhin Version 1
+   * @since 18.10.2026 19:25:51 agent | Version 3 ohne Lesen der Namen, liest weiterhin Version 1 und 2
+   */
+  static int restore(Path path, ClassLoader loader) throws IOException {
+    ByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) throw new IOException("Snapshot größer als 2 GB: " + path);
+      buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+    }
+    DataInputStream in = new DataInputStream(new BufferInput(buffer));
+    try {
+      if (buffer.remaining() < 8 || in.readInt() != MAGIC) throw new IOException("Kein Snapshot der Attribute: " + path);
+      int version = in.readInt();
+      if (version < 1 || version > VERSION) throw new IOException("Version " + version + " des Snapshots wird nicht unterstützt: " + path);
+      AttributeCodec<?>[] codecs = new AttributeCodec<?>[in.readInt()];
+      for (int i = 0; i < codecs.length; i++) {
+        String id = in.readUTF();
+        codecs[i] = CODECS.get(id);
+        if (codecs[i] == null) throw new IOException("Kein Codec registriert: " + id);
+      }
+      int count = 0;
+      for (int sections = in.readInt(); sections > 0; sections--) {
+        Class<?> type = type(in.readUTF(), loader);
+        boolean scope = version == 1 ? type == InterfaceWithAttributes.class : in.readBoolean();
+        int size = in.readInt();
+        if (version == VERSION) {
+          int capacity = in.readInt();
+          int length = in.readInt();
+          int offset = buffer.position();
+          buffer.position(offset + length);
+          if (type == null) continue;
+          ClassAttributes.of(type, scope).restore(new Section(codecs, buffer, offset, length, size, capacity));
+          count += size;
+          continue;
+        }
+        AttributeName[] names = new AttributeName[type == null ? 0 : size];
+        Object[] values = new Object[names.length];
+        for (int i = 0; i < size; i++) {
+          String key = in.readUTF();
+          int codec = in.readShort();
+          int length = in.readInt();
+          int offset = buffer.position();
+          buffer.position(offset + length);
+          if (type == null) continue;
+          names[i] = AttributeName.of(key);
+          values[i] = codec < 0 ? null : new Lazy(codecs[codec], buffer, offset, length);
+        }
+        if (type == null) continue;
+        ClassAttributes.of(type, scope).putAll(names, values);
+        count += size;
+      }
+      return count;
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new IOException("Snapshot beschädigt: " + path, e);
+    }
+  }
+  
+  /* -- Hilfsmethoden ----------------------------------------------------------------------------- */
+  
+  /**
+   * Ermittelt den Codec für den Wert.
+   * <p>
+   * Ein Codec für genau die Klasse des Wertes hat Vorrang vor Codecs für Oberklassen und Interfaces.
+   * <p>
+   * @param value Wert
+   * @param indexes Codecs, die in die Datei geschrieben werden
+   * @return {@link AttributeCodec} oder <code>null</code>
+   * @since 18.10.2026 15:56:02 agent | Realisierung
+   */
+  @SuppressWarnings("unchecked")
+  private static AttributeCodec<Object> codecFor(Object value, IdentityHashMap<AttributeCodec<?>, Integer> indexes) {
+    AttributeCodec<?> codec = TYPES.get(value.getClass());
+    if (codec == null || !indexes.containsKey(codec)) {
+      codec = null;
+      for (AttributeCodec<?> candidate : indexes.keySet()) {
+        if (candidate.getType() == value.getClass()) {
+          codec = candidate;
+          break;
+        }
+        if (codec == null && candidate.getType().isInstance(value)) codec = candidate;
+      }
+      if (codec != null) TYPES.put(value.getClass(), codec);
+    }
+    return (AttributeCodec<Object>) codec;
+  }
+  
+  /**
+   * Lädt die Klasse zum Namen, ohne sie zu initialisieren.
+   * <p>
+   * @param name Name der Klasse
+   * @param loader {@link ClassLoader}
+   * @return {@link Class} oder <code>null</code>, falls sie nicht gefunden wird.
+   * @since 18.10.2026 15:56:31 agent | Realisierung
+   */
+  private static Class<?> type(String name, ClassLoader loader) {
+    try {
+      return Class.forName(name, false, loader);
+    } catch (ClassNotFoundException e) {
+      return null;
+    }
+  }
+  
+  /* -- Innere Klassen ---------------------------------------------------------------------------- */
+  
+  /**
+   * Abschnitt einer Klasse im eingeblendeten Snapshot.
+   * <p>
+   * Der Index ist eine Hashtabelle mit linearer Sondierung, die mindestens zur Hälfte frei ist. Ein
+   * Name wird nur gelesen, wenn sein Hashwert dem gesuchten entspricht.
+   * <p>
+   * @since 18.10.2026 19:26:02 agent | Realisierung
+   */
+  static final class Section {
+    /** Codecs der Datei.
+     * @since 18.10.2026 19:26:10 agent | Realisierung */
+    private final AttributeCodec<?>[] codecs;
+    
+    /** Eingeblendete Datei.
+     * @since 18.10.2026 19:26:20 agent | Realisierung */
+    private final ByteBuffer          buffer;
+    
+    /** Position des Index in der Datei.
+     * @since 18.10.2026 19:26:31 agent | Realisierung */
+    private final int                 table;
+    
+    /** Maske für die Plätze des Index.
+     * @since 18.10.2026 19:26:40 agent | Realisierung */
+    private final int                 mask;
+    
+    /** Position des ersten Attributs in der Datei.
+     * @since 18.10.2026 19:26:51 agent | Realisierung */
+    private final int                 entries;
+    
+    /** Anzahl der Attribute.
+     * @since 18.10.2026 19:27:02 agent | Realisierung */
+    final int                         size;
+    
+    /** Zuvor wiederhergestellter Abschnitt derselben {@link ClassAttributes} mit geringerem Vorrang
+     * oder <code>null</code>, wird vor der Veröffentlichung gesetzt.
+     * @since 18.10.2026 19:27:10 agent | Realisierung */
+    Section                           next;
+    
+    /**
+     * Konstruiert eine {@link Section}.
+     * <p>
+     * @param codecs Codecs der Datei
+     * @param buffer Eingeblendete Datei
+     * @param offset Position des Index
+     * @param length Länge des Abschnitts ab dem Index
+     * @param size Anzahl der Attribute
+     * @param capacity Anzahl der Plätze des Index
+     * @throws IllegalArgumentException Der Index passt nicht zum Abschnitt.
+     * @since 18.10.2026 19:27:20 agent | Realisierung
+     */
+    Section(AttributeCodec<?>[] codecs, ByteBuffer buffer, int offset, int length, int size, int capacity) {
+      if (Integer.bitCount(capacity) != 1 || capacity <= size || (long) capacity * 8 > length) {
+        throw new IllegalArgumentException("Index mit " + capacity + " Plätzen für " + size + " Attribute");
+      }
+      this.codecs = codecs;
+      this.buffer = buffer;
+      this.table = offset;
+      this.mask = capacity - 1;
+      this.entries = offset + capacity * 8;
+      this.size = size;
+    }
+    
+    /**
+     * Liefert die Anzahl der Plätze des Index für die übergebene Anzahl an Attributen.
+     * <p>
+     * @param size Anzahl der Attribute, mindestens 1
+     * @return Zweierpotenz, mindestens doppelt so groß wie die Anzahl
+     * @since 18.10.2026 19:27:31 agent | Realisierung
+     */
+    static int capacity(int size) {
+      return Integer.highestOneBit(size * 2 - 1) << 1;
+    }
+    
+    /**
+     * Verteilt die oberen Bits des Hashwertes auf die unteren.
+     * <p>
+     * @param hash {@link String#hashCode()} des Namens
+     * @return Verteilter Hashwert
+     * @since 18.10.2026 19:27:40 agent | Realisierung
+     */
+    static int spread(int hash) {
+      return hash ^ (hash >>> 16);
+    }
+    
+    /**
+     * Sucht das Attribut im Index.
+     * <p>
+     * @param key Attributname
+     * @return {@link Lazy}, <code>null</code> für den Wert <code>null</code> oder {@link AttributeSnapshot#ABSENT}
+     * @throws UncheckedIOException Der Abschnitt ist nicht lesbar.
+     * @since 18.10.2026 19:27:51 agent | Realisierung
+     */
+    Object find(String key) {
+      int hash = key.hashCode();
+      int slot = spread(hash) & this.mask;
+      for (int probes = 0; probes <= this.mask; probes++, slot = (slot + 1) & this.mask) {
+        int position = this.table + slot * 8;
+        int offset = this.buffer.getInt(position + 4);
+        if (offset < 0) return ABSENT;
+        if (this.buffer.getInt(position) != hash) continue;
+        ByteBuffer bytes = this.buffer.duplicate();
+        bytes.position(this.entries + offset);
+        DataInputStream in = new DataInputStream(new BufferInput(bytes));
+        try {
+          DECODED.incrementAndGet();
+          if (key.equals(in.readUTF())) return value(bytes, in);
+        } catch (IOException e) {
+          throw new UncheckedIOException("Snapshot nicht lesbar: " + key, e);
+        }
+      }
+      return ABSENT;
+    }
+    
+    /**
+     * Übergibt alle Attribute des Abschnitts in der Reihenfolge der Datei.
+     * <p>
+     * @param action Erhält Namen und Wert als {@link Lazy} oder <code>null</code>.
+     * @throws UncheckedIOException Der Abschnitt ist nicht lesbar.
+     * @since 18.10.2026 19:28:02 agent | Realisierung
+     */
+    void forEach(BiConsumer<AttributeName, Object> action) {
+      ByteBuffer bytes = this.buffer.duplicate();
+      bytes.position(this.entries);
+      DataInputStream in = new DataInputStream(new BufferInput(bytes));
+      try {
+        for (int i = 0; i < this.size; i++) {
+          String key = in.readUTF();
+          DECODED.incrementAndGet();
+          action.accept(AttributeName.of(key), value(bytes, in));
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException("Snapshot nicht lesbar", e);
+      }
+    }
+    
+    /**
+     * Liest den Kopf des Wertes und setzt die Position hinter den Wert.
+     * <p>
+     * @param bytes Quelle von <code>in</code>
+     * @param in Steht hinter dem Namen des Attributs.
+     * @return {@link Lazy} oder <code>null</code>
+     * @throws IOException Fehler beim Lesen
+     * @since 18.10.2026 19:28:10 agent | Realisierung
+     */
+    private Object value(ByteBuffer bytes, DataInputStream in) throws IOException {
+      int codec = in.readShort();
+      int length = in.readInt();
+      int offset = bytes.position();
+      bytes.position(offset + length);
+      return codec < 0 ? null : new Lazy(this.codecs[codec], this.buffer, offset, length);
+    }
+  }
+  
+  /**
+   * Wert aus dem Snapshot, der erst beim ersten Zugriff dekodiert wird.
+   * @since 18.10.2026 15:57:02 agent | Realisierung
+   */
+  static final class Lazy extends AttributeCell {
+    /** Platzhalter, solange der Wert nicht dekodiert wurde.
+     * @since 18.10.2026 15:57:10 agent | Realisierung */
+    private static final Object     PENDING = new Object();
+    
+    /** Codec des Wertes.
+     * @since 18.10.2026 15:57:20 agent | Realisierung */
+    private final AttributeCodec<?> codec;
+    
+    /** Eingeblendete Datei, bis der Wert dekodiert wurde.
+     * @since 18.10.2026 15:57:31 agent | Realisierung */
+    private ByteBuffer              buffer;
+    
+    /** Position des Wertes in der Datei.
+     * @since 18.10.2026 15:57:40 agent | Realisierung */
+    private final int               offset;
+    
+    /** Länge des Wertes in Bytes.
+     * @since 18.10.2026 15:57:51 agent | Realisierung */
+    private final int               length;
+    
+    /** Dekodierter Wert oder {@link #PENDING}.
+     * @since 18.10.2026 15:58:02 agent | Realisierung */
+    private volatile Object         value   = PENDING;
+    
+    /**
+     * Konstruiert einen {@link Lazy}.
+     * <p>
+     * @param codec {@link AttributeCodec}
+     * @param buffer Eingeblendete Datei
+     * @param offset Position des Wertes
+     * @param length Länge des Wertes
+     * @since 18.10.2026 15:58:10 agent | Realisierung
+     */
+    Lazy(AttributeCodec<?> codec, ByteBuffer buffer, int offset, int length) {
+      this.codec = codec;
+      this.buffer = buffer;
+      this.offset = offset;
+      this.length = length;
+    }
+    
+    /**
+     * Liefert den Wert und dekodiert ihn beim ersten Aufruf.
+     * <p>
+     * @throws UncheckedIOException Der Codec kann den Wert nicht lesen.
+     * @see de.lutzens.tool.common.advanced.interfaces.AttributeCell#value()
+     * @since 18.10.2026 15:58:20 agent | Realisierung
+     */
+    @Override
+    Object value() {
+      Object value = this.value;
+      if (value != PENDING) return value;
+      synchronized (this) {
+        if (this.value != PENDING) return this.value;
+        ByteBuffer bytes = this.buffer.duplicate();
+        bytes.limit(this.offset + this.length).position(this.offset);
+        try {
+          value = this.codec.read(new DataInputStream(new BufferInput(bytes)));
+        } catch (IOException e) {
+          throw new UncheckedIOException("Wert des Snapshots nicht lesbar: " + this.codec.getId(), e);
+        }
+        this.value = value;
+        this.buffer = null;
+        return value;
+      }
+    }
+  }
+  
+  /**
+   * Liest aus einem {@link ByteBuffer}.
+   * <p>
+   * Ohne eigene Pufferung, die Position des {@link ByteBuffer} entspricht damit immer den
+   * gelesenen Bytes.
+   * <p>
+   * @since 18.10.2026 15:58:40 agent | Realisierung
+   */
+  private static final class BufferInput extends InputStream {
+    /** Quelle.
+     * @since 18.10.2026 15:58:51 agent | Realisierung */
+    private final ByteBuffer buffer;
+    
+    /**
+     * Konstruiert einen {@link BufferInput}.
+     * <p>
+     * @param buffer Quelle
+     * @since 18.10.2026 15:59:02 agent | Realisierung
+     */
+    BufferInput(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+    
+    /**
+     * @see java.io.InputStream#read()
+     * @since 18.10.2026 15:59:10 agent | Realisierung
+     */
+    @Override
+    public int read() {
+      return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+    }
+    
+    /**
+     * @see java.io.InputStream#read(byte[], int, int)
+     * @since 18.10.2026 15:59:20 agent | Realisierung
+     */
+    @Override
+    public int read(byte[] bytes, int off, int len) {
+      if (len == 0) return 0;
+      if (!this.buffer.hasRemaining()) return -1;
+      len = Math.min(len, this.buffer.remaining());
+      this.buffer.get(bytes, off, len);
+      return len;
+    }
+  }
+  
+  /**
+   * Codec der mitgelieferten Typen.
+   * <p>
+   * @param <T> Typ der Werte
+   * @since 18.10.2026 15:59:31 agent | Realisierung
+   */
+  private static final class Standard<T> implements AttributeCodec<T> {
+    /** Identifikator.
+     * @since 18.10.2026 15:59:40 agent | Realisierung */
+    private final String    id;
+    
+    /** Typ der Werte.
+     * @since 18.10.2026 15:59:51 agent | Realisierung */
+    private final Class<T>  type;
+    
+    /** Schreibt den Wert.
+     * @since 18.10.2026 16:00:02 agent | Realisierung */
+    private final Writer<T> writer;
+    
+    /** Liest den Wert.
+     * @since 18.10.2026 16:00:10 agent | Realisierung */
+    private final Reader<T> reader;
+    
+    /**
+     * Konstruiert einen {@link Standard}.
+     * <p>
+     * @param id Identifikator
+     * @param type Typ der Werte
+     * @param writer Schreibt den Wert.
+     * @param reader Liest den Wert.
+     * @since 18.10.2026 16:00:20 agent | Realisierung
+     */
+    Standard(String id, Class<T> type, Writer<T> writer, Reader<T> reader) {
+      this.id = id;
+      this.type = type;
+      this.writer = writer;
+      this.reader = reader;
+    }
+    
+    /**
+     * @see de.lutzens.tool.common.advanced.interfaces.AttributeCodec#getId()
+     * @since 18.10.2026 16:00:31 agent | Realisierung
+     */
+    @Override
+    public String getId() {
+      return this.id;
+    }
+    
+    /**
+     * @see de.lutzens.tool.common.advanced.interfaces.AttributeCodec#getType()
+     * @since 18.10.2026 16:00:40 agent | Realisierung
+     */
+    @Override
+    public Class<T> getType() {
+      return this.type;
+    }
+    
+    /**
+     * @see de.lutzens.tool.common.advanced.interfaces.AttributeCodec#write(java.lang.Object, java.io.DataOutput)
+     * @since 18.10.2026 16:00:51 agent | Realisierung
+     */
+    @Override
+    public void write(T value, DataOutput out) throws IOException {
+      this.writer.write(value, out);
+    }
+    
+    /**
+     * @see de.lutzens.tool.common.advanced.interfaces.AttributeCodec#read(java.io.DataInput)
+     * @since 18.10.2026 16:01:02 agent | Realisierung
+     */
+    @Override
+    public T read(DataInput in) throws IOException {
+      return this.reader.read(in);
+    }
+  }
+  
+  /**
+   * Schreibt einen Wert.
+   * @param <T> Typ der Werte
+   * @since 18.10.2026 16:01:10 agent | Realisierung
+   */
+  @FunctionalInterface
+  private interface Writer<T> {
+    /**
+     * @param value Wert
+     * @param out {@link DataOutput}
+     * @throws IOException Fehler beim Schreiben
+     * @since 18.10.2026 16:01:20 agent | Realisierung
+     */
+    void write(T value, DataOutput out) throws IOException;
+  }
+  
+  /**
+   * Liest einen Wert.
+   * @param <T> Typ der Werte
+   * @since 18.10.2026 16:01:31 agent | Realisierung
+   */
+  @FunctionalInterface
+  private interface Reader<T> {
+    /**
+     * @param in {@link DataInput}
+     * @return Wert
+     * @throws IOException Fehler beim Lesen
+     * @since 18.10.2026 16:01:40 agent | Realisierung
+     */
+    T read(DataInput in) throws IOException;
+  }
+  
+}
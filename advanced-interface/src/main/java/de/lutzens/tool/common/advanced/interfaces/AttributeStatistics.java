@@ -0,0 +1,220 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeStatistics
+ * Version     : 1
+ * Date        : 18.10.2026 15:31:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.util.Map;
+
+/**
+ * Unveränderliche Messwerte der Attribute zum Zeitpunkt der Abfrage.
+ * <p>
+ * Die Anzahl der Objekte, Klassen und Attributnamen wird immer ermittelt. Zugriffe und
+ * Bereinigungen werden nur gezählt, solange die
+ * {@link InterfaceWithAttributes#setAttributeMetricsEnabled(boolean) Messung} eingeschaltet ist.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 15:31:02 agent | Realisierung
+ * @see InterfaceWithAttributes#getAttributeStatistics()
+ */
+public final class AttributeStatistics {
+  /** @since 18.10.2026 15:31:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long       serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Objekte mit Attributen, einschließlich noch nicht bereinigter.
+   * @since 18.10.2026 15:31:20 agent | Realisierung */
+  private final int               objectCount;
+  
+  /** Klassen und Interfaces mit statischen Attributen.
+   * @since 18.10.2026 15:31:31 agent | Realisierung */
+  private final int               classCount;
+  
+  /** Bisher verwendete Attributnamen.
+   * @since 18.10.2026 15:31:40 agent | Realisierung */
+  private final int               keyCount;
+  
+  /** Lesezugriffe auf vorhandene Objekt-Attribute.
+   * @since 18.10.2026 15:31:51 agent | Realisierung */
+  private final long              hitCount;
+  
+  /** Lesezugriffe auf fehlende Objekt-Attribute.
+   * @since 18.10.2026 15:32:02 agent | Realisierung */
+  private final long              missCount;
+  
+  /** Bereinigungen mit mindestens einem entfernten Eintrag.
+   * @since 18.10.2026 15:32:10 agent | Realisierung */
+  private final long              expungeCount;
+  
+  /** Entfernte verwaiste Einträge.
+   * @since 18.10.2026 15:32:20 agent | Realisierung */
+  private final long              expungedEntries;
+  
+  /** Gesamtdauer der Bereinigungen in Nanosekunden.
+   * @since 18.10.2026 15:32:31 agent | Realisierung */
+  private final long              expungeNanos;
+  
+  /** Längste Bereinigung in Nanosekunden.
+   * @since 18.10.2026 15:32:40 agent | Realisierung */
+  private final long              maxExpungeNanos;
+  
+  /** Lesezugriffe je Attributname.
+   * @since 18.10.2026 15:32:51 agent | Realisierung */
+  private final Map<String, Long> accessCounts;
+  
+  /** Belegter Speicher außerhalb des Heaps in Byte.
+   * @since 18.10.2026 16:28:31 agent | Realisierung */
+  private final long              offHeapBytes;
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Konstruiert eine {@link AttributeStatistics}.
+   * <p>
+   * @param objectCount Objekte mit Attributen
+   * @param classCount Klassen und Interfaces mit statischen Attributen
+   * @param keyCount Bisher verwendete Attributnamen
+   * @param hitCount Lesezugriffe auf vorhandene Objekt-Attribute
+   * @param missCount Lesezugriffe auf fehlende Objekt-Attribute
+   * @param expungeCount Bereinigungen mit mindestens einem entfernten Eintrag
+   * @param expungedEntries Entfernte verwaiste Einträge
+   * @param expungeNanos Gesamtdauer der Bereinigungen
+   * @param maxExpungeNanos Längste Bereinigung
+   * @param accessCounts Unveränderliche Lesezugriffe je Attributname
+   * @param offHeapBytes Belegter Speicher außerhalb des Heaps
+   * @since 18.10.2026 15:33:02 agent | Realisierung
+   * @since 18.10.2026 16:28:40 agent | Speicher außerhalb des Heaps
+   */
+  AttributeStatistics(int objectCount, int classCount, int keyCount, long hitCount, long missCount, long expungeCount,
+      long expungedEntries, long expungeNanos, long maxExpungeNanos, Map<String, Long> accessCounts, long offHeapBytes) {
+    this.objectCount = objectCount;
+    this.classCount = classCount;
+    this.keyCount = keyCount;
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.expungeCount = expungeCount;
+    this.expungedEntries = expungedEntries;
+    this.expungeNanos = expungeNanos;
+    this.maxExpungeNanos = maxExpungeNanos;
+    this.accessCounts = accessCounts;
+    this.offHeapBytes = offHeapBytes;
+  }
+  
+  /* -- get/set/add/is ---------------------------------------------------------------------------- */
+  
+  /**
+   * @return Anzahl der Objekte mit Attributen, einschließlich noch nicht bereinigter
+   * @since 18.10.2026 15:33:20 agent | Realisierung
+   */
+  public int getObjectCount() {
+    return this.objectCount;
+  }
+  
+  /**
+   * @return Anzahl der Klassen und Interfaces, für die statische Attribute angelegt wurden
+   * @since 18.10.2026 15:33:31 agent | Realisierung
+   */
+  public int getClassCount() {
+    return this.classCount;
+  }
+  
+  /**
+   * @return Anzahl der bisher verwendeten Attributnamen
+   * @since 18.10.2026 15:33:40 agent | Realisierung
+   */
+  public int getKeyCount() {
+    return this.keyCount;
+  }
+  
+  /**
+   * @return Anzahl der Lesezugriffe auf vorhandene Objekt-Attribute
+   * @since 18.10.2026 15:33:51 agent | Realisierung
+   */
+  public long getHitCount() {
+    return this.hitCount;
+  }
+  
+  /**
+   * @return Anzahl der Lesezugriffe auf fehlende Objekt-Attribute
+   * @since 18.10.2026 15:34:02 agent | Realisierung
+   */
+  public long getMissCount() {
+    return this.missCount;
+  }
+  
+  /**
+   * @return Anteil der Lesezugriffe auf vorhandene Objekt-Attribute, <code>1</code> ohne Lesezugriffe
+   * @since 18.10.2026 15:34:10 agent | Realisierung
+   */
+  public double getHitRate() {
+    long requests = this.hitCount + this.missCount;
+    return requests == 0 ? 1 : (double) this.hitCount / requests;
+  }
+  
+  /**
+   * @return Anzahl der Bereinigungen, die mindestens einen verwaisten Eintrag entfernt haben
+   * @since 18.10.2026 15:34:20 agent | Realisierung
+   */
+  public long getExpungeCount() {
+    return this.expungeCount;
+  }
+  
+  /**
+   * @return Anzahl der entfernten verwaisten Einträge
+   * @since 18.10.2026 15:34:31 agent | Realisierung
+   */
+  public long getExpungedEntries() {
+    return this.expungedEntries;
+  }
+  
+  /**
+   * @return Gesamtdauer der Bereinigungen in Nanosekunden
+   * @since 18.10.2026 15:34:40 agent | Realisierung
+   */
+  public long getExpungeNanos() {
+    return this.expungeNanos;
+  }
+  
+  /**
+   * @return Dauer der längsten Bereinigung in Nanosekunden
+   * @since 18.10.2026 15:34:51 agent | Realisierung
+   */
+  public long getMaxExpungeNanos() {
+    return this.maxExpungeNanos;
+  }
+  
+  /**
+   * @return Unveränderliche {@link Map} der Lesezugriffe je Attributname
+   * @since 18.10.2026 15:35:02 agent | Realisierung
+   */
+  public Map<String, Long> getAccessCounts() {
+    return this.accessCounts;
+  }
+  
+  /**
+   * @return Belegter Speicher der Objekt-Attribute außerhalb des Heaps in Byte
+   * @since 18.10.2026 16:28:51 agent | Realisierung
+   */
+  public long getOffHeapBytes() {
+    return this.offHeapBytes;
+  }
+  
+  /**
+   * @see java.lang.Object#toString()
+   * @since 18.10.2026 15:35:10 agent | Realisierung
+   */
+  @Override
+  public String toString() {
+    return "AttributeStatistics[objects=" + this.objectCount + ", classes=" + this.classCount + ", keys=" + this.keyCount
+        + ", hits=" + this.hitCount + ", misses=" + this.missCount + ", expunged=" + this.expungedEntries + " in "
+        + this.expungeCount + " runs, offHeap=" + this.offHeapBytes + " bytes]";
+  }
+  
+}
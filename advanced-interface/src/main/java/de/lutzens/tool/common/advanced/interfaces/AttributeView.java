@@ -0,0 +1,118 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeView
+ * Version     : 1
+ * Date        : 18.10.2026 17:27:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Unveränderliche Sicht auf die Objekt-Attribute eines Objekts ohne Kopie.
+ * <p>
+ * Jeder Zugriff liest die aktuellen Attribute des Objekts, spätere Änderungen sind damit sichtbar.
+ * Solange das Objekt keine Attribute besitzt, werden keine angelegt. Einzelne Zugriffe kosten so
+ * viel wie {@link InterfaceWithAttributes#getObjectAttribute(String)}, {@link #size()} und der
+ * Durchlauf sind proportional zur Anzahl der Attribute.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 17:27:02 agent | Realisierung
+ * @see InterfaceWithAttributes#getObjectAttributeView()
+ */
+final class AttributeView extends AbstractMap<String, Object> {
+  /** @since 18.10.2026 17:27:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long                serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Objekt der Attribute.
+   * @since 18.10.2026 17:27:10 agent | Realisierung */
+  private final InterfaceWithAttributes    owner;
+  
+  /** Sicht auf Namen und Werte.
+   * @since 18.10.2026 17:27:20 agent | Realisierung */
+  private final Set<Entry<String, Object>> entries          = new AbstractSet<Entry<String, Object>>() {
+    @Override
+    public Iterator<Entry<String, Object>> iterator() {
+      return attributes().entries();
+    }
+    
+    @Override
+    public int size() {
+      int size = 0;
+      for (Iterator<Entry<String, Object>> i = iterator(); i.hasNext(); i.next()) {
+        size++;
+      }
+      return size;
+    }
+    
+    @Override
+    public boolean isEmpty() {
+      return !iterator().hasNext();
+    }
+  };
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Konstruiert eine {@link AttributeView}.
+   * <p>
+   * @param owner Objekt der Attribute
+   * @since 18.10.2026 17:27:31 agent | Realisierung
+   */
+  AttributeView(InterfaceWithAttributes owner) {
+    this.owner = owner;
+  }
+  
+  /* -- get/set/add/is ---------------------------------------------------------------------------- */
+  
+  /**
+   * @see java.util.AbstractMap#get(java.lang.Object)
+   * @since 18.10.2026 17:27:40 agent | Realisierung
+   */
+  @Override
+  public Object get(Object key) {
+    return key instanceof String ? attributes().get((String) key) : null;
+  }
+  
+  /**
+   * @see java.util.AbstractMap#containsKey(java.lang.Object)
+   * @since 18.10.2026 17:27:51 agent | Realisierung
+   */
+  @Override
+  public boolean containsKey(Object key) {
+    if (!(key instanceof String)) return false;
+    AttributeName name = AttributeName.find((String) key);
+    return name != null && attributes().present(name);
+  }
+  
+  /**
+   * @see java.util.AbstractMap#entrySet()
+   * @since 18.10.2026 17:28:02 agent | Realisierung
+   */
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    return this.entries;
+  }
+  
+  /* -- Hilfsmethoden ----------------------------------------------------------------------------- */
+  
+  /**
+   * Liefert die aktuellen Attribute des Objekts.
+   * <p>
+   * @return {@link AttributesOfInterface} oder {@link AttributesOfInterface#EMPTY}
+   * @since 18.10.2026 17:28:10 agent | Realisierung
+   */
+  private AttributesOfInterface attributes() {
+    return InterfaceWithAttributesController.readObjectAttributes(this.owner);
+  }
+  
+}
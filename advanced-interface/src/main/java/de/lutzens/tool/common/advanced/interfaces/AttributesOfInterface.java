@@ -8,7 +8,26 @@
  */
 package de.lutzens.tool.common.advanced.interfaces;
 
+import java.lang.ref.WeakReference;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Beinhaltet eine Reihe von Attributen, die inhaltlich durch ihren Namen unterschieden werden.
@@ -16,34 +35,195 @@ import java.util.HashMap;
  * Der Inhalt kann ein beliebiges Objekt oder <code>null</code> sein.
  * Über den Namen (Schlüssel) des Attributes kann auf den Inhalt (Wert) zugegriffen werden.
  * <p>
+ * Die Attribute sind threadsicher. Lesezugriffe erfolgen ohne Sperre, Schreibzugriffe auf
+ * unterschiedliche Objekte behindern sich nicht.
+ * <p>
+ * Die Werte liegen in einem flachen Array, die Position eines Attributs beschreibt der gemeinsam
+ * genutzte {@link AttributeShape}. Erst ab {@link #DICTIONARY_THRESHOLD} Attributen wechselt die
+ * Ablage in eine {@link ConcurrentHashMap}.
+ * <p>
+ * Primitive Werte werden ohne Boxing in einer {@link PrimitiveAttribute} gehalten. Nach dem ersten
+ * Setzen erfolgen Änderungen und atomares Hochzählen ohne weitere Objekterzeugung.
+ * <p>
+ * Mehrere Attribute können gemeinsam gesetzt werden. Dabei wird die Sperre nur einmal angefordert
+ * und die Ablage vorab auf die benötigte Größe gebracht.
+ * <p>
+ * Im Cache-Modus liegen die Werte immer in der {@link ConcurrentHashMap}, Ablauf und Begrenzung
+ * übernimmt ein {@link AttributeCache} nach den Regeln einer {@link AttributeCachePolicy}.
+ * <p>
+ * Sind {@link AttributeListener} registriert, merkt jeder Schreibzugriff die Änderung im
+ * {@link AttributeNotifier} vor, die Zustellung erfolgt asynchron.
+ * <p>
+ * Attribute, deren Name außerhalb des Heaps abgelegt wird, liegen in der {@link AttributeArena}
+ * des Namens unter dem Identifikator dieser Attribute. Ein zuvor im Heap abgelegter Wert bleibt
+ * lesbar, bis er außerhalb des Heaps überschrieben wird.
+ * <p>
+ * Besteht ein {@link AttributeIndex} für ein Attribut, wird er bei jeder Änderung nachgeführt.
+ * <p>
+ * Gemeinsame Änderungen mehrerer Attribute erhöhen vorher und nachher einen Stempel, der währenddessen
+ * ungerade ist. Konsistente Lesezugriffe auf mehrere Attribute lesen ohne Sperre und wiederholen sich,
+ * falls sich der Stempel geändert hat. Erst nach {@link #OPTIMISTIC_READS} Versuchen warten sie auf
+ * die Sperre.
+ * <p>
+ * Über einen Prototyp erben die Attribute alle Werte, die sie nicht selbst besitzen, ohne sie zu
+ * kopieren. Abgelegt werden nur die eigenen Werte, ein geerbter primitiver Wert wird beim ersten
+ * Hochzählen als eigener Wert übernommen. Ein lebender Prototyp wird direkt gelesen, sonst ein
+ * gemeinsamer, unveränderlicher Stand des Prototyps, den alle bis zu dessen nächster Änderung
+ * abgeleiteten Attribute teilen.
+ * <p>
+ * Objekte ohne Attribute erhalten erst beim ersten Schreibzugriff eigene {@link AttributesOfInterface},
+ * bis dahin lesen sie die gemeinsamen, leeren {@link #EMPTY}. Über {@link #entries()} lassen sich
+ * die Attribute ohne Kopie durchlaufen.
+ * <p>
+ * Attribute in einem {@link AttributeHolder} liegen immer im Heap und werden in keinen
+ * {@link AttributeIndex} aufgenommen, da ihre Freigabe durch den GarbageCollector nicht gemeldet wird.
+ * <p>
+ * Der Identifikator wird aus einem Block von Identifikatoren des erzeugenden Threads vergeben. Nur
+ * das Holen eines neuen Blocks greift auf den gemeinsamen Zähler zu. Der erste Block eines Threads
+ * umfasst einen Identifikator, jeder weitere doppelt so viele bis höchstens {@link #ID_BLOCK}. Ein
+ * Thread lässt damit weniger Identifikatoren ungenutzt, als er bereits vergeben hat, kurzlebige
+ * Threads nahezu keine. Ein unveränderlicher Stand für abgeleitete Attribute erhält keinen
+ * Identifikator.
+ * <p>
  * @author <a href="mailto:office@lutzens.de">Lutz Hoffarth</a>
  * @since 26.10.2014 07:39:06 Lutz Hoffarth | Realisierung
+ * @since 18.10.2026 10:31:12 agent | Threadsicher über {@link ConcurrentHashMap}
+ * @since 18.10.2026 11:40:05 agent | Ablage über {@link AttributeShape} und Array
+ * @since 18.10.2026 12:32:10 agent | Primitive Werte über {@link PrimitiveAttribute}
+ * @since 18.10.2026 13:30:02 agent | Gemeinsames Setzen und Zusammenführen mehrerer Attribute
+ * @since 18.10.2026 14:15:02 agent | Einmaliges Laden fehlender Attribute
+ * @since 18.10.2026 14:56:02 agent | Cache-Modus mit Ablauf und Begrenzung
+ * @since 18.10.2026 15:18:02 agent | Asynchrone Benachrichtigung über Änderungen
+ * @since 18.10.2026 16:24:31 agent | Ablage außerhalb des Heaps über {@link AttributeArena}
+ * @since 18.10.2026 16:43:02 agent | Nachführen der {@link AttributeIndex}
+ * @since 18.10.2026 16:54:02 agent | Ablage im {@link AttributeHolder} des Objekts
+ * @since 18.10.2026 17:00:02 agent | Vererbung über einen Prototyp
+ * @since 18.10.2026 17:05:02 agent | Atomare Änderungen und konsistentes Lesen mehrerer Attribute
+ * @since 18.10.2026 17:23:02 agent | Gemeinsame leere Attribute und Durchlauf ohne Kopie
+ * @since 18.10.2026 17:45:20 agent | Vormerken der Änderungen im {@link AttributeJournal}
+ * @since 18.10.2026 18:07:10 agent | Identifikatoren je Thread in Blöcken, Rückweg über {@link ObjectIdIndex}
+ * @since 18.10.2026 19:30:10 agent | Übernahme einzelner Werte aus dem {@link AttributeSnapshot}
+ * @since 18.10.2026 19:32:02 agent | Wachsende Blöcke von Identifikatoren, Stand ohne Identifikator
  * @see InterfaceWithAttributes
  */
 class AttributesOfInterface {
   /** @since 26.10.2014 07:39:09 Lutz Hoffarth | Realisierung */
   @SuppressWarnings("unused")
-  private static final long       serialVersionUID = 1L;
+  private static final long                                             serialVersionUID     = 1L;
   
   /* -- Deklaration ------------------------------------------------------------------------------- */
-  /*   -- Klasse ------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  /** Ab dieser Anzahl an Attributen werden die Werte in einer {@link ConcurrentHashMap} abgelegt.
+   * @since 18.10.2026 11:40:31 agent | Realisierung */
+  static final int                                                      DICTIONARY_THRESHOLD = 32;
+  
+  /** Anzahl der Lesezugriffe ohne Sperre, bevor auf die Sperre gewartet wird.
+   * @since 18.10.2026 17:05:10 agent | Realisierung */
+  static final int                                                      OPTIMISTIC_READS     = 8;
+  
+  /** Platzhalter für den Wert <code>null</code>, da die {@link ConcurrentHashMap} keine
+   * <code>null</code>-Werte zulässt.
+   * @since 18.10.2026 10:31:40 agent | Realisierung */
+  private static final Object                                           NULL                 = new Object();
+  
+  /** Höchste Anzahl der Identifikatoren, die ein Thread auf einmal vom gemeinsamen Zähler holt.
+   * @since 18.10.2026 18:07:20 agent | Realisierung
+   * @since 18.10.2026 19:32:10 agent | Obergrenze der wachsenden Blöcke */
+  static final int                                                      ID_BLOCK             = 64;
+  
+  /** Gemeinsames leeres Array für Attribute ohne Werte.
+   * @since 18.10.2026 11:40:52 agent | Realisierung */
+  private static final AtomicReferenceArray<Object>                     NO_SLOTS             = new AtomicReferenceArray<>(0);
   
   /** Zähler für den Objekt-Identifikator.
-   * @since 26.10.2014 07:51:37 Lutz Hoffarth | Realisierung */
-  private static long             cntId            = 0;
+   * @since 26.10.2014 07:51:37 Lutz Hoffarth | Realisierung
+   * @since 18.10.2026 16:24:40 agent | Atomar, der Identifikator ist die Zeile in der {@link AttributeArena}
+   * @since 18.10.2026 18:07:31 agent | Vergibt Blöcke von {@link #ID_BLOCK} Identifikatoren */
+  private static final AtomicLong                                       IDS                  = new AtomicLong();
+  
+  /** Block des Threads: zuletzt vergebener und letzter Identifikator sowie Größe des Blocks.
+   * @since 18.10.2026 18:07:40 agent | Realisierung
+   * @since 18.10.2026 19:32:20 agent | Größe des Blocks */
+  private static final ThreadLocal<long[]>                              ID_BLOCKS            = ThreadLocal.withInitial(() -> new long[3]);
+  
+  /** Erhöht {@link #version} atomar, auch ohne Sperre.
+   * @since 18.10.2026 18:46:02 agent | Realisierung */
+  private static final AtomicIntegerFieldUpdater<AttributesOfInterface> VERSIONS             = AtomicIntegerFieldUpdater.newUpdater(AttributesOfInterface.class, "version");
+  
+  /** Gemeinsame leere Attribute für Lesezugriffe auf Objekte, die noch keine Attribute besitzen.
+   * Darf nie geändert werden und verbraucht keinen Identifikator.
+   * @since 18.10.2026 17:23:10 agent | Realisierung */
+  static final AttributesOfInterface                                    EMPTY                = new AttributesOfInterface(AttributeShape.ROOT, true, 0);
   
   /*   -- Instanz ------------------------------------------------------------------ */
   
   /** Objekt-Identifikator.
    * @since 26.10.2014 07:51:41 Lutz Hoffarth | Realisierung */
-  private long                    id               = 0;
+  private long                                                          id                   = 0;
   
-  /** Beinhaltet die Attribute für das Interface.
+  /** Liegt im {@link AttributeHolder} des Objekts statt in der Registry.
+   * @since 18.10.2026 16:54:10 agent | Realisierung */
+  private final boolean                                                 inline;
+  
+  /** Aufbau der Attribute oder <code>null</code>, sobald die Werte in {@link #dictionary} liegen.
    * <p>
-   * Die Verwendung der inneren Eigenschaft ermöglicht die individuelle Handhabung der {@link HashMap}.
+   * Wird nach {@link #slots} geschrieben und vor {@link #slots} gelesen, so dass zu jedem
+   * gelesenen {@link AttributeShape} ein ausreichend großes Array gehört.
    * <p>
-   * @since 26.10.2014 07:57:36 Lutz Hoffarth | Realisierung */
-  private HashMap<String, Object> variables        = new HashMap<>();
+   * @since 18.10.2026 11:41:20 agent | Realisierung */
+  private volatile AttributeShape                                       shape;
+  
+  /** Beinhaltet die Werte der Attribute an den Positionen des {@link #shape}.
+   * @since 26.10.2014 07:57:36 Lutz Hoffarth | Realisierung
+   * @since 18.10.2026 10:31:58 agent | {@link ConcurrentHashMap} statt {@link HashMap}
+   * @since 18.10.2026 11:41:40 agent | Array statt {@link ConcurrentHashMap} */
+  private volatile AtomicReferenceArray<Object>                         slots                = NO_SLOTS;
+  
+  /** Beinhaltet die Attribute, sobald {@link #DICTIONARY_THRESHOLD} erreicht wurde.
+   * @since 18.10.2026 11:42:02 agent | Realisierung */
+  private volatile ConcurrentHashMap<AttributeName, Object>             dictionary;
+  
+  /** Laufende Ladevorgänge je Attribut, wird beim ersten Laden erzeugt.
+   * @since 18.10.2026 14:15:31 agent | Realisierung */
+  private volatile ConcurrentHashMap<AttributeName, Loading>            loads;
+  
+  /** Cache-Modus oder <code>null</code>.
+   * @since 18.10.2026 14:56:20 agent | Realisierung */
+  private volatile AttributeCache                                       cache;
+  
+  /** Benachrichtigt die Listener oder <code>null</code>, falls keine registriert sind.
+   * @since 18.10.2026 15:18:20 agent | Realisierung */
+  private volatile AttributeNotifier                                    notifier;
+  
+  /** Objekt dieser Attribute für die {@link AttributeIndex}, wird erst mit dem ersten Index gesetzt.
+   * @since 18.10.2026 16:43:10 agent | Realisierung */
+  private volatile WeakReference<InterfaceWithAttributes>               owner;
+  
+  /** Prototyp, dessen Werte gelten, solange kein eigener Wert vorhanden ist, oder <code>null</code>.
+   * @since 18.10.2026 17:00:10 agent | Realisierung */
+  private volatile AttributesOfInterface                                prototype;
+  
+  /** Hält das Objekt eines lebenden Prototyps erreichbar.
+   * @since 18.10.2026 17:00:20 agent | Realisierung */
+  private volatile Object                                               prototypeOwner;
+  
+  /** Unveränderlicher Stand für abgeleitete Attribute bis zur nächsten Änderung oder <code>null</code>.
+   * @since 18.10.2026 17:00:31 agent | Realisierung */
+  private volatile AttributesOfInterface                                frozen;
+  
+  /** Es wurde ein {@link #frozen} Stand abgeleitet, Änderungen verwerfen ihn.
+   * @since 18.10.2026 17:00:40 agent | Realisierung */
+  private volatile boolean                                              shared;
+  
+  /** Zähler der Änderungen, solange {@link #shared} gesetzt ist, wird über {@link #VERSIONS} erhöht.
+   * @since 18.10.2026 17:00:51 agent | Realisierung
+   * @since 18.10.2026 18:46:10 agent | Atomar über {@link #VERSIONS} */
+  private volatile int                                                  version;
+  
+  /** Ungerade, solange mehrere Attribute gemeinsam geändert werden, wird nur unter der Sperre erhöht.
+   * @since 18.10.2026 17:05:20 agent | Realisierung */
+  private volatile int                                                  stamp;
   
   /* -- Konstruktoren ----------------------------------------------------------------------------- */
   
@@ -53,18 +233,63 @@ class AttributesOfInterface {
    * @since 26.10.2014 07:51:24 Lutz Hoffarth | Realisierung
    */
   AttributesOfInterface() {
+    this(AttributeShape.ROOT);
+  }
+  
+  /**
+   * Konstruiert ein {@link AttributesOfInterface} mit dem übergebenen Ursprung.
+   * <p>
+   * @param root {@link AttributeShape} ohne Attribute, üblicherweise je Klasse des Objekts.
+   * @since 18.10.2026 11:42:31 agent | Realisierung
+   */
+  AttributesOfInterface(AttributeShape root) {
+    this(root, false);
+  }
+  
+  /**
+   * Konstruiert ein {@link AttributesOfInterface} mit dem übergebenen Ursprung.
+   * <p>
+   * @param root {@link AttributeShape} ohne Attribute, üblicherweise je Klasse des Objekts.
+   * @param inline <code>true</code> für die Ablage in einem {@link AttributeHolder}.
+   * @since 18.10.2026 16:54:20 agent | Realisierung
+   */
+  AttributesOfInterface(AttributeShape root, boolean inline) {
+    this.shape = root;
+    this.inline = inline;
     init();
   }
   
+  /**
+   * Konstruiert ein {@link AttributesOfInterface} mit festem Identifikator.
+   * <p>
+   * @param root {@link AttributeShape} ohne Attribute
+   * @param inline <code>true</code>, falls die Attribute in keiner Registry liegen.
+   * @param id Objekt-Identifikator
+   * @since 18.10.2026 17:23:20 agent | Realisierung
+   */
+  private AttributesOfInterface(AttributeShape root, boolean inline, long id) {
+    this.shape = root;
+    this.inline = inline;
+    this.id = id;
+  }
+  
   /* -- Initialisierung --------------------------------------------------------------------------- */
   
   /**
    * Initialisiert das {@link AttributesOfInterface}.
    * <p>
    * @since 11.06.2016 13:04:01 Lutz Hoffarth | Realisierung
+   * @since 18.10.2026 18:07:51 agent | Identifikator aus dem Block des Threads
+   * @since 18.10.2026 19:32:31 agent | Jeder Block doppelt so groß wie der vorige, bis {@link #ID_BLOCK}
    */
   private void init() {
-    this.id = ++cntId;
+    long[] block = ID_BLOCKS.get();
+    if (block[0] == block[1]) {
+      block[2] = Math.min(ID_BLOCK, Math.max(1, block[2] * 2));
+      block[1] = IDS.addAndGet(block[2]);
+      block[0] = block[1] - block[2];
+    }
+    this.id = ++block[0];
   }
   
   /* -- get/set/add/is ---------------------------------------------------------------------------- */
@@ -77,17 +302,222 @@ class AttributesOfInterface {
    * @since 26.10.2014 07:56:46 Lutz Hoffarth | Realisierung
    */
   Object get(String key) {
-    return this.variables.get(key);
+    AttributeName name = AttributeName.find(key);
+    return name == null ? null : get(name);
+  }
+  
+  /**
+   * Liefert den Wert anhand des übergebenen typisierten Schlüssels.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param key {@link AttributeKey}
+   * @return Wert des Attributs
+   * @since 18.10.2026 11:43:02 agent | Realisierung
+   */
+  <T> T get(AttributeKey<T> key) {
+    return key.cast(get(key.name));
+  }
+  
+  /**
+   * Liefert den Wert anhand des eindeutigen Namens.
+   * <p>
+   * @param name {@link AttributeName}
+   * @return Wert des Attributs
+   * @since 18.10.2026 11:43:20 agent | Realisierung
+   * @since 18.10.2026 17:01:02 agent | Mit den Werten des Prototyps
+   */
+  Object get(AttributeName name) {
+    return AttributeCell.valueOf(resolve(name));
+  }
+  
+  /**
+   * Liefert den Wert als <code>long</code>.
+   * <p>
+   * @param key Attributname
+   * @return Wert oder <code>0</code>, falls das Attribut nicht vorhanden ist.
+   * @since 18.10.2026 12:33:02 agent | Realisierung
+   * @since 18.10.2026 16:24:51 agent | Ohne Boxing außerhalb des Heaps
+   * @since 18.10.2026 17:01:02 agent | Mit den Werten des Prototyps
+   */
+  long getLong(String key) {
+    AttributeName name = AttributeName.find(key);
+    if (name == null) return 0;
+    AttributeArena arena = arenaOf(name);
+    if (arena != null && arena.contains(this.id)) return arena.getLong(this.id);
+    return PrimitiveAttribute.longOf(resolve(name));
+  }
+  
+  /**
+   * Liefert den Wert als <code>double</code>.
+   * <p>
+   * @param key Attributname
+   * @return Wert oder <code>0</code>, falls das Attribut nicht vorhanden ist.
+   * @since 18.10.2026 12:33:20 agent | Realisierung
+   * @since 18.10.2026 16:25:02 agent | Ohne Boxing außerhalb des Heaps
+   * @since 18.10.2026 17:01:02 agent | Mit den Werten des Prototyps
+   */
+  double getDouble(String key) {
+    AttributeName name = AttributeName.find(key);
+    if (name == null) return 0;
+    AttributeArena arena = arenaOf(name);
+    if (arena != null && arena.contains(this.id)) return arena.getDouble(this.id);
+    return PrimitiveAttribute.doubleOf(resolve(name));
+  }
+  
+  /**
+   * Liefert den Wert als <code>boolean</code>.
+   * <p>
+   * @param key Attributname
+   * @return Wert oder <code>false</code>, falls das Attribut nicht vorhanden ist.
+   * @since 18.10.2026 12:33:41 agent | Realisierung
+   * @since 18.10.2026 17:01:02 agent | Mit den Werten des Prototyps
+   */
+  boolean getBoolean(String key) {
+    AttributeName name = AttributeName.find(key);
+    return name != null && PrimitiveAttribute.booleanOf(resolve(name));
   }
   
   /**
    * Liefert die gesamte {@link HashMap} mit sämtlichen Attributen.
    * <p>
+   * Die {@link HashMap} ist eine Kopie der Attribute zum Zeitpunkt des Aufrufs. Änderungen an
+   * ihr wirken sich nicht auf die Attribute aus.
+   * <p>
    * @return {@link HashMap}&lt;String, Object&gt;
    * @since 19.11.2015 11:34:36 Lutz Hoffarth | Realisierung
+   * @since 18.10.2026 10:32:20 agent | Liefert eine Kopie
+   * @since 18.10.2026 14:56:40 agent | Ohne abgelaufene Attribute im Cache-Modus
+   * @since 18.10.2026 16:25:10 agent | Mit den Attributen außerhalb des Heaps
+   * @since 18.10.2026 17:01:02 agent | Mit den Werten des Prototyps
+   * @since 18.10.2026 17:05:31 agent | Ohne teilweise ausgeführte gemeinsame Änderungen
    */
   HashMap<String, Object> get() {
-    return this.variables;
+    return read(this::copy);
+  }
+  
+  /**
+   * Liefert die Werte der übergebenen Attribute konsistent zueinander.
+   * <p>
+   * Eine gemeinsame Änderung ist entweder vollständig oder gar nicht enthalten.
+   * <p>
+   * @param names Namen der Attribute
+   * @return {@link HashMap} mit allen Namen, <code>null</code> für fehlende Attribute
+   * @since 18.10.2026 17:05:40 agent | Realisierung
+   */
+  HashMap<String, Object> get(AttributeName[] names) {
+    return read(() -> {
+      HashMap<String, Object> copy = new HashMap<>(capacity(names.length));
+      for (AttributeName name : names) {
+        copy.put(name.name, get(name));
+      }
+      return copy;
+    });
+  }
+  
+  /**
+   * Prüft, ob das Attribut vorhanden ist, auch geerbt oder mit dem Wert <code>null</code>.
+   * <p>
+   * @param name {@link AttributeName}
+   * @return <code>true</code>, falls das Attribut vorhanden ist.
+   * @since 18.10.2026 17:23:31 agent | Realisierung
+   */
+  boolean present(AttributeName name) {
+    return contains(name) || inherits(name);
+  }
+  
+  /**
+   * Durchläuft alle Attribute ohne Kopie, zuerst die geerbten, dann die eigenen.
+   * <p>
+   * Der Durchlauf ist schwach konsistent: gleichzeitige Änderungen sind eventuell noch nicht oder
+   * bereits enthalten, jedes Attribut wird höchstens einmal geliefert.
+   * <p>
+   * @return {@link Iterator} über Namen und Werte, unterstützt kein Entfernen.
+   * @since 18.10.2026 17:23:40 agent | Realisierung
+   */
+  Iterator<Entry<String, Object>> entries() {
+    return new Entries();
+  }
+  
+  /**
+   * Setzt den Wert nur, falls der aktuelle Wert dem erwarteten entspricht.
+   * <p>
+   * Verglichen wird über {@link Objects#deepEquals(Object, Object)}, ein fehlendes Attribut entspricht
+   * <code>null</code>. Geerbte Werte werden berücksichtigt.
+   * <p>
+   * @param name {@link AttributeName}
+   * @param expected Erwarteter Wert
+   * @param value Neuer Wert
+   * @return <code>true</code>, falls der Wert gesetzt wurde.
+   * @since 18.10.2026 17:05:51 agent | Realisierung
+   */
+  synchronized boolean compareAndSet(AttributeName name, Object expected, Object value) {
+    if (!Objects.deepEquals(get(name), expected)) return false;
+    put(name, value);
+    return true;
+  }
+  
+  /**
+   * Ändert mehrere Attribute gemeinsam unter der Sperre.
+   * <p>
+   * Die Funktion erhält die unveränderlichen aktuellen Werte der übergebenen Attribute und liefert
+   * die neu zu setzenden Werte, auch für weitere Attribute. Konsistente Lesezugriffe sehen die
+   * Änderungen nur vollständig.
+   * <p>
+   * @param names Namen der gelesenen Attribute
+   * @param update Liefert die zu setzenden Werte oder <code>null</code>, um nichts zu ändern.
+   * @since 18.10.2026 17:06:02 agent | Realisierung
+   */
+  synchronized void update(AttributeName[] names, Function<? super Map<String, Object>, ? extends Map<String, ?>> update) {
+    HashMap<String, Object> current = new HashMap<>(capacity(names.length));
+    for (AttributeName name : names) {
+      current.put(name.name, get(name));
+    }
+    Map<String, ?> changes = update.apply(Collections.unmodifiableMap(current));
+    if (changes == null || changes.isEmpty()) return;
+    AttributeName[] changed = new AttributeName[changes.size()];
+    Object[] values = new Object[changed.length];
+    int i = 0;
+    for (Entry<String, ?> e : changes.entrySet()) {
+      changed[i] = AttributeName.of(e.getKey());
+      values[i++] = e.getValue();
+    }
+    putAll(changed, values);
+  }
+  
+  /**
+   * Kopiert alle Attribute ohne Prüfung des Stempels.
+   * <p>
+   * @return {@link HashMap}&lt;String, Object&gt;
+   * @since 18.10.2026 17:06:10 agent | Realisierung
+   */
+  private HashMap<String, Object> copy() {
+    HashMap<String, Object> copy;
+    AttributeShape shape = this.shape;
+    if (shape == null) {
+      AttributeCache cache = this.cache;
+      copy = new HashMap<>(capacity(this.dictionary.size()));
+      for (Entry<AttributeName, Object> e : this.dictionary.entrySet()) {
+        if (cache != null && !cache.live(e.getKey())) continue;
+        copy.put(e.getKey().name, AttributeCell.valueOf(unmask(e.getValue())));
+      }
+    } else {
+      AtomicReferenceArray<Object> slots = this.slots;
+      copy = new HashMap<>(capacity(shape.size()));
+      for (int i = 0; i < shape.size(); i++) {
+        copy.put(shape.nameAt(i).name, AttributeCell.valueOf(slots.get(i)));
+      }
+    }
+    for (AttributeArena arena : AttributeArena.all()) {
+      Object value = arena.get(this.id);
+      if (value != AttributeArena.ABSENT) copy.put(arena.name.name, value);
+    }
+    AttributesOfInterface prototype = this.prototype;
+    if (prototype != null) {
+      for (Entry<String, Object> e : prototype.get().entrySet()) {
+        if (!copy.containsKey(e.getKey())) copy.put(e.getKey(), e.getValue());
+      }
+    }
+    return copy;
   }
   
   /**
@@ -98,7 +528,384 @@ class AttributesOfInterface {
    * @since 26.10.2014 07:55:15 Lutz Hoffarth | Realisierung
    */
   void put(String key, Object value) {
-    this.variables.put(key, value);
+    put(AttributeName.of(key), value);
+  }
+  
+  /**
+   * Setzt den Wert zum übergebenen typisierten Schlüssel.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param key {@link AttributeKey}
+   * @param value Wert
+   * @since 18.10.2026 11:43:51 agent | Realisierung
+   */
+  <T> void put(AttributeKey<T> key, T value) {
+    put(key.name, value);
+  }
+  
+  /**
+   * Setzt den Wert zum eindeutigen Namen.
+   * <p>
+   * Ist das Attribut noch nicht vorhanden, wird auf den Nachfolger des {@link AttributeShape}
+   * gewechselt und das Array bei Bedarf vergrößert.
+   * <p>
+   * @param name {@link AttributeName}
+   * @param value Wert
+   * @since 18.10.2026 11:44:20 agent | Realisierung
+   * @since 18.10.2026 14:57:02 agent | Über den {@link AttributeCache} im Cache-Modus
+   * @since 18.10.2026 15:18:40 agent | Benachrichtigt die Listener
+   * @since 18.10.2026 16:25:20 agent | Außerhalb des Heaps über die {@link AttributeArena}
+   */
+  synchronized void put(AttributeName name, Object value) {
+    store(name, value);
+    fire(name);
+  }
+  
+  /**
+   * Legt den Wert zum eindeutigen Namen ab, die Sperre muss gehalten werden.
+   * <p>
+   * @param name {@link AttributeName}
+   * @param value Wert
+   * @since 18.10.2026 15:19:02 agent | Realisierung
+   * @since 18.10.2026 16:25:31 agent | Außerhalb des Heaps über die {@link AttributeArena}
+   */
+  private void store(AttributeName name, Object value) {
+    AttributeArena arena = arenaOf(name);
+    if (arena != null) {
+      arena.put(this.id, value);
+      return;
+    }
+    AttributeShape shape = this.shape;
+    if (shape == null) {
+      AttributeCache cache = this.cache;
+      if (cache != null) {
+        cache.put(name, value);
+      } else {
+        this.dictionary.put(name, mask(value));
+      }
+      return;
+    }
+    int slot = shape.slotOf(name);
+    if (slot >= 0) {
+      this.slots.set(slot, value);
+      return;
+    }
+    if (shape.size() >= DICTIONARY_THRESHOLD) {
+      toDictionary(shape, shape.size() + 1).put(name, mask(value));
+      return;
+    }
+    AttributeShape next = shape.with(name);
+    AtomicReferenceArray<Object> slots = this.slots;
+    slot = shape.size();
+    if (slot < slots.length()) {
+      slots.set(slot, value);
+    } else {
+      AtomicReferenceArray<Object> grown = new AtomicReferenceArray<>(Math.max(4, slots.length() * 2));
+      for (int i = 0; i < slot; i++) {
+        grown.set(i, slots.get(i));
+      }
+      grown.set(slot, value);
+      this.slots = grown;
+    }
+    this.shape = next;
+  }
+  
+  /**
+   * Setzt den Wert, falls das Attribut keinen Wert besitzt.
+   * <p>
+   * @param name {@link AttributeName}
+   * @param value Wert, nicht <code>null</code>
+   * @return Bisheriger Wert oder der übergebene, falls er abgelegt wurde.
+   * @since 18.10.2026 14:16:02 agent | Realisierung
+   */
+  synchronized Object putIfAbsent(AttributeName name, Object value) {
+    Object previous = AttributeCell.valueOf(stored(name));
+    if (previous != null) return previous;
+    put(name, value);
+    return value;
+  }
+  
+  /**
+   * Übernimmt einen Wert aus dem {@link AttributeSnapshot}, falls das Attribut nicht vorhanden ist.
+   * <p>
+   * Der Wert galt bereits vor der Übernahme, Listener, Index und Journal werden daher nicht
+   * benachrichtigt.
+   * <p>
+   * @param name {@link AttributeName}
+   * @param value Wert, üblicherweise {@link AttributeSnapshot.Lazy}
+   * @return <code>true</code>, falls der Wert abgelegt wurde.
+   * @since 18.10.2026 19:30:20 agent | Realisierung
+   */
+  synchronized boolean restore(AttributeName name, Object value) {
+    if (contains(name)) return false;
+    store(name, value);
+    return true;
+  }
+  
+  /**
+   * Liefert den Wert und lädt ihn, falls das Attribut keinen Wert besitzt.
+   * <p>
+   * Besitzt das Attribut einen Wert, wird er ohne Sperre geliefert. Andernfalls lädt genau ein
+   * Aufrufer den Wert, gleichzeitige Aufrufer für dasselbe Attribut warten auf dessen Ergebnis.
+   * Liefert der Lader <code>null</code> oder schlägt er fehl, wird nichts abgelegt. Der Fehler wird
+   * an alle wartenden Aufrufer weitergegeben, der nächste Aufruf lädt erneut.
+   * <p>
+   * @param <K> Typ des Schlüssels für den Lader
+   * @param name {@link AttributeName}
+   * @param key Schlüssel, der dem Lader übergeben wird.
+   * @param loader Ermittelt den Wert.
+   * @return Wert des Attributs oder <code>null</code>
+   * @throws IllegalStateException Der Lader fordert rekursiv dasselbe Attribut an.
+   * @since 18.10.2026 14:16:31 agent | Realisierung
+   */
+  <K> Object computeIfAbsent(AttributeName name, K key, Function<? super K, ?> loader) {
+    Object value = get(name);
+    if (value != null) return value;
+    ConcurrentHashMap<AttributeName, Loading> loads = loads();
+    Loading loading = new Loading();
+    Loading running = loads.putIfAbsent(name, loading);
+    if (running != null) return running.await();
+    try {
+      value = AttributeCell.valueOf(stored(name));
+      if (value == null) {
+        value = loader.apply(key);
+        if (value != null) value = putIfAbsent(name, value);
+      }
+      loading.complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      loading.completeExceptionally(e);
+      throw e;
+    } finally {
+      loads.remove(name, loading);
+    }
+  }
+  
+  /**
+   * Setzt einen primitiven Wert ohne Boxing.
+   * <p>
+   * Ist bereits ein primitiver Wert derselben Art abgelegt, wird dieser ohne Sperre überschrieben.
+   * <p>
+   * @param key Attributname
+   * @param kind Art des Wertes
+   * @param bits Wert bzw. Bitmuster
+   * @since 18.10.2026 12:34:20 agent | Realisierung
+   * @since 18.10.2026 14:57:20 agent | Verlängert die Lebensdauer im Cache-Modus
+   * @since 18.10.2026 16:25:40 agent | Außerhalb des Heaps über die {@link AttributeArena}
+   */
+  void putPrimitive(String key, PrimitiveAttribute.Kind kind, long bits) {
+    AttributeName name = AttributeName.of(key);
+    AttributeArena arena = arenaOf(name);
+    if (arena != null) {
+      arena.putBits(this.id, kind, bits);
+      fire(name);
+      return;
+    }
+    Object content = stored(name);
+    if (content instanceof PrimitiveAttribute && ((PrimitiveAttribute) content).kind == kind) {
+      ((PrimitiveAttribute) content).set(bits);
+      renew(name);
+      fire(name);
+    } else {
+      put(name, new PrimitiveAttribute(kind, bits));
+    }
+  }
+  
+  /**
+   * Addiert atomar auf einen <code>long</code>-Wert.
+   * <p>
+   * @param key Attributname
+   * @param delta Summand
+   * @return Neuer Wert
+   * @since 18.10.2026 12:34:51 agent | Realisierung
+   * @since 18.10.2026 16:25:51 agent | Außerhalb des Heaps über die {@link AttributeArena}
+   */
+  long addLong(String key, long delta) {
+    AttributeName name = AttributeName.of(key);
+    AttributeArena arena = arena(name);
+    if (arena != null) {
+      long value = arena.addLong(this.id, delta);
+      fire(name);
+      return value;
+    }
+    PrimitiveAttribute cell = cell(name, PrimitiveAttribute.Kind.LONG);
+    long value = cell.addLong(delta);
+    fire(name);
+    return value;
+  }
+  
+  /**
+   * Addiert atomar auf einen <code>int</code>-Wert.
+   * <p>
+   * @param key Attributname
+   * @param delta Summand
+   * @return Neuer Wert
+   * @since 18.10.2026 12:35:10 agent | Realisierung
+   * @since 18.10.2026 16:26:02 agent | Außerhalb des Heaps über die {@link AttributeArena}
+   */
+  int addInt(String key, int delta) {
+    AttributeName name = AttributeName.of(key);
+    AttributeArena arena = arena(name);
+    if (arena != null) {
+      int value = arena.addInt(this.id, delta);
+      fire(name);
+      return value;
+    }
+    PrimitiveAttribute cell = cell(name, PrimitiveAttribute.Kind.INT);
+    int value = cell.addInt(delta);
+    fire(name);
+    return value;
+  }
+  
+  /**
+   * Addiert atomar auf einen <code>double</code>-Wert.
+   * <p>
+   * @param key Attributname
+   * @param delta Summand
+   * @return Neuer Wert
+   * @since 18.10.2026 12:35:31 agent | Realisierung
+   * @since 18.10.2026 16:26:10 agent | Außerhalb des Heaps über die {@link AttributeArena}
+   */
+  double addDouble(String key, double delta) {
+    AttributeName name = AttributeName.of(key);
+    AttributeArena arena = arena(name);
+    if (arena != null) {
+      double value = arena.addDouble(this.id, delta);
+      fire(name);
+      return value;
+    }
+    PrimitiveAttribute cell = cell(name, PrimitiveAttribute.Kind.DOUBLE);
+    double value = cell.addDouble(delta);
+    fire(name);
+    return value;
+  }
+  
+  /**
+   * Setzt mehrere Attribute unter einer Sperre.
+   * <p>
+   * @param names Eindeutige Namen, jeder Name darf nur einmal enthalten sein.
+   * @param values Werte an den Positionen der Namen
+   * @since 18.10.2026 13:30:31 agent | Realisierung
+   * @since 18.10.2026 17:06:20 agent | Als gemeinsame Änderung
+   */
+  synchronized void putAll(AttributeName[] names, Object[] values) {
+    reserve(names);
+    this.stamp++;
+    try {
+      for (int i = 0; i < names.length; i++) {
+        put(names[i], values[i]);
+      }
+    } finally {
+      this.stamp++;
+    }
+  }
+  
+  /**
+   * Übernimmt alle Attribute der übergebenen {@link AttributesOfInterface}.
+   * <p>
+   * Die Quelle wird ohne Sperre gelesen. Primitive Werte werden als Wert übernommen, die
+   * {@link PrimitiveAttribute} selbst wird nicht geteilt.
+   * <p>
+   * @param source {@link AttributesOfInterface}
+   * @since 18.10.2026 13:31:02 agent | Realisierung
+   * @since 18.10.2026 16:26:20 agent | Über {@link #forEach(BiConsumer)} mit den Attributen außerhalb des Heaps
+   */
+  void putAll(AttributesOfInterface source) {
+    ArrayList<AttributeName> names = new ArrayList<>();
+    ArrayList<Object> values = new ArrayList<>();
+    source.forEach((name, content) -> {
+      names.add(name);
+      values.add(AttributeCell.valueOf(content));
+    });
+    putAll(names.toArray(new AttributeName[names.size()]), values.toArray());
+  }
+  
+  /**
+   * Führt mehrere Attribute unter einer Sperre mit den vorhandenen zusammen.
+   * <p>
+   * Ist ein Attribut bereits vorhanden, entscheidet die Funktion über den neuen Wert. Sie wird
+   * unter der Sperre aufgerufen und sollte daher kurz sein.
+   * <p>
+   * @param names Eindeutige Namen, jeder Name darf nur einmal enthalten sein.
+   * @param values Werte an den Positionen der Namen
+   * @param remapping Liefert aus bisherigem und neuem Wert den abzulegenden Wert.
+   * @since 18.10.2026 13:31:40 agent | Realisierung
+   * @since 18.10.2026 17:01:10 agent | Mit den Werten des Prototyps
+   * @since 18.10.2026 17:06:20 agent | Als gemeinsame Änderung
+   */
+  synchronized void merge(AttributeName[] names, Object[] values, BiFunction<Object, Object, Object> remapping) {
+    reserve(names);
+    this.stamp++;
+    try {
+      for (int i = 0; i < names.length; i++) {
+        AttributeName name = names[i];
+        if (contains(name)) put(name, remapping.apply(AttributeCell.valueOf(stored(name)), values[i]));
+        else if (inherits(name)) put(name, remapping.apply(AttributeCell.valueOf(this.prototype.resolve(name)), values[i]));
+        else put(name, values[i]);
+      }
+    } finally {
+      this.stamp++;
+    }
+  }
+  
+  /**
+   * Schaltet den Cache-Modus mit den übergebenen Regeln ein oder aus.
+   * <p>
+   * Die vorhandenen Attribute werden übernommen und bei Bedarf sofort verdrängt. Beim Ausschalten
+   * bleiben die Attribute erhalten, laufen aber nicht mehr ab.
+   * <p>
+   * @param policy {@link AttributeCachePolicy} oder <code>null</code>, um den Cache-Modus zu beenden.
+   * @since 18.10.2026 14:58:40 agent | Realisierung
+   */
+  synchronized void setCache(AttributeCachePolicy policy) {
+    AttributeCache cache = this.cache;
+    if (cache != null) cache.close();
+    if (policy == null) {
+      this.cache = null;
+      return;
+    }
+    AttributeShape shape = this.shape;
+    this.cache = new AttributeCache(policy, shape == null ? this.dictionary : toDictionary(shape, shape.size()));
+  }
+  
+  /**
+   * Liefert die Statistik des Cache-Modus.
+   * <p>
+   * @return {@link AttributeCacheStats} oder <code>null</code>, falls der Cache-Modus nicht eingeschaltet ist.
+   * @since 18.10.2026 14:59:02 agent | Realisierung
+   */
+  AttributeCacheStats getCacheStats() {
+    AttributeCache cache = this.cache;
+    return cache == null ? null : cache.stats();
+  }
+  
+  /**
+   * Registriert einen Listener für Änderungen an diesen Attributen.
+   * <p>
+   * @param source Quelle der Benachrichtigungen, wird schwach referenziert.
+   * @param listener {@link AttributeListener}
+   * @since 18.10.2026 15:19:20 agent | Realisierung
+   */
+  synchronized void addListener(Object source, AttributeListener listener) {
+    if (listener == null) throw new NullPointerException("listener");
+    AttributeNotifier notifier = this.notifier;
+    if (notifier == null) notifier = new AttributeNotifier(source, this);
+    notifier.listeners.add(listener);
+    this.notifier = notifier;
+  }
+  
+  /**
+   * Entfernt einen Listener. Ohne Listener entfällt die Vormerkung von Änderungen vollständig.
+   * <p>
+   * @param listener {@link AttributeListener}
+   * @return <code>true</code>, falls der Listener registriert war.
+   * @since 18.10.2026 15:19:40 agent | Realisierung
+   */
+  synchronized boolean removeListener(AttributeListener listener) {
+    AttributeNotifier notifier = this.notifier;
+    if (notifier == null || !notifier.listeners.remove(listener)) return false;
+    if (notifier.listeners.isEmpty()) this.notifier = null;
+    return true;
   }
   
   /**
@@ -111,4 +918,636 @@ class AttributesOfInterface {
     return this.id;
   }
   
+  /**
+   * Liefert den Zähler der Änderungen seit dem ersten abgeleiteten Stand.
+   * <p>
+   * @return Zähler der Änderungen
+   * @since 18.10.2026 18:46:31 agent | Realisierung
+   */
+  int version() {
+    return this.version;
+  }
+  
+  /**
+   * Setzt den Prototyp, dessen Werte gelten, solange kein eigener Wert vorhanden ist.
+   * <p>
+   * @param prototype Attribute des Prototyps oder <code>null</code>, um nichts mehr zu erben.
+   * @param owner Objekt des Prototyps
+   * @param live <code>true</code>, um spätere Änderungen des Prototyps zu sehen.
+   * @throws IllegalArgumentException Der Prototyp erbt selbst von diesen Attributen.
+   * @since 18.10.2026 17:01:20 agent | Realisierung
+   */
+  void setPrototype(AttributesOfInterface prototype, Object owner, boolean live) {
+    AttributesOfInterface target = prototype == null || live ? prototype : prototype.frozen();
+    synchronized (this) {
+      for (AttributesOfInterface p = target; p != null; p = p.prototype) {
+        if (p == this) throw new IllegalArgumentException("Zyklischer Prototyp");
+      }
+      this.prototypeOwner = live ? owner : null;
+      this.prototype = target;
+    }
+  }
+  
+  /**
+   * Liefert einen unveränderlichen Stand dieser Attribute für abgeleitete Attribute.
+   * <p>
+   * Der Stand wird bis zur nächsten Änderung zwischengespeichert und von allen in dieser Zeit
+   * abgeleiteten Attributen geteilt. Ändert sich ein Attribut während des Kopierens, wird der Stand
+   * nur an den Aufrufer geliefert. Der Stand liegt immer im Heap und verbraucht keinen Identifikator.
+   * <p>
+   * @return {@link AttributesOfInterface}, die nicht geändert werden.
+   * @since 18.10.2026 17:01:31 agent | Realisierung
+   * @since 18.10.2026 19:32:40 agent | Ohne Identifikator
+   */
+  AttributesOfInterface frozen() {
+    AttributesOfInterface frozen = this.frozen;
+    if (frozen != null) return frozen;
+    this.shared = true;
+    int version = this.version;
+    frozen = new AttributesOfInterface(AttributeShape.ROOT, true, 0);
+    frozen.putAll(this);
+    synchronized (this) {
+      if (this.version == version) this.frozen = frozen;
+    }
+    return frozen;
+  }
+  
+  /**
+   * Merkt sich das Objekt dieser Attribute für die {@link AttributeIndex}.
+   * <p>
+   * @param owner Objekt, wird schwach referenziert.
+   * @since 18.10.2026 16:43:20 agent | Realisierung
+   */
+  void bind(InterfaceWithAttributes owner) {
+    if (this.owner == null) this.owner = new WeakReference<>(owner);
+  }
+  
+  /**
+   * Liefert das Objekt dieser Attribute.
+   * <p>
+   * @return Objekt oder <code>null</code>, falls es nicht bekannt oder bereits entfernt ist.
+   * @since 18.10.2026 16:43:31 agent | Realisierung
+   */
+  InterfaceWithAttributes owner() {
+    WeakReference<InterfaceWithAttributes> owner = this.owner;
+    return owner == null ? null : owner.get();
+  }
+  
+  /**
+   * Gibt die Attribute außerhalb des Heaps und das Gewicht im Cache-Modus frei, nachdem das Objekt
+   * vom GarbageCollector entfernt oder explizit freigegeben wurde.
+   * <p>
+   * @since 18.10.2026 16:26:31 agent | Realisierung
+   * @since 18.10.2026 16:38:10 agent | Beendet den Cache-Modus
+   * @since 18.10.2026 16:43:40 agent | Entfernt die Attribute aus den {@link AttributeIndex}
+   * @since 18.10.2026 17:01:40 agent | Löst den Prototyp
+   * @since 18.10.2026 18:08:02 agent | Entfernt den Identifikator aus dem {@link ObjectIdIndex}
+   */
+  void release() {
+    this.prototype = null;
+    this.prototypeOwner = null;
+    AttributeCache cache = this.cache;
+    if (cache != null) cache.close();
+    AttributeArena.release(this.id);
+    AttributeIndex.release(this);
+    ObjectIdIndex.release(this.id);
+  }
+  
+  /* -- Hilfsmethoden ----------------------------------------------------------------------------- */
+  
+  /**
+   * Liefert den abgelegten Inhalt ohne Umwandlung einer {@link AttributeCell}.
+   * <p>
+   * @param name {@link AttributeName}
+   * @return Abgelegter Inhalt oder <code>null</code>
+   * @since 18.10.2026 12:36:02 agent | Realisierung
+   * @since 18.10.2026 14:57:40 agent | Über den {@link AttributeCache} im Cache-Modus
+   * @since 18.10.2026 16:26:40 agent | Zuerst außerhalb des Heaps
+   */
+  Object raw(AttributeName name) {
+    AttributeArena arena = arenaOf(name);
+    if (arena != null) {
+      Object value = arena.get(this.id);
+      if (value != AttributeArena.ABSENT) return value;
+    }
+    AttributeShape shape = this.shape;
+    if (shape == null) {
+      AttributeCache cache = this.cache;
+      return cache != null ? cache.read(name) : unmask(this.dictionary.get(name));
+    }
+    int slot = shape.slotOf(name);
+    return slot < 0 ? null : this.slots.get(slot);
+  }
+  
+  /**
+   * Liest ohne Sperre, solange keine gemeinsame Änderung dazwischen liegt.
+   * <p>
+   * Nach {@link #OPTIMISTIC_READS} erfolglosen Versuchen wird unter der Sperre gelesen.
+   * <p>
+   * @param <R> Typ des Ergebnisses
+   * @param reader Liest die Attribute.
+   * @return Ergebnis des Lesers
+   * @since 18.10.2026 17:06:31 agent | Realisierung
+   */
+  private <R> R read(Supplier<R> reader) {
+    for (int i = 0; i < OPTIMISTIC_READS; i++) {
+      int stamp = this.stamp;
+      if ((stamp & 1) == 0) {
+        R result = reader.get();
+        if (this.stamp == stamp) return result;
+      } else {
+        Thread.yield();
+      }
+    }
+    synchronized (this) {
+      return reader.get();
+    }
+  }
+  
+  /**
+   * Liefert den abgelegten Inhalt, ohne eigenen Wert den Inhalt des Prototyps.
+   * <p>
+   * @param name {@link AttributeName}
+   * @return Abgelegter oder geerbter Inhalt oder <code>null</code>
+   * @since 18.10.2026 17:01:51 agent | Realisierung
+   */
+  private Object resolve(AttributeName name) {
+    Object content = raw(name);
+    if (content != null) return content;
+    AttributesOfInterface prototype = this.prototype;
+    return prototype == null || contains(name) ? null : prototype.resolve(name);
+  }
+  
+  /**
+   * Prüft, ob das Attribut ohne eigenen Wert vom Prototyp geerbt wird.
+   * <p>
+   * @param name {@link AttributeName}
+   * @return <code>true</code>, falls ein Prototyp das Attribut besitzt.
+   * @since 18.10.2026 17:02:02 agent | Realisierung
+   */
+  private boolean inherits(AttributeName name) {
+    for (AttributesOfInterface p = this.prototype; p != null; p = p.prototype) {
+      if (p.contains(name)) return true;
+    }
+    return false;
+  }
+  
+  /**
+   * Liefert den aktuellen Wert, im Cache-Modus ohne Statistik.
+   * <p>
+   * @param name {@link AttributeName}
+   * @return Wert des Attributs
+   * @since 18.10.2026 15:20:02 agent | Realisierung
+   */
+  Object current(AttributeName name) {
+    return AttributeCell.valueOf(stored(name));
+  }
+  
+  /**
+   * Liefert den abgelegten Inhalt für schreibende Zugriffe, im Cache-Modus ohne Statistik.
+   * <p>
+   * @param name {@link AttributeName}
+   * @return Abgelegter Inhalt oder <code>null</code>
+   * @since 18.10.2026 14:59:40 agent | Realisierung
+   * @since 18.10.2026 16:26:51 agent | Zuerst außerhalb des Heaps
+   */
+  private Object stored(AttributeName name) {
+    AttributeShape shape = this.shape;
+    if (shape != null) return raw(name);
+    AttributeArena arena = arenaOf(name);
+    if (arena != null) {
+      Object value = arena.get(this.id);
+      if (value != AttributeArena.ABSENT) return value;
+    }
+    AttributeCache cache = this.cache;
+    return cache != null ? cache.peek(name) : unmask(this.dictionary.get(name));
+  }
+  
+  /**
+   * Übergibt alle Attribute mit ihrem abgelegten Inhalt ohne Umwandlung einer {@link AttributeCell}.
+   * <p>
+   * @param action Erhält Namen und Inhalt jedes Attributs.
+   * @since 18.10.2026 13:51:10 agent | Realisierung
+   * @since 18.10.2026 16:27:02 agent | Mit den Attributen außerhalb des Heaps
+   * @since 18.10.2026 17:02:10 agent | Zuerst die geerbten Attribute ohne eigenen Wert
+   */
+  void forEach(BiConsumer<AttributeName, Object> action) {
+    AttributesOfInterface prototype = this.prototype;
+    if (prototype != null) {
+      prototype.forEach((name, content) -> {
+        if (!contains(name)) action.accept(name, content);
+      });
+    }
+    AttributeShape shape = this.shape;
+    if (shape == null) {
+      for (Entry<AttributeName, Object> e : this.dictionary.entrySet()) {
+        if (!offHeap(e.getKey())) action.accept(e.getKey(), unmask(e.getValue()));
+      }
+    } else {
+      AtomicReferenceArray<Object> slots = this.slots;
+      for (int i = 0; i < shape.size(); i++) {
+        if (!offHeap(shape.nameAt(i))) action.accept(shape.nameAt(i), slots.get(i));
+      }
+    }
+    for (AttributeArena arena : AttributeArena.all()) {
+      Object value = arena.get(this.id);
+      if (value != AttributeArena.ABSENT) action.accept(arena.name, value);
+    }
+  }
+  
+  /**
+   * Prüft, ob das Attribut vorhanden ist, auch wenn sein Wert <code>null</code> ist.
+   * <p>
+   * @param name {@link AttributeName}
+   * @return <code>true</code>, falls das Attribut vorhanden ist.
+   * @since 18.10.2026 13:32:10 agent | Realisierung
+   * @since 18.10.2026 14:58:02 agent | Ohne abgelaufene Attribute im Cache-Modus
+   * @since 18.10.2026 16:27:10 agent | Mit den Attributen außerhalb des Heaps
+   */
+  boolean contains(AttributeName name) {
+    if (offHeap(name)) return true;
+    AttributeShape shape = this.shape;
+    if (shape != null) return shape.slotOf(name) >= 0;
+    AttributeCache cache = this.cache;
+    return cache != null ? cache.live(name) : this.dictionary.containsKey(name);
+  }
+  
+  /**
+   * Bringt die Ablage auf die Größe für die übergebenen Namen, die Sperre muss gehalten werden.
+   * <p>
+   * Das Array wird höchstens einmal vergrößert. Wird {@link #DICTIONARY_THRESHOLD} überschritten,
+   * wechselt die Ablage sofort in eine ausreichend große {@link ConcurrentHashMap}.
+   * <p>
+   * @param names Hinzukommende Namen
+   * @since 18.10.2026 13:32:31 agent | Realisierung
+   */
+  private void reserve(AttributeName[] names) {
+    AttributeShape shape = this.shape;
+    if (shape == null) return;
+    int size = shape.size();
+    for (AttributeName name : names) {
+      if (shape.slotOf(name) < 0) size++;
+    }
+    if (size > DICTIONARY_THRESHOLD) {
+      toDictionary(shape, size);
+      return;
+    }
+    AtomicReferenceArray<Object> slots = this.slots;
+    if (size <= slots.length()) return;
+    AtomicReferenceArray<Object> grown = new AtomicReferenceArray<>(size);
+    for (int i = 0; i < shape.size(); i++) {
+      grown.set(i, slots.get(i));
+    }
+    this.slots = grown;
+  }
+  
+  /**
+   * Liefert die {@link AttributeArena} des Attributs, für Attribute im {@link AttributeHolder} immer
+   * <code>null</code>.
+   * <p>
+   * @param name {@link AttributeName}
+   * @return {@link AttributeArena} oder <code>null</code>
+   * @since 18.10.2026 16:54:31 agent | Realisierung
+   */
+  private AttributeArena arenaOf(AttributeName name) {
+    return this.inline ? null : name.arena;
+  }
+  
+  /**
+   * Prüft, ob das Attribut einen Wert außerhalb des Heaps besitzt.
+   * <p>
+   * @param name {@link AttributeName}
+   * @return <code>true</code>, falls ein Wert in der {@link AttributeArena} liegt.
+   * @since 18.10.2026 16:27:20 agent | Realisierung
+   */
+  private boolean offHeap(AttributeName name) {
+    AttributeArena arena = arenaOf(name);
+    return arena != null && arena.contains(this.id);
+  }
+  
+  /**
+   * Liefert die {@link AttributeArena} des Attributs für eine Änderung auf Basis des bisherigen Wertes.
+   * <p>
+   * Liegt der bisherige Wert noch im Heap, wird er zuvor unter der Sperre in die
+   * {@link AttributeArena} übernommen.
+   * <p>
+   * @param name {@link AttributeName}
+   * @return {@link AttributeArena} oder <code>null</code>, falls das Attribut im Heap liegt.
+   * @since 18.10.2026 16:27:31 agent | Realisierung
+   * @since 18.10.2026 17:02:20 agent | Übernimmt einen geerbten Wert
+   */
+  private AttributeArena arena(AttributeName name) {
+    AttributeArena arena = arenaOf(name);
+    if (arena == null || arena.contains(this.id)) return arena;
+    synchronized (this) {
+      if (!arena.contains(this.id) && contains(name)) arena.put(this.id, stored(name));
+      else if (!arena.contains(this.id) && inherits(name)) arena.put(this.id, this.prototype.resolve(name));
+    }
+    return arena;
+  }
+  
+  /**
+   * Verlängert im Cache-Modus die Lebensdauer eines ohne {@link #put(AttributeName, Object)} geänderten Attributs.
+   * <p>
+   * @param name {@link AttributeName}
+   * @since 18.10.2026 14:59:20 agent | Realisierung
+   */
+  private void renew(AttributeName name) {
+    AttributeCache cache = this.cache;
+    if (cache != null) cache.renew(name);
+  }
+  
+  /**
+   * Führt den Index des Attributs nach und merkt die Änderung für die Listener vor, falls welche
+   * registriert sind.
+   * <p>
+   * @param name {@link AttributeName}
+   * @since 18.10.2026 15:20:20 agent | Realisierung
+   * @since 18.10.2026 16:43:51 agent | Nachführen des {@link AttributeIndex}
+   * @since 18.10.2026 17:02:31 agent | Verwirft den abgeleiteten Stand
+   * @since 18.10.2026 17:45:31 agent | Vormerken im {@link AttributeJournal}, falls das Objekt bekannt ist
+   * @since 18.10.2026 18:46:20 agent | Zählt atomar, primitive Werte ändern ohne Sperre
+   */
+  private void fire(AttributeName name) {
+    if (this.shared) {
+      VERSIONS.incrementAndGet(this);
+      this.frozen = null;
+    }
+    AttributeIndex index = name.index;
+    if (index != null && !this.inline) index.update(this);
+    if (AttributeJournal.active && this.owner != null) AttributeJournal.changed(this, name);
+    AttributeNotifier notifier = this.notifier;
+    if (notifier != null) notifier.changed(name);
+  }
+  
+  /**
+   * Liefert die laufenden Ladevorgänge und legt sie bei Bedarf an.
+   * <p>
+   * @return {@link ConcurrentHashMap} der laufenden Ladevorgänge
+   * @since 18.10.2026 14:17:02 agent | Realisierung
+   */
+  private ConcurrentHashMap<AttributeName, Loading> loads() {
+    ConcurrentHashMap<AttributeName, Loading> loads = this.loads;
+    if (loads != null) return loads;
+    synchronized (this) {
+      if (this.loads == null) this.loads = new ConcurrentHashMap<>(4);
+      return this.loads;
+    }
+  }
+  
+  /**
+   * Liefert die {@link PrimitiveAttribute} der übergebenen Art und legt sie bei Bedarf an.
+   * <p>
+   * Ein bisher abgelegter Wert einer anderen Art wird dabei umgewandelt übernommen.
+   * <p>
+   * @param name {@link AttributeName}
+   * @param kind Art des Wertes
+   * @return {@link PrimitiveAttribute}
+   * @since 18.10.2026 12:36:31 agent | Realisierung
+   * @since 18.10.2026 14:58:20 agent | Verlängert die Lebensdauer im Cache-Modus
+   * @since 18.10.2026 17:02:40 agent | Übernimmt einen geerbten Wert
+   */
+  private PrimitiveAttribute cell(AttributeName name, PrimitiveAttribute.Kind kind) {
+    Object content = stored(name);
+    if (content instanceof PrimitiveAttribute && ((PrimitiveAttribute) content).kind == kind) {
+      renew(name);
+      return (PrimitiveAttribute) content;
+    }
+    synchronized (this) {
+      content = stored(name);
+      if (content instanceof PrimitiveAttribute && ((PrimitiveAttribute) content).kind == kind) return (PrimitiveAttribute) content;
+      if (content == null && !contains(name) && inherits(name)) content = this.prototype.resolve(name);
+      long bits = kind == PrimitiveAttribute.Kind.DOUBLE
+          ? Double.doubleToRawLongBits(PrimitiveAttribute.doubleOf(content))
+          : kind == PrimitiveAttribute.Kind.INT ? (int) PrimitiveAttribute.longOf(content) : PrimitiveAttribute.longOf(content);
+      PrimitiveAttribute cell = new PrimitiveAttribute(kind, bits);
+      put(name, cell);
+      return cell;
+    }
+  }
+  
+  /**
+   * Überführt die Attribute in eine {@link ConcurrentHashMap}, die Sperre muss gehalten werden.
+   * <p>
+   * @param shape Aktueller {@link AttributeShape}
+   * @param expected Erwartete Anzahl an Attributen
+   * @return {@link ConcurrentHashMap} mit allen bisherigen Attributen
+   * @since 18.10.2026 11:45:02 agent | Realisierung
+   * @since 18.10.2026 13:32:50 agent | Erwartete Anzahl an Attributen
+   */
+  private ConcurrentHashMap<AttributeName, Object> toDictionary(AttributeShape shape, int expected) {
+    AtomicReferenceArray<Object> slots = this.slots;
+    ConcurrentHashMap<AttributeName, Object> dictionary = new ConcurrentHashMap<>(capacity(expected));
+    for (int i = 0; i < shape.size(); i++) {
+      dictionary.put(shape.nameAt(i), mask(slots.get(i)));
+    }
+    this.dictionary = dictionary;
+    this.shape = null;
+    return dictionary;
+  }
+  
+  /**
+   * Liefert die Anfangskapazität einer {@link HashMap} für die übergebene Anzahl an Einträgen.
+   * <p>
+   * @param size Anzahl der Einträge
+   * @return Anfangskapazität
+   * @since 18.10.2026 11:45:31 agent | Realisierung
+   */
+  private static int capacity(int size) {
+    return Math.max(16, (int) (size / .75f) + 1);
+  }
+  
+  /**
+   * Ersetzt <code>null</code> durch den Platzhalter {@link #NULL}.
+   * <p>
+   * @param value Wert des Attributs
+   * @return Abzulegender Wert
+   * @since 18.10.2026 11:45:50 agent | Realisierung
+   */
+  static Object mask(Object value) {
+    return value == null ? NULL : value;
+  }
+  
+  /**
+   * Ersetzt den Platzhalter {@link #NULL} durch <code>null</code>.
+   * <p>
+   * @param value Abgelegter Wert
+   * @return Wert des Attributs
+   * @since 18.10.2026 10:32:51 agent | Realisierung
+   */
+  static Object unmask(Object value) {
+    return value == NULL ? null : value;
+  }
+  
+  /* -- Innere Klassen ---------------------------------------------------------------------------- */
+  
+  /**
+   * Durchlauf aller Attribute in der Reihenfolge von {@link AttributesOfInterface#forEach(BiConsumer)}.
+   * <p>
+   * Es wird immer nur das nächste Attribut ermittelt. Array und Aufbau werden zu Beginn gelesen,
+   * wie bei {@link AttributesOfInterface#get()}.
+   * <p>
+   * @since 18.10.2026 17:23:51 agent | Realisierung
+   */
+  private final class Entries implements Iterator<Entry<String, Object>> {
+    /** Geerbte Attribute oder <code>null</code>.
+     * @since 18.10.2026 17:24:02 agent | Realisierung */
+    private final Entries                                inherited;
+    
+    /** Aufbau der eigenen Attribute oder <code>null</code> für das {@link #dictionary}.
+     * @since 18.10.2026 17:24:10 agent | Realisierung */
+    private final AttributeShape                         shape;
+    
+    /** Werte zum {@link #shape}.
+     * @since 18.10.2026 17:24:20 agent | Realisierung */
+    private final AtomicReferenceArray<Object>           slots;
+    
+    /** Eigene Attribute in der {@link ConcurrentHashMap} oder <code>null</code>.
+     * @since 18.10.2026 17:24:31 agent | Realisierung */
+    private final Iterator<Entry<AttributeName, Object>> dictionary;
+    
+    /** Cache-Modus oder <code>null</code>.
+     * @since 18.10.2026 17:24:40 agent | Realisierung */
+    private final AttributeCache                         cache;
+    
+    /** Spalten außerhalb des Heaps.
+     * @since 18.10.2026 17:24:51 agent | Realisierung */
+    private final AttributeArena[]                       arenas;
+    
+    /** Nächste Position im {@link #shape}.
+     * @since 18.10.2026 17:25:02 agent | Realisierung */
+    private int                                          slot;
+    
+    /** Nächste Position in den {@link #arenas}.
+     * @since 18.10.2026 17:25:06 agent | Realisierung */
+    private int                                          arena;
+    
+    /** Name des nächsten Attributs oder <code>null</code> am Ende.
+     * @since 18.10.2026 17:25:10 agent | Realisierung */
+    private AttributeName                                nextName;
+    
+    /** Wert des nächsten Attributs.
+     * @since 18.10.2026 17:25:20 agent | Realisierung */
+    private Object                                       nextValue;
+    
+    /**
+     * Konstruiert einen {@link Entries} und ermittelt das erste Attribut.
+     * @since 18.10.2026 17:25:31 agent | Realisierung
+     */
+    Entries() {
+      AttributesOfInterface prototype = AttributesOfInterface.this.prototype;
+      this.inherited = prototype == null ? null : prototype.new Entries();
+      this.shape = AttributesOfInterface.this.shape;
+      this.slots = AttributesOfInterface.this.slots;
+      this.dictionary = this.shape == null ? AttributesOfInterface.this.dictionary.entrySet().iterator() : null;
+      this.cache = AttributesOfInterface.this.cache;
+      this.arenas = AttributeArena.all();
+      advance();
+    }
+    
+    /**
+     * @see java.util.Iterator#hasNext()
+     * @since 18.10.2026 17:25:40 agent | Realisierung
+     */
+    @Override
+    public boolean hasNext() {
+      return this.nextName != null;
+    }
+    
+    /**
+     * @see java.util.Iterator#next()
+     * @since 18.10.2026 17:25:51 agent | Realisierung
+     */
+    @Override
+    public Entry<String, Object> next() {
+      if (this.nextName == null) throw new NoSuchElementException();
+      Entry<String, Object> entry = new SimpleImmutableEntry<>(this.nextName.name, this.nextValue);
+      advance();
+      return entry;
+    }
+    
+    /**
+     * Ermittelt das nächste Attribut.
+     * @since 18.10.2026 17:26:02 agent | Realisierung
+     */
+    private void advance() {
+      AttributesOfInterface self = AttributesOfInterface.this;
+      while (this.inherited != null && this.inherited.hasNext()) {
+        AttributeName name = this.inherited.nextName;
+        Object value = this.inherited.nextValue;
+        this.inherited.advance();
+        if (!self.contains(name)) {
+          found(name, value);
+          return;
+        }
+      }
+      if (this.shape != null) {
+        while (this.slot < this.shape.size()) {
+          AttributeName name = this.shape.nameAt(this.slot);
+          Object content = this.slots.get(this.slot++);
+          if (!self.offHeap(name)) {
+            found(name, AttributeCell.valueOf(content));
+            return;
+          }
+        }
+      } else {
+        while (this.dictionary.hasNext()) {
+          Entry<AttributeName, Object> e = this.dictionary.next();
+          if (self.offHeap(e.getKey()) || this.cache != null && !this.cache.live(e.getKey())) continue;
+          found(e.getKey(), AttributeCell.valueOf(unmask(e.getValue())));
+          return;
+        }
+      }
+      while (this.arena < this.arenas.length) {
+        AttributeArena arena = this.arenas[this.arena++];
+        Object value = arena.get(self.id);
+        if (value != AttributeArena.ABSENT) {
+          found(arena.name, value);
+          return;
+        }
+      }
+      found(null, null);
+    }
+    
+    /**
+     * Merkt das nächste Attribut vor.
+     * <p>
+     * @param name Name oder <code>null</code> am Ende
+     * @param value Wert
+     * @since 18.10.2026 17:26:10 agent | Realisierung
+     */
+    private void found(AttributeName name, Object value) {
+      this.nextName = name;
+      this.nextValue = value;
+    }
+  }
+  
+  /**
+   * Laufender Ladevorgang eines Attributs.
+   * @since 18.10.2026 14:17:31 agent | Realisierung
+   */
+  private static final class Loading extends CompletableFuture<Object> {
+    /** Ladender Thread.
+     * @since 18.10.2026 14:17:40 agent | Realisierung */
+    private final Thread owner = Thread.currentThread();
+    
+    /**
+     * Wartet auf das Ergebnis des Ladevorgangs.
+     * <p>
+     * @return Geladener Wert
+     * @throws IllegalStateException Der ladende Thread wartet auf sich selbst.
+     * @since 18.10.2026 14:17:51 agent | Realisierung
+     */
+    Object await() {
+      if (this.owner == Thread.currentThread()) throw new IllegalStateException("Rekursives Laden desselben Attributs");
+      try {
+        return join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+        if (e.getCause() instanceof Error) throw (Error) e.getCause();
+        throw e;
+      }
+    }
+  }
+  
 }
@@ -0,0 +1,510 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : ClassAttributes
+ * Version     : 1
+ * Date        : 18.10.2026 13:45:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Statische Attribute einer Klasse oder eines Interfaces.
+ * <p>
+ * Jede Klasse erhält über einen {@link ClassValue} genau eine Instanz. Der Zugriff erfolgt damit
+ * ohne Suche in einer Registry und wird vom JIT wie ein Feld der Klasse behandelt. Die Instanz
+ * verschwindet mit ihrer Klasse.
+ * <p>
+ * Neben den eigenen Attributen kann eine über die Typhierarchie aufgelöste Sicht geliefert werden.
+ * Die eigene Klasse hat Vorrang vor ihren Oberklassen, diese vor den Interfaces, die
+ * {@link InterfaceWithAttributes} erweitern. Die aufgelöste Sicht wird zwischengespeichert und nur
+ * verworfen, wenn sich die Attribute eines Vorfahren ändern.
+ * <p>
+ * Die Attribute im Bereich eines Interfaces liegen über {@link #scopeOf(Class)} in einer eigenen
+ * Instanz. Sie gehören zu keiner Typhierarchie und werden daher nicht an die implementierenden
+ * Klassen vererbt.
+ * <p>
+ * Attribute aus einem {@link AttributeSnapshot} werden erst beim ersten Zugriff auf ihren Namen im
+ * Index des eingeblendeten Snapshots gesucht und übernommen. Erst ein Zugriff auf alle Attribute
+ * übernimmt den gesamten Abschnitt.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 13:45:02 agent | Realisierung
+ * @since 18.10.2026 16:02:02 agent | Verzeichnis aller Instanzen für den {@link AttributeSnapshot}
+ * @since 18.10.2026 17:16:20 agent | Vorfahren für den {@link AttributeOverlay}
+ * @since 18.10.2026 17:45:40 agent | Vormerken der Änderungen im {@link AttributeJournal}
+ * @since 18.10.2026 18:48:02 agent | Eigene Instanzen für den Bereich eines Interfaces
+ * @since 18.10.2026 19:28:20 agent | Übernahme aus dem {@link AttributeSnapshot} beim ersten Zugriff
+ * @see InterfaceWithAttributesController
+ */
+final class ClassAttributes {
+  /** @since 18.10.2026 13:45:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long                           serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  /** Attribute je Klasse.
+   * @since 18.10.2026 13:45:31 agent | Realisierung */
+  private static final ClassValue<ClassAttributes>    CLASSES          = new ClassValue<ClassAttributes>() {
+    @Override
+    protected ClassAttributes computeValue(Class<?> type) {
+      return new ClassAttributes(type, false);
+    }
+  };
+  
+  /** Attribute im Bereich je Interface.
+   * @since 18.10.2026 18:48:10 agent | Realisierung */
+  private static final ClassValue<ClassAttributes>    SCOPES           = new ClassValue<ClassAttributes>() {
+    @Override
+    protected ClassAttributes computeValue(Class<?> type) {
+      return new ClassAttributes(type, true);
+    }
+  };
+  
+  /** Anzahl der angelegten Instanzen.
+   * @since 18.10.2026 15:44:40 agent | Realisierung */
+  private static final AtomicInteger                  COUNT            = new AtomicInteger();
+  
+  /** Alle Instanzen, solange ihre Klasse geladen ist. Zugriff nur unter Sperre des {@link Set}.
+   * @since 18.10.2026 16:02:10 agent | Realisierung */
+  private static final Set<ClassAttributes>           ALL              = Collections.newSetFromMap(new WeakHashMap<>());
+  
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Klasse oder Interface.
+   * @since 18.10.2026 13:45:50 agent | Realisierung */
+  final Class<?>                                      type;
+  
+  /** Attribute im Bereich des Interfaces statt der Klassen-Attribute.
+   * @since 18.10.2026 18:48:20 agent | Realisierung */
+  final boolean                                       scope;
+  
+  /** Eigene Attribute, werden nur über {@link #reset()} ersetzt.
+   * @since 18.10.2026 13:46:02 agent | Realisierung
+   * @since 18.10.2026 19:06:40 agent | Ersetzbar über {@link #reset()} */
+  volatile AttributesOfInterface                      attributes       = new AttributesOfInterface();
+  
+  /** Nachfahren, deren aufgelöste Sicht diese Attribute enthält. Zugriff nur unter Sperre der
+   * {@link WeakHashMap}.
+   * @since 18.10.2026 13:46:20 agent | Realisierung */
+  private final WeakHashMap<ClassAttributes, Boolean> dependents       = new WeakHashMap<>();
+  
+  /** Vorfahren in der Reihenfolge ihres Vorrangs, beginnend mit dieser Klasse.
+   * @since 18.10.2026 13:46:41 agent | Realisierung
+   * @since 18.10.2026 17:16:31 agent | volatile für {@link #ancestors()} */
+  private volatile ClassAttributes[]                  ancestors;
+  
+  /** Aufgelöste Sicht oder <code>null</code>, falls sie neu ermittelt werden muss.
+   * @since 18.10.2026 13:47:02 agent | Realisierung */
+  volatile HashMap<AttributeName, Object>             resolved;
+  
+  /** Ein Vorfahre der aufgelösten Sicht besitzt noch nicht übernommene Attribute aus einem Snapshot,
+   * wird vor {@link #resolved} geschrieben.
+   * @since 18.10.2026 19:28:31 agent | Realisierung */
+  private volatile boolean                            restoring;
+  
+  /** Noch nicht übernommene Attribute aus dem {@link AttributeSnapshot} oder <code>null</code>.
+   * Wird nur unter Sperre der Instanz geändert.
+   * @since 18.10.2026 19:28:40 agent | Realisierung */
+  private volatile AttributeSnapshot.Section          restored;
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Konstruiert die {@link ClassAttributes}.
+   * <p>
+   * @param type Klasse oder Interface
+   * @param scope <code>true</code> für die Attribute im Bereich des Interfaces
+   * @since 18.10.2026 13:47:20 agent | Realisierung
+   * @since 18.10.2026 16:02:20 agent | Aufnahme in {@link #ALL}
+   * @since 18.10.2026 18:48:31 agent | Bereich des Interfaces
+   */
+  private ClassAttributes(Class<?> type, boolean scope) {
+    this.type = type;
+    this.scope = scope;
+    COUNT.incrementAndGet();
+    synchronized (ALL) {
+      ALL.add(this);
+    }
+  }
+  
+  /* -- statisch ---------------------------------------------------------------------------------- */
+  
+  /**
+   * Liefert die Attribute der übergebenen Klasse.
+   * <p>
+   * @param type Klasse oder Interface
+   * @return {@link ClassAttributes}
+   * @since 18.10.2026 13:47:41 agent | Realisierung
+   */
+  static ClassAttributes of(Class<?> type) {
+    return CLASSES.get(type);
+  }
+  
+  /**
+   * Liefert die Attribute im Bereich des übergebenen Interfaces.
+   * <p>
+   * @param scope Interface
+   * @return {@link ClassAttributes}, die nichts erben und nicht vererbt werden.
+   * @since 18.10.2026 18:48:40 agent | Realisierung
+   */
+  static ClassAttributes scopeOf(Class<?> scope) {
+    return SCOPES.get(scope);
+  }
+  
+  /**
+   * Liefert die Attribute der Klasse oder des Bereichs eines Interfaces.
+   * <p>
+   * @param type Klasse oder Interface
+   * @param scope <code>true</code> für den Bereich des Interfaces
+   * @return {@link ClassAttributes}
+   * @since 18.10.2026 18:48:51 agent | Realisierung
+   */
+  static ClassAttributes of(Class<?> type, boolean scope) {
+    return scope ? SCOPES.get(type) : CLASSES.get(type);
+  }
+  
+  /**
+   * Liefert die Anzahl der Klassen, Interfaces und Bereiche, für die Attribute angelegt wurden.
+   * <p>
+   * Klassen, die inzwischen entladen wurden, werden mitgezählt.
+   * <p>
+   * @return Anzahl der Klassen und Interfaces
+   * @since 18.10.2026 15:44:51 agent | Realisierung
+   */
+  static int count() {
+    return COUNT.get();
+  }
+  
+  /**
+   * Liefert alle Instanzen, deren Klasse noch geladen ist.
+   * <p>
+   * @return Momentaufnahme aller {@link ClassAttributes}
+   * @since 18.10.2026 16:02:31 agent | Realisierung
+   */
+  static ClassAttributes[] all() {
+    synchronized (ALL) {
+      return ALL.toArray(new ClassAttributes[ALL.size()]);
+    }
+  }
+  
+  /**
+   * Verwirft die Attribute und Listener aller Klassen und Interfaces.
+   * <p>
+   * @since 18.10.2026 19:06:51 agent | Realisierung
+   * @since 18.10.2026 19:28:51 agent | Verwirft die Attribute aus dem Snapshot
+   */
+  static void reset() {
+    for (ClassAttributes attributes : all()) {
+      synchronized (attributes) {
+        attributes.attributes = new AttributesOfInterface();
+        attributes.restored = null;
+        attributes.resolved = null;
+      }
+    }
+  }
+  
+  /* -- get/set/add/is ---------------------------------------------------------------------------- */
+  
+  /**
+   * Liefert die Vorfahren in der Reihenfolge ihres Vorrangs, beginnend mit dieser Klasse.
+   * <p>
+   * Der Bereich eines Interfaces hat nur sich selbst als Vorfahren.
+   * <p>
+   * @return Vorfahren, das Array darf nicht verändert werden.
+   * @since 18.10.2026 17:16:40 agent | Realisierung
+   */
+  ClassAttributes[] ancestors() {
+    ClassAttributes[] ancestors = this.ancestors;
+    if (ancestors != null) return ancestors;
+    resolve();
+    return this.ancestors;
+  }
+  
+  /**
+   * Liefert den Wert des Attributs.
+   * <p>
+   * @param name {@link AttributeName}
+   * @param inherited <code>true</code>, um über die Typhierarchie aufzulösen.
+   * @return Wert des Attributs
+   * @since 18.10.2026 13:48:02 agent | Realisierung
+   * @since 18.10.2026 19:29:02 agent | Sucht fehlende Attribute im Snapshot
+   */
+  Object get(AttributeName name, boolean inherited) {
+    if (!inherited) return own(name);
+    HashMap<AttributeName, Object> resolved = this.resolved;
+    if (resolved == null) resolved = resolve();
+    if (!this.restoring) return AttributeCell.valueOf(resolved.get(name));
+    for (ClassAttributes ancestor : this.ancestors) {
+      if (ancestor.attributes.contains(name) || ancestor.load(name)) return ancestor.attributes.get(name);
+    }
+    return null;
+  }
+  
+  /**
+   * Liefert eine Kopie aller Attribute.
+   * <p>
+   * @param inherited <code>true</code>, um über die Typhierarchie aufzulösen.
+   * @return {@link HashMap}&lt;String, Object&gt;
+   * @since 18.10.2026 13:48:30 agent | Realisierung
+   * @since 18.10.2026 19:29:10 agent | Übernimmt vorab alle Attribute aus dem Snapshot
+   */
+  HashMap<String, Object> get(boolean inherited) {
+    if (!inherited) {
+      materialize(false);
+      return this.attributes.get();
+    }
+    for (ClassAttributes ancestor : ancestors()) {
+      ancestor.materialize(false);
+    }
+    HashMap<AttributeName, Object> resolved = this.resolved;
+    if (resolved == null) resolved = resolve();
+    HashMap<String, Object> copy = new HashMap<>(Math.max(16, (int) (resolved.size() / .75f) + 1));
+    for (Entry<AttributeName, Object> e : resolved.entrySet()) {
+      copy.put(e.getKey().name, AttributeCell.valueOf(e.getValue()));
+    }
+    return copy;
+  }
+  
+  /**
+   * Setzt den Wert des Attributs und verwirft die aufgelösten Sichten aller Nachfahren.
+   * <p>
+   * @param name {@link AttributeName}
+   * @param value Wert
+   * @since 18.10.2026 13:49:02 agent | Realisierung
+   * @since 18.10.2026 17:45:51 agent | Vormerken im {@link AttributeJournal}
+   */
+  void put(AttributeName name, Object value) {
+    this.attributes.put(name, value);
+    changed();
+    if (AttributeJournal.active) AttributeJournal.changed(this, name);
+  }
+  
+  /**
+   * Setzt mehrere Werte unter einer Sperre und verwirft die aufgelösten Sichten aller Nachfahren.
+   * <p>
+   * @param names Eindeutige Namen
+   * @param values Werte an den Positionen der Namen
+   * @since 18.10.2026 16:02:40 agent | Realisierung
+   * @since 18.10.2026 17:46:02 agent | Vormerken im {@link AttributeJournal}
+   */
+  void putAll(AttributeName[] names, Object[] values) {
+    this.attributes.putAll(names, values);
+    changed();
+    if (AttributeJournal.active) {
+      for (AttributeName name : names) {
+        if (name != null) AttributeJournal.changed(this, name);
+      }
+    }
+  }
+  
+  /**
+   * Übernimmt einen Abschnitt aus dem {@link AttributeSnapshot}.
+   * <p>
+   * Sofort gelesen werden nur die Namen der vorhandenen Attribute, deren Werte der Abschnitt
+   * überschreibt. Nur für diese werden Listener benachrichtigt. Alle übrigen Attribute werden erst
+   * beim ersten Zugriff im Index gesucht, ein zuvor übernommener Abschnitt hat dabei geringeren
+   * Vorrang. Ist das {@link AttributeJournal} aktiv, wird der Abschnitt sofort vollständig
+   * übernommen und vorgemerkt.
+   * <p>
+   * @param section {@link AttributeSnapshot.Section}
+   * @since 18.10.2026 19:29:20 agent | Realisierung
+   */
+  void restore(AttributeSnapshot.Section section) {
+    ArrayList<AttributeName> names = new ArrayList<>();
+    ArrayList<Object> values = new ArrayList<>();
+    this.attributes.forEach((name, content) -> {
+      Object value = section.find(name.name);
+      if (value == AttributeSnapshot.ABSENT) return;
+      names.add(name);
+      values.add(value);
+    });
+    synchronized (this) {
+      section.next = this.restored;
+      this.restored = section;
+    }
+    if (names.isEmpty()) changed();
+    else putAll(names.toArray(new AttributeName[names.size()]), values.toArray());
+    if (AttributeJournal.active) materialize(true);
+  }
+  
+  /**
+   * Liefert den Wert und lädt ihn einmalig in die eigenen Attribute, falls er fehlt.
+   * <p>
+   * @param <K> Typ des Schlüssels für den Lader
+   * @param name {@link AttributeName}
+   * @param inherited <code>true</code>, um vorab über die Typhierarchie aufzulösen.
+   * @param key Schlüssel, der dem Lader übergeben wird.
+   * @param loader Ermittelt den Wert.
+   * @return Wert des Attributs oder <code>null</code>
+   * @since 18.10.2026 14:18:20 agent | Realisierung
+   * @since 18.10.2026 17:46:10 agent | Vormerken im {@link AttributeJournal}
+   * @see AttributesOfInterface#computeIfAbsent(AttributeName, Object, Function)
+   */
+  <K> Object computeIfAbsent(AttributeName name, boolean inherited, K key, Function<? super K, ?> loader) {
+    Object value = get(name, inherited);
+    if (value != null) return value;
+    value = this.attributes.computeIfAbsent(name, key, loader);
+    changed();
+    if (AttributeJournal.active) AttributeJournal.changed(this, name);
+    return value;
+  }
+  
+  /* -- Hilfsmethoden ----------------------------------------------------------------------------- */
+  
+  /**
+   * Liefert den eigenen Wert und sucht ein fehlendes Attribut im Snapshot.
+   * <p>
+   * @param name {@link AttributeName}
+   * @return Wert des Attributs
+   * @since 18.10.2026 19:29:31 agent | Realisierung
+   */
+  private Object own(AttributeName name) {
+    AttributesOfInterface attributes = this.attributes;
+    Object value = attributes.get(name);
+    if (value != null || this.restored == null || attributes.contains(name) || !load(name)) return value;
+    return this.attributes.get(name);
+  }
+  
+  /**
+   * Sucht das Attribut in den Abschnitten aus dem Snapshot und übernimmt es, falls es nicht
+   * inzwischen gesetzt wurde.
+   * <p>
+   * @param name {@link AttributeName}
+   * @return <code>true</code>, falls ein Abschnitt das Attribut enthält.
+   * @since 18.10.2026 19:29:40 agent | Realisierung
+   */
+  private boolean load(AttributeName name) {
+    for (AttributeSnapshot.Section section = this.restored; section != null; section = section.next) {
+      Object value = section.find(name.name);
+      if (value == AttributeSnapshot.ABSENT) continue;
+      this.attributes.restore(name, value);
+      return true;
+    }
+    return false;
+  }
+  
+  /**
+   * Übernimmt alle noch nicht übernommenen Attribute aus dem Snapshot.
+   * <p>
+   * @param journal <code>true</code>, um die übernommenen Attribute im {@link AttributeJournal} vorzumerken.
+   * @since 18.10.2026 19:29:51 agent | Realisierung
+   */
+  private void materialize(boolean journal) {
+    if (this.restored == null) return;
+    ArrayList<AttributeName> names = new ArrayList<>();
+    synchronized (this) {
+      AttributesOfInterface attributes = this.attributes;
+      for (AttributeSnapshot.Section section = this.restored; section != null; section = section.next) {
+        section.forEach((name, value) -> {
+          if (attributes.restore(name, value) && journal) names.add(name);
+        });
+      }
+      this.restored = null;
+    }
+    changed();
+    for (AttributeName name : names) {
+      AttributeJournal.changed(this, name);
+    }
+  }
+  
+  /**
+   * Verwirft die aufgelösten Sichten aller Nachfahren.
+   * <p>
+   * Die Sperre des Nachfahren wartet auf eine gerade laufende Auflösung, die den bisherigen Wert
+   * gelesen haben könnte.
+   * <p>
+   * @since 18.10.2026 13:49:30 agent | Realisierung
+   */
+  private void changed() {
+    ClassAttributes[] dependents;
+    synchronized (this.dependents) {
+      if (this.dependents.isEmpty()) return;
+      dependents = this.dependents.keySet().toArray(new ClassAttributes[0]);
+    }
+    for (ClassAttributes dependent : dependents) {
+      synchronized (dependent) {
+        dependent.resolved = null;
+      }
+    }
+  }
+  
+  /**
+   * Ermittelt die aufgelöste Sicht.
+   * <p>
+   * @return Aufgelöste Sicht mit den abgelegten Inhalten
+   * @since 18.10.2026 13:50:02 agent | Realisierung
+   * @since 18.10.2026 18:49:02 agent | Ohne Vorfahren für den Bereich eines Interfaces
+   * @since 18.10.2026 19:30:02 agent | Merkt sich Vorfahren mit Attributen aus einem Snapshot
+   */
+  private synchronized HashMap<AttributeName, Object> resolve() {
+    HashMap<AttributeName, Object> resolved = this.resolved;
+    if (resolved != null) return resolved;
+    if (this.ancestors == null) {
+      this.ancestors = this.scope ? new ClassAttributes[] { this } : ancestors(this.type);
+      for (ClassAttributes ancestor : this.ancestors) {
+        synchronized (ancestor.dependents) {
+          ancestor.dependents.put(this, Boolean.TRUE);
+        }
+      }
+    }
+    HashMap<AttributeName, Object> values = new HashMap<>();
+    boolean restoring = false;
+    for (ClassAttributes ancestor : this.ancestors) {
+      restoring |= ancestor.restored != null;
+      ancestor.attributes.forEach((name, content) -> {
+        if (!values.containsKey(name)) values.put(name, content);
+      });
+    }
+    this.restoring = restoring;
+    this.resolved = values;
+    return values;
+  }
+  
+  /**
+   * Ermittelt die Vorfahren der Klasse, die {@link InterfaceWithAttributes} implementieren.
+   * <p>
+   * Zuerst die Klasse und ihre Oberklassen, danach die Interfaces in Breitensuche.
+   * {@link InterfaceWithAttributes} selbst gehört nicht dazu.
+   * <p>
+   * @param type Klasse oder Interface
+   * @return Vorfahren, beginnend mit der Klasse selbst
+   * @since 18.10.2026 13:50:40 agent | Realisierung
+   */
+  private static ClassAttributes[] ancestors(Class<?> type) {
+    LinkedHashSet<Class<?>> types = new LinkedHashSet<>();
+    ArrayDeque<Class<?>> interfaces = new ArrayDeque<>();
+    for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+      types.add(current);
+      for (Class<?> i : current.getInterfaces()) interfaces.add(i);
+    }
+    while (!interfaces.isEmpty()) {
+      Class<?> current = interfaces.poll();
+      if (types.add(current)) {
+        for (Class<?> i : current.getInterfaces()) interfaces.add(i);
+      }
+    }
+    ArrayList<ClassAttributes> ancestors = new ArrayList<>(types.size());
+    for (Class<?> current : types) {
+      if (current != InterfaceWithAttributes.class && InterfaceWithAttributes.class.isAssignableFrom(current)) {
+        ancestors.add(of(current));
+      }
+    }
+    if (ancestors.isEmpty() || ancestors.get(0).type != type) ancestors.add(0, of(type));
+    return ancestors.toArray(new ClassAttributes[ancestors.size()]);
+  }
+  
+}
@@ -0,0 +1,909 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : ConcurrentWeakRegistry
+ * Version     : 1
+ * Date        : 18.10.2026 10:12:04
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Spliterator;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Threadsichere Ablage mit schwachen Schlüsseln als Ersatz für die {@link WeakHashMap}.
+ * <p>
+ * Im Gegensatz zur {@link WeakHashMap} werden die Schlüssel über ihre Identität verglichen. 
+ * Die Methoden {@link Object#hashCode()} und {@link Object#equals(Object)} des Schlüssels werden 
+ * nicht aufgerufen, der Aufwand einer Suche ist daher unabhängig von deren Implementierung. 
+ * Gleiche, aber unterschiedliche Objekte erhalten jeweils einen eigenen Eintrag.
+ * <p>
+ * Die Einträge sind auf Segmente verteilt, die jeweils durch eine eigene Sperre geschützt sind.
+ * Schreibzugriffe auf Schlüssel in verschiedenen Segmenten behindern sich somit nicht.
+ * Lesezugriffe erfolgen ohne Sperre über <code>volatile</code>-Felder und skalieren daher über
+ * alle Prozessorkerne.
+ * <p>
+ * Wie bei der {@link WeakHashMap} werden Einträge, deren Schlüssel nicht mehr stark referenziert
+ * wird, automatisch entfernt. Die Bereinigung erfolgt schrittweise bei Schreibzugriffen oder
+ * vollständig in einem eigenen Thread über {@link #awaitStaleEntries(int, long)}, Lesezugriffe
+ * sind davon nicht betroffen. Der Wert eines solchen Eintrags kann über eine
+ * Bereinigungsfunktion freigegeben werden.
+ * <p>
+ * Weder Schlüssel noch Werte dürfen <code>null</code> sein. Der Wert wird stark referenziert, 
+ * ein Wert, der seinen eigenen Schlüssel referenziert, verhindert daher dessen Freigabe.
+ * <p>
+ * @param <K> Typ des Schlüssels
+ * @param <V> Typ des Wertes
+ * @author agent
+ * @since 18.10.2026 10:12:04 agent | Realisierung
+ * @since 18.10.2026 11:02:40 agent | Vergleich der Schlüssel über die Identität
+ * @since 18.10.2026 16:23:40 agent | Bereinigungsfunktion für verwaiste Werte
+ * @since 18.10.2026 16:34:02 agent | Bereinigung ohne Schreibzugriffe
+ * @since 18.10.2026 16:40:02 agent | Durchlauf aller Einträge
+ * @since 18.10.2026 16:48:02 agent | Parallel teilbarer Durchlauf über {@link #spliterator()}
+ * @since 18.10.2026 18:11:20 agent | Schwache Referenz eines Eintrags über {@link #reference(Object)}
+ * @since 18.10.2026 19:06:02 agent | Entfernen aller Einträge über {@link #clear()}
+ * @see InterfaceWithAttributesController
+ */
+class ConcurrentWeakRegistry<K, V> {
+  /** @since 18.10.2026 10:12:09 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long         serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  /** Anzahl der verwaisten Einträge, die höchstens bei einem Schreibzugriff entfernt werden.
+   * @since 18.10.2026 10:13:40 agent | Realisierung */
+  static final int                  EXPUNGE_BATCH    = 64;
+  
+  /** Anfängliche Kapazität eines Segments.
+   * @since 18.10.2026 10:13:52 agent | Realisierung */
+  private static final int          SEGMENT_CAPACITY = 16;
+  
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Segmente, auf die die Einträge anhand des Hashwertes verteilt werden.
+   * @since 18.10.2026 10:14:11 agent | Realisierung */
+  private final Segment[]           segments;
+  
+  /** Anzahl der Bits, um die der Hashwert zur Bestimmung des Segments verschoben wird.
+   * @since 18.10.2026 10:14:20 agent | Realisierung */
+  private final int                 segmentShift;
+  
+  /** Nimmt die Einträge auf, deren Schlüssel vom GarbageCollector entfernt wurden.
+   * @since 18.10.2026 10:14:33 agent | Realisierung */
+  private final ReferenceQueue<K>   queue            = new ReferenceQueue<>();
+  
+  /** Erhält die Werte der verwaisten Einträge oder <code>null</code>.
+   * @since 18.10.2026 16:23:51 agent | Realisierung */
+  private final Consumer<? super V> expunged;
+  
+  /** Schreibzugriffe bereinigen verwaiste Einträge, Vorgabe ist <code>true</code>.
+   * @since 18.10.2026 16:34:10 agent | Realisierung */
+  private volatile boolean          expungeOnWrite   = true;
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Konstruiert eine {@link ConcurrentWeakRegistry} mit einer an die Prozessorkerne angepassten
+   * Anzahl an Segmenten.
+   * <p>
+   * @since 18.10.2026 10:15:02 agent | Realisierung
+   */
+  ConcurrentWeakRegistry() {
+    this(null);
+  }
+  
+  /**
+   * Konstruiert eine {@link ConcurrentWeakRegistry} mit einer an die Prozessorkerne angepassten
+   * Anzahl an Segmenten und einer Bereinigungsfunktion.
+   * <p>
+   * @param expunged Erhält den Wert jedes verwaisten Eintrags bei dessen Bereinigung oder <code>null</code>.
+   * @since 18.10.2026 16:24:02 agent | Realisierung
+   */
+  ConcurrentWeakRegistry(Consumer<? super V> expunged) {
+    this(Runtime.getRuntime().availableProcessors() * 4, expunged);
+  }
+  
+  /**
+   * Konstruiert eine {@link ConcurrentWeakRegistry}.
+   * <p>
+   * @param concurrency Gewünschte Anzahl an Segmenten, wird auf die nächste Zweierpotenz aufgerundet.
+   * @since 18.10.2026 10:15:19 agent | Realisierung
+   */
+  ConcurrentWeakRegistry(int concurrency) {
+    this(concurrency, null);
+  }
+  
+  /**
+   * Konstruiert eine {@link ConcurrentWeakRegistry} mit Bereinigungsfunktion.
+   * <p>
+   * @param concurrency Gewünschte Anzahl an Segmenten, wird auf die nächste Zweierpotenz aufgerundet.
+   * @param expunged Erhält den Wert jedes verwaisten Eintrags bei dessen Bereinigung oder <code>null</code>.
+   * @since 18.10.2026 16:24:10 agent | Realisierung
+   */
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  ConcurrentWeakRegistry(int concurrency, Consumer<? super V> expunged) {
+    this.expunged = expunged;
+    int size = 1;
+    int bits = 0;
+    while (size < concurrency && size < (1 << 16)) {
+      size <<= 1;
+      bits++;
+    }
+    this.segmentShift = 32 - bits;
+    this.segments = new ConcurrentWeakRegistry.Segment[size];
+    for (int i = 0; i < size; i++) {
+      this.segments[i] = new Segment();
+    }
+  }
+  
+  /* -- get/set/add/is ---------------------------------------------------------------------------- */
+  
+  /**
+   * Liefert den Wert zum übergebenen Schlüssel ohne eine Sperre zu setzen.
+   * <p>
+   * @param key Schlüssel
+   * @return Wert oder <code>null</code>, falls kein Eintrag vorhanden ist.
+   * @since 18.10.2026 10:16:02 agent | Realisierung
+   */
+  V get(K key) {
+    int hash = hash(key);
+    Entry<K, V> entry = segmentFor(hash).entry(key, hash);
+    return entry == null ? null : entry.value;
+  }
+  
+  /**
+   * Liefert die schwache Referenz des Eintrags auf den Schlüssel ohne eine Sperre zu setzen.
+   * <p>
+   * Die Referenz bleibt dieselbe, solange der Eintrag besteht, und wird beim Entfernen des
+   * Eintrags geleert. Sie kann daher an anderer Stelle als schwacher Verweis auf den Schlüssel
+   * dienen, ohne einen weiteren anzulegen.
+   * <p>
+   * @param key Schlüssel
+   * @return {@link WeakReference} oder <code>null</code>, falls kein Eintrag vorhanden ist.
+   * @since 18.10.2026 18:11:31 agent | Realisierung
+   */
+  WeakReference<K> reference(K key) {
+    int hash = hash(key);
+    return segmentFor(hash).entry(key, hash);
+  }
+  
+  /**
+   * Legt den Wert zum übergebenen Schlüssel ab und überschreibt einen bestehenden Eintrag.
+   * <p>
+   * @param key Schlüssel
+   * @param value Wert
+   * @return Bisheriger Wert oder <code>null</code>
+   * @since 18.10.2026 10:16:31 agent | Realisierung
+   */
+  V put(K key, V value) {
+    if (this.expungeOnWrite) expungeStaleEntries(EXPUNGE_BATCH);
+    int hash = hash(key);
+    return segmentFor(hash).put(key, hash, value, false);
+  }
+  
+  /**
+   * Legt den Wert zum übergebenen Schlüssel nur ab, wenn noch kein Eintrag vorhanden ist.
+   * <p>
+   * @param key Schlüssel
+   * @param value Wert
+   * @return Bestehender Wert oder <code>null</code>, falls der übergebene Wert abgelegt wurde.
+   * @since 18.10.2026 10:16:58 agent | Realisierung
+   */
+  V putIfAbsent(K key, V value) {
+    if (this.expungeOnWrite) expungeStaleEntries(EXPUNGE_BATCH);
+    int hash = hash(key);
+    return segmentFor(hash).put(key, hash, value, true);
+  }
+  
+  /**
+   * Liefert den Wert zum übergebenen Schlüssel und legt ihn bei Bedarf über die Funktion an.
+   * <p>
+   * Ist der Eintrag bereits vorhanden, erfolgt der Zugriff ohne Sperre. Die Funktion wird
+   * innerhalb der Sperre des Segments aufgerufen und höchstens einmal je Schlüssel ausgeführt.
+   * <p>
+   * @param key Schlüssel
+   * @param function Erzeugt den Wert, falls kein Eintrag vorhanden ist.
+   * @return Bestehender oder neu angelegter Wert
+   * @since 18.10.2026 10:17:30 agent | Realisierung
+   */
+  V computeIfAbsent(K key, Function<? super K, ? extends V> function) {
+    int hash = hash(key);
+    Segment segment = segmentFor(hash);
+    Entry<K, V> entry = segment.entry(key, hash);
+    V value = entry == null ? null : entry.value;
+    if (value != null) return value;
+    if (this.expungeOnWrite) expungeStaleEntries(EXPUNGE_BATCH);
+    return segment.computeIfAbsent(key, hash, function);
+  }
+  
+  /**
+   * Entfernt den Eintrag zum übergebenen Schlüssel.
+   * <p>
+   * Bereinigt wie jeder Schreibzugriff zuvor verwaiste Einträge, auch wenn kein Eintrag vorhanden ist.
+   * <p>
+   * @param key Schlüssel
+   * @return Entfernter Wert oder <code>null</code>
+   * @since 18.10.2026 10:18:01 agent | Realisierung
+   * @since 18.10.2026 17:31:02 agent | Bereinigt verwaiste Einträge
+   */
+  V remove(K key) {
+    if (this.expungeOnWrite) expungeStaleEntries(EXPUNGE_BATCH);
+    int hash = hash(key);
+    return segmentFor(hash).remove(key, hash);
+  }
+  
+  /**
+   * Entfernt alle Einträge und übergibt ihre Werte der Bereinigungsfunktion.
+   * <p>
+   * Die Segmente werden nacheinander geleert, gleichzeitig eingefügte Einträge bleiben eventuell erhalten.
+   * <p>
+   * @since 18.10.2026 19:06:10 agent | Realisierung
+   */
+  void clear() {
+    for (Segment segment : this.segments) {
+      for (V value : segment.clear()) {
+        if (this.expunged != null) this.expunged.accept(value);
+      }
+    }
+  }
+  
+  /**
+   * Liefert die Anzahl der Einträge.
+   * <p>
+   * Bei gleichzeitigen Änderungen ist der Wert eine Momentaufnahme. Verwaiste Einträge, die noch
+   * nicht bereinigt wurden, werden mitgezählt.
+   * <p>
+   * @return Anzahl der Einträge
+   * @since 18.10.2026 10:18:25 agent | Realisierung
+   */
+  int size() {
+    long size = 0;
+    for (Segment segment : this.segments) {
+      size += segment.count;
+    }
+    return (int) Math.min(size, Integer.MAX_VALUE);
+  }
+  
+  /**
+   * Legt fest, ob Schreibzugriffe verwaiste Einträge bereinigen.
+   * <p>
+   * Ohne Bereinigung bei Schreibzugriffen muss ein eigener Thread
+   * {@link #awaitStaleEntries(int, long)} aufrufen, andernfalls werden verwaiste Einträge nur noch
+   * beim Vergrößern eines Segments verworfen.
+   * <p>
+   * @param expungeOnWrite <code>true</code>, um bei Schreibzugriffen zu bereinigen.
+   * @since 18.10.2026 16:34:20 agent | Realisierung
+   */
+  void setExpungeOnWrite(boolean expungeOnWrite) {
+    this.expungeOnWrite = expungeOnWrite;
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * Übergibt alle Einträge, deren Schlüssel noch erreichbar ist, ohne eine Sperre zu setzen.
+   * <p>
+   * Der Durchlauf ist schwach konsistent: Gleichzeitig eingefügte oder entfernte Einträge sind
+   * eventuell enthalten, beim Vergrößern eines Segments kann ein Eintrag doppelt oder gar nicht
+   * übergeben werden.
+   * <p>
+   * @param action Erhält Schlüssel und Wert jedes Eintrags.
+   * @since 18.10.2026 16:40:10 agent | Realisierung
+   */
+  void forEach(BiConsumer<? super K, ? super V> action) {
+    for (Segment segment : this.segments) {
+      AtomicReferenceArray<Entry<K, V>> tab = segment.table;
+      for (int i = 0; i < tab.length(); i++) {
+        for (Entry<K, V> e = tab.get(i); e != null; e = e.next) {
+          K key = e.get();
+          V value = e.value;
+          if (key != null && value != null) action.accept(key, value);
+        }
+      }
+    }
+  }
+  
+  /**
+   * Liefert einen {@link Spliterator} über alle Schlüssel, die noch erreichbar sind.
+   * <p>
+   * Der Durchlauf setzt keine Sperre und kopiert keine Einträge. Er ist wie {@link #forEach(BiConsumer)}
+   * schwach konsistent. Geteilt wird zuerst über die Segmente, ein einzelnes Segment anschließend über
+   * die Buckets seiner Tabelle.
+   * <p>
+   * @return {@link Spliterator} der Schlüssel
+   * @since 18.10.2026 16:48:10 agent | Realisierung
+   */
+  Spliterator<K> spliterator() {
+    return new KeySpliterator(0, this.segments.length, null, 0, 0, size());
+  }
+  
+  /**
+   * Entfernt höchstens die übergebene Anzahl an Einträgen, deren Schlüssel vom GarbageCollector
+   * entfernt wurden.
+   * <p>
+   * Die Bereinigungsfunktion erhält jeden verwaisten Wert genau einmal, auch wenn der Eintrag bereits
+   * beim Vergrößern eines Segments verworfen wurde. Explizit entfernte Einträge werden nicht übergeben,
+   * auch wenn ihre Referenz bereits in der Queue liegt.
+   * <p>
+   * @param max Maximale Anzahl zu bereinigender Einträge
+   * @return Anzahl der tatsächlich entfernten Einträge
+   * @since 18.10.2026 10:19:02 agent | Realisierung
+   * @since 18.10.2026 15:45:02 agent | Messung über {@link AttributeMonitor}
+   * @since 18.10.2026 16:24:20 agent | Übergabe an die Bereinigungsfunktion
+   * @since 18.10.2026 19:02:10 agent | Überspringt explizit entfernte Einträge
+   */
+  int expungeStaleEntries(int max) {
+    return max <= 0 ? 0 : expunge(this.queue.poll(), max);
+  }
+  
+  /**
+   * Wartet auf verwaiste Einträge und entfernt höchstens die übergebene Anzahl.
+   * <p>
+   * Gedacht für einen eigenen Thread, der die Bereinigung von den Schreibzugriffen übernimmt.
+   * <p>
+   * @param max Maximale Anzahl zu bereinigender Einträge
+   * @param timeout Maximale Wartezeit in Millisekunden, <code>0</code> wartet unbegrenzt.
+   * @return Anzahl der verwaisten Einträge, die bereinigt wurden.
+   * @throws InterruptedException Beim Warten unterbrochen
+   * @since 18.10.2026 16:34:31 agent | Realisierung
+   */
+  int awaitStaleEntries(int max, long timeout) throws InterruptedException {
+    return max <= 0 ? 0 : expunge(this.queue.remove(timeout), max);
+  }
+  
+  /* -- Hilfsmethoden ----------------------------------------------------------------------------- */
+  
+  /**
+   * Entfernt den ersten und weitere verwaiste Einträge aus der Queue, höchstens die übergebene Anzahl.
+   * <p>
+   * @param reference Erster verwaister Eintrag oder <code>null</code>
+   * @param max Maximale Anzahl zu bereinigender Einträge, größer <code>0</code>
+   * @return Anzahl der tatsächlich entfernten Einträge
+   * @since 18.10.2026 16:34:40 agent | Realisierung
+   * @since 18.10.2026 19:02:20 agent | Übernimmt den Wert unter der Sperre des Segments
+   */
+  @SuppressWarnings("unchecked")
+  private int expunge(Reference<? extends K> reference, int max) {
+    if (reference == null) return 0;
+    long start = AttributeMonitor.enabled ? System.nanoTime() : 0;
+    int removed = 0;
+    for (int i = 1; reference != null; i++) {
+      Entry<K, V> entry = (Entry<K, V>) reference;
+      V value = segmentFor(entry.hash).unlink(entry);
+      if (value != null) {
+        removed++;
+        if (this.expunged != null) this.expunged.accept(value);
+      }
+      if (i >= max) break;
+      reference = this.queue.poll();
+    }
+    if (start != 0) AttributeMonitor.expunged(removed, System.nanoTime() - start);
+    return removed;
+  }
+  
+  /**
+   * Liefert das für den Hashwert zuständige Segment.
+   * <p>
+   * @param hash Verteilter Hashwert
+   * @return {@link Segment}
+   * @since 18.10.2026 10:19:40 agent | Realisierung
+   */
+  private Segment segmentFor(int hash) {
+    return this.segments.length == 1 ? this.segments[0] : this.segments[hash >>> this.segmentShift];
+  }
+  
+  /**
+   * Verteilt den Identitäts-Hashwert des Schlüssels auf alle Segmente und Buckets.
+   * <p>
+   * @param key Schlüssel
+   * @return Verteilter Hashwert
+   * @since 18.10.2026 10:20:03 agent | Realisierung
+   * @since 18.10.2026 11:03:05 agent | {@link System#identityHashCode(Object)} statt {@link Object#hashCode()}
+   */
+  static int hash(Object key) {
+    int h = System.identityHashCode(key) * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+  
+  /**
+   * Vergleicht den Schlüssel eines Eintrags mit dem gesuchten Schlüssel über die Identität.
+   * <p>
+   * @param entry Eintrag
+   * @param key Gesuchter Schlüssel
+   * @return <code>true</code>, wenn es sich um dasselbe Objekt handelt.
+   * @since 18.10.2026 10:20:31 agent | Realisierung
+   * @since 18.10.2026 11:03:22 agent | Vergleich über die Identität
+   */
+  static boolean matches(Entry<?, ?> entry, Object key) {
+    return entry.get() == key;
+  }
+  
+  /* -- Innere Klassen ---------------------------------------------------------------------------- */
+  
+  /**
+   * Eintrag der {@link ConcurrentWeakRegistry} mit schwacher Referenz auf den Schlüssel.
+   * <p>
+   * @param <K> Typ des Schlüssels
+   * @param <V> Typ des Wertes
+   * @since 18.10.2026 10:21:02 agent | Realisierung
+   */
+  static final class Entry<K, V> extends WeakReference<K> {
+    /** Verteilter Hashwert des Schlüssels.
+     * @since 18.10.2026 10:21:10 agent | Realisierung */
+    final int            hash;
+    
+    /** Wert des Eintrags, <code>null</code> sobald der Eintrag entfernt wurde.
+     * @since 18.10.2026 10:21:14 agent | Realisierung
+     * @since 18.10.2026 19:02:31 agent | Kennzeichnet entfernte Einträge */
+    volatile V           value;
+    
+    /** Nächster Eintrag im selben Bucket.
+     * @since 18.10.2026 10:21:19 agent | Realisierung */
+    volatile Entry<K, V> next;
+    
+    /**
+     * Konstruiert einen {@link Entry}.
+     * <p>
+     * @param key Schlüssel
+     * @param hash Verteilter Hashwert
+     * @param value Wert
+     * @param next Nächster Eintrag im Bucket
+     * @param queue Queue für verwaiste Einträge
+     * @since 18.10.2026 10:21:40 agent | Realisierung
+     */
+    Entry(K key, int hash, V value, Entry<K, V> next, ReferenceQueue<? super K> queue) {
+      super(key, queue);
+      this.hash = hash;
+      this.value = value;
+      this.next = next;
+    }
+  }
+  
+  /**
+   * Teilbarer Durchlauf über die Schlüssel eines Bereichs von Segmenten.
+   * <p>
+   * Solange mehrere Segmente übrig sind, wird der Bereich der Segmente halbiert. Ein einzelnes
+   * Segment wird über die Buckets der beim ersten Zugriff gelesenen Tabelle geteilt. Eine später
+   * vergrößerte Tabelle wird nicht mehr berücksichtigt, die umgehängten Einträge bleiben bis auf
+   * gleichzeitig bewegte jedoch über die alte Tabelle erreichbar.
+   * <p>
+   * @since 18.10.2026 16:48:20 agent | Realisierung
+   */
+  final class KeySpliterator implements Spliterator<K> {
+    /** Index des aktuellen Segments.
+     * @since 18.10.2026 16:48:24 agent | Realisierung */
+    private int                               segment;
+    
+    /** Index hinter dem letzten Segment.
+     * @since 18.10.2026 16:48:31 agent | Realisierung */
+    private final int                         fence;
+    
+    /** Tabelle des aktuellen Segments oder <code>null</code>, falls sie noch nicht gelesen wurde.
+     * @since 18.10.2026 16:48:40 agent | Realisierung */
+    private AtomicReferenceArray<Entry<K, V>> table;
+    
+    /** Nächster Bucket der Tabelle.
+     * @since 18.10.2026 16:48:51 agent | Realisierung */
+    private int                               bucket;
+    
+    /** Bucket hinter dem letzten Bucket der Tabelle.
+     * @since 18.10.2026 16:49:02 agent | Realisierung */
+    private int                               bucketFence;
+    
+    /** Nächster Eintrag im aktuellen Bucket oder <code>null</code>.
+     * @since 18.10.2026 16:49:10 agent | Realisierung */
+    private Entry<K, V>                       next;
+    
+    /** Geschätzte Anzahl der Schlüssel.
+     * @since 18.10.2026 16:49:20 agent | Realisierung */
+    private long                              estimate;
+    
+    /**
+     * Konstruiert einen {@link KeySpliterator}.
+     * <p>
+     * @param segment Erstes Segment
+     * @param fence Index hinter dem letzten Segment
+     * @param table Bereits gelesene Tabelle des ersten Segments oder <code>null</code>
+     * @param bucket Erster Bucket der Tabelle
+     * @param bucketFence Bucket hinter dem letzten Bucket der Tabelle
+     * @param estimate Geschätzte Anzahl der Schlüssel
+     * @since 18.10.2026 16:49:31 agent | Realisierung
+     */
+    KeySpliterator(int segment, int fence, AtomicReferenceArray<Entry<K, V>> table, int bucket, int bucketFence, long estimate) {
+      this.segment = segment;
+      this.fence = fence;
+      this.table = table;
+      this.bucket = bucket;
+      this.bucketFence = bucketFence;
+      this.estimate = estimate;
+    }
+    
+    /**
+     * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+     * @since 18.10.2026 16:49:40 agent | Realisierung
+     */
+    @Override
+    public boolean tryAdvance(Consumer<? super K> action) {
+      for (;;) {
+        while (this.next != null) {
+          Entry<K, V> e = this.next;
+          this.next = e.next;
+          K key = e.get();
+          if (key != null) {
+            action.accept(key);
+            return true;
+          }
+        }
+        if (!advance()) return false;
+      }
+    }
+    
+    /**
+     * @see java.util.Spliterator#forEachRemaining(java.util.function.Consumer)
+     * @since 18.10.2026 16:49:51 agent | Realisierung
+     */
+    @Override
+    public void forEachRemaining(Consumer<? super K> action) {
+      do {
+        for (Entry<K, V> e = this.next; e != null; e = e.next) {
+          K key = e.get();
+          if (key != null) action.accept(key);
+        }
+        this.next = null;
+      } while (advance());
+    }
+    
+    /**
+     * Teilt zuerst die Segmente, danach die Buckets des letzten Segments.
+     * <p>
+     * @see java.util.Spliterator#trySplit()
+     * @since 18.10.2026 16:50:02 agent | Realisierung
+     */
+    @Override
+    public Spliterator<K> trySplit() {
+      if (this.table == null && this.fence - this.segment > 1) {
+        int mid = (this.segment + this.fence) >>> 1;
+        KeySpliterator prefix = new KeySpliterator(this.segment, mid, null, 0, 0, this.estimate >>>= 1);
+        this.segment = mid;
+        return prefix;
+      }
+      if (this.table == null && this.fence - this.segment == 1) {
+        AtomicReferenceArray<Entry<K, V>> table = ConcurrentWeakRegistry.this.segments[this.segment].table;
+        this.table = table;
+        this.bucket = 0;
+        this.bucketFence = table.length();
+      }
+      if (this.table == null || this.next != null || this.bucketFence - this.bucket < 2) return null;
+      int mid = (this.bucket + this.bucketFence) >>> 1;
+      KeySpliterator prefix = new KeySpliterator(this.segment, this.segment + 1, this.table, this.bucket, mid, this.estimate >>>= 1);
+      this.bucket = mid;
+      return prefix;
+    }
+    
+    /**
+     * @see java.util.Spliterator#estimateSize()
+     * @since 18.10.2026 16:50:10 agent | Realisierung
+     */
+    @Override
+    public long estimateSize() {
+      return this.estimate;
+    }
+    
+    /**
+     * @see java.util.Spliterator#characteristics()
+     * @since 18.10.2026 16:50:20 agent | Realisierung
+     */
+    @Override
+    public int characteristics() {
+      return Spliterator.CONCURRENT | Spliterator.NONNULL;
+    }
+    
+    /**
+     * Geht zum nächsten Bucket, bei Bedarf zum nächsten Segment.
+     * <p>
+     * @return <code>false</code>, falls der Bereich durchlaufen ist.
+     * @since 18.10.2026 16:50:31 agent | Realisierung
+     */
+    private boolean advance() {
+      for (;;) {
+        if (this.table == null) {
+          if (this.segment >= this.fence) return false;
+          AtomicReferenceArray<Entry<K, V>> table = ConcurrentWeakRegistry.this.segments[this.segment].table;
+          this.table = table;
+          this.bucket = 0;
+          this.bucketFence = table.length();
+        }
+        if (this.bucket < this.bucketFence) {
+          this.next = this.table.get(this.bucket++);
+          if (this.next != null) return true;
+        } else {
+          this.table = null;
+          this.segment++;
+        }
+      }
+    }
+  }
+  
+  /**
+   * Segment der {@link ConcurrentWeakRegistry} mit eigener Sperre für Schreibzugriffe.
+   * <p>
+   * Bei einer Vergrößerung der Tabelle werden die Einträge umgehängt. Damit ein gleichzeitiger
+   * Lesezugriff dadurch keinen vorhandenen Eintrag verfehlt, wird ein Stempel vor und nach der
+   * Vergrößerung erhöht. Ein erfolgloser Lesezugriff prüft den Stempel und wiederholt sich bei Bedarf.
+   * <p>
+   * @since 18.10.2026 10:22:11 agent | Realisierung
+   */
+  final class Segment extends ReentrantLock {
+    /** @since 18.10.2026 10:22:15 agent | Realisierung */
+    private static final long                  serialVersionUID = 1L;
+    
+    /** Buckets des Segments.
+     * @since 18.10.2026 10:22:22 agent | Realisierung */
+    volatile AtomicReferenceArray<Entry<K, V>> table            = new AtomicReferenceArray<>(SEGMENT_CAPACITY);
+    
+    /** Anzahl der Einträge im Segment.
+     * @since 18.10.2026 10:22:29 agent | Realisierung */
+    volatile int                               count;
+    
+    /** Ungerade, solange die Tabelle vergrößert wird.
+     * @since 18.10.2026 10:22:35 agent | Realisierung */
+    volatile int                               stamp;
+    
+    /**
+     * Sucht den Eintrag ohne Sperre.
+     * <p>
+     * @param key Schlüssel
+     * @param hash Verteilter Hashwert
+     * @return Eintrag oder <code>null</code>
+     * @since 18.10.2026 10:23:02 agent | Realisierung
+     * @since 18.10.2026 18:11:40 agent | Liefert den Eintrag statt des Wertes
+     */
+    Entry<K, V> entry(Object key, int hash) {
+      for (;;) {
+        int before = this.stamp;
+        AtomicReferenceArray<Entry<K, V>> tab = this.table;
+        for (Entry<K, V> e = tab.get(hash & (tab.length() - 1)); e != null; e = e.next) {
+          if (e.hash == hash && matches(e, key)) return e;
+        }
+        if ((before & 1) == 0 && before == this.stamp) return null;
+        if ((before & 1) != 0) {
+          lock();
+          try {
+            return find(key, hash);
+          } finally {
+            unlock();
+          }
+        }
+      }
+    }
+    
+    /**
+     * Legt den Wert unter der Sperre des Segments ab.
+     * <p>
+     * @param key Schlüssel
+     * @param hash Verteilter Hashwert
+     * @param value Wert
+     * @param onlyIfAbsent Bestehenden Eintrag nicht überschreiben.
+     * @return Bisheriger Wert oder <code>null</code>
+     * @since 18.10.2026 10:23:40 agent | Realisierung
+     */
+    V put(K key, int hash, V value, boolean onlyIfAbsent) {
+      lock();
+      try {
+        Entry<K, V> e = find(key, hash);
+        if (e != null) {
+          V old = e.value;
+          if (!onlyIfAbsent) e.value = value;
+          return old;
+        }
+        insert(key, hash, value);
+        return null;
+      } finally {
+        unlock();
+      }
+    }
+    
+    /**
+     * Legt den Wert unter der Sperre des Segments an, falls noch kein Eintrag vorhanden ist.
+     * <p>
+     * @param key Schlüssel
+     * @param hash Verteilter Hashwert
+     * @param function Erzeugt den Wert
+     * @return Bestehender oder neu angelegter Wert
+     * @since 18.10.2026 10:24:11 agent | Realisierung
+     */
+    V computeIfAbsent(K key, int hash, Function<? super K, ? extends V> function) {
+      lock();
+      try {
+        Entry<K, V> e = find(key, hash);
+        if (e != null) return e.value;
+        V value = function.apply(key);
+        insert(key, hash, value);
+        return value;
+      } finally {
+        unlock();
+      }
+    }
+    
+    /**
+     * Entfernt den Eintrag zum Schlüssel.
+     * <p>
+     * @param key Schlüssel
+     * @param hash Verteilter Hashwert
+     * @return Entfernter Wert oder <code>null</code>
+     * @since 18.10.2026 10:24:40 agent | Realisierung
+     * @since 18.10.2026 19:02:40 agent | Kennzeichnet den Eintrag als entfernt
+     */
+    V remove(Object key, int hash) {
+      lock();
+      try {
+        Entry<K, V> e = find(key, hash);
+        if (e == null || !unlinkLocked(e)) return null;
+        e.clear();
+        return take(e);
+      } finally {
+        unlock();
+      }
+    }
+    
+    /**
+     * Entfernt alle Einträge des Segments und übernimmt deren Werte.
+     * <p>
+     * @return Werte der entfernten Einträge
+     * @since 18.10.2026 19:06:20 agent | Realisierung
+     */
+    ArrayList<V> clear() {
+      ArrayList<V> values = new ArrayList<>();
+      lock();
+      try {
+        AtomicReferenceArray<Entry<K, V>> tab = this.table;
+        for (int i = 0; i < tab.length(); i++) {
+          for (Entry<K, V> e = tab.get(i); e != null; e = e.next) {
+            e.clear();
+            V value = take(e);
+            if (value != null) values.add(value);
+          }
+        }
+        this.table = new AtomicReferenceArray<>(SEGMENT_CAPACITY);
+        this.count = 0;
+      } finally {
+        unlock();
+      }
+      return values;
+    }
+    
+    /**
+     * Entfernt einen verwaisten Eintrag und übernimmt dessen Wert.
+     * <p>
+     * Wurde der Eintrag bereits über {@link #remove(Object, int)} entfernt, ist der Wert schon
+     * übernommen und es wird <code>null</code> geliefert.
+     * <p>
+     * @param entry Eintrag
+     * @return Wert des Eintrags oder <code>null</code>, falls er bereits entfernt wurde.
+     * @since 18.10.2026 10:25:03 agent | Realisierung
+     * @since 18.10.2026 19:02:51 agent | Liefert den Wert statt des Ergebnisses
+     */
+    V unlink(Entry<K, V> entry) {
+      lock();
+      try {
+        unlinkLocked(entry);
+        return take(entry);
+      } finally {
+        unlock();
+      }
+    }
+    
+    /**
+     * Übernimmt den Wert und kennzeichnet den Eintrag als entfernt, die Sperre muss gehalten werden.
+     * <p>
+     * @param entry Eintrag
+     * @return Wert des Eintrags oder <code>null</code>, falls er bereits übernommen wurde.
+     * @since 18.10.2026 19:03:02 agent | Realisierung
+     */
+    private V take(Entry<K, V> entry) {
+      V value = entry.value;
+      entry.value = null;
+      return value;
+    }
+    
+    /**
+     * Sucht einen Eintrag, die Sperre muss gehalten werden.
+     * <p>
+     * @param key Schlüssel
+     * @param hash Verteilter Hashwert
+     * @return Eintrag oder <code>null</code>
+     * @since 18.10.2026 10:25:31 agent | Realisierung
+     */
+    private Entry<K, V> find(Object key, int hash) {
+      AtomicReferenceArray<Entry<K, V>> tab = this.table;
+      for (Entry<K, V> e = tab.get(hash & (tab.length() - 1)); e != null; e = e.next) {
+        if (e.hash == hash && matches(e, key)) return e;
+      }
+      return null;
+    }
+    
+    /**
+     * Fügt einen neuen Eintrag am Anfang des Buckets ein, die Sperre muss gehalten werden.
+     * <p>
+     * @param key Schlüssel
+     * @param hash Verteilter Hashwert
+     * @param value Wert
+     * @since 18.10.2026 10:26:02 agent | Realisierung
+     */
+    private void insert(K key, int hash, V value) {
+      if (this.count + 1 > this.table.length() * 3 / 4) resize();
+      AtomicReferenceArray<Entry<K, V>> tab = this.table;
+      int index = hash & (tab.length() - 1);
+      tab.set(index, new Entry<>(key, hash, value, tab.get(index), ConcurrentWeakRegistry.this.queue));
+      this.count++;
+    }
+    
+    /**
+     * Hängt einen Eintrag aus, die Sperre muss gehalten werden.
+     * <p>
+     * Der ausgehängte Eintrag behält seinen Nachfolger, damit ein gleichzeitiger Lesezugriff
+     * seine Suche fortsetzen kann.
+     * <p>
+     * @param entry Eintrag
+     * @return <code>true</code>, wenn der Eintrag enthalten war.
+     * @since 18.10.2026 10:26:40 agent | Realisierung
+     */
+    private boolean unlinkLocked(Entry<K, V> entry) {
+      AtomicReferenceArray<Entry<K, V>> tab = this.table;
+      int index = entry.hash & (tab.length() - 1);
+      Entry<K, V> prev = null;
+      for (Entry<K, V> e = tab.get(index); e != null; prev = e, e = e.next) {
+        if (e == entry) {
+          if (prev == null) tab.set(index, e.next);
+          else prev.next = e.next;
+          this.count--;
+          return true;
+        }
+      }
+      return false;
+    }
+    
+    /**
+     * Verdoppelt die Tabelle und entfernt dabei verwaiste Einträge.
+     * <p>
+     * @since 18.10.2026 10:27:11 agent | Realisierung
+     */
+    private void resize() {
+      AtomicReferenceArray<Entry<K, V>> old = this.table;
+      AtomicReferenceArray<Entry<K, V>> tab = new AtomicReferenceArray<>(old.length() << 1);
+      int mask = tab.length() - 1;
+      int live = 0;
+      this.stamp++;
+      for (int i = 0; i < old.length(); i++) {
+        Entry<K, V> e = old.get(i);
+        while (e != null) {
+          Entry<K, V> next = e.next;
+          if (e.get() != null) {
+            int index = e.hash & mask;
+            e.next = tab.get(index);
+            tab.set(index, e);
+            live++;
+          }
+          e = next;
+        }
+      }
+      this.table = tab;
+      this.count = live;
+      this.stamp++;
+    }
+  }
+  
+}
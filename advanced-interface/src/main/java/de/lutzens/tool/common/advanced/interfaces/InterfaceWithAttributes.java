@@ -9,8 +9,17 @@
 
 package de.lutzens.tool.common.advanced.interfaces;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
 import java.util.WeakHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Dieses Interface kann statische und nicht statische Attribute zu den implementierten Objekten, 
@@ -35,6 +44,25 @@ import java.util.WeakHashMap;
  * @since 18.06.2016 10:23:11 Lutz Hoffarth | Erweiterung um statische Schnittstellen-Attribute.
  * @since 13.07.2017 10:23:25 Lutz Hoffarth | Auslagerung der Funktionsattribute in den Kontrolleur {@link InterfaceWithAttributesController}.
  * @since 13.07.2017 10:23:25 Lutz Hoffarth | Auslagerung der Funktionen aller Methoden in den Kontrolleur {@link InterfaceWithAttributesController}.
+ * @since 18.10.2026 11:55:03 agent | Erweiterung um typisierte Schlüssel {@link AttributeKey}.
+ * @since 18.10.2026 12:52:40 agent | Erweiterung um primitive Objekt-Attribute ohne Boxing.
+ * @since 18.10.2026 13:37:02 agent | Erweiterung um das gemeinsame Setzen mehrerer Attribute und Objekte.
+ * @since 18.10.2026 13:55:02 agent | Erweiterung um die Vererbung von Klassen-Attributen über die Typhierarchie.
+ * @since 18.10.2026 14:08:02 agent | Erweiterung um Interface-Attribute je Erweiterung des Interfaces.
+ * @since 18.10.2026 14:22:02 agent | Erweiterung um das einmalige Laden fehlender Attribute.
+ * @since 18.10.2026 15:02:02 agent | Erweiterung um den Cache-Modus für Objekt-Attribute.
+ * @since 18.10.2026 15:24:02 agent | Erweiterung um asynchrone Listener für Änderungen.
+ * @since 18.10.2026 15:47:20 agent | Erweiterung um Messwerte und Ereignisse für den JDK Flight Recorder.
+ * @since 18.10.2026 16:04:20 agent | Erweiterung um Snapshots der Klassen- und Interface-Attribute.
+ * @since 18.10.2026 16:45:20 agent | Erweiterung um Indizes für die Suche nach Objekt-Attributen.
+ * @since 18.10.2026 16:51:02 agent | Erweiterung um den parallelen Durchlauf aller Objekte.
+ * @since 18.10.2026 16:56:51 agent | Erweiterung um die Ablage der Objekt-Attribute im {@link AttributeHolder}.
+ * @since 18.10.2026 17:03:02 agent | Erweiterung um die Vererbung von Objekt-Attributen über einen Prototyp.
+ * @since 18.10.2026 17:08:02 agent | Erweiterung um atomare Änderungen und konsistentes Lesen mehrerer Objekt-Attribute.
+ * @since 18.10.2026 17:18:02 agent | Erweiterung um die Überlagerung von Klassen- und Interface-Attributen je Thread über {@link AttributeOverlay}.
+ * @since 18.10.2026 17:30:02 agent | Objekt-Attribute erst beim ersten Schreibzugriff und unveränderliche Sicht ohne Kopie.
+ * @since 18.10.2026 17:49:02 agent | Erweiterung um ein Journal der Änderungen mit Einspielen beim Start.
+ * @since 18.10.2026 18:09:02 agent | Erweiterung um die Suche eines Objekts über seinen Identifizierer.
  */
 public interface InterfaceWithAttributes {
   
@@ -48,65 +76,786 @@ public interface InterfaceWithAttributes {
    * Erst durch die Initialisierung im Object wird die Funktionalität aktiviert. 
    * In der {@link WeakHashMap} wird dem Object zugehörig ein {@link AttributesOfInterface} abgelegt.
    * <p>
+   * Die Attribute werden erst beim ersten Schreibzugriff angelegt, bis dahin belegt das Objekt
+   * keinen Speicher in der Registry. Bereits vorhandene Attribute bleiben erhalten, ein wiederholter
+   * Aufruf ändert nichts. Zum Verwerfen dient {@link #releaseInterfaceWithAttribute()}.
+   * <p>
    * @since 26.10.2014 07:44:34 Lutz Hoffarth | Realisierung
+   * @since 18.10.2026 17:30:10 agent | Anlegen erst beim ersten Schreibzugriff
+   * @since 18.10.2026 18:55:10 agent | Verwirft keine vorhandenen Attribute
+   */
+  default void initInterfaceWithAttribute() {
+    InterfaceWithAttributesController.init(this);
+  }
+  
+  /**
+   * Gibt die Objekt-Attribute sofort frei, ohne auf den GarbageCollector zu warten.
+   * <p>
+   * Entfernt den Eintrag des Objekts mitsamt Cache-Modus, Listenern und den Werten außerhalb des
+   * Heaps. Ein späterer Zugriff legt leere Attribute mit einem neuen Identifikator an.
+   * <p>
+   * @since 18.10.2026 16:37:40 agent | Realisierung
+   */
+  default void releaseInterfaceWithAttribute() {
+    InterfaceWithAttributesController.release(this);
+  }
+  
+  /**
+   * Liefert die Ablage der Objekt-Attribute im Objekt selbst.
+   * <p>
+   * Die Vorgabe liefert <code>null</code>, die Attribute liegen dann in der globalen Registry. Eine
+   * Klasse, die einen eigenen {@link AttributeHolder} in einem Feld hält und hier liefert, greift
+   * ohne Suche in der Registry direkt auf dieses Feld zu. Der Rückgabewert muss für ein Objekt immer
+   * derselbe sein und bereits beim Aufruf von {@link #initInterfaceWithAttribute()} vorliegen, das
+   * Feld darf also nicht erst in einer Unterklasse gesetzt werden.
+   * <p>
+   * @return {@link AttributeHolder} oder <code>null</code>
+   * @since 18.10.2026 16:56:40 agent | Realisierung
+   */
+  default AttributeHolder getAttributeHolder() {
+    return null;
+  }
+  
+  /* ---- Eigenschaften des Objektes --------------------------------------- */
+  
+  /**
+   * Liefert die zum Objekt gehörigen {@link HashMap}.
+   * <p>
+   * Die {@link HashMap} ist eine veränderbare Kopie. Anders als in früheren Versionen wirken sich Änderungen
+   * daran nicht mehr auf die Attribute aus, geändert wird über {@link #setObjectAttribute(String, Object)}.
+   * <p>
+   * @return {@link HashMap} mit den beinhalteten Eigenschaften
+   * @since 26.10.2014 07:47:25 Lutz Hoffarth | Realisierung
+   * @since 13.07.2017 10:17:35 Lutz Hoffarth | Return in {@link HashMap} geändert.
+   * @since 18.10.2026 17:30:20 agent | Kopie, ohne die Attribute anzulegen
+   * @since 18.10.2026 19:14:02 agent | Kopie dokumentiert
+   * @see #getObjectAttributeView()
+   */
+  default HashMap<String, Object> getObjectAttributes() {
+    return InterfaceWithAttributesController.readObjectAttributes(this).get();
+  }
+  
+  /**
+   * Liefert eine unveränderliche Sicht auf die Objekt-Attribute ohne Kopie.
+   * <p>
+   * Die Sicht liest bei jedem Zugriff die aktuellen Attribute, spätere Änderungen sind sichtbar.
+   * Sie legt keine Attribute an und hängt nicht von ihrer Ablage ab. Der Durchlauf ist schwach
+   * konsistent, für einen zusammenhängenden Stand ist {@link #getObjectAttributes()} zu verwenden.
+   * <p>
+   * @return Unveränderliche {@link Map}
+   * @since 18.10.2026 17:30:31 agent | Realisierung
+   */
+  default Map<String, Object> getObjectAttributeView() {
+    return InterfaceWithAttributesController.getObjectAttributeView(this);
+  }
+  
+  /**
+   * Liefert den zum {@link Object} gehörigen Identifizierer.
+   * <p>
+   * Der Identifizierer ist eindeutig, bis die Attribute über {@link #initInterfaceWithAttribute()}
+   * oder {@link #releaseInterfaceWithAttribute()} ersetzt werden. Danach erhält das Objekt einen
+   * neuen. Solange das Objekt lebt, findet {@link #findObjectById(long)} es über den
+   * Identifizierer wieder.
+   * <p>
+   * @return Identifizierer des Objekts.
+   * @since 13.07.2017 09:36:23 Lutz Hoffarth | Realisierung
+   * @since 18.10.2026 18:08:40 agent | Rückweg über {@link #findObjectById(long)}
+   */
+  default long getObjectId() {
+    return InterfaceWithAttributesController.getObjectId(this);
+  }
+  
+  /**
+   * Liefert das Attribute des Objekts mit dem übergebenen Namen.
+   * <p>
+   * @param key Attributname
+   * @return Object zugehöriger Wert
+   * @since 22.12.2014 18:59:42 Lutz Hoffarth | Realisierung
+   */
+  default Object getObjectAttribute(String key) {
+    return InterfaceWithAttributesController.getObjectAttribute(this, key);
+  }
+  
+  /**
+   * Setzt den Wert im Objekt-Attribute mit dem übergebenen Namen.
+   * <p>
+   * @param key Attributname
+   * @param value Wert
+   * @since 22.12.2014 19:04:43 Lutz Hoffarth | Realisierung
+   */
+  default void setObjectAttribute(String key, Object value) {
+    InterfaceWithAttributesController.setObjectAttribute(this, key, value);
+  }
+  
+  /**
+   * Liefert das Attribut des Objekts und lädt es einmalig, falls es keinen Wert besitzt.
+   * <p>
+   * Besitzt das Attribut einen Wert, wird er ohne Sperre geliefert. Andernfalls ruft genau ein
+   * Thread den Lader auf, gleichzeitige Aufrufe für dasselbe Attribut warten auf dessen Ergebnis.
+   * Liefert der Lader <code>null</code> oder wirft er eine Exception, wird nichts abgelegt.
+   * <p>
+   * @param key Attributname
+   * @param loader Ermittelt den Wert zum Attributnamen.
+   * @return Wert des Attributs oder <code>null</code>
+   * @throws IllegalStateException Der Lader fordert rekursiv dasselbe Attribut an.
+   * @since 18.10.2026 14:22:31 agent | Realisierung
+   */
+  default Object computeObjectAttributeIfAbsent(String key, Function<? super String, ?> loader) {
+    return InterfaceWithAttributesController.computeObjectAttributeIfAbsent(this, key, loader);
+  }
+  
+  /**
+   * Liefert das Attribut des Objekts zum typisierten Schlüssel und lädt es einmalig, falls es keinen Wert besitzt.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param key {@link AttributeKey}
+   * @param loader Ermittelt den Wert zum Schlüssel.
+   * @return Wert des Attributs oder <code>null</code>
+   * @throws ClassCastException Der Wert wurde mit einem anderen Typ abgelegt.
+   * @throws IllegalStateException Der Lader fordert rekursiv dasselbe Attribut an.
+   * @since 18.10.2026 14:22:50 agent | Realisierung
+   * @see #computeObjectAttributeIfAbsent(String, Function)
+   */
+  default <T> T computeObjectAttributeIfAbsent(AttributeKey<T> key, Function<? super AttributeKey<T>, ? extends T> loader) {
+    return InterfaceWithAttributesController.computeObjectAttributeIfAbsent(this, key, loader);
+  }
+  
+  /**
+   * Liefert das Attribut des Objekts zum typisierten Schlüssel.
+   * <p>
+   * Der Zugriff erfolgt über die Position im {@link AttributeShape} ohne Berechnung eines Hashwertes.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param key {@link AttributeKey}
+   * @return Wert des Attributs oder <code>null</code>
+   * @throws ClassCastException Der Wert wurde mit einem anderen Typ abgelegt.
+   * @since 18.10.2026 11:55:31 agent | Realisierung
+   */
+  default <T> T getObjectAttribute(AttributeKey<T> key) {
+    return InterfaceWithAttributesController.getObjectAttribute(this, key);
+  }
+  
+  /**
+   * Setzt den Wert im Objekt-Attribut zum typisierten Schlüssel.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param key {@link AttributeKey}
+   * @param value Wert
+   * @since 18.10.2026 11:55:50 agent | Realisierung
+   */
+  default <T> void setObjectAttribute(AttributeKey<T> key, T value) {
+    InterfaceWithAttributesController.setObjectAttribute(this, key, value);
+  }
+  
+  /**
+   * Liefert das Attribut des Objekts als <code>long</code> ohne Boxing.
+   * <p>
+   * Abgelegte Zahlen und Wahrheitswerte werden umgewandelt.
+   * <p>
+   * @param key Attributname
+   * @return Wert oder <code>0</code>, falls das Attribut nicht vorhanden ist.
+   * @throws ClassCastException Der Wert ist weder eine Zahl noch ein Wahrheitswert.
+   * @since 18.10.2026 12:43:00 agent | Realisierung
+   */
+  default long getObjectAttributeLong(String key) {
+    return InterfaceWithAttributesController.getObjectAttributeLong(this, key);
+  }
+  
+  /**
+   * Setzt das Attribut des Objekts als <code>long</code> ohne Boxing.
+   * <p>
+   * Nach dem ersten Setzen erfolgen weitere Änderungen ohne Objekterzeugung.
+   * <p>
+   * @param key Attributname
+   * @param value Wert
+   * @since 18.10.2026 12:44:00 agent | Realisierung
+   */
+  default void setObjectAttributeLong(String key, long value) {
+    InterfaceWithAttributesController.setObjectAttributeLong(this, key, value);
+  }
+  
+  /**
+   * Addiert atomar auf das Attribut des Objekts als <code>long</code>, beispielsweise für Zähler.
+   * <p>
+   * Ein fehlendes Attribut zählt als <code>0</code>. Nach dem ersten Aufruf erfolgen weitere 
+   * Aufrufe ohne Sperre und ohne Objekterzeugung.
+   * <p>
+   * @param key Attributname
+   * @param delta Summand
+   * @return Neuer Wert
+   * @throws ClassCastException Der bisherige Wert ist weder eine Zahl noch ein Wahrheitswert.
+   * @since 18.10.2026 12:46:00 agent | Realisierung
+   */
+  default long addObjectAttributeLong(String key, long delta) {
+    return InterfaceWithAttributesController.addObjectAttributeLong(this, key, delta);
+  }
+  
+  /**
+   * Liefert das Attribut des Objekts als <code>int</code> ohne Boxing.
+   * <p>
+   * Abgelegte Zahlen und Wahrheitswerte werden umgewandelt.
+   * <p>
+   * @param key Attributname
+   * @return Wert oder <code>0</code>, falls das Attribut nicht vorhanden ist.
+   * @throws ClassCastException Der Wert ist weder eine Zahl noch ein Wahrheitswert.
+   * @since 18.10.2026 12:49:00 agent | Realisierung
+   */
+  default int getObjectAttributeInt(String key) {
+    return InterfaceWithAttributesController.getObjectAttributeInt(this, key);
+  }
+  
+  /**
+   * Setzt das Attribut des Objekts als <code>int</code> ohne Boxing.
+   * <p>
+   * Nach dem ersten Setzen erfolgen weitere Änderungen ohne Objekterzeugung.
+   * <p>
+   * @param key Attributname
+   * @param value Wert
+   * @since 18.10.2026 12:50:00 agent | Realisierung
+   */
+  default void setObjectAttributeInt(String key, int value) {
+    InterfaceWithAttributesController.setObjectAttributeInt(this, key, value);
+  }
+  
+  /**
+   * Addiert atomar auf das Attribut des Objekts als <code>int</code>, beispielsweise für Zähler.
+   * <p>
+   * Ein fehlendes Attribut zählt als <code>0</code>. Nach dem ersten Aufruf erfolgen weitere 
+   * Aufrufe ohne Sperre und ohne Objekterzeugung.
+   * <p>
+   * @param key Attributname
+   * @param delta Summand
+   * @return Neuer Wert
+   * @throws ClassCastException Der bisherige Wert ist weder eine Zahl noch ein Wahrheitswert.
+   * @since 18.10.2026 12:52:00 agent | Realisierung
+   */
+  default int addObjectAttributeInt(String key, int delta) {
+    return InterfaceWithAttributesController.addObjectAttributeInt(this, key, delta);
+  }
+  
+  /**
+   * Liefert das Attribut des Objekts als <code>double</code> ohne Boxing.
+   * <p>
+   * Abgelegte Zahlen und Wahrheitswerte werden umgewandelt.
+   * <p>
+   * @param key Attributname
+   * @return Wert oder <code>0</code>, falls das Attribut nicht vorhanden ist.
+   * @throws ClassCastException Der Wert ist weder eine Zahl noch ein Wahrheitswert.
+   * @since 18.10.2026 12:55:00 agent | Realisierung
+   */
+  default double getObjectAttributeDouble(String key) {
+    return InterfaceWithAttributesController.getObjectAttributeDouble(this, key);
+  }
+  
+  /**
+   * Setzt das Attribut des Objekts als <code>double</code> ohne Boxing.
+   * <p>
+   * Nach dem ersten Setzen erfolgen weitere Änderungen ohne Objekterzeugung.
+   * <p>
+   * @param key Attributname
+   * @param value Wert
+   * @since 18.10.2026 12:56:00 agent | Realisierung
+   */
+  default void setObjectAttributeDouble(String key, double value) {
+    InterfaceWithAttributesController.setObjectAttributeDouble(this, key, value);
+  }
+  
+  /**
+   * Addiert atomar auf das Attribut des Objekts als <code>double</code>, beispielsweise für Zähler.
+   * <p>
+   * Ein fehlendes Attribut zählt als <code>0</code>. Nach dem ersten Aufruf erfolgen weitere 
+   * Aufrufe ohne Sperre und ohne Objekterzeugung.
+   * <p>
+   * @param key Attributname
+   * @param delta Summand
+   * @return Neuer Wert
+   * @throws ClassCastException Der bisherige Wert ist weder eine Zahl noch ein Wahrheitswert.
+   * @since 18.10.2026 12:58:00 agent | Realisierung
+   */
+  default double addObjectAttributeDouble(String key, double delta) {
+    return InterfaceWithAttributesController.addObjectAttributeDouble(this, key, delta);
+  }
+  
+  /**
+   * Liefert das Attribut des Objekts als <code>boolean</code> ohne Boxing.
+   * <p>
+   * Abgelegte Zahlen und Wahrheitswerte werden umgewandelt.
+   * <p>
+   * @param key Attributname
+   * @return Wert oder <code>false</code>, falls das Attribut nicht vorhanden ist.
+   * @throws ClassCastException Der Wert ist weder eine Zahl noch ein Wahrheitswert.
+   * @since 18.10.2026 13:01:00 agent | Realisierung
+   */
+  default boolean getObjectAttributeBoolean(String key) {
+    return InterfaceWithAttributesController.getObjectAttributeBoolean(this, key);
+  }
+  
+  /**
+   * Setzt das Attribut des Objekts als <code>boolean</code> ohne Boxing.
+   * <p>
+   * Nach dem ersten Setzen erfolgen weitere Änderungen ohne Objekterzeugung.
+   * <p>
+   * @param key Attributname
+   * @param value Wert
+   * @since 18.10.2026 13:02:00 agent | Realisierung
+   */
+  default void setObjectAttributeBoolean(String key, boolean value) {
+    InterfaceWithAttributesController.setObjectAttributeBoolean(this, key, value);
+  }
+  
+  /**
+   * übernimmt alle Attribute der übergebenen Schnittstelle zu der bestehenden hinzu.
+   * <p>
+   * @param as {@link InterfaceWithAttributes}
+   * @since 18.11.2015 18:17:50 Lutz Hoffarth | Realisierung
+   */
+  default void addObjectAttributes(InterfaceWithAttributes as) {
+    InterfaceWithAttributesController.addObjectAttributes(this, as);
+  }
+  
+  /**
+   * Erbt die Objekt-Attribute des Prototyps, ohne sie zu kopieren.
+   * <p>
+   * Jedes Attribut ohne eigenen Wert liefert den Wert des Prototyps, abgelegt werden nur die eigenen
+   * Werte. Ein geerbter primitiver Wert wird beim ersten Hochzählen als eigener Wert übernommen,
+   * der Prototyp bleibt unverändert. {@link #getObjectAttributes()} und
+   * {@link #addObjectAttributes(InterfaceWithAttributes)} enthalten die geerbten Werte, Indizes und
+   * Listener sehen nur die eigenen.
+   * <p>
+   * Mit <code>live</code> werden spätere Änderungen des Prototyps sichtbar, der Prototyp bleibt
+   * dann erreichbar, solange dieses Objekt seine Attribute hat. Sonst gilt der Stand des Prototyps
+   * beim Aufruf. Dieser Stand wird nur einmal kopiert und von allen bis zur nächsten Änderung des
+   * Prototyps abgeleiteten Objekten geteilt. Ein erneuter Aufruf ersetzt den Prototyp,
+   * <code>null</code> beendet die Vererbung.
+   * <p>
+   * @param prototype Prototyp oder <code>null</code>
+   * @param live <code>true</code>, um spätere Änderungen des Prototyps zu sehen.
+   * @throws IllegalArgumentException Der Prototyp erbt selbst von diesem Objekt.
+   * @since 18.10.2026 17:03:10 agent | Realisierung
+   */
+  default void setObjectAttributePrototype(InterfaceWithAttributes prototype, boolean live) {
+    InterfaceWithAttributesController.setObjectAttributePrototype(this, prototype, live);
+  }
+  
+  /**
+   * Setzt das Attribut nur, falls sein aktueller Wert dem erwarteten entspricht.
+   * <p>
+   * Verglichen wird über {@link java.util.Objects#deepEquals(Object, Object)}, ein fehlendes Attribut
+   * entspricht <code>null</code>.
+   * <p>
+   * @param key Attributname
+   * @param expected Erwarteter Wert
+   * @param value Neuer Wert
+   * @return <code>true</code>, falls der Wert gesetzt wurde.
+   * @since 18.10.2026 17:08:10 agent | Realisierung
+   */
+  default boolean compareAndSetObjectAttribute(String key, Object expected, Object value) {
+    return InterfaceWithAttributesController.compareAndSetObjectAttribute(this, key, expected, value);
+  }
+  
+  /**
+   * Setzt das Attribut zum typisierten Schlüssel nur, falls sein aktueller Wert dem erwarteten entspricht.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param key {@link AttributeKey}
+   * @param expected Erwarteter Wert
+   * @param value Neuer Wert
+   * @return <code>true</code>, falls der Wert gesetzt wurde.
+   * @since 18.10.2026 17:08:20 agent | Realisierung
+   */
+  default <T> boolean compareAndSetObjectAttribute(AttributeKey<T> key, T expected, T value) {
+    return InterfaceWithAttributesController.compareAndSetObjectAttribute(this, key, expected, value);
+  }
+  
+  /**
+   * Ändert mehrere Objekt-Attribute gemeinsam.
+   * <p>
+   * Die Funktion erhält die aktuellen Werte der übergebenen Attribute als unveränderliche
+   * {@link Map} und liefert die zu setzenden Werte, <code>null</code> ändert nichts. Sie wird unter
+   * der Sperre des Objekts aufgerufen, {@link #getObjectAttributes(String...)} und
+   * {@link #getObjectAttributes()} sehen die Änderung nur vollständig.
+   * <p>
+   * @param update Liefert aus den aktuellen Werten die zu setzenden Werte.
+   * @param keys Namen der gelesenen Attribute
+   * @since 18.10.2026 17:08:31 agent | Realisierung
+   */
+  default void updateObjectAttributes(Function<? super Map<String, Object>, ? extends Map<String, ?>> update, String... keys) {
+    InterfaceWithAttributesController.updateObjectAttributes(this, update, keys);
+  }
+  
+  /**
+   * Liefert die Werte der übergebenen Objekt-Attribute konsistent zueinander.
+   * <p>
+   * Gelesen wird ohne Sperre. Überschneidet sich das Lesen mit einer gemeinsamen Änderung, wird es
+   * wiederholt, erst nach mehreren Versuchen wird auf die Sperre gewartet.
+   * <p>
+   * @param keys Attributnamen
+   * @return {@link HashMap} mit allen Namen, <code>null</code> für fehlende Attribute
+   * @since 18.10.2026 17:08:40 agent | Realisierung
+   */
+  default HashMap<String, Object> getObjectAttributes(String... keys) {
+    return InterfaceWithAttributesController.getObjectAttributes(this, keys);
+  }
+  
+  /**
+   * Setzt alle Attribute der übergebenen {@link Map} in einem Aufruf.
+   * <p>
+   * Das Objekt wird nur einmal in der Registry gesucht und die Ablage vorab auf die benötigte
+   * Größe gebracht.
+   * <p>
+   * @param attributes Attributnamen und Werte
+   * @since 18.10.2026 13:37:30 agent | Realisierung
+   */
+  default void setObjectAttributes(Map<String, ?> attributes) {
+    InterfaceWithAttributesController.setObjectAttributes(this, attributes);
+  }
+  
+  /**
+   * Führt die Attribute der übergebenen {@link Map} mit den vorhandenen zusammen.
+   * <p>
+   * Fehlende Attribute werden gesetzt. Für vorhandene Attribute liefert die Funktion aus bisherigem
+   * und neuem Wert den abzulegenden Wert. Die Funktion wird unter der Sperre des Objekts aufgerufen.
+   * <p>
+   * @param attributes Attributnamen und Werte
+   * @param remapping Funktion zur Auflösung von Konflikten
+   * @since 18.10.2026 13:38:02 agent | Realisierung
+   */
+  default void mergeObjectAttributes(Map<String, ?> attributes, BiFunction<Object, Object, Object> remapping) {
+    InterfaceWithAttributesController.mergeObjectAttributes(this, attributes, remapping);
+  }
+  
+  /**
+   * Setzt das Attribut mit dem übergebenen Namen in allen Objekten.
+   * <p>
+   * @param objects Objekte
+   * @param key Attributname
+   * @param value Wert
+   * @since 18.10.2026 13:38:30 agent | Realisierung
+   */
+  static void setObjectAttribute(Iterable<? extends InterfaceWithAttributes> objects, String key, Object value) {
+    InterfaceWithAttributesController.setObjectAttribute(objects, key, value);
+  }
+  
+  /**
+   * Setzt das Attribut zum typisierten Schlüssel in allen Objekten.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param objects Objekte
+   * @param key {@link AttributeKey}
+   * @param value Wert
+   * @since 18.10.2026 13:38:51 agent | Realisierung
+   */
+  static <T> void setObjectAttribute(Iterable<? extends InterfaceWithAttributes> objects, AttributeKey<T> key, T value) {
+    InterfaceWithAttributesController.setObjectAttribute(objects, key, value);
+  }
+  
+  /**
+   * Setzt alle Attribute der übergebenen {@link Map} in allen Objekten.
+   * <p>
+   * Die Attributnamen werden nur einmal aufgelöst, jedes Objekt wird nur einmal in der Registry
+   * gesucht.
+   * <p>
+   * @param objects Objekte
+   * @param attributes Attributnamen und Werte
+   * @since 18.10.2026 13:39:12 agent | Realisierung
+   */
+  static void setObjectAttributes(Iterable<? extends InterfaceWithAttributes> objects, Map<String, ?> attributes) {
+    InterfaceWithAttributesController.setObjectAttributes(objects, attributes);
+  }
+  
+  /**
+   * Schaltet den Cache-Modus für die Attribute des Objekts ein oder aus.
+   * <p>
+   * Im Cache-Modus laufen Attribute nach der festgelegten Lebensdauer ab und werden bei
+   * Überschreitung der maximalen Größe verdrängt. Die Arbeit wird auf die Zugriffe verteilt, es
+   * gibt keinen Hintergrund-Thread. Die vorhandenen Attribute werden übernommen.
+   * <p>
+   * @param policy {@link AttributeCachePolicy} oder <code>null</code>, um den Cache-Modus zu beenden.
+   * @since 18.10.2026 15:02:20 agent | Realisierung
+   * @see #setAttributeCacheLimit(long)
+   */
+  default void setObjectAttributeCache(AttributeCachePolicy policy) {
+    InterfaceWithAttributesController.setObjectAttributeCache(this, policy);
+  }
+  
+  /**
+   * Liefert Treffer, Fehlzugriffe und Verdrängungen der Attribute des Objekts im Cache-Modus.
+   * <p>
+   * @return {@link AttributeCacheStats} oder <code>null</code>, falls der Cache-Modus nicht eingeschaltet ist.
+   * @since 18.10.2026 15:02:40 agent | Realisierung
+   */
+  default AttributeCacheStats getObjectAttributeCacheStats() {
+    return InterfaceWithAttributesController.getObjectAttributeCacheStats(this);
+  }
+  
+  /**
+   * Legt das maximale Gesamtgewicht aller Objekt-Attribute im Cache-Modus fest.
+   * <p>
+   * Wird es überschritten, verdrängt der schreibende Thread reihum aus allen Objekten im
+   * Cache-Modus je ein selten gelesenes Attribut, bis das Gesamtgewicht eingehalten wird.
+   * <p>
+   * @param maximumWeight Maximales Gesamtgewicht, Vorgabe ist {@link Long#MAX_VALUE}.
+   * @throws IllegalArgumentException Das Gewicht ist negativ.
+   * @since 18.10.2026 15:03:02 agent | Realisierung
+   */
+  static void setAttributeCacheLimit(long maximumWeight) {
+    InterfaceWithAttributesController.setAttributeCacheLimit(maximumWeight);
+  }
+  
+  /**
+   * Liefert die Statistik über alle Objekt-Attribute im Cache-Modus.
+   * <p>
+   * @return {@link AttributeCacheStats}
+   * @since 18.10.2026 15:03:20 agent | Realisierung
+   */
+  static AttributeCacheStats getAttributeCacheStats() {
+    return InterfaceWithAttributesController.getAttributeCacheStats();
+  }
+  
+  /**
+   * Legt die Objekt-Attribute mit dem übergebenen Namen ab sofort außerhalb des Heaps ab.
+   * <p>
+   * Gedacht für sehr viele Objekte mit primitiven Attributen: Die Werte liegen spaltenweise in
+   * direkten Speicherblöcken unter dem Identifikator des Objekts und erzeugen keine Objekte im Heap,
+   * die der GarbageCollector durchlaufen muss. Sie werden freigegeben, sobald das Objekt vom
+   * GarbageCollector entfernt und sein Eintrag bereinigt wurde.
+   * <p>
+   * Zulässig sind <code>long</code>, <code>int</code>, <code>double</code>, <code>boolean</code>,
+   * <code>byte[]</code> bis 1 MB und <code>null</code>, andere Werte werden mit einer
+   * {@link IllegalArgumentException} abgelehnt. Ein <code>byte[]</code> wird beim Setzen und beim
+   * Lesen kopiert. Der Cache-Modus gilt für diese Attribute nicht.
+   * <p>
+   * Die Umstellung gilt für alle Objekte und kann nicht zurückgenommen werden. Bereits im Heap
+   * abgelegte Werte bleiben lesbar, bis sie überschrieben werden.
+   * <p>
+   * @param key Attributname
+   * @since 18.10.2026 16:29:10 agent | Realisierung
+   */
+  static void setObjectAttributeOffHeap(String key) {
+    InterfaceWithAttributesController.setObjectAttributeOffHeap(key);
+  }
+  
+  /**
+   * Legt die Objekt-Attribute zum typisierten Schlüssel ab sofort außerhalb des Heaps ab.
+   * <p>
+   * @param key {@link AttributeKey}
+   * @since 18.10.2026 16:29:20 agent | Realisierung
+   * @see #setObjectAttributeOffHeap(String)
+   */
+  static void setObjectAttributeOffHeap(AttributeKey<?> key) {
+    InterfaceWithAttributesController.setObjectAttributeOffHeap(key);
+  }
+  
+  /**
+   * Liefert, ob die Objekt-Attribute mit dem übergebenen Namen außerhalb des Heaps abgelegt werden.
+   * <p>
+   * @param key Attributname
+   * @return <code>true</code>, falls außerhalb des Heaps abgelegt wird.
+   * @since 18.10.2026 16:29:31 agent | Realisierung
+   */
+  static boolean isObjectAttributeOffHeap(String key) {
+    return InterfaceWithAttributesController.isObjectAttributeOffHeap(key);
+  }
+  
+  /**
+   * Legt einen Index über die Werte der Objekt-Attribute mit dem übergebenen Namen an.
+   * <p>
+   * Alle bestehenden Objekte werden übernommen, danach wird der Index bei jeder Änderung des
+   * Attributs nachgeführt. Objekte, die vom GarbageCollector entfernt oder über
+   * {@link #releaseInterfaceWithAttribute()} freigegeben werden, verschwinden aus dem Index. Jede
+   * Änderung des Attributs kostet damit zusätzlich eine Aktualisierung des Index.
+   * <p>
+   * Der Index gilt für alle Objekte und kann nicht entfernt werden. Ein erneuter Aufruf hat keine
+   * Wirkung.
+   * <p>
+   * @param key Attributname
+   * @since 18.10.2026 16:45:31 agent | Realisierung
+   * @see #findObjectsByAttribute(String, Object)
+   */
+  static void createObjectAttributeIndex(String key) {
+    InterfaceWithAttributesController.createObjectAttributeIndex(key);
+  }
+  
+  /**
+   * Legt einen Index über die Werte der Objekt-Attribute zum typisierten Schlüssel an.
+   * <p>
+   * @param key {@link AttributeKey}
+   * @since 18.10.2026 16:45:40 agent | Realisierung
+   * @see #createObjectAttributeIndex(String)
+   */
+  static void createObjectAttributeIndex(AttributeKey<?> key) {
+    InterfaceWithAttributesController.createObjectAttributeIndex(key);
+  }
+  
+  /**
+   * Liefert, ob für die Objekt-Attribute mit dem übergebenen Namen ein Index besteht.
+   * <p>
+   * @param key Attributname
+   * @return <code>true</code>, falls ein Index besteht.
+   * @since 18.10.2026 16:45:51 agent | Realisierung
+   */
+  static boolean isObjectAttributeIndexed(String key) {
+    return InterfaceWithAttributesController.isObjectAttributeIndexed(key);
+  }
+  
+  /**
+   * Liefert alle Objekte, deren Attribut mit dem übergebenen Namen den übergebenen Wert besitzt.
+   * <p>
+   * Die Dauer hängt nur von der Anzahl der Treffer ab. Das Ergebnis ist schwach konsistent:
+   * gleichzeitige Änderungen sind eventuell noch nicht enthalten, jedes gelieferte Objekt besaß den
+   * Wert aber bei der Prüfung. Verglichen wird über {@link Object#equals(Object)}, ein
+   * <code>byte[]</code> über seinen Inhalt. Mit <code>null</code> werden die Objekte geliefert, die
+   * das Attribut mit dem Wert <code>null</code> besitzen.
+   * <p>
+   * @param key Attributname
+   * @param value Gesuchter Wert
+   * @return Neue {@link List} der Objekte
+   * @throws IllegalStateException Falls für das Attribut kein Index angelegt wurde.
+   * @since 18.10.2026 16:46:02 agent | Realisierung
+   * @see #createObjectAttributeIndex(String)
+   */
+  static List<InterfaceWithAttributes> findObjectsByAttribute(String key, Object value) {
+    return InterfaceWithAttributesController.findObjectsByAttribute(key, value);
+  }
+  
+  /**
+   * Liefert alle Objekte, deren Attribut zum typisierten Schlüssel den übergebenen Wert besitzt.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param key {@link AttributeKey}
+   * @param value Gesuchter Wert
+   * @return Neue {@link List} der Objekte
+   * @throws IllegalStateException Falls für das Attribut kein Index angelegt wurde.
+   * @since 18.10.2026 16:46:10 agent | Realisierung
+   * @see #findObjectsByAttribute(String, Object)
+   */
+  static <T> List<InterfaceWithAttributes> findObjectsByAttribute(AttributeKey<T> key, T value) {
+    return InterfaceWithAttributesController.findObjectsByAttribute(key, value);
+  }
+  
+  /**
+   * Liefert das Objekt, dessen {@link #getObjectId() Identifizierer} herausgegeben wurde.
+   * <p>
+   * Die Suche kostet konstante Zeit und hält das Objekt nicht fest. Nach dem Entfernen durch den
+   * GarbageCollector oder dem Freigeben der Attribute wird <code>null</code> geliefert.
+   * <p>
+   * @param id Identifizierer aus {@link #getObjectId()}
+   * @return {@link InterfaceWithAttributes} oder <code>null</code>
+   * @since 18.10.2026 18:08:51 agent | Realisierung
+   */
+  static InterfaceWithAttributes findObjectById(long id) {
+    return InterfaceWithAttributesController.findObjectById(id);
+  }
+  
+  /**
+   * Schaltet die Messung von Zugriffen und Bereinigungen ein oder aus.
+   * <p>
+   * Gemessen werden Treffer und Fehlzugriffe beim Lesen von Objekt-Attributen, Lesezugriffe je
+   * Attributname sowie Anzahl und Dauer der Bereinigungen verwaister Einträge. Ausgeschaltet kostet
+   * jeder Messpunkt nur das Lesen eines <code>volatile</code>-Feldes.
+   * <p>
+   * Steht der JDK Flight Recorder zur Verfügung, werden zusätzlich die Ereignisse
+   * <code>de.lutzens.attributes.Expunge</code> und periodisch <code>de.lutzens.attributes.Statistics</code>
+   * erzeugt.
+   * <p>
+   * @param enabled <code>true</code>, um zu messen. Vorgabe ist <code>false</code>.
+   * @since 18.10.2026 15:47:40 agent | Realisierung
+   */
+  static void setAttributeMetricsEnabled(boolean enabled) {
+    InterfaceWithAttributesController.setAttributeMetricsEnabled(enabled);
+  }
+  
+  /**
+   * Liefert, ob Zugriffe und Bereinigungen gemessen werden.
+   * <p>
+   * @return <code>true</code>, falls gemessen wird.
+   * @since 18.10.2026 15:48:02 agent | Realisierung
+   */
+  static boolean isAttributeMetricsEnabled() {
+    return InterfaceWithAttributesController.isAttributeMetricsEnabled();
+  }
+  
+  /**
+   * Schaltet die Bereinigung verwaister Objekt-Attribute im Hintergrund ein oder aus.
+   * <p>
+   * Ohne Hintergrund-Bereinigung entfernt jeder Schreibzugriff einen Teil der Einträge von Objekten,
+   * die der GarbageCollector entfernt hat. Nach dem Tod vieler Objekte verzögert das einzelne
+   * Zugriffe. Eingeschaltet übernimmt der Daemon-Thread <code>attribute-cleaner</code> die
+   * Bereinigung in begrenzten Schritten, Zugriffe bereinigen nicht mehr.
+   * <p>
+   * @param enabled <code>true</code>, um im Hintergrund zu bereinigen. Vorgabe ist <code>false</code>.
+   * @since 18.10.2026 16:37:51 agent | Realisierung
    */
-  default void initInterfaceWithAttribute() {
-    InterfaceWithAttributesController.init(this);
+  static void setAttributeBackgroundCleanupEnabled(boolean enabled) {
+    InterfaceWithAttributesController.setAttributeBackgroundCleanupEnabled(enabled);
   }
   
-  /* ---- Eigenschaften des Objektes --------------------------------------- */
-  
   /**
-   * Liefert die zum Objekt gehörigen {@link HashMap}.
+   * Liefert, ob verwaiste Objekt-Attribute im Hintergrund bereinigt werden.
    * <p>
-   * @return {@link HashMap} mit den beinhalteten Eigenschaften
-   * @since 26.10.2014 07:47:25 Lutz Hoffarth | Realisierung
-   * @since 13.07.2017 10:17:35 Lutz Hoffarth | Return in {@link HashMap} geändert.
+   * @return <code>true</code>, falls im Hintergrund bereinigt wird.
+   * @since 18.10.2026 16:38:02 agent | Realisierung
    */
-  default HashMap<String, Object> getObjectAttributes() {
-    return InterfaceWithAttributesController.getObjectAttributes(this).get();
+  static boolean isAttributeBackgroundCleanupEnabled() {
+    return InterfaceWithAttributesController.isAttributeBackgroundCleanupEnabled();
   }
   
   /**
-   * Liefert den zum {@link Object} gehörigen Identifizierer.
+   * Liefert einen teilbaren Durchlauf über alle Objekte, die über
+   * {@link #initInterfaceWithAttribute()} oder durch ein Objekt-Attribut registriert und noch
+   * erreichbar sind.
    * <p>
-   * @return Identifizierer des Objekts.
-   * @since 13.07.2017 09:36:23 Lutz Hoffarth | Realisierung
+   * Der Durchlauf setzt keine Sperre und kopiert die Registrierung nicht, schreibende Zugriffe
+   * werden also nicht behindert. Er ist schwach konsistent: gleichzeitig registrierte oder
+   * freigegebene Objekte sind eventuell enthalten, während einer Vergrößerung der internen Tabellen
+   * kann ein Objekt ausnahmsweise fehlen oder doppelt geliefert werden. Geteilt wird über die
+   * Segmente und Buckets der Registrierung, der Durchlauf eignet sich daher für parallele
+   * {@link Stream}s und das Fork/Join-Framework.
+   * <p>
+   * @return {@link Spliterator} der Objekte
+   * @since 18.10.2026 16:51:10 agent | Realisierung
+   * @see #streamObjects()
    */
-  default long getObjectId() {
-    return InterfaceWithAttributesController.getObjectAttributes(this).getId();
+  static Spliterator<InterfaceWithAttributes> objectSpliterator() {
+    return InterfaceWithAttributesController.objectSpliterator();
   }
   
   /**
-   * Liefert das Attribute des Objekts mit dem übergebenen Namen.
+   * Liefert einen sequentiellen {@link Stream} über alle registrierten Objekte.
    * <p>
-   * @param key Attributname
-   * @return Object zugehöriger Wert
-   * @since 22.12.2014 18:59:42 Lutz Hoffarth | Realisierung
+   * @return {@link Stream} der Objekte
+   * @since 18.10.2026 16:51:20 agent | Realisierung
+   * @since 18.10.2026 19:40:20 agent | Parallel über {@link #streamObjects(boolean)}
+   * @see #objectSpliterator()
    */
-  default Object getObjectAttribute(String key) {
-    return InterfaceWithAttributesController.getObjectAttribute(this, key);
+  static Stream<InterfaceWithAttributes> streamObjects() {
+    return InterfaceWithAttributesController.streamObjects();
   }
   
   /**
-   * Setzt den Wert im Objekt-Attribute mit dem übergebenen Namen.
+   * Liefert einen sequentiellen oder parallelen {@link Stream} über alle registrierten Objekte.
    * <p>
-   * @param key Attributname
-   * @param value Wert
-   * @since 22.12.2014 19:04:43 Lutz Hoffarth | Realisierung
+   * Der parallele {@link Stream} teilt den Durchlauf über {@link #objectSpliterator()} und läuft im
+   * {@link java.util.concurrent.ForkJoinPool#commonPool()} oder im {@link
+   * java.util.concurrent.ForkJoinPool}, aus dem die abschließende Operation aufgerufen wird.
+   * <p>
+   * @param parallel <code>true</code> für einen parallelen {@link Stream}
+   * @return {@link Stream} der Objekte
+   * @since 18.10.2026 19:40:31 agent | Realisierung
+   * @see #objectSpliterator()
    */
-  default void setObjectAttribute(String key, Object value) {
-    InterfaceWithAttributesController.setObjectAttribute(this, key, value);
+  static Stream<InterfaceWithAttributes> streamObjects(boolean parallel) {
+    return InterfaceWithAttributesController.streamObjects(parallel);
   }
   
   /**
-   * übernimmt alle Attribute der übergebenen Schnittstelle zu der bestehenden hinzu.
+   * Liefert die Messwerte der Attribute.
    * <p>
-   * @param as {@link InterfaceWithAttributes}
-   * @since 18.11.2015 18:17:50 Lutz Hoffarth | Realisierung
+   * @return {@link AttributeStatistics}
+   * @since 18.10.2026 15:48:20 agent | Realisierung
    */
-  default void addObjectAttributes(InterfaceWithAttributes as) {
-    InterfaceWithAttributesController.addObjectAttributes(this, as);
+  static AttributeStatistics getAttributeStatistics() {
+    return InterfaceWithAttributesController.getAttributeStatistics();
   }
   
   /* ---- Statische Eigenschaften der Klasse ------------------------------- */
@@ -116,12 +865,16 @@ public interface InterfaceWithAttributes {
    * <p>
    * Statische Eigenschaften des Interfaces betrifft die aktuelle Klassen, die das Interface implementieren.
    * <p>
+   * Die {@link HashMap} ist eine veränderbare Kopie. Anders als in früheren Versionen wirken sich Änderungen
+   * daran nicht mehr auf die Attribute aus, geändert wird über {@link #setClassAttribute(String, Object)}.
+   * <p>
    * @return {@link HashMap} mit allen beinhalteten Eigenschaften
    * @since 03.12.2014 16:46:47 Lutz Hoffarth | Realisierung
    * @since 13.07.2017 10:17:12 Lutz Hoffarth | Return in {@link HashMap} geändert.
+   * @since 18.10.2026 19:14:10 agent | Kopie dokumentiert
    */
   default HashMap<String, Object> getClassAttributes() {
-    return InterfaceWithAttributesController.getClassAttributes(this).get();
+    return InterfaceWithAttributesController.getClassAttributes(getClass());
   }
   
   /**
@@ -134,7 +887,7 @@ public interface InterfaceWithAttributes {
    * @since 22.12.2014 19:05:32 Lutz Hoffarth | Realisierung
    */
   default Object getClassAttribute(String key) {
-    return InterfaceWithAttributesController.getClassAttribute(this, key);
+    return InterfaceWithAttributesController.getClassAttribute(getClass(), key);
   }
   
   /**
@@ -147,7 +900,151 @@ public interface InterfaceWithAttributes {
    * @since 22.12.2014 19:06:07 Lutz Hoffarth | Realisierung
    */
   default void setClassAttribute(String key, Object value) {
-    InterfaceWithAttributesController.setClassAttribute(this, key, value);
+    InterfaceWithAttributesController.setClassAttribute(getClass(), key, value);
+  }
+  
+  /**
+   * Liefert das statische Attribut der Klasse zum typisierten Schlüssel.
+   * <p>
+   * Statische Eigenschaften des Interfaces betrifft die aktuelle Klassen, die das Interface implementieren.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param key {@link AttributeKey}
+   * @return Wert des Attributs oder <code>null</code>
+   * @throws ClassCastException Der Wert wurde mit einem anderen Typ abgelegt.
+   * @since 18.10.2026 11:56:12 agent | Realisierung
+   */
+  default <T> T getClassAttribute(AttributeKey<T> key) {
+    return InterfaceWithAttributesController.getClassAttribute(getClass(), key);
+  }
+  
+  /**
+   * Setzt das statische Attribut der Klasse zum typisierten Schlüssel.
+   * <p>
+   * Statische Eigenschaften des Interfaces betrifft die aktuelle Klassen, die das Interface implementieren.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param key {@link AttributeKey}
+   * @param value Wert
+   * @since 18.10.2026 11:56:30 agent | Realisierung
+   */
+  default <T> void setClassAttribute(AttributeKey<T> key, T value) {
+    InterfaceWithAttributesController.setClassAttribute(getClass(), key, value);
+  }
+  
+  /**
+   * Liefert das statische Attribut der Klasse und lädt es einmalig, falls es keinen Wert besitzt.
+   * <p>
+   * Besitzt das Attribut einen Wert, wird er ohne Sperre geliefert. Andernfalls ruft genau ein
+   * Thread den Lader auf, gleichzeitige Aufrufe für dasselbe Attribut warten auf dessen Ergebnis.
+   * Liefert der Lader <code>null</code> oder wirft er eine Exception, wird nichts abgelegt.
+   * <p>
+   * @param key Attributname
+   * @param loader Ermittelt den Wert zum Attributnamen.
+   * @return Wert des Attributs oder <code>null</code>
+   * @throws IllegalStateException Der Lader fordert rekursiv dasselbe Attribut an.
+   * @since 18.10.2026 14:23:10 agent | Realisierung
+   */
+  default Object computeClassAttributeIfAbsent(String key, Function<? super String, ?> loader) {
+    return InterfaceWithAttributesController.computeClassAttributeIfAbsent(getClass(), key, loader);
+  }
+  
+  /**
+   * Liefert das statische Attribut der Klasse zum typisierten Schlüssel und lädt es einmalig, falls es keinen Wert besitzt.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param key {@link AttributeKey}
+   * @param loader Ermittelt den Wert zum Schlüssel.
+   * @return Wert des Attributs oder <code>null</code>
+   * @throws ClassCastException Der Wert wurde mit einem anderen Typ abgelegt.
+   * @throws IllegalStateException Der Lader fordert rekursiv dasselbe Attribut an.
+   * @since 18.10.2026 14:23:31 agent | Realisierung
+   * @see #computeClassAttributeIfAbsent(String, Function)
+   */
+  default <T> T computeClassAttributeIfAbsent(AttributeKey<T> key, Function<? super AttributeKey<T>, ? extends T> loader) {
+    return InterfaceWithAttributesController.computeClassAttributeIfAbsent(getClass(), key, loader);
+  }
+  
+  /**
+   * Liefert das statische Attribut der übergebenen Klasse oder des Interfaces.
+   * <p>
+   * @param type Klasse oder Interface
+   * @param key Attributname
+   * @return Wert des Attributs oder <code>null</code>
+   * @since 18.10.2026 13:55:31 agent | Realisierung
+   */
+  static Object getClassAttribute(Class<? extends InterfaceWithAttributes> type, String key) {
+    return InterfaceWithAttributesController.getClassAttribute(type, key);
+  }
+  
+  /**
+   * Setzt das statische Attribut der übergebenen Klasse oder des Interfaces.
+   * <p>
+   * Ohne Instanz können so auch Attribute für Oberklassen und Interfaces gesetzt werden, die bei
+   * {@link #setClassAttributeInheritance(boolean) Vererbung} an alle Nachfahren weitergegeben werden.
+   * <p>
+   * @param type Klasse oder Interface
+   * @param key Attributname
+   * @param value Wert
+   * @since 18.10.2026 13:55:50 agent | Realisierung
+   */
+  static void setClassAttribute(Class<? extends InterfaceWithAttributes> type, String key, Object value) {
+    InterfaceWithAttributesController.setClassAttribute(type, key, value);
+  }
+  
+  /**
+   * Liefert das statische Attribut der übergebenen Klasse oder des Interfaces zum typisierten Schlüssel.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param type Klasse oder Interface
+   * @param key {@link AttributeKey}
+   * @return Wert des Attributs oder <code>null</code>
+   * @throws ClassCastException Der Wert wurde mit einem anderen Typ abgelegt.
+   * @since 18.10.2026 13:56:10 agent | Realisierung
+   */
+  static <T> T getClassAttribute(Class<? extends InterfaceWithAttributes> type, AttributeKey<T> key) {
+    return InterfaceWithAttributesController.getClassAttribute(type, key);
+  }
+  
+  /**
+   * Setzt das statische Attribut der übergebenen Klasse oder des Interfaces zum typisierten Schlüssel.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param type Klasse oder Interface
+   * @param key {@link AttributeKey}
+   * @param value Wert
+   * @since 18.10.2026 13:56:31 agent | Realisierung
+   */
+  static <T> void setClassAttribute(Class<? extends InterfaceWithAttributes> type, AttributeKey<T> key, T value) {
+    InterfaceWithAttributesController.setClassAttribute(type, key, value);
+  }
+  
+  /**
+   * Legt fest, ob Klassen-Attribute über die Typhierarchie aufgelöst werden.
+   * <p>
+   * Ist die Vererbung eingeschaltet, liefern alle lesenden Zugriffe auf Klassen-Attribute auch die
+   * Attribute der Oberklassen und der Interfaces, die {@link InterfaceWithAttributes} erweitern.
+   * Die eigene Klasse hat Vorrang vor den Oberklassen, diese vor den Interfaces. Schreibende
+   * Zugriffe betreffen immer nur die angegebene Klasse.
+   * <p>
+   * Die aufgelöste Sicht wird je Klasse zwischengespeichert und nur verworfen, wenn sich die
+   * Attribute eines Vorfahren ändern.
+   * <p>
+   * @param inheritance <code>true</code>, um Attribute zu erben. Vorgabe ist <code>false</code>.
+   * @since 18.10.2026 13:57:02 agent | Realisierung
+   */
+  static void setClassAttributeInheritance(boolean inheritance) {
+    InterfaceWithAttributesController.setClassAttributeInheritance(inheritance);
+  }
+  
+  /**
+   * Liefert, ob Klassen-Attribute über die Typhierarchie aufgelöst werden.
+   * <p>
+   * @return <code>true</code>, falls Attribute geerbt werden.
+   * @since 18.10.2026 13:57:20 agent | Realisierung
+   */
+  static boolean isClassAttributeInheritance() {
+    return InterfaceWithAttributesController.isClassAttributeInheritance();
   }
   
   /* ---- Statische Eigenschaften des Interfaces --------------------------- */
@@ -157,11 +1054,16 @@ public interface InterfaceWithAttributes {
    * <p>
    * Statische Eigenschaften des Interfaces betrifft alle Klassen, die das Interface implementieren.
    * <p>
+   * Die {@link HashMap} ist eine veränderbare Kopie. Anders als in früheren Versionen wirken sich Änderungen
+   * daran nicht mehr auf die Attribute aus, geändert wird über {@link #setInterfaceAttribute(String, Object)}.
+   * <p>
    * @return {@link HashMap} mit den beinhalteten Eigenschaften
    * @since 18.06.2016 10:24:26 Lutz Hoffarth | Realisierung
+   * @since 18.10.2026 17:18:10 agent | Mit {@link AttributeOverlay} des Threads
+   * @since 18.10.2026 19:14:20 agent | Kopie dokumentiert
    */
   default HashMap<String, Object> getInterfaceAttributes() {
-    return InterfaceWithAttributesController.getInterfaceAttributes().get();
+    return InterfaceWithAttributesController.getInterfaceAttributes(InterfaceWithAttributes.class);
   }
   
   /**
@@ -190,4 +1092,388 @@ public interface InterfaceWithAttributes {
     InterfaceWithAttributesController.setInterfaceAttribute(key, value);
   }
   
+  /**
+   * Liefert das statische Attribut des Interfaces zum typisierten Schlüssel.
+   * <p>
+   * Statische Eigenschaften des Interfaces betrifft alle Klassen, die das Interface implementieren.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param key {@link AttributeKey}
+   * @return Wert des Attributs oder <code>null</code>
+   * @throws ClassCastException Der Wert wurde mit einem anderen Typ abgelegt.
+   * @since 18.10.2026 11:56:51 agent | Realisierung
+   */
+  default <T> T getInterfaceAttribute(AttributeKey<T> key) {
+    return InterfaceWithAttributesController.getInterfaceAttribute(key);
+  }
+  
+  /**
+   * Setzt das statische Attribut des Interfaces zum typisierten Schlüssel.
+   * <p>
+   * Statische Eigenschaften des Interfaces betrifft alle Klassen, die das Interface implementieren.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param key {@link AttributeKey}
+   * @param value Wert
+   * @since 18.10.2026 11:57:10 agent | Realisierung
+   */
+  default <T> void setInterfaceAttribute(AttributeKey<T> key, T value) {
+    InterfaceWithAttributesController.setInterfaceAttribute(key, value);
+  }
+  
+  /**
+   * Liefert das statische Attribut des Interfaces und lädt es einmalig, falls es keinen Wert besitzt.
+   * <p>
+   * Besitzt das Attribut einen Wert, wird er ohne Sperre geliefert. Andernfalls ruft genau ein
+   * Thread den Lader auf, gleichzeitige Aufrufe für dasselbe Attribut warten auf dessen Ergebnis.
+   * Liefert der Lader <code>null</code> oder wirft er eine Exception, wird nichts abgelegt.
+   * <p>
+   * @param key Attributname
+   * @param loader Ermittelt den Wert zum Attributnamen.
+   * @return Wert des Attributs oder <code>null</code>
+   * @throws IllegalStateException Der Lader fordert rekursiv dasselbe Attribut an.
+   * @since 18.10.2026 14:23:50 agent | Realisierung
+   */
+  default Object computeInterfaceAttributeIfAbsent(String key, Function<? super String, ?> loader) {
+    return InterfaceWithAttributesController.computeInterfaceAttributeIfAbsent(key, loader);
+  }
+  
+  /**
+   * Liefert das statische Attribut des Interfaces zum typisierten Schlüssel und lädt es einmalig, falls es keinen Wert besitzt.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param key {@link AttributeKey}
+   * @param loader Ermittelt den Wert zum Schlüssel.
+   * @return Wert des Attributs oder <code>null</code>
+   * @throws ClassCastException Der Wert wurde mit einem anderen Typ abgelegt.
+   * @throws IllegalStateException Der Lader fordert rekursiv dasselbe Attribut an.
+   * @since 18.10.2026 14:24:10 agent | Realisierung
+   * @see #computeInterfaceAttributeIfAbsent(String, Function)
+   */
+  default <T> T computeInterfaceAttributeIfAbsent(AttributeKey<T> key, Function<? super AttributeKey<T>, ? extends T> loader) {
+    return InterfaceWithAttributesController.computeInterfaceAttributeIfAbsent(key, loader);
+  }
+  
+  /* ---- Statische Eigenschaften einer Erweiterung des Interfaces --------- */
+  
+  /**
+   * Liefert eine Kopie der Attribute im Bereich des übergebenen Interfaces.
+   * <p>
+   * Jedes Interface, das {@link InterfaceWithAttributes} erweitert, besitzt einen eigenen Bereich.
+   * Bibliotheken können so gleichnamige Attribute ablegen, ohne sich gegenseitig zu überschreiben,
+   * und Schreibzugriffe in unterschiedlichen Bereichen behindern sich nicht. Die Bereiche werden
+   * über einen {@link ClassValue} gefunden, lesende Zugriffe erzeugen keine Objekte.
+   * <p>
+   * Die Attribute eines Bereichs liegen getrennt von den Klassen-Attributen des Interfaces und
+   * werden auch bei {@link #setClassAttributeInheritance(boolean) Vererbung} nicht an die
+   * implementierenden Klassen weitergegeben.
+   * <p>
+   * @param scope Interface, das {@link InterfaceWithAttributes} erweitert.
+   * @return {@link HashMap} mit den beinhalteten Eigenschaften
+   * @throws IllegalArgumentException Der Bereich ist kein Interface.
+   * @since 18.10.2026 14:08:31 agent | Realisierung
+   * @since 18.10.2026 18:49:51 agent | Getrennt von den Klassen-Attributen des Interfaces
+   */
+  static HashMap<String, Object> getInterfaceAttributes(Class<? extends InterfaceWithAttributes> scope) {
+    return InterfaceWithAttributesController.getInterfaceAttributes(scope);
+  }
+  
+  /**
+   * Liefert das Attribut im Bereich des übergebenen Interfaces.
+   * <p>
+   * @param scope Interface, das {@link InterfaceWithAttributes} erweitert.
+   * @param key Attributname
+   * @return Wert des Attributs oder <code>null</code>
+   * @throws IllegalArgumentException Der Bereich ist kein Interface.
+   * @since 18.10.2026 14:08:50 agent | Realisierung
+   * @see #getInterfaceAttributes(Class)
+   */
+  static Object getInterfaceAttribute(Class<? extends InterfaceWithAttributes> scope, String key) {
+    return InterfaceWithAttributesController.getInterfaceAttribute(scope, key);
+  }
+  
+  /**
+   * Setzt das Attribut im Bereich des übergebenen Interfaces.
+   * <p>
+   * @param scope Interface, das {@link InterfaceWithAttributes} erweitert.
+   * @param key Attributname
+   * @param value Wert
+   * @throws IllegalArgumentException Der Bereich ist kein Interface.
+   * @since 18.10.2026 14:09:10 agent | Realisierung
+   * @see #getInterfaceAttributes(Class)
+   */
+  static void setInterfaceAttribute(Class<? extends InterfaceWithAttributes> scope, String key, Object value) {
+    InterfaceWithAttributesController.setInterfaceAttribute(scope, key, value);
+  }
+  
+  /**
+   * Liefert das Attribut im Bereich des übergebenen Interfaces zum typisierten Schlüssel.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param scope Interface, das {@link InterfaceWithAttributes} erweitert.
+   * @param key {@link AttributeKey}
+   * @return Wert des Attributs oder <code>null</code>
+   * @throws IllegalArgumentException Der Bereich ist kein Interface.
+   * @throws ClassCastException Der Wert wurde mit einem anderen Typ abgelegt.
+   * @since 18.10.2026 14:09:31 agent | Realisierung
+   * @see #getInterfaceAttributes(Class)
+   */
+  static <T> T getInterfaceAttribute(Class<? extends InterfaceWithAttributes> scope, AttributeKey<T> key) {
+    return InterfaceWithAttributesController.getInterfaceAttribute(scope, key);
+  }
+  
+  /**
+   * Setzt das Attribut im Bereich des übergebenen Interfaces zum typisierten Schlüssel.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param scope Interface, das {@link InterfaceWithAttributes} erweitert.
+   * @param key {@link AttributeKey}
+   * @param value Wert
+   * @throws IllegalArgumentException Der Bereich ist kein Interface.
+   * @since 18.10.2026 14:09:50 agent | Realisierung
+   * @see #getInterfaceAttributes(Class)
+   */
+  static <T> void setInterfaceAttribute(Class<? extends InterfaceWithAttributes> scope, AttributeKey<T> key, T value) {
+    InterfaceWithAttributesController.setInterfaceAttribute(scope, key, value);
+  }
+  
+  /* -- Listener ---------------------------------------------------------------------------------- */
+  
+  /**
+   * Registriert einen Listener für die Attribute des Objekts.
+   * <p>
+   * Der schreibende Thread merkt die Änderung nur vor, die Zustellung erfolgt asynchron über den
+   * {@link #setAttributeListenerExecutor(Executor) Executor}. Schnell aufeinanderfolgende Änderungen
+   * werden zusammengefasst. Der Listener hält das Objekt nicht im Speicher.
+   * <p>
+   * @param listener {@link AttributeListener}
+   * @since 18.10.2026 15:24:20 agent | Realisierung
+   */
+  default void addObjectAttributeListener(AttributeListener listener) {
+    InterfaceWithAttributesController.addObjectAttributeListener(this, listener);
+  }
+  
+  /**
+   * Entfernt einen Listener für die Attribute des Objekts.
+   * <p>
+   * @param listener {@link AttributeListener}
+   * @return <code>true</code>, falls der Listener registriert war.
+   * @since 18.10.2026 15:24:40 agent | Realisierung
+   */
+  default boolean removeObjectAttributeListener(AttributeListener listener) {
+    return InterfaceWithAttributesController.removeObjectAttributeListener(this, listener);
+  }
+  
+  /**
+   * Registriert einen Listener für die statischen Attribute der übergebenen Klasse.
+   * <p>
+   * Benachrichtigt wird nur über Änderungen an den eigenen Attributen der Klasse, nicht über
+   * geerbte.
+   * <p>
+   * @param type Klasse oder Interface
+   * @param listener {@link AttributeListener}
+   * @since 18.10.2026 15:25:02 agent | Realisierung
+   */
+  static void addClassAttributeListener(Class<? extends InterfaceWithAttributes> type, AttributeListener listener) {
+    InterfaceWithAttributesController.addClassAttributeListener(type, listener);
+  }
+  
+  /**
+   * Entfernt einen Listener für die statischen Attribute der übergebenen Klasse.
+   * <p>
+   * @param type Klasse oder Interface
+   * @param listener {@link AttributeListener}
+   * @return <code>true</code>, falls der Listener registriert war.
+   * @since 18.10.2026 15:25:20 agent | Realisierung
+   */
+  static boolean removeClassAttributeListener(Class<? extends InterfaceWithAttributes> type, AttributeListener listener) {
+    return InterfaceWithAttributesController.removeClassAttributeListener(type, listener);
+  }
+  
+  /**
+   * Registriert einen Listener für die Attribute im Bereich des übergebenen Interfaces.
+   * <p>
+   * Mit {@link InterfaceWithAttributes} selbst als Bereich wird über die Interface-Attribute
+   * benachrichtigt, die über {@link #setInterfaceAttribute(String, Object)} gesetzt werden.
+   * <p>
+   * @param scope Interface, das {@link InterfaceWithAttributes} erweitert, oder {@link InterfaceWithAttributes} selbst.
+   * @param listener {@link AttributeListener}
+   * @throws IllegalArgumentException Der Bereich ist kein Interface.
+   * @since 18.10.2026 15:25:40 agent | Realisierung
+   */
+  static void addInterfaceAttributeListener(Class<? extends InterfaceWithAttributes> scope, AttributeListener listener) {
+    InterfaceWithAttributesController.addInterfaceAttributeListener(scope, listener);
+  }
+  
+  /**
+   * Entfernt einen Listener für die Attribute im Bereich des übergebenen Interfaces.
+   * <p>
+   * @param scope Interface, das {@link InterfaceWithAttributes} erweitert, oder {@link InterfaceWithAttributes} selbst.
+   * @param listener {@link AttributeListener}
+   * @return <code>true</code>, falls der Listener registriert war.
+   * @throws IllegalArgumentException Der Bereich ist kein Interface.
+   * @since 18.10.2026 15:26:02 agent | Realisierung
+   */
+  static boolean removeInterfaceAttributeListener(Class<? extends InterfaceWithAttributes> scope, AttributeListener listener) {
+    return InterfaceWithAttributesController.removeInterfaceAttributeListener(scope, listener);
+  }
+  
+  /**
+   * Legt den Executor fest, über den alle Listener benachrichtigt werden.
+   * <p>
+   * Vorgabe ist ein Pool aus Daemon-Threads, die bei Bedarf erzeugt werden. Der Executor darf die
+   * Zustellung nicht im aufrufenden Thread ausführen, da sie sonst den schreibenden Zugriff
+   * verzögert. Lehnt er ab, wird die Zustellung mit der nächsten Änderung nachgeholt.
+   * <p>
+   * @param executor {@link Executor} oder <code>null</code> für die Vorgabe
+   * @since 18.10.2026 15:26:20 agent | Realisierung
+   */
+  static void setAttributeListenerExecutor(Executor executor) {
+    InterfaceWithAttributesController.setAttributeListenerExecutor(executor);
+  }
+  
+  /* -- Snapshot ---------------------------------------------------------------------------------- */
+  
+  /**
+   * Registriert einen Codec für Werte im Snapshot der Klassen- und Interface-Attribute.
+   * <p>
+   * Ein bisher registrierter Codec mit demselben Identifikator wird ersetzt.
+   * <p>
+   * @param codec {@link AttributeCodec}
+   * @since 18.10.2026 16:04:40 agent | Realisierung
+   */
+  static void registerAttributeCodec(AttributeCodec<?> codec) {
+    InterfaceWithAttributesController.registerAttributeCodec(codec);
+  }
+  
+  /**
+   * Schreibt die Attribute aller Klassen und Interfaces in eine Binärdatei.
+   * <p>
+   * Jeder Wert wird über den {@link AttributeCodec} seines Typs geschrieben. Die Datei wird erst
+   * nach vollständigem Schreiben ersetzt.
+   * <p>
+   * @param path Datei
+   * @return Anzahl der geschriebenen Attribute
+   * @throws IOException Fehler beim Schreiben
+   * @throws IllegalArgumentException Für den Wert eines Attributs ist kein Codec registriert.
+   * @since 18.10.2026 16:05:02 agent | Realisierung
+   */
+  static int writeAttributeSnapshot(Path path) throws IOException {
+    return InterfaceWithAttributesController.writeAttributeSnapshot(path);
+  }
+  
+  /**
+   * Stellt die Attribute der Klassen und Interfaces aus einer Binärdatei wieder her.
+   * <p>
+   * Die Datei wird in den Speicher eingeblendet, gelesen werden nur die Klassen. Jedes Attribut
+   * wird erst beim ersten Zugriff auf seinen Namen im Index der Datei gesucht und sein Wert erst beim
+   * Lesen dekodiert, die Datei darf bis dahin nicht verändert werden. Vorhandene Attribute gleichen
+   * Namens werden überschrieben, unbekannte Klassen übersprungen.
+   * <p>
+   * @param path Datei
+   * @return Anzahl der wiederhergestellten Attribute
+   * @throws IOException Fehler beim Lesen, unbekannter Aufbau oder nicht registrierter Codec
+   * @since 18.10.2026 16:05:20 agent | Realisierung
+   * @since 18.10.2026 19:30:40 agent | Namen werden erst beim Zugriff gelesen
+   */
+  static int restoreAttributeSnapshot(Path path) throws IOException {
+    return InterfaceWithAttributesController.restoreAttributeSnapshot(path);
+  }
+  
+  /* -- Journal ----------------------------------------------------------------------------------- */
+  
+  /**
+   * Protokolliert ab sofort alle Änderungen der Objekt-, Klassen- und Interface-Attribute in einem
+   * binären Journal im Verzeichnis.
+   * <p>
+   * Der schreibende Zugriff merkt die Änderung lediglich vor. Ein Hintergrund-Thread schreibt die
+   * vorgemerkten Änderungen gruppenweise mit dem jeweils aktuellen Wert in eingeblendete Segmente
+   * und macht jede Gruppe mit einem einzigen Zugriff auf das Dateisystem dauerhaft. Nach einem
+   * Absturz fehlen daher höchstens die Änderungen der letzten Millisekunden, über
+   * {@link #syncAttributeJournal()} kann auf das Schreiben gewartet werden.
+   * <p>
+   * Objekt-Attribute werden nur für Objekte protokolliert, denen die Funktion einen Schlüssel
+   * zuordnet. Die Werte werden über die {@link AttributeCodec} des Snapshots geschrieben, der
+   * Schlüssel und der Wert werden erst im Hintergrund ermittelt.
+   * <p>
+   * @param directory Verzeichnis der Segmente, wird bei Bedarf angelegt.
+   * @param keys Liefert den dauerhaften Schlüssel eines Objekts oder <code>null</code>, falls seine
+   *          Attribute nicht protokolliert werden.
+   * @throws IOException Fehler beim Anlegen des ersten Segments
+   * @throws IllegalStateException Es ist bereits ein Journal geöffnet.
+   * @since 18.10.2026 17:47:40 agent | Realisierung
+   * @see #replayAttributeJournal(Path, Function)
+   */
+  static void startAttributeJournal(Path directory, Function<? super InterfaceWithAttributes, String> keys) throws IOException {
+    InterfaceWithAttributesController.startAttributeJournal(directory, keys);
+  }
+  
+  /**
+   * Schreibt alle vorgemerkten Änderungen und schließt das Journal.
+   * <p>
+   * @throws IOException Erster Fehler seit dem letzten {@link #syncAttributeJournal()}
+   * @since 18.10.2026 17:47:51 agent | Realisierung
+   */
+  static void stopAttributeJournal() throws IOException {
+    InterfaceWithAttributesController.stopAttributeJournal();
+  }
+  
+  /**
+   * Prüft, ob die Änderungen in einem Journal protokolliert werden.
+   * <p>
+   * @return <code>true</code>, falls ein Journal geöffnet ist.
+   * @since 18.10.2026 17:48:02 agent | Realisierung
+   */
+  static boolean isAttributeJournalEnabled() {
+    return InterfaceWithAttributesController.isAttributeJournalEnabled();
+  }
+  
+  /**
+   * Wartet, bis alle bisher vorgenommenen Änderungen dauerhaft im Journal stehen.
+   * <p>
+   * Ohne geöffnetes Journal kehrt der Aufruf sofort zurück.
+   * <p>
+   * @throws IOException Erster Fehler seit dem letzten Aufruf, z.B. ein Wert ohne registrierten Codec
+   * @since 18.10.2026 17:48:10 agent | Realisierung
+   */
+  static void syncAttributeJournal() throws IOException {
+    InterfaceWithAttributesController.syncAttributeJournal();
+  }
+  
+  /**
+   * Stellt die Attribute aus dem Journal im Verzeichnis wieder her.
+   * <p>
+   * Alle Einträge werden in ihrer Reihenfolge eingespielt, der zuletzt geschriebene Wert eines
+   * Attributs bleibt also erhalten. Klassen, die nicht gefunden werden, und Schlüssel, zu denen
+   * kein Objekt geliefert wird, werden übersprungen. Ein unvollständiger letzter Eintrag eines
+   * Segments wird ignoriert.
+   * <p>
+   * @param directory Verzeichnis der Segmente
+   * @param objects Liefert das Objekt zum Schlüssel oder <code>null</code>, wird je Schlüssel
+   *          einmal aufgerufen.
+   * @return Anzahl der eingespielten Einträge
+   * @throws IOException Fehler beim Lesen, unbekannter Aufbau oder nicht registrierter Codec
+   * @throws IllegalStateException Das Journal ist geöffnet.
+   * @since 18.10.2026 17:48:20 agent | Realisierung
+   */
+  static int replayAttributeJournal(Path directory, Function<String, ? extends InterfaceWithAttributes> objects) throws IOException {
+    return InterfaceWithAttributesController.replayAttributeJournal(directory, objects);
+  }
+  
+  /**
+   * Fasst die abgeschlossenen Segmente des Journals zu einem Segment zusammen, das nur noch den
+   * letzten Wert je Attribut enthält.
+   * <p>
+   * Das Segment eines geöffneten Journals bleibt unverändert. Ein Abbruch während des
+   * Zusammenfassens hinterlässt ein vollständiges Journal.
+   * <p>
+   * @param directory Verzeichnis der Segmente
+   * @return Anzahl der Einträge im zusammengefassten Segment
+   * @throws IOException Fehler beim Lesen oder Schreiben
+   * @since 18.10.2026 17:48:31 agent | Realisierung
+   */
+  static int compactAttributeJournal(Path directory) throws IOException {
+    return InterfaceWithAttributesController.compactAttributeJournal(directory);
+  }
+  
 }
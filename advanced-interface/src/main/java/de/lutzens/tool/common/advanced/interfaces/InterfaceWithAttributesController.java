@@ -8,8 +8,19 @@
  */
 package de.lutzens.tool.common.advanced.interfaces;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Spliterator;
 import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Kontrolliert die Zugriffe auf die Attribute des {@link InterfaceWithAttributes}.
@@ -17,19 +28,35 @@ import java.util.WeakHashMap;
  * Attribute, von Objekten die nicht mehr referenziert werden, werden automatisch entfernt.
  * <p>
  * Attribute von Interfaces sind immer öffentliche Konstante 'public static final', auch wenn es nicht angegeben wurde.<br>
- * Die Handhabung ist durch eine statische Instanz von {@link WeakHashMap} geregelt.<p>
- * Mit Zuhilfenahme der {@link WeakHashMap} können Attribute für die jeweiligen Objekte abgelegt werden.<br>
- * Die Einträge der {@link WeakHashMap} werden automatisch vom GarbageCollector entfernt, wenn es keine starke Referenz mehr auf das jeweilige 
+ * Die Handhabung ist durch eine statische Instanz von {@link ConcurrentWeakRegistry} geregelt.<p>
+ * Mit Zuhilfenahme der {@link ConcurrentWeakRegistry} können Attribute für die jeweiligen Objekte abgelegt werden.<br>
+ * Die Einträge der {@link ConcurrentWeakRegistry} werden automatisch vom GarbageCollector entfernt, wenn es keine starke Referenz mehr auf das jeweilige 
  * Object im Schlüssel gibt.
  * <p>
+ * Sämtliche Zugriffe sind threadsicher und benötigen keine zusätzliche Synchronisation.
+ * <p>
  * @author <a href="mailto:office@lutzens.de">Lutz Hoffarth</a>
  * @since 30.05.2017 14:31:28 Lutz Hoffarth | Realisierung
  * @since 13.07.2017 10:20:09 Lutz Hoffarth | Überarbeitet
+ * @since 18.10.2026 10:35:02 agent | Threadsicher über {@link ConcurrentWeakRegistry} statt {@link WeakHashMap}
+ * @since 18.10.2026 13:33:10 agent | Gemeinsames Setzen mehrerer Attribute und für mehrere Objekte
+ * @since 18.10.2026 13:52:02 agent | Klassen-Attribute über {@link ClassAttributes} mit optionaler Vererbung
+ * @since 18.10.2026 14:05:02 agent | Interface-Attribute je Erweiterung des {@link InterfaceWithAttributes}
+ * @since 18.10.2026 14:19:02 agent | Einmaliges Laden fehlender Attribute
+ * @since 18.10.2026 15:00:02 agent | Cache-Modus für Objekt-Attribute
+ * @since 18.10.2026 15:21:02 agent | Asynchrone Benachrichtigung über Änderungen
+ * @since 18.10.2026 15:46:02 agent | Messwerte über {@link AttributeMonitor}
+ * @since 18.10.2026 16:03:31 agent | Snapshot der Klassen- und Interface-Attribute über {@link AttributeSnapshot}
+ * @since 18.10.2026 17:07:02 agent | Atomare Änderungen und konsistentes Lesen mehrerer Objekt-Attribute
+ * @since 18.10.2026 17:17:02 agent | Überlagerung der Klassen- und Interface-Attribute über {@link AttributeOverlay}
+ * @since 18.10.2026 17:29:02 agent | Objekt-Attribute erst beim ersten Schreibzugriff, Sicht ohne Kopie über {@link AttributeView}
+ * @since 18.10.2026 17:46:20 agent | Journal der Änderungen über {@link AttributeJournal}
+ * @since 18.10.2026 18:08:10 agent | Suche nach dem Objekt-Identifikator über {@link ObjectIdIndex}
  */
 class InterfaceWithAttributesController {
   /** @since 30.05.2017 14:31:30 Lutz Hoffarth | Realisierung */
   @SuppressWarnings("unused")
-  private static final long                                                        serialVersionUID     = 1L;
+  private static final long                                                                   serialVersionUID     = 1L;
   
   /* -- Deklaration ------------------------------------------------------------------------------- */
   /*   -- Konstante ---------------------------------------------------------------- */
@@ -39,32 +66,45 @@ class InterfaceWithAttributesController {
    * <p>
    * Attribute von Interfaces sind immer öffentliche Konstante 'public static final', auch wenn es nicht angegeben wurde.
    * <p>
-   * Mit Zuhilfenahme der {@link WeakHashMap} können Eigenschaften für die jeweiligen Objekte abgelegt werden.<br>
-   * Die Einträge der {@link WeakHashMap} werden automatisch vom GarbageCollector entfernt, wenn es 
+   * Mit Zuhilfenahme der {@link ConcurrentWeakRegistry} können Eigenschaften für die jeweiligen Objekte abgelegt werden.<br>
+   * Die Einträge der {@link ConcurrentWeakRegistry} werden automatisch vom GarbageCollector entfernt, wenn es 
    * keine starke Referenz mehr auf das jeweilige Object im Schlüssel gibt.
    * <p>
+   * Die Objekte werden über ihre Identität zugeordnet, {@link Object#hashCode()} und {@link Object#equals(Object)} 
+   * der Implementierung werden nicht verwendet.
+   * <p>
    * Der Controller wird ausschließlich durch die Schnittstelle {@link InterfaceWithAttributes} verwendet.
    * <p>
    * @since 26.10.2014 07:39:41 Lutz Hoffarth | Realisierung 
    * @since 13.07.2017 10:10:40 Lutz Hoffarth | Methoden und Konstante von {@link InterfaceWithAttributes} eingelagert
+   * @since 18.10.2026 10:35:40 agent | {@link ConcurrentWeakRegistry} statt {@link WeakHashMap}
+   * @since 18.10.2026 16:27:40 agent | Gibt die Attribute außerhalb des Heaps bei der Bereinigung frei
    */
-  private static final WeakHashMap<InterfaceWithAttributes, AttributesOfInterface> OBJECT_ATTRIBUTES    = new WeakHashMap<>();
+  private static final ConcurrentWeakRegistry<InterfaceWithAttributes, AttributesOfInterface> OBJECT_ATTRIBUTES    = new ConcurrentWeakRegistry<>(AttributesOfInterface::release);
   
-  /** 
-   * Jede Klasse oder Interface die {@link InterfaceWithAttributes} spezialisiert, 
-   * kann keine oder viele Klassen-Attribute beinhalten.
-   * <p>
-   * @since 03.12.2014 16:45:46 Lutz Hoffarth | Realisierung */
-  private static final WeakHashMap<Class<?>, AttributesOfInterface>                CLASS_ATTRIBUTES     = new WeakHashMap<>();
+  /** Bereinigt {@link #OBJECT_ATTRIBUTES} bei Bedarf im Hintergrund.
+   * @since 18.10.2026 16:37:02 agent | Realisierung */
+  private static final AttributeCleaner                                                       CLEANER              = new AttributeCleaner(OBJECT_ATTRIBUTES);
   
   /** Statische Interface-Attribute die ausschließlich dem Interface {@link InterfaceWithAttributes} zugeordnet sind.
    * <p>
    * Alle Attribute der Schnittstelle sind über jedes Object der Klasse oder des Interfaces, die das Interface implementiert, erreichbar.
    * <p>
-   * @since 18.06.2016 09:44:08 Lutz Hoffarth | Realisierung */
-  private static final AttributesOfInterface                                       INTERFACE_ATTRIBUTES = new AttributesOfInterface();
+   * @since 18.06.2016 09:44:08 Lutz Hoffarth | Realisierung
+   * @since 18.10.2026 14:05:31 agent | Bereich des {@link InterfaceWithAttributes} unter den {@link ClassAttributes} */
+  private static final ClassAttributes                                                        INTERFACE_ATTRIBUTES = ClassAttributes.scopeOf(InterfaceWithAttributes.class);
+  
+  /** Erzeugt neue {@link AttributesOfInterface} für Objekte mit dem {@link AttributeShape} ihrer Klasse.
+   * @since 18.10.2026 10:36:20 agent | Realisierung
+   * @since 18.10.2026 11:50:12 agent | {@link AttributeShape} je Klasse */
+  private static final Function<Object, AttributesOfInterface>                                CREATE_ATTRIBUTES    = key -> new AttributesOfInterface(AttributeShape.rootOf(key.getClass()));
+  
+  /*   -- Klasse ------------------------------------------------------------------- */
+  
+  /** Klassen-Attribute werden über die Typhierarchie aufgelöst.
+   * @since 18.10.2026 13:52:31 agent | Realisierung */
+  private static volatile boolean                                                             classAttributeInheritance;
   
-  ///*   -- Klasse ------------------------------------------------------------------- */
   ///*   -- Instanz ------------------------------------------------------------------ */
   ///* -- Start ------------------------------------------------------------------------------------- */
   ///* -- Konstruktoren ----------------------------------------------------------------------------- */
@@ -73,14 +113,30 @@ class InterfaceWithAttributesController {
   /**
    * Die Initialisierung wird ausschließlich durch die Schnittstelle {@link InterfaceWithAttributes} verwendet.
    * <p>
+   * Vorhandene Attribute des Objekts bleiben erhalten, ein wiederholter Aufruf ändert nichts.
+   * <p>
    * @param self {@link InterfaceWithAttributesController} die das Interface verwendet.
    * @since 30.05.2017 14:33:23 Lutz Hoffarth | Realisierung
+   * @since 18.10.2026 16:27:51 agent | Gibt ersetzte Attribute außerhalb des Heaps frei
+   * @since 18.10.2026 16:56:20 agent | Ablage im {@link AttributeHolder}
+   * @since 18.10.2026 17:29:10 agent | Legt keine Attribute mehr an, erst der erste Schreibzugriff
+   * @since 18.10.2026 18:55:02 agent | Verwirft keine vorhandenen Attribute
    */
   static void init(InterfaceWithAttributes self) {
-    OBJECT_ATTRIBUTES.put(self, new AttributesOfInterface());
-    if (!CLASS_ATTRIBUTES.containsKey(self.getClass())) {
-      CLASS_ATTRIBUTES.put(self.getClass(), new AttributesOfInterface());
-    }
+    ClassAttributes.of(self.getClass());
+  }
+  
+  /**
+   * Gibt die Objekt-Attribute sofort frei, ohne auf den GarbageCollector zu warten.
+   * <p>
+   * @param self {@link InterfaceWithAttributes}
+   * @since 18.10.2026 16:37:10 agent | Realisierung
+   * @since 18.10.2026 16:56:20 agent | Ablage im {@link AttributeHolder}
+   */
+  static void release(InterfaceWithAttributes self) {
+    AttributeHolder holder = self.getAttributeHolder();
+    AttributesOfInterface previous = holder != null ? holder.clear() : OBJECT_ATTRIBUTES.remove(self);
+    if (previous != null) previous.release();
   }
   
   /* -- Logik ------------------------------------------------------------------------------------- */
@@ -91,26 +147,81 @@ class InterfaceWithAttributesController {
    * @return {@link AttributesOfInterface}
    * @since 26.10.2014 07:47:25 Lutz Hoffarth | Realisierung
    * @since 13.07.2017 09:38:57 Lutz Hoffarth | In Controller eingelagert.
+   * @since 18.10.2026 16:44:02 agent | Merkt sich das Objekt für die {@link AttributeIndex}
+   * @since 18.10.2026 16:56:20 agent | Ablage im {@link AttributeHolder}
+   * @since 18.10.2026 17:46:31 agent | Merkt sich das Objekt für das {@link AttributeJournal}
    */
   static AttributesOfInterface getObjectAttributes(InterfaceWithAttributes interfaceWithAttributes) {
-    AttributesOfInterface value = OBJECT_ATTRIBUTES.get(interfaceWithAttributes);
-    if (value == null) OBJECT_ATTRIBUTES.put(interfaceWithAttributes, value = new AttributesOfInterface());
-    return value;
+    AttributeHolder holder = interfaceWithAttributes.getAttributeHolder();
+    AttributesOfInterface attributes;
+    if (holder != null) {
+      attributes = holder.attributes(interfaceWithAttributes);
+    } else {
+      attributes = OBJECT_ATTRIBUTES.computeIfAbsent(interfaceWithAttributes, CREATE_ATTRIBUTES);
+      if (AttributeIndex.active) attributes.bind(interfaceWithAttributes);
+    }
+    if (AttributeJournal.active) attributes.bind(interfaceWithAttributes);
+    return attributes;
+  }
+  
+  /**
+   * Liefert die Attribute des Objekts für Lesezugriffe, ohne sie anzulegen.
+   * <p>
+   * @param interfaceWithAttributes {@link InterfaceWithAttributes}
+   * @return {@link AttributesOfInterface} oder {@link AttributesOfInterface#EMPTY}, die nicht geändert werden dürfen.
+   * @since 18.10.2026 17:29:20 agent | Realisierung
+   */
+  static AttributesOfInterface readObjectAttributes(InterfaceWithAttributes interfaceWithAttributes) {
+    AttributesOfInterface attributes = lookup(interfaceWithAttributes);
+    return attributes != null ? attributes : AttributesOfInterface.EMPTY;
+  }
+  
+  /**
+   * Liefert die vorhandenen Attribute des Objekts, ohne sie anzulegen.
+   * <p>
+   * Liegen die Attribute in einem {@link AttributeHolder}, wird die Registry nicht verwendet.
+   * <p>
+   * @param interfaceWithAttributes {@link InterfaceWithAttributes}
+   * @return {@link AttributesOfInterface} oder <code>null</code>
+   * @since 18.10.2026 16:56:31 agent | Realisierung
+   */
+  private static AttributesOfInterface lookup(InterfaceWithAttributes interfaceWithAttributes) {
+    AttributeHolder holder = interfaceWithAttributes.getAttributeHolder();
+    return holder != null ? holder.peek() : OBJECT_ATTRIBUTES.get(interfaceWithAttributes);
   }
   
   ///* -- statisch ---------------------------------------------------------------------------------- */
   /* -- get/set/add/is ---------------------------------------------------------------------------- */
   /* ---- Eigenschaften des Objektes --------------------------------------- */
   
+  /**
+   * Liefert den Identifikator des Objekts und trägt das Objekt im {@link ObjectIdIndex} ein.
+   * <p>
+   * @param interfaceWithAttributes {@link InterfaceWithAttributes}
+   * @return Objekt-Identifikator
+   * @since 18.10.2026 18:08:20 agent | Realisierung
+   */
+  static long getObjectId(InterfaceWithAttributes interfaceWithAttributes) {
+    long id = getObjectAttributes(interfaceWithAttributes).getId();
+    if (ObjectIdIndex.get(id) != interfaceWithAttributes) {
+      boolean holder = interfaceWithAttributes.getAttributeHolder() != null;
+      ObjectIdIndex.register(id, interfaceWithAttributes, holder ? null : OBJECT_ATTRIBUTES.reference(interfaceWithAttributes));
+    }
+    return id;
+  }
+  
   /**
    * Liefert das Attribute des Objekts mit dem übergebenen Namen.
    * <p>
    * @param key Attributname
    * @return Object
    * @since 22.12.2014 18:59:42 Lutz Hoffarth | Realisierung
+   * @since 18.10.2026 15:45:25 agent | Messung über {@link AttributeMonitor}
+   * @since 18.10.2026 16:56:20 agent | Ablage im {@link AttributeHolder}
    */
   static Object getObjectAttribute(InterfaceWithAttributes interfaceWithAttributes, String key) {
-    AttributesOfInterface value = OBJECT_ATTRIBUTES.get(interfaceWithAttributes);
+    AttributesOfInterface value = lookup(interfaceWithAttributes);
+    if (AttributeMonitor.enabled) AttributeMonitor.read(value, key);
     if (value == null) return null;
     return value.get(key);
   }
@@ -126,94 +237,1209 @@ class InterfaceWithAttributesController {
     getObjectAttributes(interfaceWithAttributes).put(key, value);
   }
   
+  /**
+   * Liefert das Attribut des Objekts zum typisierten Schlüssel.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param key {@link AttributeKey}
+   * @return Wert des Attributs
+   * @since 18.10.2026 11:51:02 agent | Realisierung
+   * @since 18.10.2026 15:45:30 agent | Messung über {@link AttributeMonitor}
+   * @since 18.10.2026 16:56:20 agent | Ablage im {@link AttributeHolder}
+   */
+  static <T> T getObjectAttribute(InterfaceWithAttributes interfaceWithAttributes, AttributeKey<T> key) {
+    AttributesOfInterface value = lookup(interfaceWithAttributes);
+    if (AttributeMonitor.enabled) AttributeMonitor.read(value, key.name);
+    if (value == null) return null;
+    return value.get(key);
+  }
+  
+  /**
+   * Setzt den Wert im Objekt-Attribut zum typisierten Schlüssel.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param key {@link AttributeKey}
+   * @param value Wert
+   * @since 18.10.2026 11:51:20 agent | Realisierung
+   */
+  static <T> void setObjectAttribute(InterfaceWithAttributes interfaceWithAttributes, AttributeKey<T> key, T value) {
+    getObjectAttributes(interfaceWithAttributes).put(key, value);
+  }
+  
+  /**
+   * Liefert das Attribut des Objekts als <code>long</code> ohne Boxing.
+   * <p>
+   * @param key Attributname
+   * @return Wert oder <code>0</code>, falls das Attribut nicht vorhanden ist.
+   * @since 18.10.2026 12:41:00 agent | Realisierung
+   * @since 18.10.2026 15:45:35 agent | Messung über {@link AttributeMonitor}
+   * @since 18.10.2026 16:56:20 agent | Ablage im {@link AttributeHolder}
+   */
+  static long getObjectAttributeLong(InterfaceWithAttributes interfaceWithAttributes, String key) {
+    AttributesOfInterface value = lookup(interfaceWithAttributes);
+    if (AttributeMonitor.enabled) AttributeMonitor.read(value, key);
+    if (value == null) return 0;
+    return value.getLong(key);
+  }
+  
+  /**
+   * Setzt das Attribut des Objekts als <code>long</code> ohne Boxing.
+   * <p>
+   * @param key Attributname
+   * @param value Wert
+   * @since 18.10.2026 12:42:00 agent | Realisierung
+   */
+  static void setObjectAttributeLong(InterfaceWithAttributes interfaceWithAttributes, String key, long value) {
+    getObjectAttributes(interfaceWithAttributes).putPrimitive(key, PrimitiveAttribute.Kind.LONG, value);
+  }
+  
+  /**
+   * Addiert atomar auf das Attribut des Objekts als <code>long</code>.
+   * <p>
+   * @param key Attributname
+   * @param delta Summand
+   * @return Neuer Wert
+   * @since 18.10.2026 12:45:00 agent | Realisierung
+   */
+  static long addObjectAttributeLong(InterfaceWithAttributes interfaceWithAttributes, String key, long delta) {
+    return getObjectAttributes(interfaceWithAttributes).addLong(key, delta);
+  }
+  
+  /**
+   * Liefert das Attribut des Objekts als <code>int</code> ohne Boxing.
+   * <p>
+   * @param key Attributname
+   * @return Wert oder <code>0</code>, falls das Attribut nicht vorhanden ist.
+   * @since 18.10.2026 12:47:00 agent | Realisierung
+   * @since 18.10.2026 15:45:40 agent | Messung über {@link AttributeMonitor}
+   * @since 18.10.2026 16:56:20 agent | Ablage im {@link AttributeHolder}
+   */
+  static int getObjectAttributeInt(InterfaceWithAttributes interfaceWithAttributes, String key) {
+    AttributesOfInterface value = lookup(interfaceWithAttributes);
+    if (AttributeMonitor.enabled) AttributeMonitor.read(value, key);
+    if (value == null) return 0;
+    return (int) value.getLong(key);
+  }
+  
+  /**
+   * Setzt das Attribut des Objekts als <code>int</code> ohne Boxing.
+   * <p>
+   * @param key Attributname
+   * @param value Wert
+   * @since 18.10.2026 12:48:00 agent | Realisierung
+   */
+  static void setObjectAttributeInt(InterfaceWithAttributes interfaceWithAttributes, String key, int value) {
+    getObjectAttributes(interfaceWithAttributes).putPrimitive(key, PrimitiveAttribute.Kind.INT, value);
+  }
+  
+  /**
+   * Addiert atomar auf das Attribut des Objekts als <code>int</code>.
+   * <p>
+   * @param key Attributname
+   * @param delta Summand
+   * @return Neuer Wert
+   * @since 18.10.2026 12:51:00 agent | Realisierung
+   */
+  static int addObjectAttributeInt(InterfaceWithAttributes interfaceWithAttributes, String key, int delta) {
+    return getObjectAttributes(interfaceWithAttributes).addInt(key, delta);
+  }
+  
+  /**
+   * Liefert das Attribut des Objekts als <code>double</code> ohne Boxing.
+   * <p>
+   * @param key Attributname
+   * @return Wert oder <code>0</code>, falls das Attribut nicht vorhanden ist.
+   * @since 18.10.2026 12:53:00 agent | Realisierung
+   * @since 18.10.2026 15:45:45 agent | Messung über {@link AttributeMonitor}
+   * @since 18.10.2026 16:56:20 agent | Ablage im {@link AttributeHolder}
+   */
+  static double getObjectAttributeDouble(InterfaceWithAttributes interfaceWithAttributes, String key) {
+    AttributesOfInterface value = lookup(interfaceWithAttributes);
+    if (AttributeMonitor.enabled) AttributeMonitor.read(value, key);
+    if (value == null) return 0;
+    return value.getDouble(key);
+  }
+  
+  /**
+   * Setzt das Attribut des Objekts als <code>double</code> ohne Boxing.
+   * <p>
+   * @param key Attributname
+   * @param value Wert
+   * @since 18.10.2026 12:54:00 agent | Realisierung
+   */
+  static void setObjectAttributeDouble(InterfaceWithAttributes interfaceWithAttributes, String key, double value) {
+    getObjectAttributes(interfaceWithAttributes).putPrimitive(key, PrimitiveAttribute.Kind.DOUBLE, Double.doubleToRawLongBits(value));
+  }
+  
+  /**
+   * Addiert atomar auf das Attribut des Objekts als <code>double</code>.
+   * <p>
+   * @param key Attributname
+   * @param delta Summand
+   * @return Neuer Wert
+   * @since 18.10.2026 12:57:00 agent | Realisierung
+   */
+  static double addObjectAttributeDouble(InterfaceWithAttributes interfaceWithAttributes, String key, double delta) {
+    return getObjectAttributes(interfaceWithAttributes).addDouble(key, delta);
+  }
+  
+  /**
+   * Liefert das Attribut des Objekts als <code>boolean</code> ohne Boxing.
+   * <p>
+   * @param key Attributname
+   * @return Wert oder <code>false</code>, falls das Attribut nicht vorhanden ist.
+   * @since 18.10.2026 12:59:00 agent | Realisierung
+   * @since 18.10.2026 15:45:50 agent | Messung über {@link AttributeMonitor}
+   * @since 18.10.2026 16:56:20 agent | Ablage im {@link AttributeHolder}
+   */
+  static boolean getObjectAttributeBoolean(InterfaceWithAttributes interfaceWithAttributes, String key) {
+    AttributesOfInterface value = lookup(interfaceWithAttributes);
+    if (AttributeMonitor.enabled) AttributeMonitor.read(value, key);
+    if (value == null) return false;
+    return value.getBoolean(key);
+  }
+  
+  /**
+   * Setzt das Attribut des Objekts als <code>boolean</code> ohne Boxing.
+   * <p>
+   * @param key Attributname
+   * @param value Wert
+   * @since 18.10.2026 13:00:00 agent | Realisierung
+   */
+  static void setObjectAttributeBoolean(InterfaceWithAttributes interfaceWithAttributes, String key, boolean value) {
+    getObjectAttributes(interfaceWithAttributes).putPrimitive(key, PrimitiveAttribute.Kind.BOOLEAN, value ? 1 : 0);
+  }
+  
+  /**
+   * Liefert das Attribut des Objekts und lädt es einmalig, falls es keinen Wert besitzt.
+   * <p>
+   * @param key Attributname
+   * @param loader Ermittelt den Wert zum Attributnamen.
+   * @return Wert des Attributs oder <code>null</code>
+   * @since 18.10.2026 14:19:31 agent | Realisierung
+   */
+  static Object computeObjectAttributeIfAbsent(InterfaceWithAttributes interfaceWithAttributes, String key, Function<? super String, ?> loader) {
+    return getObjectAttributes(interfaceWithAttributes).computeIfAbsent(AttributeName.of(key), key, loader);
+  }
+  
+  /**
+   * Liefert das Attribut des Objekts zum typisierten Schlüssel und lädt es einmalig, falls es keinen Wert besitzt.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param key {@link AttributeKey}
+   * @param loader Ermittelt den Wert zum Schlüssel.
+   * @return Wert des Attributs oder <code>null</code>
+   * @since 18.10.2026 14:19:50 agent | Realisierung
+   */
+  static <T> T computeObjectAttributeIfAbsent(InterfaceWithAttributes interfaceWithAttributes, AttributeKey<T> key,
+      Function<? super AttributeKey<T>, ? extends T> loader) {
+    return key.cast(getObjectAttributes(interfaceWithAttributes).computeIfAbsent(key.name, key, loader));
+  }
+  
+  /**
+   * Setzt den Prototyp, dessen Objekt-Attribute ohne eigenen Wert gelten.
+   * <p>
+   * @param prototype Prototyp oder <code>null</code>
+   * @param live <code>true</code>, um spätere Änderungen des Prototyps zu sehen.
+   * @since 18.10.2026 17:02:51 agent | Realisierung
+   */
+  static void setObjectAttributePrototype(InterfaceWithAttributes interfaceWithAttributes, InterfaceWithAttributes prototype, boolean live) {
+    AttributesOfInterface parent = prototype == null ? null : getObjectAttributes(prototype);
+    getObjectAttributes(interfaceWithAttributes).setPrototype(parent, prototype, live);
+  }
+  
+  /**
+   * Setzt den Wert nur, falls der aktuelle Wert dem erwarteten entspricht.
+   * <p>
+   * @param key Attributname
+   * @param expected Erwarteter Wert
+   * @param value Neuer Wert
+   * @return <code>true</code>, falls der Wert gesetzt wurde.
+   * @since 18.10.2026 17:07:10 agent | Realisierung
+   */
+  static boolean compareAndSetObjectAttribute(InterfaceWithAttributes interfaceWithAttributes, String key, Object expected, Object value) {
+    return getObjectAttributes(interfaceWithAttributes).compareAndSet(AttributeName.of(key), expected, value);
+  }
+  
+  /**
+   * Setzt den Wert zum typisierten Schlüssel nur, falls der aktuelle Wert dem erwarteten entspricht.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param key {@link AttributeKey}
+   * @param expected Erwarteter Wert
+   * @param value Neuer Wert
+   * @return <code>true</code>, falls der Wert gesetzt wurde.
+   * @since 18.10.2026 17:07:20 agent | Realisierung
+   */
+  static <T> boolean compareAndSetObjectAttribute(InterfaceWithAttributes interfaceWithAttributes, AttributeKey<T> key, T expected, T value) {
+    return getObjectAttributes(interfaceWithAttributes).compareAndSet(key.name, expected, value);
+  }
+  
+  /**
+   * Ändert mehrere Attribute gemeinsam.
+   * <p>
+   * @param update Liefert aus den aktuellen Werten die zu setzenden Werte.
+   * @param keys Namen der gelesenen Attribute
+   * @since 18.10.2026 17:07:31 agent | Realisierung
+   */
+  static void updateObjectAttributes(InterfaceWithAttributes interfaceWithAttributes,
+      Function<? super Map<String, Object>, ? extends Map<String, ?>> update, String... keys) {
+    getObjectAttributes(interfaceWithAttributes).update(names(keys), update);
+  }
+  
+  /**
+   * Liefert die Werte der übergebenen Attribute konsistent zueinander.
+   * <p>
+   * @param keys Attributnamen
+   * @return {@link HashMap} mit allen Namen, <code>null</code> für fehlende Attribute
+   * @since 18.10.2026 17:07:40 agent | Realisierung
+   * @since 18.10.2026 17:29:31 agent | Ohne Anlegen der Attribute
+   */
+  static HashMap<String, Object> getObjectAttributes(InterfaceWithAttributes interfaceWithAttributes, String... keys) {
+    return readObjectAttributes(interfaceWithAttributes).get(names(keys));
+  }
+  
+  /**
+   * Liefert eine unveränderliche Sicht auf die Objekt-Attribute ohne Kopie.
+   * <p>
+   * @return {@link AttributeView}
+   * @since 18.10.2026 17:29:40 agent | Realisierung
+   */
+  static Map<String, Object> getObjectAttributeView(InterfaceWithAttributes interfaceWithAttributes) {
+    return new AttributeView(interfaceWithAttributes);
+  }
+  
   /**
    * übernimmt alle Attribute der übergebenen Schnittstelle zu der bestehenden hinzu.
    * <p>
    * @param as {@link InterfaceWithAttributes}
    * @since 18.11.2015 18:17:50 Lutz Hoffarth | Realisierung
+   * @since 18.10.2026 13:33:31 agent | Übernahme unter einer Sperre ohne Zwischenkopie
+   * @since 18.10.2026 16:56:20 agent | Ablage im {@link AttributeHolder}
    */
   static void addObjectAttributes(InterfaceWithAttributes interfaceWithAttributes, InterfaceWithAttributes as) {
-    AttributesOfInterface attributes = getObjectAttributes(as);
-    for (Entry<String, Object> e : attributes.get().entrySet()) {
-      setObjectAttribute(interfaceWithAttributes, e.getKey(), e.getValue());
-    }
+    AttributesOfInterface attributes = lookup(as);
+    if (attributes == null) return;
+    getObjectAttributes(interfaceWithAttributes).putAll(attributes);
   }
   
-  /* ---- Statische Eigenschaften der Klasse ------------------------------- */
+  /**
+   * Setzt alle Attribute der übergebenen {@link Map} in einem Aufruf.
+   * <p>
+   * @param attributes Attributnamen und Werte
+   * @since 18.10.2026 13:34:02 agent | Realisierung
+   */
+  static void setObjectAttributes(InterfaceWithAttributes interfaceWithAttributes, Map<String, ?> attributes) {
+    Object[] values = new Object[attributes.size()];
+    AttributeName[] names = names(attributes, values);
+    getObjectAttributes(interfaceWithAttributes).putAll(names, values);
+  }
   
   /**
-   * Liefert die zum Interface gehörigen statischen {@link AttributesOfInterface}s.
+   * Führt die Attribute der übergebenen {@link Map} mit den vorhandenen zusammen.
    * <p>
-   * @return {@link AttributesOfInterface}
-   * @since 03.12.2014 16:46:47 Lutz Hoffarth | Realisierung
+   * @param attributes Attributnamen und Werte
+   * @param remapping Liefert für bereits vorhandene Attribute aus bisherigem und neuem Wert den abzulegenden Wert.
+   * @since 18.10.2026 13:34:30 agent | Realisierung
    */
-  static AttributesOfInterface getClassAttributes(InterfaceWithAttributes interfaceWithAttributes) {
-    AttributesOfInterface value = CLASS_ATTRIBUTES.get(interfaceWithAttributes.getClass());
-    if (value == null) CLASS_ATTRIBUTES.put(interfaceWithAttributes.getClass(), value = new AttributesOfInterface());
-    return value;
+  static void mergeObjectAttributes(InterfaceWithAttributes interfaceWithAttributes, Map<String, ?> attributes,
+      BiFunction<Object, Object, Object> remapping) {
+    Object[] values = new Object[attributes.size()];
+    AttributeName[] names = names(attributes, values);
+    getObjectAttributes(interfaceWithAttributes).merge(names, values, remapping);
   }
   
   /**
-   * Liefert das statische Attribut der Klasse im Interface mit dem übergebenen Namen.
+   * Setzt das Attribut mit dem übergebenen Namen in allen Objekten.
    * <p>
+   * @param objects Objekte
    * @param key Attributname
-   * @return Object
-   * @since 22.12.2014 19:05:32 Lutz Hoffarth | Realisierung
+   * @param value Wert
+   * @since 18.10.2026 13:35:02 agent | Realisierung
+   */
+  static void setObjectAttribute(Iterable<? extends InterfaceWithAttributes> objects, String key, Object value) {
+    AttributeName name = AttributeName.of(key);
+    for (InterfaceWithAttributes object : objects) {
+      getObjectAttributes(object).put(name, value);
+    }
+  }
+  
+  /**
+   * Setzt das Attribut zum typisierten Schlüssel in allen Objekten.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param objects Objekte
+   * @param key {@link AttributeKey}
+   * @param value Wert
+   * @since 18.10.2026 13:35:20 agent | Realisierung
+   */
+  static <T> void setObjectAttribute(Iterable<? extends InterfaceWithAttributes> objects, AttributeKey<T> key, T value) {
+    for (InterfaceWithAttributes object : objects) {
+      getObjectAttributes(object).put(key.name, value);
+    }
+  }
+  
+  /**
+   * Setzt alle Attribute der übergebenen {@link Map} in allen Objekten.
+   * <p>
+   * @param objects Objekte
+   * @param attributes Attributnamen und Werte
+   * @since 18.10.2026 13:35:41 agent | Realisierung
+   */
+  static void setObjectAttributes(Iterable<? extends InterfaceWithAttributes> objects, Map<String, ?> attributes) {
+    Object[] values = new Object[attributes.size()];
+    AttributeName[] names = names(attributes, values);
+    for (InterfaceWithAttributes object : objects) {
+      getObjectAttributes(object).putAll(names, values);
+    }
+  }
+  
+  /**
+   * Schaltet den Cache-Modus der Objekt-Attribute ein oder aus.
+   * <p>
+   * @param policy {@link AttributeCachePolicy} oder <code>null</code>, um den Cache-Modus zu beenden.
+   * @since 18.10.2026 15:00:20 agent | Realisierung
+   */
+  static void setObjectAttributeCache(InterfaceWithAttributes interfaceWithAttributes, AttributeCachePolicy policy) {
+    getObjectAttributes(interfaceWithAttributes).setCache(policy);
+  }
+  
+  /**
+   * Liefert die Statistik des Cache-Modus der Objekt-Attribute.
+   * <p>
+   * @return {@link AttributeCacheStats} oder <code>null</code>, falls der Cache-Modus nicht eingeschaltet ist.
+   * @since 18.10.2026 15:00:40 agent | Realisierung
+   * @since 18.10.2026 16:56:20 agent | Ablage im {@link AttributeHolder}
    */
-  static Object getClassAttribute(InterfaceWithAttributes interfaceWithAttributes, String key) {
-    AttributesOfInterface value = CLASS_ATTRIBUTES.get(interfaceWithAttributes.getClass());
+  static AttributeCacheStats getObjectAttributeCacheStats(InterfaceWithAttributes interfaceWithAttributes) {
+    AttributesOfInterface value = lookup(interfaceWithAttributes);
     if (value == null) return null;
-    return value.get(key);
+    return value.getCacheStats();
+  }
+  
+  /**
+   * Legt das maximale Gesamtgewicht aller Objekt-Attribute im Cache-Modus fest.
+   * <p>
+   * @param maximumWeight Maximales Gesamtgewicht
+   * @since 18.10.2026 15:01:02 agent | Realisierung
+   */
+  static void setAttributeCacheLimit(long maximumWeight) {
+    AttributeCache.setLimit(maximumWeight);
   }
   
   /**
-   * Setzt das statische Attribut der Klasse im Interface.
+   * Liefert die Statistik über alle Objekt-Attribute im Cache-Modus.
+   * <p>
+   * @return {@link AttributeCacheStats}
+   * @since 18.10.2026 15:01:20 agent | Realisierung
+   */
+  static AttributeCacheStats getAttributeCacheStats() {
+    return AttributeCache.totalStats();
+  }
+  
+  /**
+   * Legt die Objekt-Attribute mit dem übergebenen Namen ab sofort außerhalb des Heaps ab.
    * <p>
    * @param key Attributname
-   * @param value Wert
-   * @since 22.12.2014 19:06:07 Lutz Hoffarth | Realisierung
+   * @since 18.10.2026 16:28:02 agent | Realisierung
    */
-  static void setClassAttribute(InterfaceWithAttributes interfaceWithAttributes, String key, Object value) {
-    getClassAttributes(interfaceWithAttributes).put(key, value);
+  static void setObjectAttributeOffHeap(String key) {
+    AttributeArena.of(AttributeName.of(key));
   }
   
-  /* ---- Statische Eigenschaften des Interfaces --------------------------- */
+  /**
+   * Legt die Objekt-Attribute zum typisierten Schlüssel ab sofort außerhalb des Heaps ab.
+   * <p>
+   * @param key {@link AttributeKey}
+   * @since 18.10.2026 16:28:10 agent | Realisierung
+   */
+  static void setObjectAttributeOffHeap(AttributeKey<?> key) {
+    AttributeArena.of(key.name);
+  }
   
   /**
-   * Liefert die zum Interface gehörigen statischen {@link AttributesOfInterface}s.
+   * Liefert, ob die Objekt-Attribute mit dem übergebenen Namen außerhalb des Heaps abgelegt werden.
    * <p>
-   * @return {@link AttributesOfInterface}
-   * @since 03.12.2014 16:46:47 Lutz Hoffarth | Realisierung
+   * @param key Attributname
+   * @return <code>true</code>, falls außerhalb des Heaps abgelegt wird.
+   * @since 18.10.2026 16:28:20 agent | Realisierung
    */
-  static AttributesOfInterface getInterfaceAttributes() {
-    return INTERFACE_ATTRIBUTES;
+  static boolean isObjectAttributeOffHeap(String key) {
+    AttributeName name = AttributeName.find(key);
+    return name != null && name.arena != null;
   }
   
   /**
-   * Liefert das statische Attribut des Interfaces mit dem übergebenem Namen.
+   * Legt einen Index über die Werte der Objekt-Attribute mit dem übergebenen Namen an und übernimmt
+   * alle bestehenden Objekte.
    * <p>
    * @param key Attributname
-   * @return Object
-   * @since 18.06.2016 10:24:26 Lutz Hoffarth | Realisierung
+   * @since 18.10.2026 16:44:10 agent | Realisierung
    */
-  static Object getInterfaceAttribute(String key) {
-    return INTERFACE_ATTRIBUTES.get(key);
+  static void createObjectAttributeIndex(String key) {
+    createObjectAttributeIndex(AttributeName.of(key));
   }
   
   /**
-   * Setzt das statische Attribut des Interfaces.
+   * Legt einen Index über die Werte der Objekt-Attribute zum typisierten Schlüssel an.
+   * <p>
+   * @param key {@link AttributeKey}
+   * @since 18.10.2026 16:44:20 agent | Realisierung
+   */
+  static void createObjectAttributeIndex(AttributeKey<?> key) {
+    createObjectAttributeIndex(key.name);
+  }
+  
+  /**
+   * Liefert, ob für die Objekt-Attribute mit dem übergebenen Namen ein Index besteht.
    * <p>
    * @param key Attributname
-   * @param value Wert
-   * @since 18.06.2016 10:24:26 Lutz Hoffarth | Realisierung
+   * @return <code>true</code>, falls ein Index besteht.
+   * @since 18.10.2026 16:44:31 agent | Realisierung
    */
-  static void setInterfaceAttribute(String key, Object value) {
-    INTERFACE_ATTRIBUTES.put(key, value);
+  static boolean isObjectAttributeIndexed(String key) {
+    AttributeName name = AttributeName.find(key);
+    return name != null && name.index != null;
+  }
+  
+  /**
+   * Liefert alle Objekte, deren Attribut mit dem übergebenen Namen den übergebenen Wert besitzt.
+   * <p>
+   * @param key Attributname
+   * @param value Gesuchter Wert, auch <code>null</code>
+   * @return Neue {@link List} der Objekte
+   * @throws IllegalStateException Falls für das Attribut kein Index besteht.
+   * @since 18.10.2026 16:44:40 agent | Realisierung
+   */
+  static List<InterfaceWithAttributes> findObjectsByAttribute(String key, Object value) {
+    AttributeName name = AttributeName.find(key);
+    return index(name, key).find(value);
+  }
+  
+  /**
+   * Liefert alle Objekte, deren Attribut zum typisierten Schlüssel den übergebenen Wert besitzt.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param key {@link AttributeKey}
+   * @param value Gesuchter Wert, auch <code>null</code>
+   * @return Neue {@link List} der Objekte
+   * @throws IllegalStateException Falls für das Attribut kein Index besteht.
+   * @since 18.10.2026 16:44:51 agent | Realisierung
+   */
+  static <T> List<InterfaceWithAttributes> findObjectsByAttribute(AttributeKey<T> key, T value) {
+    return index(key.name, key.name.name).find(value);
+  }
+  
+  /**
+   * Liefert das lebende Objekt zum Identifikator.
+   * <p>
+   * @param id Objekt-Identifikator
+   * @return {@link InterfaceWithAttributes} oder <code>null</code>
+   * @since 18.10.2026 18:08:31 agent | Realisierung
+   */
+  static InterfaceWithAttributes findObjectById(long id) {
+    return ObjectIdIndex.get(id);
+  }
+  
+  /**
+   * Legt den Index an und übernimmt alle bestehenden Objekte.
+   * <p>
+   * Der Index ist vor dem Durchlauf aktiv, gleichzeitige Änderungen führen ihn also bereits nach.
+   * <p>
+   * @param name {@link AttributeName}
+   * @since 18.10.2026 16:45:02 agent | Realisierung
+   */
+  private static void createObjectAttributeIndex(AttributeName name) {
+    if (name.index != null) return;
+    AttributeIndex index = AttributeIndex.of(name);
+    OBJECT_ATTRIBUTES.forEach((object, attributes) -> {
+      attributes.bind(object);
+      index.update(attributes);
+    });
+  }
+  
+  /**
+   * Liefert den Index des Attributs.
+   * <p>
+   * @param name {@link AttributeName} oder <code>null</code>
+   * @param key Attributname für die Meldung
+   * @return {@link AttributeIndex}
+   * @throws IllegalStateException Falls für das Attribut kein Index besteht.
+   * @since 18.10.2026 16:45:10 agent | Realisierung
+   */
+  private static AttributeIndex index(AttributeName name, String key) {
+    AttributeIndex index = name == null ? null : name.index;
+    if (index == null) throw new IllegalStateException("Kein Index für das Attribut " + key);
+    return index;
+  }
+  
+  /**
+   * Schaltet die Messung von Zugriffen und Bereinigungen ein oder aus.
+   * <p>
+   * @param enabled <code>true</code>, um zu messen.
+   * @since 18.10.2026 15:46:20 agent | Realisierung
+   */
+  static void setAttributeMetricsEnabled(boolean enabled) {
+    AttributeMonitor.setEnabled(enabled);
+  }
+  
+  /**
+   * Liefert, ob Zugriffe und Bereinigungen gemessen werden.
+   * <p>
+   * @return <code>true</code>, falls gemessen wird.
+   * @since 18.10.2026 15:46:40 agent | Realisierung
+   */
+  static boolean isAttributeMetricsEnabled() {
+    return AttributeMonitor.enabled;
+  }
+  
+  /**
+   * Schaltet die Bereinigung verwaister Objekt-Attribute im Hintergrund ein oder aus.
+   * <p>
+   * @param enabled <code>true</code>, um in einem eigenen Thread zu bereinigen.
+   * @since 18.10.2026 16:37:20 agent | Realisierung
+   */
+  static void setAttributeBackgroundCleanupEnabled(boolean enabled) {
+    if (enabled) CLEANER.start();
+    else CLEANER.stop();
+  }
+  
+  /**
+   * Liefert, ob verwaiste Objekt-Attribute im Hintergrund bereinigt werden.
+   * <p>
+   * @return <code>true</code>, falls in einem eigenen Thread bereinigt wird.
+   * @since 18.10.2026 16:37:31 agent | Realisierung
+   */
+  static boolean isAttributeBackgroundCleanupEnabled() {
+    return CLEANER.isRunning();
+  }
+  
+  /**
+   * Liefert einen teilbaren Durchlauf über alle registrierten Objekte.
+   * <p>
+   * @return {@link Spliterator}
+   * @since 18.10.2026 16:50:40 agent | Realisierung
+   */
+  static Spliterator<InterfaceWithAttributes> objectSpliterator() {
+    return OBJECT_ATTRIBUTES.spliterator();
+  }
+  
+  /**
+   * Liefert einen sequentiellen {@link Stream} über alle registrierten Objekte.
+   * <p>
+   * @return {@link Stream}
+   * @since 18.10.2026 16:50:51 agent | Realisierung
+   * @since 18.10.2026 19:40:02 agent | Über {@link #streamObjects(boolean)}
+   */
+  static Stream<InterfaceWithAttributes> streamObjects() {
+    return streamObjects(false);
+  }
+  
+  /**
+   * Liefert einen {@link Stream} über alle registrierten Objekte.
+   * <p>
+   * @param parallel <code>true</code> für einen parallelen {@link Stream}
+   * @return {@link Stream}
+   * @since 18.10.2026 19:40:10 agent | Realisierung
+   */
+  static Stream<InterfaceWithAttributes> streamObjects(boolean parallel) {
+    return StreamSupport.stream(OBJECT_ATTRIBUTES.spliterator(), parallel);
+  }
+  
+  /**
+   * Liefert die Messwerte der Attribute.
+   * <p>
+   * @return {@link AttributeStatistics}
+   * @since 18.10.2026 15:47:02 agent | Realisierung
+   */
+  static AttributeStatistics getAttributeStatistics() {
+    return AttributeMonitor.snapshot(OBJECT_ATTRIBUTES.size());
+  }
+  
+  /* ---- Statische Eigenschaften der Klasse ------------------------------- */
+  
+  /**
+   * Liefert eine Kopie der statischen Attribute der Klasse.
+   * <p>
+   * @param type Klasse oder Interface
+   * @return {@link HashMap}&lt;String, Object&gt;
+   * @since 03.12.2014 16:46:47 Lutz Hoffarth | Realisierung
+   * @since 18.10.2026 13:53:02 agent | Über {@link ClassAttributes}, bei Vererbung aufgelöst
+   * @since 18.10.2026 17:17:10 agent | Mit {@link AttributeOverlay} des Threads
+   */
+  static HashMap<String, Object> getClassAttributes(Class<?> type) {
+    boolean inheritance = classAttributeInheritance;
+    ClassAttributes attributes = ClassAttributes.of(type);
+    return AttributeOverlay.apply(attributes, inheritance, attributes.get(inheritance));
+  }
+  
+  /**
+   * Liefert das statische Attribut der Klasse mit dem übergebenen Namen.
+   * <p>
+   * @param type Klasse oder Interface
+   * @param key Attributname
+   * @return Object
+   * @since 22.12.2014 19:05:32 Lutz Hoffarth | Realisierung
+   * @since 18.10.2026 13:53:20 agent | Über {@link ClassAttributes}, bei Vererbung aufgelöst
+   * @since 18.10.2026 17:17:10 agent | Mit {@link AttributeOverlay} des Threads
+   */
+  static Object getClassAttribute(Class<?> type, String key) {
+    AttributeName name = AttributeName.find(key);
+    if (name == null) return null;
+    return get(ClassAttributes.of(type), name, classAttributeInheritance);
+  }
+  
+  /**
+   * Setzt das statische Attribut der Klasse.
+   * <p>
+   * @param type Klasse oder Interface
+   * @param key Attributname
+   * @param value Wert
+   * @since 22.12.2014 19:06:07 Lutz Hoffarth | Realisierung
+   * @since 18.10.2026 13:53:41 agent | Über {@link ClassAttributes}
+   */
+  static void setClassAttribute(Class<?> type, String key, Object value) {
+    ClassAttributes.of(type).put(AttributeName.of(key), value);
+  }
+  
+  /**
+   * Liefert das statische Attribut der Klasse zum typisierten Schlüssel.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param type Klasse oder Interface
+   * @param key {@link AttributeKey}
+   * @return Wert des Attributs
+   * @since 18.10.2026 11:51:44 agent | Realisierung
+   * @since 18.10.2026 17:17:10 agent | Mit {@link AttributeOverlay} des Threads
+   */
+  static <T> T getClassAttribute(Class<?> type, AttributeKey<T> key) {
+    return key.cast(get(ClassAttributes.of(type), key.name, classAttributeInheritance));
+  }
+  
+  /**
+   * Setzt das statische Attribut der Klasse zum typisierten Schlüssel.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param type Klasse oder Interface
+   * @param key {@link AttributeKey}
+   * @param value Wert
+   * @since 18.10.2026 11:52:02 agent | Realisierung
+   */
+  static <T> void setClassAttribute(Class<?> type, AttributeKey<T> key, T value) {
+    ClassAttributes.of(type).put(key.name, value);
+  }
+  
+  /**
+   * Liefert das statische Attribut der Klasse und lädt es einmalig, falls es keinen Wert besitzt.
+   * <p>
+   * @param type Klasse oder Interface
+   * @param key Attributname
+   * @param loader Ermittelt den Wert zum Attributnamen.
+   * @return Wert des Attributs oder <code>null</code>
+   * @since 18.10.2026 14:20:10 agent | Realisierung
+   */
+  static Object computeClassAttributeIfAbsent(Class<?> type, String key, Function<? super String, ?> loader) {
+    return ClassAttributes.of(type).computeIfAbsent(AttributeName.of(key), classAttributeInheritance, key, loader);
+  }
+  
+  /**
+   * Liefert das statische Attribut der Klasse zum typisierten Schlüssel und lädt es einmalig, falls es keinen Wert besitzt.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param type Klasse oder Interface
+   * @param key {@link AttributeKey}
+   * @param loader Ermittelt den Wert zum Schlüssel.
+   * @return Wert des Attributs oder <code>null</code>
+   * @since 18.10.2026 14:20:31 agent | Realisierung
+   */
+  static <T> T computeClassAttributeIfAbsent(Class<?> type, AttributeKey<T> key, Function<? super AttributeKey<T>, ? extends T> loader) {
+    return key.cast(ClassAttributes.of(type).computeIfAbsent(key.name, classAttributeInheritance, key, loader));
+  }
+  
+  /**
+   * Legt fest, ob Klassen-Attribute über die Typhierarchie aufgelöst werden.
+   * <p>
+   * @param inheritance <code>true</code>, um Attribute von Oberklassen und Interfaces zu erben.
+   * @since 18.10.2026 13:54:02 agent | Realisierung
+   */
+  static void setClassAttributeInheritance(boolean inheritance) {
+    classAttributeInheritance = inheritance;
+  }
+  
+  /**
+   * Liefert, ob Klassen-Attribute über die Typhierarchie aufgelöst werden.
+   * <p>
+   * @return <code>true</code>, falls Attribute von Oberklassen und Interfaces geerbt werden.
+   * @since 18.10.2026 13:54:20 agent | Realisierung
+   */
+  static boolean isClassAttributeInheritance() {
+    return classAttributeInheritance;
+  }
+  
+  /* ---- Statische Eigenschaften des Interfaces --------------------------- */
+  
+  /**
+   * Liefert die zum Interface gehörigen statischen {@link AttributesOfInterface}s.
+   * <p>
+   * @return {@link AttributesOfInterface}
+   * @since 03.12.2014 16:46:47 Lutz Hoffarth | Realisierung
+   */
+  static AttributesOfInterface getInterfaceAttributes() {
+    return INTERFACE_ATTRIBUTES.attributes;
+  }
+  
+  /**
+   * Liefert das statische Attribut des Interfaces mit dem übergebenem Namen.
+   * <p>
+   * @param key Attributname
+   * @return Object
+   * @since 18.06.2016 10:24:26 Lutz Hoffarth | Realisierung
+   * @since 18.10.2026 17:17:20 agent | Mit {@link AttributeOverlay} des Threads
+   */
+  static Object getInterfaceAttribute(String key) {
+    AttributeName name = AttributeName.find(key);
+    if (name == null) return null;
+    return get(INTERFACE_ATTRIBUTES, name, false);
+  }
+  
+  /**
+   * Setzt das statische Attribut des Interfaces.
+   * <p>
+   * @param key Attributname
+   * @param value Wert
+   * @since 18.06.2016 10:24:26 Lutz Hoffarth | Realisierung
+   */
+  static void setInterfaceAttribute(String key, Object value) {
+    INTERFACE_ATTRIBUTES.put(AttributeName.of(key), value);
+  }
+  
+  /**
+   * Liefert das statische Attribut des Interfaces zum typisierten Schlüssel.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param key {@link AttributeKey}
+   * @return Wert des Attributs
+   * @since 18.10.2026 11:52:20 agent | Realisierung
+   * @since 18.10.2026 17:17:20 agent | Mit {@link AttributeOverlay} des Threads
+   */
+  static <T> T getInterfaceAttribute(AttributeKey<T> key) {
+    return key.cast(get(INTERFACE_ATTRIBUTES, key.name, false));
+  }
+  
+  /**
+   * Setzt das statische Attribut des Interfaces zum typisierten Schlüssel.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param key {@link AttributeKey}
+   * @param value Wert
+   * @since 18.10.2026 11:52:41 agent | Realisierung
+   */
+  static <T> void setInterfaceAttribute(AttributeKey<T> key, T value) {
+    INTERFACE_ATTRIBUTES.put(key.name, value);
+  }
+  
+  /**
+   * Liefert das statische Attribut des Interfaces und lädt es einmalig, falls es keinen Wert besitzt.
+   * <p>
+   * @param key Attributname
+   * @param loader Ermittelt den Wert zum Attributnamen.
+   * @return Wert des Attributs oder <code>null</code>
+   * @since 18.10.2026 14:20:50 agent | Realisierung
+   */
+  static Object computeInterfaceAttributeIfAbsent(String key, Function<? super String, ?> loader) {
+    return INTERFACE_ATTRIBUTES.computeIfAbsent(AttributeName.of(key), false, key, loader);
+  }
+  
+  /**
+   * Liefert das statische Attribut des Interfaces zum typisierten Schlüssel und lädt es einmalig, falls es keinen Wert besitzt.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param key {@link AttributeKey}
+   * @param loader Ermittelt den Wert zum Schlüssel.
+   * @return Wert des Attributs oder <code>null</code>
+   * @since 18.10.2026 14:21:10 agent | Realisierung
+   */
+  static <T> T computeInterfaceAttributeIfAbsent(AttributeKey<T> key, Function<? super AttributeKey<T>, ? extends T> loader) {
+    return key.cast(INTERFACE_ATTRIBUTES.computeIfAbsent(key.name, false, key, loader));
+  }
+  
+  /* ---- Statische Eigenschaften einer Erweiterung des Interfaces --------- */
+  
+  /**
+   * Liefert eine Kopie der Attribute im Bereich des übergebenen Interfaces.
+   * <p>
+   * Die Attribute im Bereich liegen getrennt von den Klassen-Attributen des Interfaces und werden
+   * nicht an die implementierenden Klassen vererbt.
+   * <p>
+   * @param scope Interface, das {@link InterfaceWithAttributes} erweitert.
+   * @return {@link HashMap}&lt;String, Object&gt;
+   * @since 18.10.2026 14:06:02 agent | Realisierung
+   * @since 18.10.2026 17:17:31 agent | Mit {@link AttributeOverlay} des Threads
+   * @since 18.10.2026 18:49:20 agent | Getrennt von den Klassen-Attributen des Interfaces
+   * @since 18.10.2026 19:30:31 agent | Mit den noch nicht übernommenen Attributen aus dem Snapshot
+   */
+  static HashMap<String, Object> getInterfaceAttributes(Class<?> scope) {
+    ClassAttributes attributes = scope(scope);
+    return AttributeOverlay.apply(attributes, false, attributes.get(false));
+  }
+  
+  /**
+   * Liefert das Attribut im Bereich des übergebenen Interfaces.
+   * <p>
+   * @param scope Interface, das {@link InterfaceWithAttributes} erweitert.
+   * @param key Attributname
+   * @return Wert des Attributs
+   * @since 18.10.2026 14:06:20 agent | Realisierung
+   * @since 18.10.2026 17:17:31 agent | Mit {@link AttributeOverlay} des Threads
+   */
+  static Object getInterfaceAttribute(Class<?> scope, String key) {
+    ClassAttributes attributes = scope(scope);
+    AttributeName name = AttributeName.find(key);
+    if (name == null) return null;
+    return get(attributes, name, false);
+  }
+  
+  /**
+   * Setzt das Attribut im Bereich des übergebenen Interfaces.
+   * <p>
+   * @param scope Interface, das {@link InterfaceWithAttributes} erweitert.
+   * @param key Attributname
+   * @param value Wert
+   * @since 18.10.2026 14:06:41 agent | Realisierung
+   */
+  static void setInterfaceAttribute(Class<?> scope, String key, Object value) {
+    scope(scope).put(AttributeName.of(key), value);
+  }
+  
+  /**
+   * Liefert das Attribut im Bereich des übergebenen Interfaces zum typisierten Schlüssel.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param scope Interface, das {@link InterfaceWithAttributes} erweitert.
+   * @param key {@link AttributeKey}
+   * @return Wert des Attributs
+   * @since 18.10.2026 14:07:02 agent | Realisierung
+   * @since 18.10.2026 17:17:31 agent | Mit {@link AttributeOverlay} des Threads
+   */
+  static <T> T getInterfaceAttribute(Class<?> scope, AttributeKey<T> key) {
+    return key.cast(get(scope(scope), key.name, false));
+  }
+  
+  /**
+   * Setzt das Attribut im Bereich des übergebenen Interfaces zum typisierten Schlüssel.
+   * <p>
+   * @param <T> Typ des Wertes
+   * @param scope Interface, das {@link InterfaceWithAttributes} erweitert.
+   * @param key {@link AttributeKey}
+   * @param value Wert
+   * @since 18.10.2026 14:07:20 agent | Realisierung
+   */
+  static <T> void setInterfaceAttribute(Class<?> scope, AttributeKey<T> key, T value) {
+    scope(scope).put(key.name, value);
+  }
+  
+  ///* -- create ------------------------------------------------------------------------------------ */
+  /* -- Listener ---------------------------------------------------------------------------------- */
+  
+  /**
+   * Registriert einen Listener für die Attribute des Objekts.
+   * <p>
+   * @param listener {@link AttributeListener}
+   * @since 18.10.2026 15:21:20 agent | Realisierung
+   */
+  static void addObjectAttributeListener(InterfaceWithAttributes interfaceWithAttributes, AttributeListener listener) {
+    getObjectAttributes(interfaceWithAttributes).addListener(interfaceWithAttributes, listener);
+  }
+  
+  /**
+   * Entfernt einen Listener für die Attribute des Objekts.
+   * <p>
+   * @param listener {@link AttributeListener}
+   * @return <code>true</code>, falls der Listener registriert war.
+   * @since 18.10.2026 15:21:40 agent | Realisierung
+   * @since 18.10.2026 16:56:20 agent | Ablage im {@link AttributeHolder}
+   */
+  static boolean removeObjectAttributeListener(InterfaceWithAttributes interfaceWithAttributes, AttributeListener listener) {
+    AttributesOfInterface value = lookup(interfaceWithAttributes);
+    return value != null && value.removeListener(listener);
+  }
+  
+  /**
+   * Registriert einen Listener für die eigenen statischen Attribute der Klasse.
+   * <p>
+   * @param type Klasse oder Interface
+   * @param listener {@link AttributeListener}
+   * @since 18.10.2026 15:22:02 agent | Realisierung
+   */
+  static void addClassAttributeListener(Class<?> type, AttributeListener listener) {
+    ClassAttributes.of(type).attributes.addListener(type, listener);
+  }
+  
+  /**
+   * Entfernt einen Listener für die statischen Attribute der Klasse.
+   * <p>
+   * @param type Klasse oder Interface
+   * @param listener {@link AttributeListener}
+   * @return <code>true</code>, falls der Listener registriert war.
+   * @since 18.10.2026 15:22:20 agent | Realisierung
+   */
+  static boolean removeClassAttributeListener(Class<?> type, AttributeListener listener) {
+    return ClassAttributes.of(type).attributes.removeListener(listener);
+  }
+  
+  /**
+   * Registriert einen Listener für die Attribute im Bereich des übergebenen Interfaces.
+   * <p>
+   * @param scope Interface, das {@link InterfaceWithAttributes} erweitert, oder {@link InterfaceWithAttributes} selbst.
+   * @param listener {@link AttributeListener}
+   * @throws IllegalArgumentException Der Bereich ist kein Interface.
+   * @since 18.10.2026 15:22:40 agent | Realisierung
+   */
+  static void addInterfaceAttributeListener(Class<?> scope, AttributeListener listener) {
+    scope(scope).attributes.addListener(scope, listener);
+  }
+  
+  /**
+   * Entfernt einen Listener für die Attribute im Bereich des übergebenen Interfaces.
+   * <p>
+   * @param scope Interface, das {@link InterfaceWithAttributes} erweitert, oder {@link InterfaceWithAttributes} selbst.
+   * @param listener {@link AttributeListener}
+   * @return <code>true</code>, falls der Listener registriert war.
+   * @throws IllegalArgumentException Der Bereich ist kein Interface.
+   * @since 18.10.2026 15:23:02 agent | Realisierung
+   */
+  static boolean removeInterfaceAttributeListener(Class<?> scope, AttributeListener listener) {
+    return scope(scope).attributes.removeListener(listener);
+  }
+  
+  /**
+   * Legt den Executor für die Zustellung an die Listener fest.
+   * <p>
+   * @param executor {@link Executor} oder <code>null</code> für die Vorgabe
+   * @since 18.10.2026 15:23:20 agent | Realisierung
+   */
+  static void setAttributeListenerExecutor(Executor executor) {
+    AttributeNotifier.setExecutor(executor);
+  }
+  
+  /* -- Snapshot ---------------------------------------------------------------------------------- */
+  
+  /**
+   * Registriert einen Codec für den Snapshot.
+   * <p>
+   * @param codec {@link AttributeCodec}
+   * @since 18.10.2026 16:03:40 agent | Realisierung
+   */
+  static void registerAttributeCodec(AttributeCodec<?> codec) {
+    AttributeSnapshot.register(codec);
+  }
+  
+  /**
+   * Schreibt die Klassen- und Interface-Attribute in die Datei.
+   * <p>
+   * @param path Datei
+   * @return Anzahl der geschriebenen Attribute
+   * @throws IOException Fehler beim Schreiben
+   * @since 18.10.2026 16:03:51 agent | Realisierung
+   */
+  static int writeAttributeSnapshot(Path path) throws IOException {
+    return AttributeSnapshot.write(path);
+  }
+  
+  /**
+   * Stellt die Klassen- und Interface-Attribute aus der Datei wieder her.
+   * <p>
+   * Die Klassen werden über den {@link ClassLoader} des aktuellen Threads gesucht, ersatzweise über
+   * den dieser Klasse.
+   * <p>
+   * @param path Datei
+   * @return Anzahl der wiederhergestellten Attribute
+   * @throws IOException Fehler beim Lesen
+   * @since 18.10.2026 16:04:02 agent | Realisierung
+   */
+  static int restoreAttributeSnapshot(Path path) throws IOException {
+    ClassLoader loader = Thread.currentThread().getContextClassLoader();
+    return AttributeSnapshot.restore(path, loader != null ? loader : InterfaceWithAttributesController.class.getClassLoader());
+  }
+  
+  /* -- Journal ----------------------------------------------------------------------------------- */
+  
+  /**
+   * Öffnet das Journal der Änderungen.
+   * <p>
+   * @param directory Verzeichnis der Segmente
+   * @param keys Schlüssel eines Objekts
+   * @throws IOException Fehler beim Anlegen des Segments
+   * @since 18.10.2026 17:46:40 agent | Realisierung
+   */
+  static void startAttributeJournal(Path directory, Function<? super InterfaceWithAttributes, String> keys) throws IOException {
+    AttributeJournal.open(directory, keys, AttributeJournal.SEGMENT_SIZE, AttributeJournal.INTERVAL);
+  }
+  
+  /**
+   * Schreibt die vorgemerkten Änderungen und schließt das Journal.
+   * <p>
+   * @throws IOException Fehler beim Schreiben
+   * @since 18.10.2026 17:46:51 agent | Realisierung
+   */
+  static void stopAttributeJournal() throws IOException {
+    AttributeJournal.close();
+  }
+  
+  /**
+   * Prüft, ob das Journal geöffnet ist.
+   * <p>
+   * @return <code>true</code>, falls die Änderungen protokolliert werden.
+   * @since 18.10.2026 17:47:02 agent | Realisierung
+   */
+  static boolean isAttributeJournalEnabled() {
+    return AttributeJournal.active;
+  }
+  
+  /**
+   * Wartet, bis alle bisherigen Änderungen dauerhaft im Journal stehen.
+   * <p>
+   * @throws IOException Fehler beim Schreiben
+   * @since 18.10.2026 17:47:10 agent | Realisierung
+   */
+  static void syncAttributeJournal() throws IOException {
+    AttributeJournal.sync();
+  }
+  
+  /**
+   * Spielt das Journal ein.
+   * <p>
+   * Die Klassen werden über den {@link ClassLoader} des aktuellen Threads gesucht, ersatzweise über
+   * den dieser Klasse.
+   * <p>
+   * @param directory Verzeichnis der Segmente
+   * @param objects Liefert das Objekt zum Schlüssel.
+   * @return Anzahl der eingespielten Einträge
+   * @throws IOException Fehler beim Lesen
+   * @since 18.10.2026 17:47:20 agent | Realisierung
+   */
+  static int replayAttributeJournal(Path directory, Function<String, ? extends InterfaceWithAttributes> objects) throws IOException {
+    ClassLoader loader = Thread.currentThread().getContextClassLoader();
+    return AttributeJournal.replay(directory, loader != null ? loader : InterfaceWithAttributesController.class.getClassLoader(), objects);
+  }
+  
+  /**
+   * Fasst die abgeschlossenen Segmente des Journals zusammen.
+   * <p>
+   * @param directory Verzeichnis der Segmente
+   * @return Anzahl der verbliebenen Einträge
+   * @throws IOException Fehler beim Lesen oder Schreiben
+   * @since 18.10.2026 17:47:31 agent | Realisierung
+   */
+  static int compactAttributeJournal(Path directory) throws IOException {
+    return AttributeJournal.compact(directory);
+  }
+  
+  /* -- Zurücksetzen ------------------------------------------------------------------------------ */
+  
+  /**
+   * Setzt den statischen Zustand zurück, damit sich mehrere Tests eine JVM teilen können.
+   * <p>
+   * Beendet die Bereinigung im Hintergrund und das Journal, gibt alle Objekt-Attribute der Registry
+   * frei, verwirft Klassen- und Interface-Attribute, Indizes und die Überlagerungen des aktuellen
+   * Threads und stellt die Vorgaben der Einstellungen wieder her. Objekt-Identifikatoren werden
+   * weiter fortlaufend vergeben, registrierte Codecs und Attribute außerhalb des Heaps bleiben erhalten.
+   * <p>
+   * @throws IOException Fehler beim Schließen des Journals
+   * @since 18.10.2026 19:07:31 agent | Realisierung
+   */
+  static void reset() throws IOException {
+    setAttributeBackgroundCleanupEnabled(false);
+    stopAttributeJournal();
+    OBJECT_ATTRIBUTES.clear();
+    ClassAttributes.reset();
+    AttributeIndex.reset();
+    AttributeOverlay.reset();
+    setAttributeMetricsEnabled(false);
+    setAttributeListenerExecutor(null);
+    setAttributeCacheLimit(Long.MAX_VALUE);
+    classAttributeInheritance = false;
+  }
+  
+  /* -- Hilfsmethoden ----------------------------------------------------------------------------- */
+  
+  /**
+   * Liefert den Wert eines Klassen- oder Interface-Attributs, zuerst aus dem {@link AttributeOverlay}
+   * des Threads.
+   * <p>
+   * @param attributes {@link ClassAttributes}
+   * @param name {@link AttributeName}
+   * @param inherited <code>true</code>, um über die Typhierarchie aufzulösen.
+   * @return Wert des Attributs
+   * @since 18.10.2026 17:17:40 agent | Realisierung
+   */
+  private static Object get(ClassAttributes attributes, AttributeName name, boolean inherited) {
+    Object value = AttributeOverlay.find(attributes, name, inherited);
+    if (value != AttributeOverlay.ABSENT) return value;
+    return attributes.get(name, inherited);
+  }
+  
+  /**
+   * Liefert die Attribute im Bereich des übergebenen Interfaces.
+   * <p>
+   * @param scope Interface, das {@link InterfaceWithAttributes} erweitert.
+   * @return {@link ClassAttributes} des Bereichs
+   * @throws IllegalArgumentException Der Bereich ist kein Interface, das {@link InterfaceWithAttributes} erweitert.
+   * @since 18.10.2026 14:07:41 agent | Realisierung
+   * @since 18.10.2026 18:49:31 agent | Eigene {@link ClassAttributes} des Bereichs, nur für Erweiterungen von {@link InterfaceWithAttributes}
+   */
+  private static ClassAttributes scope(Class<?> scope) {
+    checkScope(scope);
+    return ClassAttributes.scopeOf(scope);
+  }
+  
+  /**
+   * Prüft, ob das Interface einen Bereich für Attribute bildet.
+   * <p>
+   * @param scope Interface, das {@link InterfaceWithAttributes} erweitert.
+   * @throws IllegalArgumentException Der Bereich ist kein Interface, das {@link InterfaceWithAttributes} erweitert.
+   * @since 18.10.2026 18:49:40 agent | Realisierung
+   */
+  static void checkScope(Class<?> scope) {
+    if (!scope.isInterface()) throw new IllegalArgumentException("Kein Interface: " + scope.getName());
+    if (!InterfaceWithAttributes.class.isAssignableFrom(scope)) {
+      throw new IllegalArgumentException("Keine Erweiterung von InterfaceWithAttributes: " + scope.getName());
+    }
+  }
+  
+  /**
+   * Löst die Attributnamen der übergebenen {@link Map} einmalig auf.
+   * <p>
+   * @param attributes Attributnamen und Werte
+   * @param values Wird mit den Werten an den Positionen der Namen gefüllt.
+   * @return Eindeutige Namen
+   * @since 18.10.2026 13:36:02 agent | Realisierung
+   */
+  private static AttributeName[] names(Map<String, ?> attributes, Object[] values) {
+    AttributeName[] names = new AttributeName[values.length];
+    int i = 0;
+    for (Entry<String, ?> e : attributes.entrySet()) {
+      names[i] = AttributeName.of(e.getKey());
+      values[i++] = e.getValue();
+    }
+    return names;
+  }
+  
+  /**
+   * Löst die Attributnamen einmalig auf.
+   * <p>
+   * @param keys Attributnamen
+   * @return Eindeutige Namen
+   * @since 18.10.2026 17:07:51 agent | Realisierung
+   */
+  private static AttributeName[] names(String[] keys) {
+    AttributeName[] names = new AttributeName[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      names[i] = AttributeName.of(keys[i]);
+    }
+    return names;
   }
   
-  ///* -- create ------------------------------------------------------------------------------------ */
-  ///* -- Listener ---------------------------------------------------------------------------------- */
-  ///* -- Hilfsmethoden ----------------------------------------------------------------------------- */
   ///* -- Deprecated -------------------------------------------------------------------------------- */
   
 }
@@ -0,0 +1,397 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : ObjectIdIndex
+ * Version     : 1
+ * Date        : 18.10.2026 18:04:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Schwacher Rückweg vom Objekt-Identifikator zum Objekt.
+ * <p>
+ * Die Identifikatoren werden je Thread in Blöcken vergeben und sind daher nahezu lückenlos. Der
+ * Index legt sie deshalb nicht in einer Hash-Tabelle ab, sondern in Blöcken von {@link #SLOTS}
+ * Plätzen, deren Platz sich direkt aus dem Identifikator ergibt. Suchen kostet ein Feldzugriff
+ * und ein {@link WeakReference#get()} ohne Sperre und ohne Allokation.
+ * <p>
+ * Eingetragen wird ein Objekt, sobald sein Identifikator über
+ * {@link InterfaceWithAttributes#getObjectId()} herausgegeben wurde. Der Index hält das Objekt
+ * nur schwach: entfernt der GarbageCollector das Objekt, liefert die Suche sofort
+ * <code>null</code>. Beim Freigeben der Attribute wird der Platz sofort geräumt. Ein leerer Block
+ * wird verworfen. Das Verzeichnis der Blöcke beginnt beim ältesten belegten Block und wird
+ * verkleinert, sobald es zur Hälfte aus verworfenen Blöcken besteht.
+ * <p>
+ * Liegen die Attribute in der Registry, verweist der Platz auf deren schwache Referenz des
+ * Eintrags, das Eintragen legt dann kein weiteres Objekt an. Die Registry gibt die Attribute
+ * entfernter Objekte frei und räumt damit auch den Platz. Für Attribute in einem
+ * {@link AttributeHolder} legt der Index eine eigene schwache Referenz an, deren Platz der nächste
+ * Eintrag über die {@link ReferenceQueue} räumt.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 18:04:02 agent | Realisierung
+ * @since 18.10.2026 19:36:02 agent | Verzeichnis der Blöcke ab dem ältesten belegten Block
+ * @see InterfaceWithAttributes#findObjectById(long)
+ */
+final class ObjectIdIndex {
+  /** @since 18.10.2026 18:04:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long                                         serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  /** Bits des Platzes innerhalb eines Blocks.
+   * @since 18.10.2026 18:04:10 agent | Realisierung */
+  private static final int                                          SLOT_BITS        = 12;
+  
+  /** Plätze je Block.
+   * @since 18.10.2026 18:04:14 agent | Realisierung */
+  private static final int                                          SLOTS            = 1 << SLOT_BITS;
+  
+  /** Einträge, deren Objekt entfernt wurde.
+   * @since 18.10.2026 18:04:20 agent | Realisierung */
+  private static final ReferenceQueue<InterfaceWithAttributes>      QUEUE            = new ReferenceQueue<>();
+  
+  /** Sperre für das Anlegen und Verwerfen von Blöcken.
+   * @since 18.10.2026 18:04:24 agent | Realisierung
+   * @since 18.10.2026 19:36:10 agent | Auch für das Verwerfen */
+  private static final Object                                       LOCK             = new Object();
+  
+  /*   -- Klasse ------------------------------------------------------------------- */
+  
+  /** Blöcke je Bereich von Identifikatoren, wird beim Wachsen und Verkleinern ersetzt.
+   * @since 18.10.2026 18:04:31 agent | Realisierung
+   * @since 18.10.2026 19:36:20 agent | Ab dem ältesten belegten Block */
+  private static volatile ObjectIdIndex.Chunks                      chunks           = ObjectIdIndex.Chunks.EMPTY;
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Keine Instanzen.
+   * @since 18.10.2026 18:04:35 agent | Realisierung
+   */
+  private ObjectIdIndex() {
+  }
+  
+  /* -- statisch ---------------------------------------------------------------------------------- */
+  
+  /**
+   * Liefert das lebende Objekt zum Identifikator.
+   * <p>
+   * @param id Objekt-Identifikator
+   * @return {@link InterfaceWithAttributes} oder <code>null</code>
+   * @since 18.10.2026 18:04:40 agent | Realisierung
+   */
+  static InterfaceWithAttributes get(long id) {
+    ObjectIdIndex.Chunk chunk = chunk(id);
+    if (chunk == null) return null;
+    Reference<? extends InterfaceWithAttributes> reference = chunk.entries.get(slot(id));
+    return reference == null ? null : reference.get();
+  }
+  
+  /**
+   * Trägt das Objekt unter seinem Identifikator ein.
+   * <p>
+   * @param id Objekt-Identifikator
+   * @param object {@link InterfaceWithAttributes}
+   * @param reference Schwache Referenz der Registry auf das Objekt oder <code>null</code>, um eine
+   *          eigene anzulegen.
+   * @since 18.10.2026 18:04:51 agent | Realisierung
+   */
+  static void register(long id, InterfaceWithAttributes object, Reference<? extends InterfaceWithAttributes> reference) {
+    expunge();
+    Reference<? extends InterfaceWithAttributes> entry = reference != null ? reference : new ObjectIdIndex.Entry(id, object);
+    ObjectIdIndex.Chunk chunk;
+    while (!(chunk = install(id)).acquire()) {
+      drop(id, chunk);
+    }
+    if (chunk.entries.getAndSet(slot(id), entry) != null) chunk.release(id);
+  }
+  
+  /**
+   * Räumt den Platz des Identifikators, z.B. beim Freigeben der Attribute.
+   * <p>
+   * @param id Objekt-Identifikator
+   * @since 18.10.2026 18:05:02 agent | Realisierung
+   */
+  static void release(long id) {
+    ObjectIdIndex.Chunk chunk = chunk(id);
+    if (chunk == null) return;
+    Reference<? extends InterfaceWithAttributes> reference = chunk.entries.get(slot(id));
+    if (reference != null) remove(chunk, id, reference);
+  }
+  
+  /**
+   * Liefert die Anzahl der Plätze im Verzeichnis der Blöcke, belegt oder verworfen.
+   * <p>
+   * @return Anzahl der Plätze
+   * @since 18.10.2026 19:36:31 agent | Realisierung
+   */
+  static int capacity() {
+    return chunks.chunks.length();
+  }
+  
+  /* -- Hilfsmethoden ----------------------------------------------------------------------------- */
+  
+  /**
+   * Räumt die Plätze der Einträge, deren Objekt der GarbageCollector entfernt hat.
+   * @since 18.10.2026 18:05:10 agent | Realisierung
+   */
+  private static void expunge() {
+    ObjectIdIndex.Entry entry;
+    while ((entry = (ObjectIdIndex.Entry) QUEUE.poll()) != null) {
+      ObjectIdIndex.Chunk chunk = chunk(entry.id);
+      if (chunk != null) remove(chunk, entry.id, entry);
+    }
+  }
+  
+  /**
+   * Räumt den Platz, falls er noch den Eintrag enthält.
+   * <p>
+   * @param chunk {@link Chunk}
+   * @param id Objekt-Identifikator
+   * @param reference Schwache Referenz im Platz
+   * @since 18.10.2026 18:05:20 agent | Realisierung
+   */
+  private static void remove(ObjectIdIndex.Chunk chunk, long id, Reference<? extends InterfaceWithAttributes> reference) {
+    if (chunk.entries.compareAndSet(slot(id), reference, null)) chunk.release(id);
+  }
+  
+  /**
+   * @param id Objekt-Identifikator
+   * @return {@link Chunk} oder <code>null</code>
+   * @since 18.10.2026 18:05:31 agent | Realisierung
+   * @since 18.10.2026 19:36:40 agent | Über {@link Chunks}
+   */
+  private static ObjectIdIndex.Chunk chunk(long id) {
+    return chunks.get(id >>> SLOT_BITS);
+  }
+  
+  /**
+   * Liefert den Block des Identifikators und legt ihn bei Bedarf an.
+   * <p>
+   * @param id Objekt-Identifikator
+   * @return {@link Chunk}
+   * @since 18.10.2026 18:05:40 agent | Realisierung
+   * @since 18.10.2026 19:36:51 agent | Über {@link Chunks}
+   */
+  private static ObjectIdIndex.Chunk install(long id) {
+    ObjectIdIndex.Chunk chunk = chunk(id);
+    if (chunk != null) return chunk;
+    synchronized (LOCK) {
+      long index = id >>> SLOT_BITS;
+      chunk = chunks.get(index);
+      if (chunk == null) chunks = chunks.with(index, chunk = new ObjectIdIndex.Chunk());
+      return chunk;
+    }
+  }
+  
+  /**
+   * Verwirft den geschlossenen Block, damit ein neuer angelegt wird, und verkleinert das Verzeichnis
+   * bei Bedarf.
+   * <p>
+   * @param id Objekt-Identifikator
+   * @param chunk Geschlossener {@link Chunk}
+   * @since 18.10.2026 18:05:51 agent | Realisierung
+   * @since 18.10.2026 19:37:02 agent | Unter der Sperre, verkleinert das Verzeichnis
+   */
+  private static void drop(long id, ObjectIdIndex.Chunk chunk) {
+    synchronized (LOCK) {
+      chunks = chunks.without(id >>> SLOT_BITS, chunk);
+    }
+  }
+  
+  /**
+   * @param id Objekt-Identifikator
+   * @return Platz im Block
+   * @since 18.10.2026 18:06:02 agent | Realisierung
+   */
+  private static int slot(long id) {
+    return (int) id & (SLOTS - 1);
+  }
+  
+  /* -- Innere Klassen ---------------------------------------------------------------------------- */
+  
+  /**
+   * Plätze eines Bereichs von Identifikatoren.
+   * <p>
+   * Der Zähler der belegten Plätze wird beim Verwerfen auf <code>-1</code> gesetzt, danach trägt
+   * kein Thread mehr in diesen Block ein.
+   * @since 18.10.2026 18:06:10 agent | Realisierung
+   */
+  private static final class Chunk {
+    /** @since 18.10.2026 18:06:14 agent | Realisierung */
+    @SuppressWarnings("unused")
+    private static final long                                                serialVersionUID = 1L;
+    
+    /** Schwache Referenz je Platz.
+     * @since 18.10.2026 18:06:20 agent | Realisierung */
+    final AtomicReferenceArray<Reference<? extends InterfaceWithAttributes>> entries          = new AtomicReferenceArray<>(SLOTS);
+    
+    /** Anzahl belegter Plätze, <code>-1</code> nach dem Verwerfen.
+     * @since 18.10.2026 18:06:24 agent | Realisierung */
+    private final AtomicInteger                                              count            = new AtomicInteger();
+    
+    /**
+     * Reserviert einen Platz.
+     * <p>
+     * @return <code>false</code>, falls der Block bereits verworfen wurde.
+     * @since 18.10.2026 18:06:31 agent | Realisierung
+     */
+    boolean acquire() {
+      for (;;) {
+        int count = this.count.get();
+        if (count < 0) return false;
+        if (this.count.compareAndSet(count, count + 1)) return true;
+      }
+    }
+    
+    /**
+     * Gibt einen Platz frei und verwirft den Block, sobald er leer ist.
+     * <p>
+     * @param id Identifikator eines Platzes des Blocks
+     * @since 18.10.2026 18:06:40 agent | Realisierung
+     */
+    void release(long id) {
+      if (this.count.decrementAndGet() == 0 && this.count.compareAndSet(0, -1)) drop(id, this);
+    }
+  }
+  
+  /**
+   * Verzeichnis der Blöcke ab einem ersten Block, wird nur unter {@link ObjectIdIndex#LOCK} geändert.
+   * <p>
+   * Verschiebt sich der Bereich, wird das Verzeichnis ersetzt, Leser sehen damit immer Beginn und
+   * Array zusammen.
+   * <p>
+   * @since 18.10.2026 19:37:10 agent | Realisierung
+   */
+  private static final class Chunks {
+    /** Verzeichnis ohne Blöcke.
+     * @since 18.10.2026 19:37:20 agent | Realisierung */
+    static final ObjectIdIndex.Chunks                       EMPTY = new ObjectIdIndex.Chunks(0, 0);
+    
+    /** Index des ersten Blocks im Array.
+     * @since 18.10.2026 19:37:31 agent | Realisierung */
+    private final long                                      base;
+    
+    /** Blöcke ab {@link #base}, verworfene Blöcke sind <code>null</code>.
+     * @since 18.10.2026 19:37:40 agent | Realisierung */
+    final AtomicReferenceArray<ObjectIdIndex.Chunk>         chunks;
+    
+    /**
+     * Konstruiert ein leeres {@link Chunks}.
+     * @param base Index des ersten Blocks
+     * @param length Anzahl der Plätze
+     * @since 18.10.2026 19:37:51 agent | Realisierung
+     */
+    Chunks(long base, int length) {
+      this.base = base;
+      this.chunks = new AtomicReferenceArray<>(length);
+    }
+    
+    /**
+     * @param index Index des Blocks
+     * @return {@link Chunk} oder <code>null</code>
+     * @since 18.10.2026 19:38:02 agent | Realisierung
+     */
+    ObjectIdIndex.Chunk get(long index) {
+      long i = index - this.base;
+      return i >= 0 && i < this.chunks.length() ? this.chunks.get((int) i) : null;
+    }
+    
+    /**
+     * Trägt einen neuen Block ein.
+     * <p>
+     * Liegt der Block außerhalb des Bereichs, wird ein neues Verzeichnis mit Reserve für weitere
+     * Blöcke angelegt.
+     * <p>
+     * @param index Index des Blocks
+     * @param chunk Neuer {@link Chunk}
+     * @return Verzeichnis mit dem Block
+     * @since 18.10.2026 19:38:10 agent | Realisierung
+     */
+    ObjectIdIndex.Chunks with(long index, ObjectIdIndex.Chunk chunk) {
+      ObjectIdIndex.Chunks chunks = this;
+      int length = this.chunks.length();
+      if (length == 0) {
+        chunks = new ObjectIdIndex.Chunks(index, 1);
+      } else if (index < this.base || index >= this.base + length) {
+        long base = Math.min(this.base, index);
+        long end = this.base + length;
+        if (index >= end) end = Math.max(index + 1, end + (length >> 1));
+        chunks = new ObjectIdIndex.Chunks(base, (int) (end - base));
+        for (int i = 0; i < length; i++) {
+          chunks.chunks.set((int) (this.base - base) + i, this.chunks.get(i));
+        }
+      }
+      chunks.chunks.set((int) (index - chunks.base), chunk);
+      return chunks;
+    }
+    
+    /**
+     * Verwirft den Block, falls er noch eingetragen ist.
+     * <p>
+     * Besteht das Verzeichnis danach höchstens zur Hälfte aus belegten Blöcken, wird es auf den
+     * Bereich vom ersten bis zum letzten belegten Block verkleinert.
+     * <p>
+     * @param index Index des Blocks
+     * @param chunk Zu verwerfender {@link Chunk}
+     * @return Verzeichnis ohne den Block
+     * @since 18.10.2026 19:38:20 agent | Realisierung
+     */
+    ObjectIdIndex.Chunks without(long index, ObjectIdIndex.Chunk chunk) {
+      long i = index - this.base;
+      if (i < 0 || i >= this.chunks.length() || !this.chunks.compareAndSet((int) i, chunk, null)) return this;
+      int length = this.chunks.length();
+      int first = 0;
+      while (first < length && this.chunks.get(first) == null) {
+        first++;
+      }
+      if (first == length) return EMPTY;
+      int last = length - 1;
+      while (this.chunks.get(last) == null) {
+        last--;
+      }
+      if ((last - first + 1) * 2 > length) return this;
+      ObjectIdIndex.Chunks chunks = new ObjectIdIndex.Chunks(this.base + first, last - first + 1);
+      for (int j = first; j <= last; j++) {
+        chunks.chunks.set(j - first, this.chunks.get(j));
+      }
+      return chunks;
+    }
+  }
+  
+  /**
+   * Eigene schwache Referenz mit dem Identifikator, unter dem sie abgelegt ist.
+   * @since 18.10.2026 18:06:51 agent | Realisierung
+   */
+  private static final class Entry extends WeakReference<InterfaceWithAttributes> {
+    /** @since 18.10.2026 18:06:55 agent | Realisierung */
+    @SuppressWarnings("unused")
+    private static final long serialVersionUID = 1L;
+    
+    /** Objekt-Identifikator.
+     * @since 18.10.2026 18:07:02 agent | Realisierung */
+    final long                id;
+    
+    /**
+     * Konstruiert einen {@link Entry}.
+     * @param id Objekt-Identifikator
+     * @param object {@link InterfaceWithAttributes}
+     * @since 18.10.2026 18:07:06 agent | Realisierung
+     */
+    Entry(long id, InterfaceWithAttributes object) {
+      super(object, QUEUE);
+      this.id = id;
+    }
+  }
+  
+}
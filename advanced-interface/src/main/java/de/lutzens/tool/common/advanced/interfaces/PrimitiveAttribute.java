@@ -0,0 +1,222 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : PrimitiveAttribute
+ * Version     : 1
+ * Date        : 18.10.2026 12:24:31
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Hält einen primitiven Wert (<code>long</code>, <code>int</code>, <code>double</code> oder
+ * <code>boolean</code>) ohne Boxing.
+ * <p>
+ * Die Zelle wird beim ersten Setzen des Attributs angelegt. Alle weiteren Änderungen, auch das
+ * atomare Hochzählen, schreiben in dieselbe Zelle und erzeugen keine weiteren Objekte.
+ * Unabhängig von der Art kann der Wert in jede andere Art umgewandelt gelesen werden.
+ * <p>
+ * @author agent
+ * @since 18.10.2026 12:24:31 agent | Realisierung
+ * @see AttributesOfInterface
+ */
+final class PrimitiveAttribute extends AttributeCell {
+  /** @since 18.10.2026 12:24:40 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long                                       serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  /** Atomarer Zugriff auf {@link #bits}.
+   * @since 18.10.2026 12:25:02 agent | Realisierung */
+  private static final AtomicLongFieldUpdater<PrimitiveAttribute> BITS             = AtomicLongFieldUpdater.newUpdater(PrimitiveAttribute.class, "bits");
+  
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Art des primitiven Wertes.
+   * @since 18.10.2026 12:25:20 agent | Realisierung */
+  final Kind                                                      kind;
+  
+  /** Wert, bei {@link Kind#DOUBLE} als Bitmuster nach {@link Double#doubleToRawLongBits(double)}.
+   * @since 18.10.2026 12:25:41 agent | Realisierung */
+  private volatile long                                           bits;
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Konstruiert ein {@link PrimitiveAttribute}.
+   * <p>
+   * @param kind Art des Wertes
+   * @param bits Wert bzw. Bitmuster
+   * @since 18.10.2026 12:26:02 agent | Realisierung
+   */
+  PrimitiveAttribute(Kind kind, long bits) {
+    this.kind = kind;
+    this.bits = bits;
+  }
+  
+  /* -- get/set/add/is ---------------------------------------------------------------------------- */
+  
+  /**
+   * @see de.lutzens.tool.common.advanced.interfaces.AttributeCell#value()
+   * @since 18.10.2026 12:26:20 agent | Realisierung
+   */
+  @Override
+  Object value() {
+    long bits = this.bits;
+    switch (this.kind) {
+      case INT:
+        return Integer.valueOf((int) bits);
+      case DOUBLE:
+        return Double.valueOf(Double.longBitsToDouble(bits));
+      case BOOLEAN:
+        return Boolean.valueOf(bits != 0);
+      default:
+        return Long.valueOf(bits);
+    }
+  }
+  
+  /**
+   * Liefert den Wert bzw. das Bitmuster.
+   * <p>
+   * @return Wert bzw. Bitmuster
+   * @since 18.10.2026 16:23:10 agent | Realisierung
+   */
+  long bits() {
+    return this.bits;
+  }
+  
+  /**
+   * Setzt den Wert bzw. das Bitmuster.
+   * <p>
+   * @param bits Wert bzw. Bitmuster
+   * @since 18.10.2026 12:26:51 agent | Realisierung
+   */
+  void set(long bits) {
+    this.bits = bits;
+  }
+  
+  /**
+   * Addiert atomar auf einen Wert der Art {@link Kind#LONG}.
+   * <p>
+   * @param delta Summand
+   * @return Neuer Wert
+   * @since 18.10.2026 12:27:10 agent | Realisierung
+   */
+  long addLong(long delta) {
+    return BITS.addAndGet(this, delta);
+  }
+  
+  /**
+   * Addiert atomar auf einen Wert der Art {@link Kind#INT} mit Überlauf nach 32 Bit.
+   * <p>
+   * @param delta Summand
+   * @return Neuer Wert
+   * @since 18.10.2026 12:27:31 agent | Realisierung
+   */
+  int addInt(int delta) {
+    long prev;
+    long next;
+    do {
+      prev = this.bits;
+      next = (int) prev + delta;
+    } while (!BITS.compareAndSet(this, prev, next));
+    return (int) next;
+  }
+  
+  /**
+   * Addiert atomar auf einen Wert der Art {@link Kind#DOUBLE}.
+   * <p>
+   * @param delta Summand
+   * @return Neuer Wert
+   * @since 18.10.2026 12:27:52 agent | Realisierung
+   */
+  double addDouble(double delta) {
+    long prev;
+    double next;
+    do {
+      prev = this.bits;
+      next = Double.longBitsToDouble(prev) + delta;
+    } while (!BITS.compareAndSet(this, prev, Double.doubleToRawLongBits(next)));
+    return next;
+  }
+  
+  /* -- statisch ---------------------------------------------------------------------------------- */
+  
+  /**
+   * Wandelt den abgelegten Inhalt in einen <code>long</code> um.
+   * <p>
+   * @param content Abgelegter Inhalt, ein fehlender Inhalt ergibt <code>0</code>.
+   * @return Wert
+   * @throws ClassCastException Der Inhalt ist weder primitiv, {@link Number} noch {@link Boolean}.
+   * @since 18.10.2026 12:28:20 agent | Realisierung
+   * @since 18.10.2026 16:03:02 agent | Andere {@link AttributeCell} über ihren Wert
+   */
+  static long longOf(Object content) {
+    if (content instanceof PrimitiveAttribute) {
+      PrimitiveAttribute cell = (PrimitiveAttribute) content;
+      long bits = cell.bits;
+      return cell.kind == Kind.DOUBLE ? (long) Double.longBitsToDouble(bits) : bits;
+    }
+    content = AttributeCell.valueOf(content);
+    if (content == null) return 0;
+    if (content instanceof Boolean) return ((Boolean) content).booleanValue() ? 1 : 0;
+    return ((Number) content).longValue();
+  }
+  
+  /**
+   * Wandelt den abgelegten Inhalt in einen <code>double</code> um.
+   * <p>
+   * @param content Abgelegter Inhalt, ein fehlender Inhalt ergibt <code>0</code>.
+   * @return Wert
+   * @throws ClassCastException Der Inhalt ist weder primitiv, {@link Number} noch {@link Boolean}.
+   * @since 18.10.2026 12:28:51 agent | Realisierung
+   * @since 18.10.2026 16:03:10 agent | Andere {@link AttributeCell} über ihren Wert
+   */
+  static double doubleOf(Object content) {
+    if (content instanceof PrimitiveAttribute) {
+      PrimitiveAttribute cell = (PrimitiveAttribute) content;
+      long bits = cell.bits;
+      return cell.kind == Kind.DOUBLE ? Double.longBitsToDouble(bits) : bits;
+    }
+    content = AttributeCell.valueOf(content);
+    if (content == null) return 0;
+    if (content instanceof Boolean) return ((Boolean) content).booleanValue() ? 1 : 0;
+    return ((Number) content).doubleValue();
+  }
+  
+  /**
+   * Wandelt den abgelegten Inhalt in einen <code>boolean</code> um.
+   * <p>
+   * @param content Abgelegter Inhalt, ein fehlender Inhalt ergibt <code>false</code>.
+   * @return Wert, Zahlen ungleich <code>0</code> ergeben <code>true</code>.
+   * @throws ClassCastException Der Inhalt ist weder primitiv, {@link Number} noch {@link Boolean}.
+   * @since 18.10.2026 12:29:20 agent | Realisierung
+   */
+  static boolean booleanOf(Object content) {
+    if (content instanceof Boolean) return ((Boolean) content).booleanValue();
+    return doubleOf(content) != 0;
+  }
+  
+  /* -- Innere Klassen ---------------------------------------------------------------------------- */
+  
+  /**
+   * Art des primitiven Wertes.
+   * <p>
+   * @since 18.10.2026 12:29:41 agent | Realisierung
+   */
+  enum Kind {
+    /** <code>long</code> */
+    LONG,
+    /** <code>int</code> */
+    INT,
+    /** <code>double</code> */
+    DOUBLE,
+    /** <code>boolean</code> */
+    BOOLEAN
+  }
+  
+}
@@ -0,0 +1,198 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AtomicAttributeTest
+ * Version     : 1
+ * Date        : 18.10.2026 17:09:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Prüft atomare Änderungen und das konsistente Lesen mehrerer Objekt-Attribute.
+ * @author agent
+ * @since 18.10.2026 17:09:02 agent | Realisierung
+ */
+public class AtomicAttributeTest {
+  /** @since 18.10.2026 17:09:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * @throws IOException Fehler beim Schließen des Journals
+   * @since 18.10.2026 19:08:10 agent | Realisierung
+   */
+  @After
+  public void reset() throws IOException {
+    InterfaceWithAttributesController.reset();
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * @since 18.10.2026 17:09:10 agent | Realisierung
+   */
+  @Test
+  public void compareAndSetTest() throws InterruptedException {
+    AttributeTestObject object = new AttributeTestObject();
+    assertFalse(object.compareAndSetObjectAttribute("atomic.value", "alt", "neu"));
+    assertNull(object.getObjectAttribute("atomic.value"));
+    assertTrue(object.compareAndSetObjectAttribute("atomic.value", null, "alt"));
+    assertTrue(object.compareAndSetObjectAttribute("atomic.value", "alt", "neu"));
+    assertEquals("neu", object.getObjectAttribute("atomic.value"));
+    AttributeKey<Integer> counter = AttributeKey.of("atomic.counter", Integer.class);
+    object.setObjectAttribute(counter, Integer.valueOf(0));
+    Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] = new Thread(() -> {
+        for (int j = 0; j < 10_000; j++) {
+          Integer current;
+          do {
+            current = object.getObjectAttribute(counter);
+          } while (!object.compareAndSetObjectAttribute(counter, current, Integer.valueOf(current.intValue() + 1)));
+        }
+      });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(Integer.valueOf(40_000), object.getObjectAttribute(counter));
+  }
+  
+  /**
+   * Primitive Werte ohne Sperre, <code>put</code> und <code>compareAndSet</code> auf demselben Attribut
+   * zählen jede Änderung und verwerfen den abgeleiteten Stand.
+   * @since 18.10.2026 18:47:02 agent | Realisierung
+   */
+  @Test
+  public void mixedPrimitiveTest() throws InterruptedException {
+    AttributeTestObject object = new AttributeTestObject();
+    object.setObjectAttributeLong("atomic.mixed", 0);
+    AttributesOfInterface attributes = InterfaceWithAttributesController.getObjectAttributes(object);
+    attributes.frozen();
+    int version = attributes.version();
+    AtomicInteger changes = new AtomicInteger();
+    Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; i++) {
+      int kind = i % 2;
+      threads[i] = new Thread(() -> {
+        for (int j = 1; j <= 20_000; j++) {
+          if (kind == 0) {
+            object.setObjectAttributeLong("atomic.mixed", j);
+            changes.incrementAndGet();
+          } else if (j % 2 == 0) {
+            object.setObjectAttribute("atomic.mixed", Long.valueOf(-j));
+            changes.incrementAndGet();
+          } else {
+            Object current = object.getObjectAttribute("atomic.mixed");
+            if (object.compareAndSetObjectAttribute("atomic.mixed", current, Long.valueOf(-j))) changes.incrementAndGet();
+          }
+        }
+      });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(changes.get(), attributes.version() - version);
+    assertEquals(object.getObjectAttribute("atomic.mixed"), attributes.frozen().get(AttributeName.of("atomic.mixed")));
+  }
+  
+  /**
+   * @since 18.10.2026 17:09:31 agent | Realisierung
+   */
+  @Test
+  public void updateTest() {
+    AttributeTestObject object = new AttributeTestObject();
+    object.setObjectAttributeLong("atomic.from", 100);
+    object.updateObjectAttributes(current -> {
+      assertEquals(2, current.size());
+      assertNull(current.get("atomic.to"));
+      try {
+        current.put("atomic.to", "nicht erlaubt");
+        fail("Unveränderlich");
+      } catch (UnsupportedOperationException e) {
+        // erwartet
+      }
+      HashMap<String, Object> changes = new HashMap<>();
+      changes.put("atomic.from", Long.valueOf((Long) current.get("atomic.from") - 30));
+      changes.put("atomic.to", Long.valueOf(30));
+      changes.put("atomic.count", Integer.valueOf(1));
+      return changes;
+    }, "atomic.from", "atomic.to");
+    HashMap<String, Object> values = object.getObjectAttributes("atomic.from", "atomic.to", "atomic.missing");
+    assertEquals(3, values.size());
+    assertEquals(Long.valueOf(70), values.get("atomic.from"));
+    assertEquals(Long.valueOf(30), values.get("atomic.to"));
+    assertTrue(values.containsKey("atomic.missing"));
+    assertEquals(Integer.valueOf(1), object.getObjectAttribute("atomic.count"));
+    object.updateObjectAttributes(current -> null, "atomic.from");
+    assertEquals(70, object.getObjectAttributeLong("atomic.from"));
+  }
+  
+  /**
+   * Lesende Threads sehen eine gemeinsame Änderung nie nur teilweise.
+   * @since 18.10.2026 17:09:51 agent | Realisierung
+   */
+  @Test
+  public void consistentReadTest() throws InterruptedException {
+    AttributeTestObject object = new AttributeTestObject();
+    HashMap<String, Object> initial = new HashMap<>();
+    initial.put("atomic.left", Integer.valueOf(0));
+    initial.put("atomic.right", Integer.valueOf(0));
+    object.setObjectAttributes(initial);
+    AtomicReference<String> failure = new AtomicReference<>();
+    Thread writer = new Thread(() -> {
+      for (int i = 1; i <= 20_000; i++) {
+        int value = i;
+        object.updateObjectAttributes(current -> {
+          HashMap<String, Object> changes = new HashMap<>();
+          changes.put("atomic.left", Integer.valueOf(value));
+          changes.put("atomic.right", Integer.valueOf(-value));
+          return changes;
+        }, "atomic.left");
+      }
+    });
+    Thread[] readers = new Thread[2];
+    for (int i = 0; i < readers.length; i++) {
+      boolean all = i == 0;
+      readers[i] = new Thread(() -> {
+        while (writer.isAlive()) {
+          Map<String, Object> values = all ? object.getObjectAttributes() : object.getObjectAttributes("atomic.left", "atomic.right");
+          int left = ((Integer) values.get("atomic.left")).intValue();
+          int right = ((Integer) values.get("atomic.right")).intValue();
+          if (left != -right) failure.compareAndSet(null, left + " / " + right);
+        }
+      });
+    }
+    writer.start();
+    for (Thread reader : readers) {
+      reader.start();
+    }
+    writer.join();
+    for (Thread reader : readers) {
+      reader.join();
+    }
+    assertNull(failure.get());
+    assertEquals(20_000, object.getObjectAttributeInt("atomic.left"));
+  }
+  
+}
@@ -0,0 +1,136 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeCacheTest
+ * Version     : 1
+ * Date        : 18.10.2026 15:04:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Prüft den Cache-Modus der Objekt-Attribute.
+ * @author agent
+ * @since 18.10.2026 15:04:02 agent | Realisierung
+ */
+public class AttributeCacheTest {
+  /** @since 18.10.2026 15:04:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * @throws IOException Fehler beim Schließen des Journals
+   * @since 18.10.2026 19:08:20 agent | Realisierung
+   */
+  @After
+  public void reset() throws IOException {
+    InterfaceWithAttributesController.reset();
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * @since 18.10.2026 15:04:31 agent | Realisierung
+   */
+  @Test
+  public void expireAfterWriteTest() throws Exception {
+    AttributeTestObject object = new AttributeTestObject();
+    object.setObjectAttribute("cache.kept", "bleibt");
+    object.setObjectAttributeCache(AttributeCachePolicy.create().expireAfterWrite("cache.session", 50, TimeUnit.MILLISECONDS));
+    object.setObjectAttribute("cache.session", "abgelaufen");
+    object.setObjectAttributeLong("cache.counter", 1);
+    assertEquals("abgelaufen", object.getObjectAttribute("cache.session"));
+    Thread.sleep(100);
+    assertNull(object.getObjectAttribute("cache.session"));
+    assertFalse(object.getObjectAttributes().containsKey("cache.session"));
+    assertEquals("bleibt", object.getObjectAttribute("cache.kept"));
+    assertEquals(1, object.getObjectAttributeLong("cache.counter"));
+    AttributeCacheStats stats = object.getObjectAttributeCacheStats();
+    assertEquals(1, stats.getExpirationCount());
+    assertEquals(3, stats.getHitCount());
+    assertEquals(1, stats.getMissCount());
+    assertEquals(2, stats.getWeight());
+  }
+  
+  /**
+   * @since 18.10.2026 15:05:02 agent | Realisierung
+   */
+  @Test
+  public void maximumSizeTest() {
+    AttributeTestObject object = new AttributeTestObject();
+    object.setObjectAttributeCache(AttributeCachePolicy.create().maximumSize(3));
+    object.setObjectAttribute("cache.a", "a");
+    object.setObjectAttribute("cache.b", "b");
+    object.setObjectAttribute("cache.c", "c");
+    for (int i = 0; i < 5; i++) {
+      object.getObjectAttribute("cache.a");
+      object.getObjectAttribute("cache.c");
+    }
+    object.setObjectAttribute("cache.d", "d");
+    assertNull(object.getObjectAttribute("cache.b"));
+    assertEquals("a", object.getObjectAttribute("cache.a"));
+    assertEquals("c", object.getObjectAttribute("cache.c"));
+    assertEquals("d", object.getObjectAttribute("cache.d"));
+    assertEquals(1, object.getObjectAttributeCacheStats().getEvictionCount());
+    assertEquals(3, object.getObjectAttributeCacheStats().getWeight());
+  }
+  
+  /**
+   * @since 18.10.2026 15:05:31 agent | Realisierung
+   */
+  @Test
+  public void maximumWeightTest() {
+    AttributeTestObject object = new AttributeTestObject();
+    object.setObjectAttribute("cache.first", "12345");
+    object.setObjectAttribute("cache.second", "12345");
+    object.setObjectAttributeCache(AttributeCachePolicy.create().maximumWeight(8, value -> ((String) value).length()));
+    assertEquals(1, object.getObjectAttributes().size());
+    assertEquals(5, object.getObjectAttributeCacheStats().getWeight());
+    object.setObjectAttributeCache(null);
+    assertNull(object.getObjectAttributeCacheStats());
+    object.setObjectAttribute("cache.third", "12345");
+    assertEquals(2, object.getObjectAttributes().size());
+  }
+  
+  /**
+   * @since 18.10.2026 15:06:02 agent | Realisierung
+   */
+  @Test
+  public void totalLimitTest() {
+    AttributeTestObject[] objects = new AttributeTestObject[4];
+    long base = InterfaceWithAttributes.getAttributeCacheStats().getWeight();
+    try {
+      InterfaceWithAttributes.setAttributeCacheLimit(base + 10);
+      for (int i = 0; i < objects.length; i++) {
+        objects[i] = new AttributeTestObject();
+        objects[i].setObjectAttributeCache(AttributeCachePolicy.create());
+        for (int j = 0; j < 5; j++) {
+          objects[i].setObjectAttribute("cache.total." + j, Integer.valueOf(j));
+        }
+      }
+      assertTrue(InterfaceWithAttributes.getAttributeCacheStats().getWeight() <= base + 10);
+      long weight = 0;
+      for (AttributeTestObject object : objects) {
+        weight += object.getObjectAttributeCacheStats().getWeight();
+      }
+      assertTrue(weight <= InterfaceWithAttributes.getAttributeCacheStats().getWeight());
+      assertTrue(InterfaceWithAttributes.getAttributeCacheStats().getEvictionCount() >= 10);
+    } finally {
+      InterfaceWithAttributes.setAttributeCacheLimit(Long.MAX_VALUE);
+    }
+  }
+  
+}
@@ -0,0 +1,100 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeCleanupTest
+ * Version     : 1
+ * Date        : 18.10.2026 16:38:20
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Prüft die Bereinigung im Hintergrund und die explizite Freigabe der Objekt-Attribute.
+ * @author agent
+ * @since 18.10.2026 16:38:20 agent | Realisierung
+ */
+public class AttributeCleanupTest {
+  /** @since 18.10.2026 16:38:24 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * @throws IOException Fehler beim Schließen des Journals
+   * @since 18.10.2026 19:08:30 agent | Realisierung
+   */
+  @After
+  public void reset() throws IOException {
+    InterfaceWithAttributesController.reset();
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * Ohne jeden weiteren Zugriff werden die Einträge entfernter Objekte bereinigt.
+   * @since 18.10.2026 16:38:31 agent | Realisierung
+   */
+  @Test
+  public void backgroundTest() throws InterruptedException {
+    assertFalse(InterfaceWithAttributes.isAttributeBackgroundCleanupEnabled());
+    InterfaceWithAttributes.setAttributeBackgroundCleanupEnabled(true);
+    try {
+      assertTrue(InterfaceWithAttributes.isAttributeBackgroundCleanupEnabled());
+      int before = InterfaceWithAttributes.getAttributeStatistics().getObjectCount();
+      ArrayList<AttributeTestObject> objects = new ArrayList<>();
+      for (int i = 0; i < 10_000; i++) {
+        AttributeTestObject object = new AttributeTestObject();
+        object.setObjectAttribute("cleanup.value", Integer.valueOf(i));
+        objects.add(object);
+      }
+      assertTrue(InterfaceWithAttributes.getAttributeStatistics().getObjectCount() >= before + 10_000);
+      objects = null;
+      int count = Integer.MAX_VALUE;
+      for (int i = 0; i < 100 && count > before; i++) {
+        System.gc();
+        Thread.sleep(50);
+        count = InterfaceWithAttributes.getAttributeStatistics().getObjectCount();
+      }
+      assertTrue(count <= before);
+    } finally {
+      InterfaceWithAttributes.setAttributeBackgroundCleanupEnabled(false);
+    }
+    assertFalse(InterfaceWithAttributes.isAttributeBackgroundCleanupEnabled());
+  }
+  
+  /**
+   * @since 18.10.2026 16:38:51 agent | Realisierung
+   */
+  @Test
+  public void releaseTest() {
+    InterfaceWithAttributes.setObjectAttributeOffHeap("cleanup.offheap");
+    AttributeTestObject object = new AttributeTestObject();
+    object.setObjectAttribute("cleanup.value", "wert");
+    object.setObjectAttributeLong("cleanup.offheap", 42);
+    long id = object.getObjectId();
+    int before = InterfaceWithAttributes.getAttributeStatistics().getObjectCount();
+    object.releaseInterfaceWithAttribute();
+    assertEquals(before - 1, InterfaceWithAttributes.getAttributeStatistics().getObjectCount());
+    assertFalse(AttributeName.find("cleanup.offheap").arena.contains(id));
+    assertNull(object.getObjectAttribute("cleanup.value"));
+    assertEquals(0, object.getObjectAttributeLong("cleanup.offheap"));
+    assertTrue(object.getObjectAttributes().isEmpty());
+    assertNotEquals(id, object.getObjectId());
+    object.releaseInterfaceWithAttribute();
+    object.releaseInterfaceWithAttribute();
+  }
+  
+}
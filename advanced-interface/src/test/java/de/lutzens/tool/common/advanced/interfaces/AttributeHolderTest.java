@@ -0,0 +1,132 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeHolderTest
+ * Version     : 1
+ * Date        : 18.10.2026 16:58:20
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Prüft die Ablage der Objekt-Attribute im {@link AttributeHolder} des Objekts.
+ * @author agent
+ * @since 18.10.2026 16:58:20 agent | Realisierung
+ */
+public class AttributeHolderTest {
+  /** @since 18.10.2026 16:58:24 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * @throws IOException Fehler beim Schließen des Journals
+   * @since 18.10.2026 19:08:40 agent | Realisierung
+   */
+  @After
+  public void reset() throws IOException {
+    InterfaceWithAttributesController.reset();
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * Die Attribute liegen im Objekt, die Registry bleibt unverändert.
+   * @since 18.10.2026 16:58:31 agent | Realisierung
+   */
+  @Test
+  public void holderTest() {
+    int before = InterfaceWithAttributes.getAttributeStatistics().getObjectCount();
+    Inline object = new Inline();
+    object.setObjectAttribute("holder.name", "wert");
+    object.setObjectAttribute(AttributeKey.of("holder.key", Integer.class), Integer.valueOf(3));
+    assertEquals(5, object.addObjectAttributeLong("holder.counter", 5));
+    assertEquals("wert", object.getObjectAttribute("holder.name"));
+    assertEquals(Integer.valueOf(3), object.getObjectAttribute("holder.key"));
+    assertEquals(3, object.getObjectAttributes().size());
+    assertEquals(before, InterfaceWithAttributes.getAttributeStatistics().getObjectCount());
+    assertFalse(InterfaceWithAttributes.streamObjects().anyMatch(o -> o == object));
+    Inline other = new Inline();
+    other.addObjectAttributes(object);
+    assertEquals("wert", other.getObjectAttribute("holder.name"));
+    assertNotEquals(object.getObjectId(), other.getObjectId());
+  }
+  
+  /**
+   * Eine wiederholte Initialisierung behält die Attribute im {@link AttributeHolder}, die Freigabe
+   * entfernt sie.
+   * @since 18.10.2026 16:58:51 agent | Realisierung
+   * @since 18.10.2026 18:55:40 agent | Initialisierung behält die Attribute
+   */
+  @Test
+  public void releaseTest() {
+    Inline object = new Inline();
+    object.setObjectAttribute("holder.name", "wert");
+    long id = object.getObjectId();
+    object.initInterfaceWithAttribute();
+    assertEquals("wert", object.getObjectAttribute("holder.name"));
+    assertEquals(id, object.getObjectId());
+    object.releaseInterfaceWithAttribute();
+    assertNull(object.getObjectAttribute("holder.name"));
+    assertNotEquals(id, object.getObjectId());
+    object.setObjectAttribute("holder.name", "wert");
+    object.releaseInterfaceWithAttribute();
+    assertNull(object.getObjectAttribute("holder.name"));
+    assertEquals(0, object.getObjectAttributeLong("holder.counter"));
+    assertTrue(object.getObjectAttributes().isEmpty());
+  }
+  
+  /**
+   * Attribute außerhalb des Heaps und Indizes gelten nicht für Objekte mit {@link AttributeHolder}.
+   * @since 18.10.2026 16:59:02 agent | Realisierung
+   */
+  @Test
+  public void registryFeaturesTest() {
+    InterfaceWithAttributes.setObjectAttributeOffHeap("holder.offheap");
+    InterfaceWithAttributes.createObjectAttributeIndex("holder.indexed");
+    Inline object = new Inline();
+    object.setObjectAttributeLong("holder.offheap", 42);
+    object.setObjectAttribute("holder.indexed", "wert");
+    assertEquals(42, object.getObjectAttributeLong("holder.offheap"));
+    assertFalse(AttributeName.find("holder.offheap").arena.contains(object.getObjectId()));
+    assertTrue(InterfaceWithAttributes.findObjectsByAttribute("holder.indexed", "wert").isEmpty());
+  }
+  
+  /* -- Innere Klassen ---------------------------------------------------------------------------- */
+  
+  /**
+   * Implementierung mit eigenem {@link AttributeHolder}.
+   * @since 18.10.2026 16:59:10 agent | Realisierung
+   */
+  static class Inline implements InterfaceWithAttributes {
+    /** Attribute des Objekts.
+     * @since 18.10.2026 16:59:20 agent | Realisierung */
+    private final AttributeHolder attributes = new AttributeHolder();
+    
+    /**
+     * Konstruiert eine {@link Inline}.
+     * @since 18.10.2026 16:59:31 agent | Realisierung
+     */
+    Inline() {
+      initInterfaceWithAttribute();
+    }
+    
+    @Override
+    public AttributeHolder getAttributeHolder() {
+      return this.attributes;
+    }
+  }
+  
+}
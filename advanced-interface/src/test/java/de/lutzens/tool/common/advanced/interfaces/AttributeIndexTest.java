@@ -0,0 +1,129 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeIndexTest
+ * Version     : 1
+ * Date        : 18.10.2026 16:46:20
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Prüft die Indizes für die Suche nach Objekt-Attributen.
+ * @author agent
+ * @since 18.10.2026 16:46:20 agent | Realisierung
+ */
+public class AttributeIndexTest {
+  /** @since 18.10.2026 16:46:24 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * @throws IOException Fehler beim Schließen des Journals
+   * @since 18.10.2026 19:08:50 agent | Realisierung
+   */
+  @After
+  public void reset() throws IOException {
+    InterfaceWithAttributesController.reset();
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * @since 18.10.2026 16:46:31 agent | Realisierung
+   */
+  @Test
+  public void findTest() {
+    AttributeTestObject first = new AttributeTestObject();
+    AttributeTestObject second = new AttributeTestObject();
+    first.setObjectAttribute("index.status", "offen");
+    second.setObjectAttribute("index.status", "offen");
+    try {
+      InterfaceWithAttributes.findObjectsByAttribute("index.status", "offen");
+      fail("Kein Index");
+    } catch (IllegalStateException e) {
+      assertTrue(e.getMessage().contains("index.status"));
+    }
+    assertFalse(InterfaceWithAttributes.isObjectAttributeIndexed("index.status"));
+    InterfaceWithAttributes.createObjectAttributeIndex("index.status");
+    InterfaceWithAttributes.createObjectAttributeIndex("index.status");
+    assertTrue(InterfaceWithAttributes.isObjectAttributeIndexed("index.status"));
+    assertEquals(2, InterfaceWithAttributes.findObjectsByAttribute("index.status", "offen").size());
+    AttributeTestObject third = new AttributeTestObject();
+    third.setObjectAttribute("index.status", "erledigt");
+    second.setObjectAttribute("index.status", "erledigt");
+    List<InterfaceWithAttributes> open = InterfaceWithAttributes.findObjectsByAttribute("index.status", "offen");
+    assertEquals(1, open.size());
+    assertSame(first, open.get(0));
+    assertEquals(2, InterfaceWithAttributes.findObjectsByAttribute("index.status", "erledigt").size());
+    first.setObjectAttributes(Collections.singletonMap("index.status", "erledigt"));
+    assertTrue(InterfaceWithAttributes.findObjectsByAttribute("index.status", "offen").isEmpty());
+    assertEquals(3, InterfaceWithAttributes.findObjectsByAttribute("index.status", "erledigt").size());
+    third.setObjectAttribute("index.status", null);
+    assertSame(third, InterfaceWithAttributes.findObjectsByAttribute("index.status", null).get(0));
+    assertEquals(1, InterfaceWithAttributes.findObjectsByAttribute("index.status", null).size());
+    third.releaseInterfaceWithAttribute();
+    assertTrue(InterfaceWithAttributes.findObjectsByAttribute("index.status", null).isEmpty());
+  }
+  
+  /**
+   * @since 18.10.2026 16:46:51 agent | Realisierung
+   */
+  @Test
+  public void keyTest() {
+    AttributeKey<Long> key = AttributeKey.of("index.key", Long.class);
+    InterfaceWithAttributes.setObjectAttributeOffHeap("index.bytes");
+    InterfaceWithAttributes.createObjectAttributeIndex(key);
+    InterfaceWithAttributes.createObjectAttributeIndex("index.bytes");
+    AttributeTestObject object = new AttributeTestObject();
+    object.setObjectAttribute(key, Long.valueOf(7));
+    object.setObjectAttribute("index.bytes", new byte[] { 1, 2 });
+    assertSame(object, InterfaceWithAttributes.findObjectsByAttribute(key, Long.valueOf(7)).get(0));
+    assertSame(object, InterfaceWithAttributes.findObjectsByAttribute("index.bytes", new byte[] { 1, 2 }).get(0));
+    object.addObjectAttributeLong("index.key", 1);
+    assertTrue(InterfaceWithAttributes.findObjectsByAttribute(key, Long.valueOf(7)).isEmpty());
+    assertSame(object, InterfaceWithAttributes.findObjectsByAttribute(key, Long.valueOf(8)).get(0));
+  }
+  
+  /**
+   * Nach dem Entfernen der Objekte durch den GarbageCollector verschwinden sie aus dem Index.
+   * @since 18.10.2026 16:47:02 agent | Realisierung
+   */
+  @Test
+  public void collectTest() throws InterruptedException {
+    InterfaceWithAttributes.createObjectAttributeIndex("index.collect");
+    ArrayList<AttributeTestObject> objects = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      AttributeTestObject object = new AttributeTestObject();
+      object.setObjectAttributeInt("index.collect", i % 2);
+      objects.add(object);
+    }
+    assertEquals(500, InterfaceWithAttributes.findObjectsByAttribute("index.collect", Integer.valueOf(1)).size());
+    objects = null;
+    AttributeIndex index = AttributeName.find("index.collect").index;
+    for (int i = 0; i < 100 && !InterfaceWithAttributes.findObjectsByAttribute("index.collect", Integer.valueOf(1)).isEmpty(); i++) {
+      System.gc();
+      Thread.sleep(20);
+      new AttributeTestObject().setObjectAttribute("index.other", null);
+    }
+    assertTrue(InterfaceWithAttributes.findObjectsByAttribute("index.collect", Integer.valueOf(1)).isEmpty());
+    assertTrue(index.size() < 1000);
+  }
+  
+}
@@ -0,0 +1,241 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeJournalTest
+ * Version     : 1
+ * Date        : 18.10.2026 17:49:20
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Prüft das Journal der Änderungen, das Einspielen und das Zusammenfassen der Segmente.
+ * @author agent
+ * @since 18.10.2026 17:49:20 agent | Realisierung
+ */
+public class AttributeJournalTest {
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Instanz ------------------------------------------------------------------ */
+  
+  /** Schlüssel der Objekte im Journal, Objekte ohne Schlüssel werden nicht protokolliert.
+   * @since 18.10.2026 17:49:31 agent | Realisierung
+   * @since 18.10.2026 19:16:02 agent | Je Test statt über eine eigene Implementierung */
+  private final ConcurrentHashMap<InterfaceWithAttributes, String> keys = new ConcurrentHashMap<>();
+  
+  /** Verzeichnis des Journals, wird nach jedem Test gelöscht.
+   * @since 18.10.2026 19:16:10 agent | Realisierung */
+  private Path                                                     directory;
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * @throws IOException Fehler beim Anlegen des Verzeichnisses
+   * @since 18.10.2026 19:16:20 agent | Realisierung
+   */
+  @Before
+  public void init() throws IOException {
+    this.directory = Files.createTempDirectory("journal");
+  }
+  
+  /**
+   * @throws IOException Fehler beim Schließen des Journals oder beim Löschen des Verzeichnisses
+   * @since 18.10.2026 19:09:00 agent | Realisierung
+   * @since 18.10.2026 19:16:31 agent | Löscht das Verzeichnis des Journals
+   */
+  @After
+  public void reset() throws IOException {
+    try {
+      InterfaceWithAttributesController.reset();
+    } finally {
+      delete(this.directory);
+    }
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * Objekt-, Klassen- und Interface-Attribute werden protokolliert und wieder eingespielt.
+   * @since 18.10.2026 17:49:40 agent | Realisierung
+   */
+  @Test
+  public void replayTest() throws IOException {
+    AttributeTestObject first = keyed(new AttributeTestObject(), "first");
+    InterfaceWithAttributes holder = keyed(new AttributeHolderTest.Inline(), "holder");
+    InterfaceWithAttributes.startAttributeJournal(this.directory, this.keys::get);
+    try {
+      assertTrue(InterfaceWithAttributes.isAttributeJournalEnabled());
+      for (int i = 0; i < 1000; i++) {
+        first.setObjectAttribute("journal.counter", Integer.valueOf(i));
+      }
+      first.setObjectAttribute("journal.string", "wert");
+      first.setObjectAttribute("journal.bytes", new byte[] { 1, 2, 3 });
+      first.setObjectAttributeLong("journal.long", 40);
+      first.addObjectAttributeLong("journal.long", 2);
+      holder.setObjectAttribute("journal.string", "holder");
+      new AttributeTestObject().setObjectAttribute("journal.string", "ohne Schlüssel");
+      first.setClassAttribute("journal.class", "klasse");
+      first.setInterfaceAttribute("journal.interface", Double.valueOf(1.5));
+      InterfaceWithAttributes.syncAttributeJournal();
+    } finally {
+      InterfaceWithAttributes.stopAttributeJournal();
+    }
+    assertFalse(InterfaceWithAttributes.isAttributeJournalEnabled());
+    first.setClassAttribute("journal.class", "geändert");
+    first.setInterfaceAttribute("journal.interface", null);
+    HashMap<String, InterfaceWithAttributes> objects = new HashMap<>();
+    AttributeTestObject restored = new AttributeTestObject();
+    InterfaceWithAttributes restoredHolder = new AttributeHolderTest.Inline();
+    objects.put("first", restored);
+    objects.put("holder", restoredHolder);
+    int count = InterfaceWithAttributes.replayAttributeJournal(this.directory, objects::get);
+    assertTrue(count >= 7);
+    assertEquals(Integer.valueOf(999), restored.getObjectAttribute("journal.counter"));
+    assertEquals("wert", restored.getObjectAttribute("journal.string"));
+    assertArrayEquals(new byte[] { 1, 2, 3 }, (byte[]) restored.getObjectAttribute("journal.bytes"));
+    assertEquals(42, restored.getObjectAttributeLong("journal.long"));
+    assertEquals("holder", restoredHolder.getObjectAttribute("journal.string"));
+    assertEquals("klasse", first.getClassAttribute("journal.class"));
+    assertEquals(Double.valueOf(1.5), first.getInterfaceAttribute("journal.interface"));
+  }
+  
+  /**
+   * Kleine Segmente werden gewechselt und zu einem Segment mit dem letzten Wert zusammengefasst.
+   * @since 18.10.2026 17:49:51 agent | Realisierung
+   */
+  @Test
+  public void compactTest() throws IOException {
+    AttributeTestObject object = keyed(new AttributeTestObject(), "compact");
+    AttributeJournal.open(this.directory, this.keys::get, 1024, 0);
+    try {
+      for (int i = 0; i < 200; i++) {
+        object.setObjectAttribute("journal.value", "wert " + i);
+        object.setObjectAttribute("journal.other", Integer.valueOf(i));
+        InterfaceWithAttributes.syncAttributeJournal();
+      }
+      assertTrue(segments(this.directory).size() > 2);
+      assertEquals(2, InterfaceWithAttributes.compactAttributeJournal(this.directory));
+      assertEquals(2, segments(this.directory).size());
+    } finally {
+      InterfaceWithAttributes.stopAttributeJournal();
+    }
+    assertEquals(2, InterfaceWithAttributes.compactAttributeJournal(this.directory));
+    assertEquals(1, segments(this.directory).size());
+    AttributeTestObject restored = new AttributeTestObject();
+    assertEquals(2, InterfaceWithAttributes.replayAttributeJournal(this.directory, key -> restored));
+    assertEquals("wert 199", restored.getObjectAttribute("journal.value"));
+    assertEquals(Integer.valueOf(199), restored.getObjectAttribute("journal.other"));
+  }
+  
+  /**
+   * Ein beschädigter letzter Eintrag wird ignoriert, ein Wert ohne Codec beim Warten gemeldet.
+   * @since 18.10.2026 17:50:02 agent | Realisierung
+   */
+  @Test
+  public void tornTailTest() throws IOException {
+    AttributeTestObject object = keyed(new AttributeTestObject(), "torn");
+    InterfaceWithAttributes.startAttributeJournal(this.directory, this.keys::get);
+    try {
+      object.setObjectAttribute("journal.first", "erster");
+      object.setObjectAttribute("journal.unknown", new Object());
+      try {
+        InterfaceWithAttributes.syncAttributeJournal();
+        fail("Wert ohne Codec");
+      } catch (IOException e) {
+        assertTrue(e.getMessage().contains("journal.unknown"));
+      }
+      object.setObjectAttribute("journal.last", "letzter");
+      InterfaceWithAttributes.syncAttributeJournal();
+    } finally {
+      InterfaceWithAttributes.stopAttributeJournal();
+    }
+    ArrayList<Path> segments = segments(this.directory);
+    assertEquals(1, segments.size());
+    try (RandomAccessFile file = new RandomAccessFile(segments.get(0).toFile(), "rw")) {
+      long last = 8;
+      for (long position = 8; file.length() >= position + 8; ) {
+        file.seek(position);
+        int length = file.readInt();
+        if (length == 0) break;
+        last = position;
+        position += 8 + length;
+      }
+      file.seek(last + 9);
+      int b = file.read();
+      file.seek(last + 9);
+      file.write(b ^ 0xFF);
+    }
+    AttributeTestObject restored = new AttributeTestObject();
+    assertEquals(1, InterfaceWithAttributes.replayAttributeJournal(this.directory, key -> restored));
+    assertEquals("erster", restored.getObjectAttribute("journal.first"));
+    assertNull(restored.getObjectAttribute("journal.last"));
+  }
+  
+  /* -- Hilfsmethoden ----------------------------------------------------------------------------- */
+  
+  /**
+   * Vergibt den Schlüssel, unter dem das Objekt im Journal steht.
+   * @param <T> Typ des Objekts
+   * @param object Objekt
+   * @param key Schlüssel im Journal
+   * @return Objekt
+   * @since 18.10.2026 19:16:40 agent | Realisierung
+   */
+  private <T extends InterfaceWithAttributes> T keyed(T object, String key) {
+    this.keys.put(object, key);
+    return object;
+  }
+  
+  /**
+   * @param directory Verzeichnis des Journals
+   * @return Segmente
+   * @since 18.10.2026 17:50:10 agent | Realisierung
+   */
+  private static ArrayList<Path> segments(Path directory) throws IOException {
+    ArrayList<Path> segments = new ArrayList<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "journal-*.seg")) {
+      stream.forEach(segments::add);
+    }
+    return segments;
+  }
+  
+  /**
+   * Löscht das Verzeichnis samt Inhalt.
+   * @param directory Verzeichnis oder <code>null</code>
+   * @since 18.10.2026 19:16:51 agent | Realisierung
+   */
+  private static void delete(Path directory) throws IOException {
+    if (directory == null) return;
+    List<Path> paths;
+    try (Stream<Path> stream = Files.walk(directory)) {
+      paths = stream.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+    }
+    for (Path path : paths) {
+      Files.deleteIfExists(path);
+    }
+  }
+  
+}
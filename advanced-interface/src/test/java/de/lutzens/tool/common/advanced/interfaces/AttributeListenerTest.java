@@ -0,0 +1,138 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeListenerTest
+ * Version     : 1
+ * Date        : 18.10.2026 15:27:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Prüft die asynchrone Benachrichtigung über Änderungen an Attributen.
+ * @author agent
+ * @since 18.10.2026 15:27:02 agent | Realisierung
+ */
+public class AttributeListenerTest {
+  /** @since 18.10.2026 15:27:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * @throws IOException Fehler beim Schließen des Journals
+   * @since 18.10.2026 19:09:10 agent | Realisierung
+   */
+  @After
+  public void reset() throws IOException {
+    InterfaceWithAttributesController.reset();
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * @since 18.10.2026 15:27:31 agent | Realisierung
+   */
+  @Test
+  public void coalesceTest() {
+    List<Runnable> tasks = new ArrayList<>();
+    InterfaceWithAttributes.setAttributeListenerExecutor(tasks::add);
+    try {
+      AttributeTestObject object = new AttributeTestObject();
+      List<AttributeChangeEvent> events = new ArrayList<>();
+      object.addObjectAttributeListener(events::add);
+      for (int i = 0; i < 100; i++) {
+        object.setObjectAttribute("listener.value", Integer.valueOf(i));
+        object.addObjectAttributeLong("listener.count", 1);
+      }
+      assertEquals(1, tasks.size());
+      assertTrue(events.isEmpty());
+      tasks.remove(0).run();
+      assertEquals(1, events.size());
+      assertSame(object, events.get(0).getSource());
+      assertEquals(Integer.valueOf(99), events.get(0).getChanges().get("listener.value"));
+      assertEquals(Long.valueOf(100), events.get(0).getChanges().get("listener.count"));
+      assertTrue(tasks.isEmpty());
+      object.setObjectAttribute("listener.value", "neu");
+      assertEquals(1, tasks.size());
+    } finally {
+      InterfaceWithAttributes.setAttributeListenerExecutor(null);
+    }
+  }
+  
+  /**
+   * @since 18.10.2026 15:28:02 agent | Realisierung
+   */
+  @Test
+  public void scopeTest() throws Exception {
+    BlockingQueue<AttributeChangeEvent> events = new ArrayBlockingQueue<>(16);
+    List<Thread> threads = new ArrayList<>();
+    AttributeListener listener = event -> {
+      threads.add(Thread.currentThread());
+      events.add(event);
+    };
+    InterfaceWithAttributes.addClassAttributeListener(AttributeTestObject.class, listener);
+    InterfaceWithAttributes.addInterfaceAttributeListener(InterfaceWithAttributes.class, listener);
+    new AttributeTestObject().setClassAttribute("listener.class", "klasse");
+    AttributeChangeEvent event = events.poll(10, TimeUnit.SECONDS);
+    assertNotNull(event);
+    assertSame(AttributeTestObject.class, event.getSource());
+    assertEquals("klasse", event.getChanges().get("listener.class"));
+    assertTrue(threads.get(0).isDaemon());
+    new AttributeTestObject().setInterfaceAttribute("listener.interface", "interface");
+    event = events.poll(10, TimeUnit.SECONDS);
+    assertNotNull(event);
+    assertSame(InterfaceWithAttributes.class, event.getSource());
+    assertTrue(InterfaceWithAttributes.removeClassAttributeListener(AttributeTestObject.class, listener));
+    assertTrue(InterfaceWithAttributes.removeInterfaceAttributeListener(InterfaceWithAttributes.class, listener));
+    assertFalse(InterfaceWithAttributes.removeInterfaceAttributeListener(InterfaceWithAttributes.class, listener));
+    new AttributeTestObject().setClassAttribute("listener.class", "entfernt");
+    assertNull(events.poll(100, TimeUnit.MILLISECONDS));
+  }
+  
+  /**
+   * @since 18.10.2026 15:28:31 agent | Realisierung
+   */
+  @Test
+  public void failingListenerTest() throws Exception {
+    List<Runnable> tasks = new ArrayList<>();
+    InterfaceWithAttributes.setAttributeListenerExecutor(tasks::add);
+    Thread.UncaughtExceptionHandler handler = Thread.currentThread().getUncaughtExceptionHandler();
+    List<Throwable> errors = new ArrayList<>();
+    Thread.currentThread().setUncaughtExceptionHandler((thread, e) -> errors.add(e));
+    try {
+      AttributeTestObject object = new AttributeTestObject();
+      List<AttributeChangeEvent> events = new ArrayList<>();
+      object.addObjectAttributeListener(event -> {
+        throw new IllegalStateException("Fehler im Listener");
+      });
+      object.addObjectAttributeListener(events::add);
+      object.setObjectAttribute("listener.failing", "wert");
+      tasks.remove(0).run();
+      assertEquals(1, events.size());
+      assertEquals(1, errors.size());
+    } finally {
+      Thread.currentThread().setUncaughtExceptionHandler(handler);
+      InterfaceWithAttributes.setAttributeListenerExecutor(null);
+    }
+  }
+  
+}
@@ -0,0 +1,119 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeMetricsTest
+ * Version     : 1
+ * Date        : 18.10.2026 15:48:40
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Prüft die Messung von Zugriffen und Bereinigungen.
+ * @author agent
+ * @since 18.10.2026 15:48:40 agent | Realisierung
+ */
+public class AttributeMetricsTest {
+  /** @since 18.10.2026 15:48:44 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * @throws IOException Fehler beim Schließen des Journals
+   * @since 18.10.2026 19:09:20 agent | Realisierung
+   */
+  @After
+  public void reset() throws IOException {
+    InterfaceWithAttributesController.reset();
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * @since 18.10.2026 15:49:02 agent | Realisierung
+   */
+  @Test
+  public void readTest() {
+    InterfaceWithAttributes.setAttributeMetricsEnabled(true);
+    try {
+      assertTrue(InterfaceWithAttributes.isAttributeMetricsEnabled());
+      AttributeStatistics before = InterfaceWithAttributes.getAttributeStatistics();
+      AttributeTestObject object = new AttributeTestObject();
+      object.setObjectAttribute("metrics.value", "wert");
+      object.setObjectAttributeLong("metrics.long", 42);
+      assertEquals("wert", object.getObjectAttribute("metrics.value"));
+      assertEquals("wert", object.getObjectAttribute("metrics.value"));
+      assertEquals(42, object.getObjectAttributeLong("metrics.long"));
+      assertEquals(null, object.getObjectAttribute("metrics.missing"));
+      AttributeStatistics after = InterfaceWithAttributes.getAttributeStatistics();
+      assertEquals(3, after.getHitCount() - before.getHitCount());
+      assertEquals(1, after.getMissCount() - before.getMissCount());
+      assertEquals(Long.valueOf(2), after.getAccessCounts().get("metrics.value"));
+      assertEquals(Long.valueOf(1), after.getAccessCounts().get("metrics.long"));
+      assertEquals(Long.valueOf(1), after.getAccessCounts().get("metrics.missing"));
+      assertTrue(after.getObjectCount() > 0);
+      assertTrue(after.getClassCount() > 0);
+      assertTrue(after.getKeyCount() >= 3);
+    } finally {
+      InterfaceWithAttributes.setAttributeMetricsEnabled(false);
+    }
+  }
+  
+  /**
+   * @since 18.10.2026 15:49:31 agent | Realisierung
+   */
+  @Test
+  public void disabledTest() {
+    assertFalse(InterfaceWithAttributes.isAttributeMetricsEnabled());
+    AttributeStatistics before = InterfaceWithAttributes.getAttributeStatistics();
+    AttributeTestObject object = new AttributeTestObject();
+    object.setObjectAttribute("metrics.disabled", "wert");
+    object.getObjectAttribute("metrics.disabled");
+    object.getObjectAttribute("metrics.unknown");
+    AttributeStatistics after = InterfaceWithAttributes.getAttributeStatistics();
+    assertEquals(before.getHitCount(), after.getHitCount());
+    assertEquals(before.getMissCount(), after.getMissCount());
+    assertFalse(after.getAccessCounts().containsKey("metrics.disabled"));
+  }
+  
+  /**
+   * @since 18.10.2026 15:50:02 agent | Realisierung
+   */
+  @Test
+  public void expungeTest() throws Exception {
+    InterfaceWithAttributes.setAttributeMetricsEnabled(true);
+    try {
+      AttributeStatistics before = InterfaceWithAttributes.getAttributeStatistics();
+      ConcurrentWeakRegistry<Object, String> registry = new ConcurrentWeakRegistry<>();
+      for (int i = 0; i < 100; i++) {
+        registry.put(new Object(), "wert");
+      }
+      int removed = 0;
+      for (int i = 0; i < 50 && removed == 0; i++) {
+        System.gc();
+        Thread.sleep(20);
+        removed = registry.expungeStaleEntries(Integer.MAX_VALUE);
+      }
+      assertTrue(removed > 0);
+      AttributeStatistics after = InterfaceWithAttributes.getAttributeStatistics();
+      assertTrue(after.getExpungeCount() > before.getExpungeCount());
+      assertTrue(after.getExpungedEntries() - before.getExpungedEntries() >= removed);
+      assertTrue(after.getMaxExpungeNanos() > 0);
+      assertTrue(after.getExpungeNanos() >= after.getMaxExpungeNanos());
+    } finally {
+      InterfaceWithAttributes.setAttributeMetricsEnabled(false);
+    }
+  }
+  
+}
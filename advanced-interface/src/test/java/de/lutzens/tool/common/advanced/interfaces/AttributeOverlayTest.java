@@ -0,0 +1,157 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeOverlayTest
+ * Version     : 1
+ * Date        : 18.10.2026 17:19:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Prüft die Überlagerung von Klassen- und Interface-Attributen je Thread.
+ * @author agent
+ * @since 18.10.2026 17:19:02 agent | Realisierung
+ */
+public class AttributeOverlayTest {
+  /** @since 18.10.2026 17:19:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * @throws IOException Fehler beim Schließen des Journals
+   * @since 18.10.2026 19:09:30 agent | Realisierung
+   */
+  @After
+  public void reset() throws IOException {
+    InterfaceWithAttributesController.reset();
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * @since 18.10.2026 17:19:10 agent | Realisierung
+   */
+  @Test
+  public void overlayTest() {
+    InterfaceWithAttributes.setClassAttribute(Implementation.class, "overlay.flag", Boolean.FALSE);
+    InterfaceWithAttributes.setClassAttribute(Implementation.class, "overlay.shared", "gemeinsam");
+    InterfaceWithAttributes.setInterfaceAttribute(Scope.class, "overlay.tenant", "gemeinsam");
+    AttributeKey<String> tenant = AttributeKey.of("overlay.tenant", String.class);
+    AttributeOverlay overlay = AttributeOverlay.create()
+        .withClassAttribute(Implementation.class, "overlay.flag", Boolean.TRUE)
+        .withClassAttribute(Implementation.class, "overlay.shared", null)
+        .withInterfaceAttribute(tenant, "a")
+        .withInterfaceAttribute(Scope.class, "overlay.tenant", "b");
+    Implementation object = new Implementation();
+    overlay.run(() -> {
+      assertEquals(Boolean.TRUE, InterfaceWithAttributes.getClassAttribute(Implementation.class, "overlay.flag"));
+      assertNull(InterfaceWithAttributes.getClassAttribute(Implementation.class, "overlay.shared"));
+      assertTrue(object.getClassAttributes().containsKey("overlay.shared"));
+      assertNull(object.getClassAttributes().get("overlay.shared"));
+      assertEquals("a", object.getInterfaceAttribute(tenant));
+      assertEquals("a", object.getInterfaceAttributes().get("overlay.tenant"));
+      assertEquals("b", InterfaceWithAttributes.getInterfaceAttribute(Scope.class, "overlay.tenant"));
+      assertEquals("b", InterfaceWithAttributes.getInterfaceAttributes(Scope.class).get("overlay.tenant"));
+      String nested = AttributeOverlay.create().withInterfaceAttribute(tenant, "c").call(() -> object.getInterfaceAttribute(tenant));
+      assertEquals("c", nested);
+      assertEquals("a", object.getInterfaceAttribute(tenant));
+    });
+    assertEquals(Boolean.FALSE, InterfaceWithAttributes.getClassAttribute(Implementation.class, "overlay.flag"));
+    assertEquals("gemeinsam", InterfaceWithAttributes.getClassAttribute(Implementation.class, "overlay.shared"));
+    assertNull(object.getInterfaceAttribute(tenant));
+    assertEquals("gemeinsam", InterfaceWithAttributes.getInterfaceAttribute(Scope.class, "overlay.tenant"));
+  }
+  
+  /**
+   * Eine Bindung gilt nur im eigenen Thread.
+   * @since 18.10.2026 17:19:31 agent | Realisierung
+   * @since 18.10.2026 18:54:02 agent | Über {@link AttributeOverlay#run(Runnable)}
+   */
+  @Test
+  public void threadTest() {
+    AttributeOverlay overlay = AttributeOverlay.create().withInterfaceAttribute("overlay.thread", "gebunden");
+    AtomicReference<Object> other = new AtomicReference<>("nicht gelesen");
+    Thread thread = new Thread(() -> other.set(new Implementation().getInterfaceAttribute("overlay.thread")));
+    overlay.run(() -> {
+      thread.start();
+      try {
+        thread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      assertEquals("gebunden", new Implementation().getInterfaceAttribute("overlay.thread"));
+    });
+    assertFalse(thread.isAlive());
+    assertNull(other.get());
+    assertNull(new Implementation().getInterfaceAttribute("overlay.thread"));
+    AttributeOverlay.Binding binding = overlay.bind();
+    binding.close();
+    try {
+      binding.close();
+      fail("Keine Überlagerung gebunden");
+    } catch (IllegalStateException e) {
+      assertFalse(e.getMessage().isEmpty());
+    }
+  }
+  
+  /**
+   * Bei aktivierter Vererbung gelten die Überlagerungen der Vorfahren.
+   * @since 18.10.2026 17:19:51 agent | Realisierung
+   */
+  @Test
+  public void inheritanceTest() {
+    InterfaceWithAttributes.setClassAttribute(Implementation.class, "overlay.inherited", "eigener");
+    AttributeOverlay overlay = AttributeOverlay.create().withClassAttribute(Scope.class, "overlay.inherited", "überlagert");
+    InterfaceWithAttributes.setClassAttributeInheritance(true);
+    try {
+      overlay.run(() -> {
+        assertEquals("überlagert", InterfaceWithAttributes.getClassAttribute(Implementation.class, "overlay.inherited"));
+        assertEquals("überlagert", new Implementation().getClassAttributes().get("overlay.inherited"));
+      });
+      assertEquals("eigener", InterfaceWithAttributes.getClassAttribute(Implementation.class, "overlay.inherited"));
+    } finally {
+      InterfaceWithAttributes.setClassAttributeInheritance(false);
+    }
+    overlay.run(() -> assertEquals("eigener", InterfaceWithAttributes.getClassAttribute(Implementation.class, "overlay.inherited")));
+  }
+  
+  /* -- Innere Klassen ---------------------------------------------------------------------------- */
+  
+  /**
+   * Erweiterung des Interfaces für die Tests.
+   * @since 18.10.2026 17:20:02 agent | Realisierung
+   */
+  interface Scope extends InterfaceWithAttributes {
+    // nur Bereich der Attribute
+  }
+  
+  /**
+   * Implementierung für die Tests.
+   * @since 18.10.2026 17:20:10 agent | Realisierung
+   */
+  static class Implementation implements Scope {
+    /**
+     * Konstruiert eine {@link Implementation}.
+     * @since 18.10.2026 17:20:20 agent | Realisierung
+     */
+    Implementation() {
+      initInterfaceWithAttribute();
+    }
+  }
+  
+}
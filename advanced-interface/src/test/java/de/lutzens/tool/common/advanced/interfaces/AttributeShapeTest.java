@@ -0,0 +1,189 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeShapeTest
+ * Version     : 1
+ * Date        : 18.10.2026 12:01:10
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Prüft die Ablage der Attribute über {@link AttributeShape} und {@link AttributeKey}.
+ * @author agent
+ * @since 18.10.2026 12:01:10 agent | Realisierung
+ */
+public class AttributeShapeTest {
+  /** @since 18.10.2026 12:01:14 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long                  serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  private static final AttributeKey<String>  STATUS           = AttributeKey.of("shape.status", String.class);
+  private static final AttributeKey<Integer> COUNT            = AttributeKey.of("shape.count", Integer.class);
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * @throws IOException Fehler beim Schließen des Journals
+   * @since 18.10.2026 19:09:40 agent | Realisierung
+   */
+  @After
+  public void reset() throws IOException {
+    InterfaceWithAttributesController.reset();
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * @since 18.10.2026 12:02:02 agent | Realisierung
+   */
+  @Test
+  public void typedKeyTest() {
+    AttributeTestObject object = new AttributeTestObject();
+    assertNull(object.getObjectAttribute(STATUS));
+    object.setObjectAttribute(STATUS, "active");
+    object.setObjectAttribute(COUNT, 3);
+    String status = object.getObjectAttribute(STATUS);
+    int count = object.getObjectAttribute(COUNT);
+    assertEquals("active", status);
+    assertEquals(3, count);
+    assertEquals("active", object.getObjectAttribute("shape.status"));
+    object.setObjectAttribute("shape.count", 4);
+    assertEquals(Integer.valueOf(4), object.getObjectAttribute(COUNT));
+    assertEquals(2, object.getObjectAttributes().size());
+  }
+  
+  /**
+   * @since 18.10.2026 12:03:11 agent | Realisierung
+   */
+  @Test
+  public void sharedShapeTest() {
+    AttributesOfInterface first = new AttributesOfInterface(AttributeShape.rootOf(AttributeTestObject.class));
+    AttributesOfInterface second = new AttributesOfInterface(AttributeShape.rootOf(AttributeTestObject.class));
+    AttributesOfInterface reverse = new AttributesOfInterface(AttributeShape.rootOf(AttributeTestObject.class));
+    first.put(STATUS, "a");
+    first.put(COUNT, 1);
+    second.put(STATUS, "b");
+    second.put(COUNT, 2);
+    reverse.put(COUNT, 3);
+    reverse.put(STATUS, "c");
+    
+    AttributeShape shape = AttributeShape.rootOf(AttributeTestObject.class).with(STATUS.name).with(COUNT.name);
+    assertSame(shape, AttributeShape.rootOf(AttributeTestObject.class).with(STATUS.name).with(COUNT.name));
+    assertNotSame(shape, AttributeShape.rootOf(AttributeTestObject.class).with(COUNT.name).with(STATUS.name));
+    assertNotSame(AttributeShape.rootOf(AttributeTestObject.class), AttributeShape.rootOf(String.class));
+    assertEquals(0, shape.slotOf(STATUS.name));
+    assertEquals(1, shape.slotOf(COUNT.name));
+    
+    assertEquals("b", second.get(STATUS));
+    assertEquals(Integer.valueOf(3), reverse.get(COUNT));
+    assertEquals("c", reverse.get(STATUS));
+  }
+  
+  /**
+   * @since 18.10.2026 12:04:30 agent | Realisierung
+   */
+  @Test
+  public void dictionaryTest() {
+    AttributesOfInterface attributes = new AttributesOfInterface();
+    int size = AttributesOfInterface.DICTIONARY_THRESHOLD * 3;
+    for (int i = 0; i < size; i++) {
+      attributes.put("shape.key." + i, i % 2 == 0 ? null : Integer.valueOf(i));
+    }
+    assertEquals(size, attributes.get().size());
+    for (int i = 0; i < size; i++) {
+      assertEquals(i % 2 == 0 ? null : Integer.valueOf(i), attributes.get("shape.key." + i));
+    }
+    assertNull(attributes.get("shape.unknown"));
+  }
+  
+  /**
+   * Werden {@link AttributeShape} abwechselnd gelesen, bleibt der Cache des gemeinsamen Namens bei
+   * dem zuerst aufgelösten {@link AttributeShape}.
+   * @since 18.10.2026 18:44:02 agent | Realisierung
+   */
+  @Test
+  public void slotCacheTest() {
+    AttributeName name = AttributeName.of("shape.cache");
+    AttributeName other = AttributeName.of("shape.cache.other");
+    AttributeShape root = AttributeShape.rootOf(AttributeTestObject.class);
+    AttributeShape first = root.with(name);
+    AttributeShape second = root.with(other).with(name);
+    assertEquals(0, first.slotOf(name));
+    long cache = name.cache;
+    for (int i = 0; i < 100; i++) {
+      assertEquals(1, second.slotOf(name));
+      assertEquals(0, first.slotOf(name));
+    }
+    assertEquals(cache, name.cache);
+  }
+  
+  /**
+   * Zur Laufzeit gebildete Namen, ihre Übergänge und {@link AttributeShape} werden mit den letzten
+   * Attributen freigegeben, die sie verwenden. Übergänge entfernter {@link AttributeShape} werden mit
+   * dem nächsten neuen Übergang entfernt.
+   * @since 18.10.2026 18:44:31 agent | Realisierung
+   */
+  @Test
+  public void dynamicNameTest() throws InterruptedException {
+    int size = AttributesOfInterface.DICTIONARY_THRESHOLD * 3;
+    for (int i = 0; i < 1_000; i++) {
+      AttributesOfInterface attributes = new AttributesOfInterface(AttributeShape.rootOf(AttributeTestObject.class));
+      for (int j = 0; j < (i % 2 == 0 ? 2 : size); j++) {
+        attributes.put("shape.dynamic." + i + "." + j, Integer.valueOf(j));
+      }
+      assertEquals(Integer.valueOf(1), attributes.get("shape.dynamic." + i + ".1"));
+    }
+    assertSame(AttributeName.of("shape.dynamic.kept"), AttributeName.find("shape.dynamic.kept"));
+    AttributeShape root = AttributeShape.rootOf(AttributeTestObject.class);
+    int found = -1;
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    for (int round = 0; found != 0 && System.nanoTime() < deadline; round++) {
+      System.gc();
+      Thread.sleep(10);
+      root.with(AttributeName.of("shape.dynamic.round." + round));
+      found = 0;
+      for (int i = 0; i < 1_000; i++) {
+        if (AttributeName.find("shape.dynamic." + i + ".0") != null) found++;
+        if (AttributeName.find("shape.dynamic." + i + ".1") != null) found++;
+      }
+    }
+    assertEquals(0, found);
+    assertTrue(AttributeName.count() < 1_000);
+    assertSame(STATUS.name, AttributeName.find("shape.status"));
+  }
+  
+  /**
+   * @since 18.10.2026 12:05:11 agent | Realisierung
+   */
+  @Test(expected = ClassCastException.class)
+  public void wrongTypeTest() {
+    AttributeTestObject object = new AttributeTestObject();
+    object.setObjectAttribute("shape.count", "drei");
+    object.getObjectAttribute(COUNT);
+  }
+  
+  /**
+   * @since 18.10.2026 12:05:30 agent | Realisierung
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void primitiveTypeTest() {
+    AttributeKey.of("shape.primitive", int.class);
+  }
+  
+}
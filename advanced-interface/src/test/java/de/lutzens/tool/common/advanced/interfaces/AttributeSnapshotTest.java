@@ -0,0 +1,299 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeSnapshotTest
+ * Version     : 1
+ * Date        : 18.10.2026 16:06:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Prüft Snapshot und Wiederherstellung der Klassen- und Interface-Attribute.
+ * @author agent
+ * @since 18.10.2026 16:06:02 agent | Realisierung
+ */
+public class AttributeSnapshotTest {
+  /** @since 18.10.2026 16:06:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long          serialVersionUID = 1L;
+  
+  /** Anzahl der dekodierten {@link Point}.
+   * @since 18.10.2026 16:06:20 agent | Realisierung */
+  private static final AtomicInteger READS            = new AtomicInteger();
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * @since 18.10.2026 16:06:31 agent | Realisierung
+   */
+  @BeforeClass
+  public static void init() {
+    InterfaceWithAttributes.registerAttributeCodec(new PointCodec());
+  }
+  
+  /**
+   * @throws IOException Fehler beim Schließen des Journals
+   * @since 18.10.2026 19:09:50 agent | Realisierung
+   */
+  @After
+  public void reset() throws IOException {
+    InterfaceWithAttributesController.reset();
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * @since 18.10.2026 16:06:40 agent | Realisierung
+   * @since 18.10.2026 19:12:02 agent | Zählt nur die eigenen Attribute
+   */
+  @Test
+  public void roundTripTest() throws IOException {
+    AttributeTestObject object = new AttributeTestObject();
+    object.setClassAttribute("snapshot.string", "wert");
+    object.setClassAttribute("snapshot.long", Long.valueOf(Long.MAX_VALUE));
+    object.setClassAttribute("snapshot.int", Integer.valueOf(42));
+    object.setClassAttribute("snapshot.double", Double.valueOf(1.5));
+    object.setClassAttribute("snapshot.boolean", Boolean.TRUE);
+    object.setClassAttribute("snapshot.bytes", new byte[] { 1, 2, 3 });
+    object.setClassAttribute("snapshot.null", null);
+    object.setClassAttribute("snapshot.point", new Point(3, 4));
+    object.setInterfaceAttribute("snapshot.interface", "interface");
+    Path path = Files.createTempFile("attributes", ".snapshot");
+    try {
+      assertEquals(9, InterfaceWithAttributes.writeAttributeSnapshot(path));
+      object.setClassAttribute("snapshot.string", "geändert");
+      object.setClassAttribute("snapshot.point", new Point(0, 0));
+      object.setInterfaceAttribute("snapshot.interface", "geändert");
+      assertEquals(9, InterfaceWithAttributes.restoreAttributeSnapshot(path));
+      assertEquals("wert", object.getClassAttribute("snapshot.string"));
+      assertEquals(Long.valueOf(Long.MAX_VALUE), object.getClassAttribute("snapshot.long"));
+      assertEquals(Integer.valueOf(42), object.getClassAttribute("snapshot.int"));
+      assertEquals(Double.valueOf(1.5), object.getClassAttribute("snapshot.double"));
+      assertEquals(Boolean.TRUE, object.getClassAttribute("snapshot.boolean"));
+      assertArrayEquals(new byte[] { 1, 2, 3 }, (byte[]) object.getClassAttribute("snapshot.bytes"));
+      assertNull(object.getClassAttribute("snapshot.null"));
+      assertTrue(object.getClassAttributes().containsKey("snapshot.null"));
+      assertEquals(new Point(3, 4), object.getClassAttribute("snapshot.point"));
+      assertEquals("interface", object.getInterfaceAttribute("snapshot.interface"));
+    } finally {
+      Files.delete(path);
+    }
+  }
+  
+  /**
+   * @since 18.10.2026 16:07:02 agent | Realisierung
+   */
+  @Test
+  public void invalidTest() throws IOException {
+    Path path = Files.createTempFile("attributes", ".snapshot");
+    try {
+      Files.write(path, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+      InterfaceWithAttributes.restoreAttributeSnapshot(path);
+      fail("Kein Snapshot");
+    } catch (IOException e) {
+      assertTrue(e.getMessage().startsWith("Kein Snapshot"));
+    } finally {
+      Files.delete(path);
+    }
+    AttributeTestObject object = new AttributeTestObject();
+    object.setClassAttribute("snapshot.unknown", new Object());
+    try {
+      InterfaceWithAttributes.writeAttributeSnapshot(path);
+      fail("Kein Codec");
+    } catch (IllegalArgumentException e) {
+      assertTrue(e.getMessage().endsWith(AttributeTestObject.class.getName() + ".snapshot.unknown"));
+      assertTrue(Files.notExists(path));
+    } finally {
+      object.setClassAttribute("snapshot.unknown", null);
+    }
+  }
+  
+  /**
+   * Eine Million Attribute: beim Wiederherstellen wird weder ein Name noch ein Wert gelesen, erst der
+   * Zugriff sucht genau den gelesenen Namen im Index und dekodiert dessen Wert.
+   * <p>
+   * Statt der Zeit wird die Anzahl der gelesenen Namen und Werte geprüft, die Dauer des
+   * Wiederherstellens hängt damit nachweislich nicht von der Anzahl der Attribute ab.
+   * @since 18.10.2026 16:07:31 agent | Realisierung
+   * @since 18.10.2026 18:53:02 agent | Vergleicht die Zeit je Attribut statt sie auszugeben
+   * @since 18.10.2026 19:12:10 agent | Zählt nur die eigenen Attribute
+   * @since 18.10.2026 19:30:51 agent | Zählt die gelesenen Namen statt die Zeit zu vergleichen
+   */
+  @Test
+  public void lazyRestoreTest() throws IOException {
+    int size = 1_000_000;
+    for (int i = 0; i < size; i++) {
+      InterfaceWithAttributes.setClassAttribute(Large.class, "snapshot.large." + i, new Point(i, -i));
+    }
+    Path path = Files.createTempFile("attributes", ".snapshot");
+    try {
+      assertEquals(size, InterfaceWithAttributes.writeAttributeSnapshot(path));
+      InterfaceWithAttributesController.reset();
+      READS.set(0);
+      long decoded = AttributeSnapshot.DECODED.get();
+      assertEquals(size, InterfaceWithAttributes.restoreAttributeSnapshot(path));
+      assertEquals(0, READS.get());
+      assertEquals(decoded, AttributeSnapshot.DECODED.get());
+      assertEquals(new Point(123_456, -123_456), InterfaceWithAttributes.getClassAttribute(Large.class, "snapshot.large.123456"));
+      assertEquals(1, READS.get());
+      assertEquals(decoded + 1, AttributeSnapshot.DECODED.get());
+      assertEquals(new Point(123_456, -123_456), InterfaceWithAttributes.getClassAttribute(Large.class, "snapshot.large.123456"));
+      assertNull(InterfaceWithAttributes.getClassAttribute(Large.class, "snapshot.large.fehlt"));
+      assertEquals(1, READS.get());
+      assertEquals(decoded + 1, AttributeSnapshot.DECODED.get());
+      assertEquals(size, InterfaceWithAttributesController.getClassAttributes(Large.class).size());
+      assertEquals(decoded + 1 + size, AttributeSnapshot.DECODED.get());
+    } finally {
+      Files.delete(path);
+    }
+  }
+  
+  /**
+   * Über die Typhierarchie aufgelöste Attribute aus dem Snapshot, bevor sie übernommen wurden.
+   * @since 18.10.2026 19:31:02 agent | Realisierung
+   */
+  @Test
+  public void inheritedRestoreTest() throws IOException {
+    InterfaceWithAttributes.setClassAttribute(Large.class, "snapshot.inherited", "large");
+    InterfaceWithAttributes.setClassAttribute(Large.class, "snapshot.shadowed", "large");
+    InterfaceWithAttributes.setClassAttribute(Derived.class, "snapshot.shadowed", "derived");
+    Path path = Files.createTempFile("attributes", ".snapshot");
+    try {
+      assertEquals(3, InterfaceWithAttributes.writeAttributeSnapshot(path));
+      InterfaceWithAttributesController.reset();
+      InterfaceWithAttributes.setClassAttributeInheritance(true);
+      InterfaceWithAttributes.setClassAttribute(Large.class, "snapshot.shadowed", "vorhanden");
+      assertEquals("vorhanden", InterfaceWithAttributes.getClassAttribute(Derived.class, "snapshot.shadowed"));
+      assertEquals(3, InterfaceWithAttributes.restoreAttributeSnapshot(path));
+      assertEquals("derived", InterfaceWithAttributes.getClassAttribute(Derived.class, "snapshot.shadowed"));
+      assertEquals("large", InterfaceWithAttributes.getClassAttribute(Derived.class, "snapshot.inherited"));
+      assertEquals("large", InterfaceWithAttributes.getClassAttribute(Large.class, "snapshot.shadowed"));
+      InterfaceWithAttributes.setClassAttribute(Large.class, "snapshot.inherited", "geändert");
+      assertEquals("geändert", InterfaceWithAttributes.getClassAttribute(Derived.class, "snapshot.inherited"));
+      assertEquals(2, InterfaceWithAttributesController.getClassAttributes(Derived.class).size());
+      assertEquals("derived", InterfaceWithAttributes.getClassAttribute(Derived.class, "snapshot.shadowed"));
+    } finally {
+      Files.delete(path);
+    }
+  }
+  
+  /* -- Innere Klassen ---------------------------------------------------------------------------- */
+  
+  /**
+   * Klasse mit sehr vielen Attributen.
+   * @since 18.10.2026 16:08:20 agent | Realisierung
+   */
+  static class Large implements InterfaceWithAttributes {
+  }
+  
+  /**
+   * Erbt die Attribute von {@link Large}.
+   * @since 18.10.2026 19:31:10 agent | Realisierung
+   */
+  static class Derived extends Large {
+  }
+  
+  /**
+   * Eigener Wert für den {@link PointCodec}.
+   * @since 18.10.2026 16:08:31 agent | Realisierung
+   */
+  static final class Point {
+    /** @since 18.10.2026 16:08:40 agent | Realisierung */
+    final int x;
+    
+    /** @since 18.10.2026 16:08:51 agent | Realisierung */
+    final int y;
+    
+    /**
+     * Konstruiert einen {@link Point}.
+     * @param x X
+     * @param y Y
+     * @since 18.10.2026 16:09:02 agent | Realisierung
+     */
+    Point(int x, int y) {
+      this.x = x;
+      this.y = y;
+    }
+    
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     * @since 18.10.2026 16:09:10 agent | Realisierung
+     */
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof Point && ((Point) obj).x == this.x && ((Point) obj).y == this.y;
+    }
+    
+    /**
+     * @see java.lang.Object#hashCode()
+     * @since 18.10.2026 16:09:20 agent | Realisierung
+     */
+    @Override
+    public int hashCode() {
+      return 31 * this.x + this.y;
+    }
+  }
+  
+  /**
+   * Zählender Codec für {@link Point}.
+   * @since 18.10.2026 16:09:31 agent | Realisierung
+   */
+  static final class PointCodec implements AttributeCodec<Point> {
+    /**
+     * @see de.lutzens.tool.common.advanced.interfaces.AttributeCodec#getId()
+     * @since 18.10.2026 16:09:40 agent | Realisierung
+     */
+    @Override
+    public String getId() {
+      return "test.point";
+    }
+    
+    /**
+     * @see de.lutzens.tool.common.advanced.interfaces.AttributeCodec#getType()
+     * @since 18.10.2026 16:09:51 agent | Realisierung
+     */
+    @Override
+    public Class<Point> getType() {
+      return Point.class;
+    }
+    
+    /**
+     * @see de.lutzens.tool.common.advanced.interfaces.AttributeCodec#write(java.lang.Object, java.io.DataOutput)
+     * @since 18.10.2026 16:10:02 agent | Realisierung
+     */
+    @Override
+    public void write(Point value, DataOutput out) throws IOException {
+      out.writeInt(value.x);
+      out.writeInt(value.y);
+    }
+    
+    /**
+     * @see de.lutzens.tool.common.advanced.interfaces.AttributeCodec#read(java.io.DataInput)
+     * @since 18.10.2026 16:10:10 agent | Realisierung
+     */
+    @Override
+    public Point read(DataInput in) throws IOException {
+      READS.incrementAndGet();
+      return new Point(in.readInt(), in.readInt());
+    }
+  }
+  
+}
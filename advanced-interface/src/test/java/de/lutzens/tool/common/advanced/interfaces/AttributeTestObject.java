@@ -0,0 +1,32 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeTestObject
+ * Version     : 1
+ * Date        : 18.10.2026 18:30:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+/**
+ * Implementierung des {@link InterfaceWithAttributes} mit Attributen in der Registry, gemeinsam
+ * für alle Tests.
+ * @author agent
+ * @since 18.10.2026 18:30:02 agent | Realisierung
+ */
+class AttributeTestObject implements InterfaceWithAttributes {
+  /** @since 18.10.2026 18:30:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /* -- Konstruktoren ----------------------------------------------------------------------------- */
+  
+  /**
+   * Konstruiert ein {@link AttributeTestObject}.
+   * @since 18.10.2026 18:30:10 agent | Realisierung
+   */
+  AttributeTestObject() {
+    initInterfaceWithAttribute();
+  }
+  
+}
@@ -0,0 +1,150 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : AttributeViewTest
+ * Version     : 1
+ * Date        : 18.10.2026 17:32:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Prüft das Anlegen der Objekt-Attribute beim ersten Schreibzugriff und die Sicht ohne Kopie.
+ * @author agent
+ * @since 18.10.2026 17:32:02 agent | Realisierung
+ */
+public class AttributeViewTest {
+  /** @since 18.10.2026 17:32:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * @throws IOException Fehler beim Schließen des Journals
+   * @since 18.10.2026 19:10:00 agent | Realisierung
+   */
+  @After
+  public void reset() throws IOException {
+    InterfaceWithAttributesController.reset();
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * Lesezugriffe legen keine Attribute an.
+   * @since 18.10.2026 17:32:10 agent | Realisierung
+   */
+  @Test
+  public void lazyTest() {
+    AttributeTestObject object = new AttributeTestObject();
+    assertSame(AttributesOfInterface.EMPTY, InterfaceWithAttributesController.readObjectAttributes(object));
+    assertNull(object.getObjectAttribute("view.value"));
+    assertEquals(0, object.getObjectAttributeLong("view.value"));
+    assertTrue(object.getObjectAttributes().isEmpty());
+    assertEquals(1, object.getObjectAttributes("view.value").size());
+    assertTrue(object.getObjectAttributeView().isEmpty());
+    assertSame(AttributesOfInterface.EMPTY, InterfaceWithAttributesController.readObjectAttributes(object));
+    object.setObjectAttribute("view.value", "wert");
+    assertNotSame(AttributesOfInterface.EMPTY, InterfaceWithAttributesController.readObjectAttributes(object));
+    assertTrue(AttributesOfInterface.EMPTY.get().isEmpty());
+    object.initInterfaceWithAttribute();
+    assertEquals("wert", object.getObjectAttribute("view.value"));
+    object.releaseInterfaceWithAttribute();
+    assertSame(AttributesOfInterface.EMPTY, InterfaceWithAttributesController.readObjectAttributes(object));
+  }
+  
+  /**
+   * Eine wiederholte Initialisierung behält die vorhandenen Attribute und den Identifikator.
+   * @since 18.10.2026 18:56:02 agent | Realisierung
+   */
+  @Test
+  public void reinitTest() {
+    AttributeTestObject object = new AttributeTestObject();
+    object.setObjectAttribute("view.value", "wert");
+    object.setObjectAttributeLong("view.long", 42);
+    AttributesOfInterface attributes = InterfaceWithAttributesController.readObjectAttributes(object);
+    long id = object.getObjectId();
+    object.initInterfaceWithAttribute();
+    assertSame(attributes, InterfaceWithAttributesController.readObjectAttributes(object));
+    assertEquals("wert", object.getObjectAttribute("view.value"));
+    assertEquals(42, object.getObjectAttributeLong("view.long"));
+    assertEquals(id, object.getObjectId());
+  }
+  
+  /**
+   * @since 18.10.2026 17:32:31 agent | Realisierung
+   */
+  @Test
+  public void viewTest() {
+    AttributeTestObject object = new AttributeTestObject();
+    Map<String, Object> view = object.getObjectAttributeView();
+    object.setObjectAttribute("view.string", "wert");
+    object.setObjectAttribute("view.null", null);
+    object.setObjectAttributeLong("view.long", 42);
+    assertEquals(3, view.size());
+    assertEquals("wert", view.get("view.string"));
+    assertEquals(Long.valueOf(42), view.get("view.long"));
+    assertTrue(view.containsKey("view.null"));
+    assertFalse(view.containsKey("view.missing"));
+    assertFalse(view.containsKey(Integer.valueOf(1)));
+    assertEquals(object.getObjectAttributes(), view);
+    try {
+      view.put("view.string", "neu");
+      fail("Unveränderlich");
+    } catch (UnsupportedOperationException e) {
+      assertEquals("wert", object.getObjectAttribute("view.string"));
+    }
+    Iterator<Entry<String, Object>> iterator = view.entrySet().iterator();
+    iterator.next();
+    try {
+      iterator.remove();
+      fail("Unveränderlich");
+    } catch (UnsupportedOperationException e) {
+      assertEquals(3, view.size());
+    }
+    AttributeTestObject derived = new AttributeTestObject();
+    derived.setObjectAttributePrototype(object, true);
+    derived.setObjectAttribute("view.string", "eigener");
+    Map<String, Object> inherited = derived.getObjectAttributeView();
+    assertEquals(3, inherited.size());
+    assertEquals("eigener", inherited.get("view.string"));
+    assertTrue(inherited.containsKey("view.long"));
+    assertEquals(derived.getObjectAttributes(), inherited);
+  }
+  
+  /**
+   * Die Sicht liefert auch Attribute in der {@link java.util.concurrent.ConcurrentHashMap} jeweils einmal.
+   * @since 18.10.2026 17:32:51 agent | Realisierung
+   */
+  @Test
+  public void dictionaryTest() {
+    AttributeTestObject object = new AttributeTestObject();
+    for (int i = 0; i < AttributesOfInterface.DICTIONARY_THRESHOLD + 8; i++) {
+      object.setObjectAttributeInt("view.dictionary." + i, i);
+    }
+    Map<String, Object> view = object.getObjectAttributeView();
+    assertEquals(AttributesOfInterface.DICTIONARY_THRESHOLD + 8, view.size());
+    assertEquals(AttributesOfInterface.DICTIONARY_THRESHOLD + 8, new HashSet<>(view.keySet()).size());
+    assertEquals(Integer.valueOf(7), view.get("view.dictionary.7"));
+    assertEquals(object.getObjectAttributes(), view);
+  }
+  
+}
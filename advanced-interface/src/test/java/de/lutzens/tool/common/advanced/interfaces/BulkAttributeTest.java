@@ -0,0 +1,134 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : BulkAttributeTest
+ * Version     : 1
+ * Date        : 18.10.2026 13:40:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Prüft das gemeinsame Setzen mehrerer Attribute und Objekte.
+ * @author agent
+ * @since 18.10.2026 13:40:02 agent | Realisierung
+ */
+public class BulkAttributeTest {
+  /** @since 18.10.2026 13:40:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long                 serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  private static final AttributeKey<String> STATUS           = AttributeKey.of("bulk.status", String.class);
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * @throws IOException Fehler beim Schließen des Journals
+   * @since 18.10.2026 19:10:10 agent | Realisierung
+   */
+  @After
+  public void reset() throws IOException {
+    InterfaceWithAttributesController.reset();
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * @since 18.10.2026 13:40:31 agent | Realisierung
+   */
+  @Test
+  public void setObjectAttributesTest() {
+    AttributeTestObject object = new AttributeTestObject();
+    object.setObjectAttribute("bulk.first", "old");
+    HashMap<String, Object> attributes = new HashMap<>();
+    attributes.put("bulk.first", "first");
+    attributes.put("bulk.second", Integer.valueOf(2));
+    attributes.put("bulk.none", null);
+    object.setObjectAttributes(attributes);
+    assertEquals(attributes, object.getObjectAttributes());
+    
+    int size = AttributesOfInterface.DICTIONARY_THRESHOLD * 2;
+    for (int i = 0; i < size; i++) {
+      attributes.put("bulk.key." + i, Integer.valueOf(i));
+    }
+    object.setObjectAttributes(attributes);
+    assertEquals(attributes, object.getObjectAttributes());
+  }
+  
+  /**
+   * @since 18.10.2026 13:41:02 agent | Realisierung
+   */
+  @Test
+  public void mergeObjectAttributesTest() {
+    AttributeTestObject object = new AttributeTestObject();
+    object.setObjectAttribute("bulk.count", Integer.valueOf(1));
+    object.setObjectAttribute("bulk.none", null);
+    HashMap<String, Object> attributes = new HashMap<>();
+    attributes.put("bulk.count", Integer.valueOf(2));
+    attributes.put("bulk.none", "neu");
+    attributes.put("bulk.new", "new");
+    object.mergeObjectAttributes(attributes, (previous, value) -> previous == null ? "ersetzt" : (Integer) previous + (Integer) value);
+    assertEquals(Integer.valueOf(3), object.getObjectAttribute("bulk.count"));
+    assertEquals("ersetzt", object.getObjectAttribute("bulk.none"));
+    assertEquals("new", object.getObjectAttribute("bulk.new"));
+  }
+  
+  /**
+   * @since 18.10.2026 13:41:40 agent | Realisierung
+   */
+  @Test
+  public void addObjectAttributesTest() {
+    AttributeTestObject source = new AttributeTestObject();
+    AttributeTestObject target = new AttributeTestObject();
+    source.setObjectAttribute(STATUS, "aktiv");
+    source.setObjectAttributeLong("bulk.counter", 5);
+    target.addObjectAttributes(source);
+    target.addObjectAttributes(new AttributeTestObject());
+    assertEquals(source.getObjectAttributes(), target.getObjectAttributes());
+    
+    target.addObjectAttributeLong("bulk.counter", 1);
+    assertEquals(6, target.getObjectAttributeLong("bulk.counter"));
+    assertEquals(5, source.getObjectAttributeLong("bulk.counter"));
+  }
+  
+  /**
+   * @since 18.10.2026 13:42:11 agent | Realisierung
+   */
+  @Test
+  public void multipleObjectsTest() {
+    List<AttributeTestObject> objects = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      objects.add(new AttributeTestObject());
+    }
+    HashMap<String, Object> attributes = new HashMap<>();
+    attributes.put("bulk.first", "first");
+    attributes.put("bulk.second", Integer.valueOf(2));
+    InterfaceWithAttributes.setObjectAttributes(objects, attributes);
+    InterfaceWithAttributes.setObjectAttribute(objects, STATUS, "aktiv");
+    InterfaceWithAttributes.setObjectAttribute(objects, "bulk.third", null);
+    
+    attributes.put(STATUS.getName(), "aktiv");
+    attributes.put("bulk.third", null);
+    for (AttributeTestObject object : objects) {
+      assertEquals(attributes, object.getObjectAttributes());
+    }
+    assertNull(new AttributeTestObject().getObjectAttribute(STATUS));
+    assertTrue(new AttributeTestObject().getObjectAttributes().isEmpty());
+  }
+  
+}
@@ -0,0 +1,157 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : ClassAttributesTest
+ * Version     : 1
+ * Date        : 18.10.2026 13:58:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Prüft die Klassen-Attribute über {@link ClassAttributes} mit und ohne Vererbung.
+ * @author agent
+ * @since 18.10.2026 13:58:02 agent | Realisierung
+ */
+public class ClassAttributesTest {
+  /** @since 18.10.2026 13:58:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long                 serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  private static final AttributeKey<String> COLOR            = AttributeKey.of("class.color", String.class);
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * @throws IOException Fehler beim Schließen des Journals
+   * @since 18.10.2026 13:58:30 agent | Realisierung
+   * @since 18.10.2026 19:08:00 agent | Setzt den gesamten statischen Zustand zurück
+   */
+  @After
+  public void reset() throws IOException {
+    InterfaceWithAttributesController.reset();
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * @since 18.10.2026 13:58:51 agent | Realisierung
+   */
+  @Test
+  public void exactClassTest() {
+    Derived derived = new Derived();
+    InterfaceWithAttributes.setClassAttribute(Base.class, "class.exact", "rot");
+    assertNull(derived.getClassAttribute("class.exact"));
+    assertEquals("rot", new Base().getClassAttribute("class.exact"));
+    assertSame(ClassAttributes.of(Derived.class), ClassAttributes.of(Derived.class));
+  }
+  
+  /**
+   * @since 18.10.2026 13:59:20 agent | Realisierung
+   */
+  @Test
+  public void inheritanceTest() {
+    InterfaceWithAttributes.setClassAttributeInheritance(true);
+    InterfaceWithAttributes.setClassAttribute(Plugin.class, "class.name", "plugin");
+    InterfaceWithAttributes.setClassAttribute(Plugin.class, COLOR, "grau");
+    InterfaceWithAttributes.setClassAttribute(Base.class, COLOR, "rot");
+    Derived derived = new Derived();
+    assertEquals("rot", derived.getClassAttribute(COLOR));
+    assertEquals("plugin", derived.getClassAttribute("class.name"));
+    assertEquals("rot", derived.getClassAttributes().get(COLOR.getName()));
+    assertEquals("plugin", derived.getClassAttributes().get("class.name"));
+    
+    derived.setClassAttribute(COLOR, "blau");
+    assertEquals("blau", derived.getClassAttribute(COLOR));
+    assertEquals("rot", new Base().getClassAttribute(COLOR));
+    
+    InterfaceWithAttributes.setClassAttribute(Plugin.class, "class.name", "geändert");
+    assertEquals("geändert", derived.getClassAttribute("class.name"));
+    
+    InterfaceWithAttributes.setClassAttributeInheritance(false);
+    assertNull(derived.getClassAttribute("class.name"));
+  }
+  
+  /**
+   * @since 18.10.2026 14:00:02 agent | Realisierung
+   */
+  @Test
+  public void cachedResolutionTest() {
+    InterfaceWithAttributes.setClassAttributeInheritance(true);
+    Derived derived = new Derived();
+    Object resolved = resolved(Derived.class);
+    assertSame(resolved, resolved(Derived.class));
+    
+    InterfaceWithAttributes.setClassAttribute(Unrelated.class, "class.cached", "grün");
+    assertSame(resolved, resolved(Derived.class));
+    
+    InterfaceWithAttributes.setClassAttribute(Base.class, "class.cached", "gelb");
+    assertEquals("gelb", derived.getClassAttribute("class.cached"));
+    assertNull(new Unrelated().getClassAttribute(COLOR));
+  }
+  
+  /* -- Hilfsmethoden ----------------------------------------------------------------------------- */
+  
+  /**
+   * Löst die Attribute auf und liefert die zwischengespeicherte Sicht.
+   * <p>
+   * @param type Klasse
+   * @return Aufgelöste Sicht
+   * @since 18.10.2026 14:00:31 agent | Realisierung
+   */
+  private static Object resolved(Class<?> type) {
+    ClassAttributes attributes = ClassAttributes.of(type);
+    attributes.get(COLOR.name, true);
+    return attributes.resolved;
+  }
+  
+  /* -- Innere Klassen ---------------------------------------------------------------------------- */
+  
+  /**
+   * Erweiterung des {@link InterfaceWithAttributes}.
+   * @since 18.10.2026 14:01:02 agent | Realisierung
+   */
+  interface Plugin extends InterfaceWithAttributes {
+  }
+  
+  /**
+   * Oberklasse.
+   * @since 18.10.2026 14:01:11 agent | Realisierung
+   */
+  static class Base implements Plugin {
+    /**
+     * Konstruiert eine {@link Base}.
+     * @since 18.10.2026 14:01:20 agent | Realisierung
+     */
+    Base() {
+      initInterfaceWithAttribute();
+    }
+  }
+  
+  /**
+   * Unterklasse.
+   * @since 18.10.2026 14:01:31 agent | Realisierung
+   */
+  static class Derived extends Base {
+  }
+  
+  /**
+   * Klasse ohne Beziehung zu {@link Base}.
+   * @since 18.10.2026 14:01:40 agent | Realisierung
+   */
+  static class Unrelated implements InterfaceWithAttributes {
+  }
+  
+}
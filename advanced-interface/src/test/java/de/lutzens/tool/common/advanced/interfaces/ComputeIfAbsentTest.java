@@ -0,0 +1,145 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : ComputeIfAbsentTest
+ * Version     : 1
+ * Date        : 18.10.2026 14:25:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * Prüft das einmalige Laden fehlender Attribute.
+ * @author agent
+ * @since 18.10.2026 14:25:02 agent | Realisierung
+ */
+public class ComputeIfAbsentTest {
+  /** @since 18.10.2026 14:25:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long                 serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  private static final AttributeKey<String> PARSED           = AttributeKey.of("compute.parsed", String.class);
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * @throws IOException Fehler beim Schließen des Journals
+   * @since 18.10.2026 19:10:20 agent | Realisierung
+   */
+  @After
+  public void reset() throws IOException {
+    InterfaceWithAttributesController.reset();
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * @since 18.10.2026 14:25:31 agent | Realisierung
+   */
+  @Test
+  public void singleFlightTest() throws Exception {
+    AttributeTestObject object = new AttributeTestObject();
+    AtomicInteger calls = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<Callable<String>> tasks = new ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      tasks.add(() -> {
+        String value = object.computeObjectAttributeIfAbsent(PARSED, key -> {
+          calls.incrementAndGet();
+          started.countDown();
+          try {
+            release.await(10, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return "geladen";
+        });
+        assertEquals("geladen", value);
+        return value;
+      });
+    }
+    Thread opener = new Thread(() -> {
+      try {
+        started.await(10, TimeUnit.SECONDS);
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      release.countDown();
+    });
+    opener.start();
+    ConcurrentWeakRegistryTest.runAll(tasks);
+    opener.join();
+    assertEquals(1, calls.get());
+    assertEquals("geladen", object.getObjectAttribute(PARSED));
+  }
+  
+  /**
+   * @since 18.10.2026 14:26:31 agent | Realisierung
+   */
+  @Test
+  public void failureNotCachedTest() {
+    AttributeTestObject object = new AttributeTestObject();
+    try {
+      object.computeObjectAttributeIfAbsent("compute.failing", key -> {
+        throw new IllegalArgumentException(key);
+      });
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertEquals("compute.failing", e.getMessage());
+    }
+    assertNull(object.getObjectAttribute("compute.failing"));
+    assertNull(object.computeObjectAttributeIfAbsent("compute.failing", key -> null));
+    assertEquals(0, object.getObjectAttributes().size());
+    assertEquals("zweiter", object.computeObjectAttributeIfAbsent("compute.failing", key -> "zweiter"));
+  }
+  
+  /**
+   * @since 18.10.2026 14:27:02 agent | Realisierung
+   */
+  @Test
+  public void presentValueTest() {
+    AttributeTestObject object = new AttributeTestObject();
+    object.setObjectAttribute(PARSED, "vorhanden");
+    assertEquals("vorhanden", object.computeObjectAttributeIfAbsent(PARSED, key -> {
+      throw new AssertionError();
+    }));
+    
+    Object value = new Object();
+    assertSame(value, object.computeClassAttributeIfAbsent("compute.class", key -> value));
+    assertSame(value, object.computeClassAttributeIfAbsent("compute.class", key -> new Object()));
+    assertSame(value, new AttributeTestObject().getClassAttribute("compute.class"));
+    assertEquals("interface", object.computeInterfaceAttributeIfAbsent("compute.interface", key -> "interface"));
+    assertEquals("interface", object.getInterfaceAttribute("compute.interface"));
+  }
+  
+  /**
+   * @since 18.10.2026 14:27:31 agent | Realisierung
+   */
+  @Test(expected = IllegalStateException.class)
+  public void recursiveTest() {
+    AttributeTestObject object = new AttributeTestObject();
+    object.computeObjectAttributeIfAbsent("compute.recursive", key -> object.computeObjectAttributeIfAbsent(key, inner -> "innen"));
+  }
+  
+}
@@ -0,0 +1,328 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : ConcurrentWeakRegistryTest
+ * Version     : 1
+ * Date        : 18.10.2026 10:41:15
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.StreamSupport;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Prüft die {@link ConcurrentWeakRegistry} und den gleichzeitigen Zugriff auf die Attribute.
+ * @author agent
+ * @since 18.10.2026 10:41:15 agent | Realisierung
+ */
+public class ConcurrentWeakRegistryTest {
+  /** @since 18.10.2026 10:41:20 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  private static final int  THREADS          = 32;
+  private static final int  OPERATIONS       = 20_000;
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * @throws IOException Fehler beim Schließen des Journals
+   * @since 18.10.2026 19:10:30 agent | Realisierung
+   */
+  @After
+  public void reset() throws IOException {
+    InterfaceWithAttributesController.reset();
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * @since 18.10.2026 10:42:02 agent | Realisierung
+   */
+  @Test
+  public void putGetRemoveTest() {
+    ConcurrentWeakRegistry<String, Integer> registry = new ConcurrentWeakRegistry<>(4);
+    List<String> keys = new ArrayList<>();
+    for (int i = 0; i < 1_000; i++) {
+      String key = "key." + i;
+      keys.add(key);
+      assertNull(registry.put(key, i));
+    }
+    assertEquals(1_000, registry.size());
+    for (int i = 0; i < 1_000; i++) {
+      assertEquals(Integer.valueOf(i), registry.get(keys.get(i)));
+      assertNull(registry.get(new String(keys.get(i))));
+    }
+    assertEquals(Integer.valueOf(7), registry.putIfAbsent(keys.get(7), -1));
+    assertEquals(Integer.valueOf(7), registry.remove(keys.get(7)));
+    assertNull(registry.get(keys.get(7)));
+    assertEquals(999, registry.size());
+  }
+  
+  /**
+   * Gleiche, aber unterschiedliche Objekte erhalten eigene Attribute, ohne dass deren 
+   * {@link Object#hashCode()} oder {@link Object#equals(Object)} aufgerufen wird.
+   * @since 18.10.2026 11:05:31 agent | Realisierung
+   */
+  @Test
+  public void identityTest() {
+    Equal first = new Equal();
+    Equal second = new Equal();
+    first.setObjectAttribute("owner", "first");
+    second.setObjectAttribute("owner", "second");
+    assertEquals("first", first.getObjectAttribute("owner"));
+    assertEquals("second", second.getObjectAttribute("owner"));
+    assertEquals(0, Equal.calls.get());
+  }
+  
+  /**
+   * @since 18.10.2026 10:43:11 agent | Realisierung
+   * @throws InterruptedException Unterbrechung
+   */
+  @Test
+  public void weakKeyTest() throws InterruptedException {
+    ConcurrentWeakRegistry<Object, String> registry = new ConcurrentWeakRegistry<>(2);
+    Object strong = new Object();
+    registry.put(strong, "strong");
+    for (int i = 0; i < 100; i++) {
+      registry.put(new Object(), "weak");
+    }
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (registry.size() > 1 && System.nanoTime() < deadline) {
+      System.gc();
+      Thread.sleep(10);
+      registry.expungeStaleEntries(Integer.MAX_VALUE);
+    }
+    assertEquals(1, registry.size());
+    assertEquals("strong", registry.get(strong));
+  }
+  
+  /**
+   * Ohne Bereinigung bei Schreibzugriffen entfernt nur {@link ConcurrentWeakRegistry#awaitStaleEntries(int, long)}
+   * die Einträge und übergibt ihre Werte der Bereinigungsfunktion.
+   * @since 18.10.2026 16:39:20 agent | Realisierung
+   * @throws InterruptedException Unterbrechung
+   */
+  @Test
+  public void awaitStaleEntriesTest() throws InterruptedException {
+    AtomicInteger released = new AtomicInteger();
+    ConcurrentWeakRegistry<Object, Integer> registry = new ConcurrentWeakRegistry<>(2, released::addAndGet);
+    registry.setExpungeOnWrite(false);
+    for (int i = 0; i < 100; i++) {
+      registry.put(new Object(), Integer.valueOf(1));
+    }
+    System.gc();
+    int removed = 0;
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (removed < 100 && System.nanoTime() < deadline) {
+      removed += registry.awaitStaleEntries(30, 100);
+      registry.put(new Object(), Integer.valueOf(0));
+      System.gc();
+    }
+    assertEquals(100, released.get());
+    assertEquals(0, registry.awaitStaleEntries(0, 0));
+  }
+  
+  /**
+   * Ein explizit entfernter Eintrag erreicht die Bereinigungsfunktion nicht, auch wenn seine
+   * Referenz danach noch in der Queue landet.
+   * @since 18.10.2026 19:03:40 agent | Realisierung
+   */
+  @Test
+  public void removeBeforeExpungeTest() {
+    AtomicInteger released = new AtomicInteger();
+    ConcurrentWeakRegistry<Object, Integer> registry = new ConcurrentWeakRegistry<>(2, released::addAndGet);
+    Object key = new Object();
+    registry.put(key, Integer.valueOf(1));
+    WeakReference<Object> reference = registry.reference(key);
+    assertEquals(Integer.valueOf(1), registry.remove(key));
+    assertTrue(reference.enqueue());
+    assertEquals(0, registry.expungeStaleEntries(Integer.MAX_VALUE));
+    assertEquals(0, released.get());
+    assertNull(registry.get(key));
+    assertEquals(Integer.valueOf(2), registry.computeIfAbsent(key, k -> Integer.valueOf(2)));
+  }
+  
+  /**
+   * Die rekursiv geteilten {@link Spliterator}s liefern jeden Schlüssel genau einmal, auch parallel.
+   * @since 18.10.2026 16:51:31 agent | Realisierung
+   */
+  @Test
+  public void spliteratorTest() {
+    ConcurrentWeakRegistry<Object, Integer> registry = new ConcurrentWeakRegistry<>(4);
+    List<Object> keys = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      Object key = new Object();
+      keys.add(key);
+      registry.put(key, Integer.valueOf(i));
+    }
+    List<Spliterator<Object>> parts = new ArrayList<>();
+    split(registry.spliterator(), parts);
+    assertTrue(parts.size() > 4);
+    IdentityHashMap<Object, Object> seen = new IdentityHashMap<>();
+    for (Spliterator<Object> part : parts) {
+      part.tryAdvance(key -> assertNull(seen.put(key, key)));
+      part.forEachRemaining(key -> assertNull(seen.put(key, key)));
+      assertFalse(part.tryAdvance(key -> seen.put(key, key)));
+    }
+    assertEquals(keys.size(), seen.size());
+    for (Object key : keys) {
+      assertTrue(seen.containsKey(key));
+    }
+    assertEquals(keys.size(), StreamSupport.stream(registry.spliterator(), true).count());
+  }
+  
+  /**
+   * Teilt den {@link Spliterator} so weit wie möglich.
+   * @param spliterator Zu teilender {@link Spliterator}
+   * @param parts Nimmt die Teile auf
+   * @since 18.10.2026 16:51:40 agent | Realisierung
+   */
+  private static void split(Spliterator<Object> spliterator, List<Spliterator<Object>> parts) {
+    Spliterator<Object> prefix = spliterator.trySplit();
+    if (prefix != null) split(prefix, parts);
+    if (prefix != null) split(spliterator, parts);
+    else parts.add(spliterator);
+  }
+  
+  /**
+   * Mehr als 32 Threads greifen gleichzeitig auf gemeinsame und eigene Schlüssel zu.
+   * @since 18.10.2026 10:44:30 agent | Realisierung
+   * @throws Exception Fehler in einem Thread
+   */
+  @Test
+  public void contentionTest() throws Exception {
+    ConcurrentWeakRegistry<Integer, Object> registry = new ConcurrentWeakRegistry<>();
+    Integer[] shared = new Integer[64];
+    for (int i = 0; i < shared.length; i++) {
+      shared[i] = Integer.valueOf(-1 - i);
+    }
+    Object[][] seen = new Object[THREADS][shared.length];
+    CyclicBarrier barrier = new CyclicBarrier(THREADS);
+    List<Callable<Void>> tasks = new ArrayList<>();
+    for (int t = 0; t < THREADS; t++) {
+      int thread = t;
+      tasks.add(() -> {
+        barrier.await();
+        for (int i = 0; i < OPERATIONS; i++) {
+          int index = i % shared.length;
+          Object value = registry.computeIfAbsent(shared[index], key -> new Object());
+          if (seen[thread][index] == null) seen[thread][index] = value;
+          else assertSame(seen[thread][index], value);
+          Integer key = Integer.valueOf(thread * OPERATIONS + i);
+          registry.put(key, key);
+          assertEquals(key, registry.get(key));
+        }
+        return null;
+      });
+    }
+    runAll(tasks);
+    for (int index = 0; index < shared.length; index++) {
+      for (int thread = 1; thread < THREADS; thread++) {
+        assertSame(seen[0][index], seen[thread][index]);
+      }
+    }
+    assertEquals(shared.length + THREADS * OPERATIONS, registry.size());
+  }
+  
+  /**
+   * Mehr als 32 Threads setzen gleichzeitig Attribute auf gemeinsamen und eigenen Objekten.
+   * @since 18.10.2026 10:46:02 agent | Realisierung
+   * @throws Exception Fehler in einem Thread
+   */
+  @Test
+  public void objectAttributeContentionTest() throws Exception {
+    AttributeTestObject common = new AttributeTestObject();
+    CyclicBarrier barrier = new CyclicBarrier(THREADS);
+    List<Callable<Void>> tasks = new ArrayList<>();
+    for (int t = 0; t < THREADS; t++) {
+      String prefix = "thread." + t + ".";
+      tasks.add(() -> {
+        AttributeTestObject mine = new AttributeTestObject();
+        barrier.await();
+        for (int i = 0; i < 1_000; i++) {
+          common.setObjectAttribute(prefix + i, Integer.valueOf(i));
+          mine.setObjectAttribute("value", Integer.valueOf(i));
+          assertEquals(Integer.valueOf(i), mine.getObjectAttribute("value"));
+          assertEquals(Integer.valueOf(i), common.getObjectAttribute(prefix + i));
+        }
+        return null;
+      });
+    }
+    runAll(tasks);
+    assertEquals(THREADS * 1_000, common.getObjectAttributes().size());
+  }
+  
+  /* -- Hilfsmethoden ----------------------------------------------------------------------------- */
+  
+  /**
+   * Führt alle Aufgaben gleichzeitig aus und reicht Fehler weiter.
+   * @param tasks Aufgaben
+   * @throws Exception Fehler einer Aufgabe
+   * @since 18.10.2026 10:47:13 agent | Realisierung
+   */
+  static void runAll(List<? extends Callable<?>> tasks) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (Callable<?> task : tasks) {
+        futures.add(executor.submit(task));
+      }
+      for (Future<?> future : futures) {
+        future.get(60, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+  }
+  
+  /* -- Innere Klassen ---------------------------------------------------------------------------- */
+  
+  /**
+   * Implementierung, deren Objekte alle gleich sind und die Aufrufe von {@link #hashCode()} 
+   * und {@link #equals(Object)} zählt.
+   * @since 18.10.2026 11:06:02 agent | Realisierung
+   */
+  static class Equal extends AttributeTestObject {
+    static final AtomicInteger calls = new AtomicInteger();
+    
+    @Override
+    public int hashCode() {
+      calls.incrementAndGet();
+      return 1;
+    }
+    
+    @Override
+    public boolean equals(Object obj) {
+      calls.incrementAndGet();
+      return obj instanceof Equal;
+    }
+  }
+  
+}
@@ -0,0 +1,155 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : InterfaceScopeTest
+ * Version     : 1
+ * Date        : 18.10.2026 14:10:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Prüft die Interface-Attribute je Erweiterung des {@link InterfaceWithAttributes}.
+ * @author agent
+ * @since 18.10.2026 14:10:02 agent | Realisierung
+ */
+public class InterfaceScopeTest {
+  /** @since 18.10.2026 14:10:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long                  serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  private static final AttributeKey<Integer> VERSION          = AttributeKey.of("scope.version", Integer.class);
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * @throws IOException Fehler beim Schließen des Journals
+   * @since 18.10.2026 19:10:40 agent | Realisierung
+   */
+  @After
+  public void reset() throws IOException {
+    InterfaceWithAttributesController.reset();
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * @since 18.10.2026 14:10:31 agent | Realisierung
+   */
+  @Test
+  public void isolationTest() {
+    InterfaceWithAttributes.setInterfaceAttribute(Reader.class, VERSION, 1);
+    InterfaceWithAttributes.setInterfaceAttribute(Writer.class, VERSION, 2);
+    InterfaceWithAttributes.setInterfaceAttribute(Reader.class, "scope.name", "reader");
+    
+    assertEquals(Integer.valueOf(1), InterfaceWithAttributes.getInterfaceAttribute(Reader.class, VERSION));
+    assertEquals(Integer.valueOf(2), InterfaceWithAttributes.getInterfaceAttribute(Writer.class, VERSION));
+    assertEquals("reader", InterfaceWithAttributes.getInterfaceAttribute(Reader.class, "scope.name"));
+    assertNull(InterfaceWithAttributes.getInterfaceAttribute(Writer.class, "scope.name"));
+    assertEquals(2, InterfaceWithAttributes.getInterfaceAttributes(Reader.class).size());
+    
+    Implementation object = new Implementation();
+    assertNull(object.getInterfaceAttribute(VERSION));
+    assertNull(object.getClassAttribute(VERSION));
+  }
+  
+  /**
+   * @since 18.10.2026 14:11:02 agent | Realisierung
+   */
+  @Test
+  public void globalScopeTest() {
+    Implementation object = new Implementation();
+    object.setInterfaceAttribute("scope.global", "global");
+    assertEquals("global", InterfaceWithAttributes.getInterfaceAttribute(InterfaceWithAttributes.class, "scope.global"));
+    InterfaceWithAttributes.setInterfaceAttribute(InterfaceWithAttributes.class, "scope.global", "geändert");
+    assertEquals("geändert", object.getInterfaceAttribute("scope.global"));
+    assertNull(InterfaceWithAttributes.getInterfaceAttribute(Reader.class, "scope.global"));
+  }
+  
+  /**
+   * Die Attribute im Bereich liegen getrennt von den Klassen-Attributen des Interfaces und werden
+   * auch bei Vererbung nicht an die implementierenden Klassen weitergegeben.
+   * @since 18.10.2026 14:11:31 agent | Realisierung
+   * @since 18.10.2026 18:52:02 agent | Bereiche werden nicht vererbt
+   */
+  @Test
+  public void inheritanceTest() {
+    InterfaceWithAttributes.setInterfaceAttribute(Writer.class, "scope.inherited", "writer");
+    InterfaceWithAttributes.setClassAttribute(Writer.class, "scope.class", "class");
+    Implementation object = new Implementation();
+    assertNull(object.getClassAttribute("scope.inherited"));
+    assertNull(InterfaceWithAttributes.getInterfaceAttribute(Writer.class, "scope.class"));
+    assertEquals("writer", InterfaceWithAttributes.getInterfaceAttribute(Writer.class, "scope.inherited"));
+    InterfaceWithAttributes.setClassAttributeInheritance(true);
+    try {
+      assertNull(object.getClassAttribute("scope.inherited"));
+      assertEquals("class", object.getClassAttribute("scope.class"));
+      assertEquals(1, object.getClassAttributes().size());
+      AttributeOverlay overlay = AttributeOverlay.create().withInterfaceAttribute(Writer.class, "scope.class", "überlagert");
+      assertEquals("class", overlay.call(() -> object.getClassAttribute("scope.class")));
+      assertEquals("überlagert", overlay.call(() -> InterfaceWithAttributes.getInterfaceAttribute(Writer.class, "scope.class")));
+    } finally {
+      InterfaceWithAttributes.setClassAttributeInheritance(false);
+    }
+  }
+  
+  /**
+   * @since 18.10.2026 14:12:02 agent | Realisierung
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void classScopeTest() {
+    InterfaceWithAttributes.setInterfaceAttribute(Implementation.class, "scope.class", "class");
+  }
+  
+  /**
+   * Ein Interface, das {@link InterfaceWithAttributes} nicht erweitert, bildet keinen Bereich.
+   * @since 18.10.2026 18:52:20 agent | Realisierung
+   */
+  @Test(expected = IllegalArgumentException.class)
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  public void foreignScopeTest() {
+    InterfaceWithAttributes.setInterfaceAttribute((Class) Runnable.class, "scope.foreign", "fremd");
+  }
+  
+  /* -- Innere Klassen ---------------------------------------------------------------------------- */
+  
+  /**
+   * Erster Bereich.
+   * @since 18.10.2026 14:12:20 agent | Realisierung
+   */
+  interface Reader extends InterfaceWithAttributes {
+  }
+  
+  /**
+   * Zweiter Bereich.
+   * @since 18.10.2026 14:12:31 agent | Realisierung
+   */
+  interface Writer extends InterfaceWithAttributes {
+  }
+  
+  /**
+   * Implementierung beider Bereiche.
+   * @since 18.10.2026 14:12:40 agent | Realisierung
+   */
+  static class Implementation implements Reader, Writer {
+    /**
+     * Konstruiert eine {@link Implementation}.
+     * @since 18.10.2026 14:12:51 agent | Realisierung
+     */
+    Implementation() {
+      initInterfaceWithAttribute();
+    }
+  }
+  
+}
@@ -8,10 +8,15 @@
  */
 package de.lutzens.tool.common.advanced.interfaces;
 
+import java.io.IOException;
+
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * TODO: Kommentieren!
@@ -50,15 +55,28 @@ public class InterfaceWithAttributesTest implements InterfaceWithAttributes {
     
   }
   
+  /**
+   * @throws IOException Fehler beim Schließen des Journals
+   * @since 18.10.2026 19:10:50 agent | Realisierung
+   */
+  @After
+  public void reset() throws IOException {
+    InterfaceWithAttributesController.reset();
+  }
+  
   /* -- Logik ------------------------------------------------------------------------------------- */
   /* ---- Eigenschaften des Objektes --------------------------------------- */
   
   /**
    * @since 13.07.2017 10:39:17 Lutz Hoffarth | Realisierung
+   * @since 18.10.2026 19:12:20 agent | Prüft die Reihenfolge statt eines festen Identifikators
    */
   @Test
   public void getObjectIdTest() {
-    assertEquals(6, getObjectId());
+    long id = getObjectId();
+    assertTrue(id > 0);
+    assertEquals(id, getObjectId());
+    assertTrue(new InterfaceWithAttributesTest().getObjectId() > id);
   }
   
   /**
@@ -145,6 +163,27 @@ public class InterfaceWithAttributesTest implements InterfaceWithAttributes {
     assertEquals(2, getInterfaceAttributes().size());
   }
   
+  /* ---- Alle Objekte ----------------------------------------------------- */
+  
+  /**
+   * Sequentieller und paralleler {@link java.util.stream.Stream} liefern dieselben Objekte.
+   * @since 18.10.2026 19:40:40 agent | Realisierung
+   */
+  @Test
+  public void streamObjectsTest() {
+    AttributeTestObject[] objects = new AttributeTestObject[10_000];
+    for (int i = 0; i < objects.length; i++) {
+      objects[i] = new AttributeTestObject();
+      objects[i].setObjectAttributeLong("test.stream", i);
+    }
+    long expected = (long) objects.length * (objects.length - 1) / 2;
+    assertFalse(InterfaceWithAttributes.streamObjects(false).isParallel());
+    assertTrue(InterfaceWithAttributes.streamObjects(true).isParallel());
+    assertEquals(expected, InterfaceWithAttributes.streamObjects(false).mapToLong(o -> o.getObjectAttributeLong("test.stream")).sum());
+    assertEquals(expected, InterfaceWithAttributes.streamObjects(true).mapToLong(o -> o.getObjectAttributeLong("test.stream")).sum());
+    assertTrue(InterfaceWithAttributes.streamObjects(true).anyMatch(o -> o == this));
+  }
+  
   ///* -- statisch ---------------------------------------------------------------------------------- */
   ///* -- get/set/add/is ---------------------------------------------------------------------------- */
   ///* -- create ------------------------------------------------------------------------------------ */
@@ -0,0 +1,196 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : ObjectIdTest
+ * Version     : 1
+ * Date        : 18.10.2026 18:09:10
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Prüft die Vergabe der Objekt-Identifikatoren und die Suche des Objekts über den Identifikator.
+ * @author agent
+ * @since 18.10.2026 18:09:10 agent | Realisierung
+ */
+public class ObjectIdTest {
+  /** @since 18.10.2026 18:09:14 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /** Anzahl der Threads.
+   * @since 18.10.2026 18:09:20 agent | Realisierung */
+  private static final int  THREADS          = 8;
+  
+  /** Objekte je Thread.
+   * @since 18.10.2026 18:09:24 agent | Realisierung */
+  private static final int  OBJECTS          = 50_000;
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * @throws IOException Fehler beim Schließen des Journals
+   * @since 18.10.2026 19:11:00 agent | Realisierung
+   */
+  @After
+  public void reset() throws IOException {
+    InterfaceWithAttributesController.reset();
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * Gleichzeitig vergebene Identifikatoren sind eindeutig, jeder Thread holt nur je Block einen
+   * neuen Bereich vom gemeinsamen Zähler. Die ersten Blöcke sind kleiner, bis sie
+   * {@link AttributesOfInterface#ID_BLOCK} erreichen.
+   * @since 18.10.2026 18:09:31 agent | Realisierung
+   * @since 18.10.2026 19:38:31 agent | Wachsende Blöcke
+   */
+  @Test
+  public void uniqueTest() throws InterruptedException {
+    InterfaceWithAttributes[][] objects = new InterfaceWithAttributes[THREADS][OBJECTS];
+    long[][] ids = new long[THREADS][OBJECTS];
+    Thread[] threads = new Thread[THREADS];
+    for (int i = 0; i < threads.length; i++) {
+      int thread = i;
+      threads[i] = new Thread(() -> {
+        for (int j = 0; j < OBJECTS; j++) {
+          InterfaceWithAttributes object = j % 4 == 0 ? new Holder() : new AttributeTestObject();
+          objects[thread][j] = object;
+          ids[thread][j] = object.getObjectId();
+        }
+      });
+    }
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    long[] all = new long[THREADS * OBJECTS];
+    for (int i = 0; i < THREADS; i++) {
+      int blocks = 0;
+      for (int j = 0; j < OBJECTS; j++) {
+        long id = ids[i][j];
+        if (j == 0 || id != ids[i][j - 1] + 1) blocks++;
+        assertSame(objects[i][j], InterfaceWithAttributes.findObjectById(id));
+        assertEquals(id, objects[i][j].getObjectId());
+      }
+      assertTrue(String.valueOf(blocks), blocks <= OBJECTS / AttributesOfInterface.ID_BLOCK + 8);
+      System.arraycopy(ids[i], 0, all, i * OBJECTS, OBJECTS);
+    }
+    Arrays.sort(all);
+    for (int i = 1; i < all.length; i++) {
+      assertNotEquals(all[i - 1], all[i]);
+    }
+    assertTrue(all[0] > 0);
+  }
+  
+  /**
+   * Kurzlebige Threads verbrauchen nur wenige Identifikatoren, ein unveränderlicher Stand für
+   * abgeleitete Attribute keinen.
+   * @since 18.10.2026 19:38:40 agent | Realisierung
+   */
+  @Test
+  public void shortLivedTest() throws InterruptedException {
+    long[] ids = new long[100];
+    for (int i = 0; i < ids.length; i++) {
+      int index = i;
+      Thread thread = new Thread(() -> ids[index] = new AttributeTestObject().getObjectId());
+      thread.start();
+      thread.join();
+    }
+    assertTrue(String.valueOf(ids[ids.length - 1] - ids[0]), ids[ids.length - 1] - ids[0] < 2 * ids.length);
+    AttributesOfInterface attributes = new AttributesOfInterface();
+    attributes.put(AttributeName.of("id.value"), "wert");
+    AttributesOfInterface frozen = attributes.frozen();
+    assertEquals(0, frozen.getId());
+    assertEquals("wert", frozen.get(AttributeName.of("id.value")));
+  }
+  
+  /**
+   * Nach dem Freigeben der Attribute wird das Objekt unter dem alten Identifikator nicht mehr
+   * gefunden, unter dem neuen schon. Eine wiederholte Initialisierung behält den Identifikator.
+   * @since 18.10.2026 18:09:40 agent | Realisierung
+   * @since 18.10.2026 18:55:51 agent | Initialisierung behält den Identifikator
+   */
+  @Test
+  public void releaseTest() {
+    for (InterfaceWithAttributes object : new InterfaceWithAttributes[] { new AttributeTestObject(), new Holder() }) {
+      object.setObjectAttribute("id.value", "wert");
+      long id = object.getObjectId();
+      assertSame(object, InterfaceWithAttributes.findObjectById(id));
+      object.releaseInterfaceWithAttribute();
+      assertNull(InterfaceWithAttributes.findObjectById(id));
+      long renewed = object.getObjectId();
+      assertNotEquals(id, renewed);
+      assertSame(object, InterfaceWithAttributes.findObjectById(renewed));
+      object.initInterfaceWithAttribute();
+      assertSame(object, InterfaceWithAttributes.findObjectById(renewed));
+      assertEquals(renewed, object.getObjectId());
+    }
+    assertNull(InterfaceWithAttributes.findObjectById(0));
+    assertNull(InterfaceWithAttributes.findObjectById(-1));
+    assertNull(InterfaceWithAttributes.findObjectById(Long.MAX_VALUE));
+  }
+  
+  /**
+   * Vom GarbageCollector entfernte Objekte werden nicht mehr gefunden, der Index hält sie nicht fest.
+   * @since 18.10.2026 18:09:51 agent | Realisierung
+   */
+  @Test
+  public void collectedTest() throws InterruptedException {
+    long[] ids = new long[10_000];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = (i % 2 == 0 ? new Holder() : new AttributeTestObject()).getObjectId();
+    }
+    int found = ids.length;
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (found > 0 && System.nanoTime() < deadline) {
+      System.gc();
+      Thread.sleep(10);
+      found = 0;
+      for (long id : ids) {
+        if (InterfaceWithAttributes.findObjectById(id) != null) found++;
+      }
+    }
+    assertEquals(0, found);
+    AttributeTestObject object = new AttributeTestObject();
+    assertSame(object, InterfaceWithAttributes.findObjectById(object.getObjectId()));
+  }
+  
+  /* -- Innere Klassen ---------------------------------------------------------------------------- */
+  
+  /**
+   * Implementierung mit eigener Ablage der Attribute.
+   * @since 18.10.2026 18:10:10 agent | Realisierung
+   */
+  static class Holder implements InterfaceWithAttributes {
+    /** Ablage der Attribute.
+     * @since 18.10.2026 18:10:20 agent | Realisierung */
+    private final AttributeHolder holder = new AttributeHolder();
+    
+    /**
+     * @see de.lutzens.tool.common.advanced.interfaces.InterfaceWithAttributes#getAttributeHolder()
+     * @since 18.10.2026 18:10:31 agent | Realisierung
+     */
+    @Override
+    public AttributeHolder getAttributeHolder() {
+      return this.holder;
+    }
+  }
+  
+}
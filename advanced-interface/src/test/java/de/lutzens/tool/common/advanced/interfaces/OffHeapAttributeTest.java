@@ -0,0 +1,224 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : OffHeapAttributeTest
+ * Version     : 1
+ * Date        : 18.10.2026 16:30:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Prüft die Ablage von Objekt-Attributen außerhalb des Heaps.
+ * @author agent
+ * @since 18.10.2026 16:30:02 agent | Realisierung
+ */
+public class OffHeapAttributeTest {
+  /** @since 18.10.2026 16:30:06 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * @since 18.10.2026 16:30:10 agent | Realisierung
+   * @since 18.10.2026 19:35:40 agent | Attribut für das Verzeichnis der Blöcke
+   */
+  @BeforeClass
+  public static void init() {
+    InterfaceWithAttributes.setObjectAttributeOffHeap("offheap.long");
+    InterfaceWithAttributes.setObjectAttributeOffHeap("offheap.int");
+    InterfaceWithAttributes.setObjectAttributeOffHeap("offheap.double");
+    InterfaceWithAttributes.setObjectAttributeOffHeap("offheap.boolean");
+    InterfaceWithAttributes.setObjectAttributeOffHeap("offheap.bytes");
+    InterfaceWithAttributes.setObjectAttributeOffHeap("offheap.release");
+    InterfaceWithAttributes.setObjectAttributeOffHeap("offheap.directory");
+  }
+  
+  /**
+   * @throws IOException Fehler beim Schließen des Journals
+   * @since 18.10.2026 19:11:10 agent | Realisierung
+   */
+  @After
+  public void reset() throws IOException {
+    InterfaceWithAttributesController.reset();
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * @since 18.10.2026 16:30:20 agent | Realisierung
+   */
+  @Test
+  public void primitiveTest() {
+    assertTrue(InterfaceWithAttributes.isObjectAttributeOffHeap("offheap.long"));
+    assertFalse(InterfaceWithAttributes.isObjectAttributeOffHeap("offheap.unknown"));
+    AttributeTestObject object = new AttributeTestObject();
+    object.setObjectAttributeLong("offheap.long", Long.MIN_VALUE);
+    object.setObjectAttributeInt("offheap.int", -7);
+    object.setObjectAttributeDouble("offheap.double", 2.5);
+    object.setObjectAttributeBoolean("offheap.boolean", true);
+    byte[] bytes = { 1, 2, 3 };
+    object.setObjectAttribute("offheap.bytes", bytes);
+    bytes[0] = 9;
+    object.setObjectAttribute("offheap.heap", "wert");
+    assertEquals(Long.MIN_VALUE, object.getObjectAttributeLong("offheap.long"));
+    assertEquals(Long.valueOf(Long.MIN_VALUE), object.getObjectAttribute("offheap.long"));
+    assertEquals(-7, object.getObjectAttributeInt("offheap.int"));
+    assertEquals(Integer.valueOf(-7), object.getObjectAttribute("offheap.int"));
+    assertEquals(2.5, object.getObjectAttributeDouble("offheap.double"), 0);
+    assertTrue(object.getObjectAttributeBoolean("offheap.boolean"));
+    assertArrayEquals(new byte[] { 1, 2, 3 }, (byte[]) object.getObjectAttribute("offheap.bytes"));
+    assertEquals(3, object.addObjectAttributeInt("offheap.int", 10));
+    assertEquals(3.5, object.addObjectAttributeDouble("offheap.double", 1), 0);
+    object.setObjectAttribute("offheap.bytes", new byte[0]);
+    assertArrayEquals(new byte[0], (byte[]) object.getObjectAttribute("offheap.bytes"));
+    object.setObjectAttribute("offheap.bytes", null);
+    assertNull(object.getObjectAttribute("offheap.bytes"));
+    HashMap<String, Object> copy = object.getObjectAttributes();
+    assertEquals(6, copy.size());
+    assertTrue(copy.containsKey("offheap.bytes"));
+    assertEquals("wert", copy.get("offheap.heap"));
+    assertEquals(Integer.valueOf(3), copy.get("offheap.int"));
+    AttributeTestObject other = new AttributeTestObject();
+    assertEquals(0, other.getObjectAttributeLong("offheap.long"));
+    assertNull(other.getObjectAttribute("offheap.long"));
+    other.addObjectAttributes(object);
+    assertEquals(Long.MIN_VALUE, other.getObjectAttributeLong("offheap.long"));
+    assertEquals(6, other.getObjectAttributes().size());
+    assertTrue(InterfaceWithAttributes.getAttributeStatistics().getOffHeapBytes() > 0);
+  }
+  
+  /**
+   * @since 18.10.2026 16:30:40 agent | Realisierung
+   */
+  @Test
+  public void migrationTest() {
+    AttributeTestObject object = new AttributeTestObject();
+    object.setObjectAttributeLong("offheap.migration", 40);
+    InterfaceWithAttributes.setObjectAttributeOffHeap("offheap.migration");
+    assertEquals(40, object.getObjectAttributeLong("offheap.migration"));
+    assertEquals(42, object.addObjectAttributeLong("offheap.migration", 2));
+    assertEquals(Long.valueOf(42), object.getObjectAttributes().get("offheap.migration"));
+    assertEquals(1, object.getObjectAttributes().size());
+  }
+  
+  /**
+   * @since 18.10.2026 16:30:51 agent | Realisierung
+   */
+  @Test
+  public void invalidTest() {
+    AttributeTestObject object = new AttributeTestObject();
+    try {
+      object.setObjectAttribute("offheap.long", "kein primitiver Wert");
+      fail("Kein primitiver Wert");
+    } catch (IllegalArgumentException e) {
+      assertTrue(e.getMessage().contains("offheap.long"));
+    }
+    try {
+      object.setObjectAttribute("offheap.bytes", new byte[(1 << 20) + 1]);
+      fail("Zu groß");
+    } catch (IllegalArgumentException e) {
+      assertNull(object.getObjectAttribute("offheap.bytes"));
+    }
+    object.setObjectAttribute("offheap.bytes", new byte[] { 1 });
+    try {
+      object.addObjectAttributeLong("offheap.bytes", 1);
+      fail("byte[] ist kein primitiver Wert");
+    } catch (ClassCastException e) {
+      assertArrayEquals(new byte[] { 1 }, (byte[]) object.getObjectAttribute("offheap.bytes"));
+    }
+  }
+  
+  /**
+   * @since 18.10.2026 16:31:02 agent | Realisierung
+   */
+  @Test
+  public void concurrentAddTest() throws InterruptedException {
+    AttributeTestObject object = new AttributeTestObject();
+    Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] = new Thread(() -> {
+        for (int j = 0; j < 10_000; j++) {
+          object.addObjectAttributeLong("offheap.long", 1);
+        }
+      });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(40_000, object.getObjectAttributeLong("offheap.long"));
+  }
+  
+  /**
+   * Nach dem Entfernen der Objekte durch den GarbageCollector werden die Blöcke freigegeben. Die
+   * Registry räumt bei späteren Schreibzugriffen auf.
+   * @since 18.10.2026 16:31:20 agent | Realisierung
+   * @since 18.10.2026 18:56:20 agent | Aufräumen über Schreibzugriffe statt über die Initialisierung
+   */
+  @Test
+  public void releaseTest() throws InterruptedException {
+    long before = AttributeArena.reserved();
+    ArrayList<AttributeTestObject> objects = new ArrayList<>();
+    for (int i = 0; i < 4 * AttributeArena.ROWS; i++) {
+      AttributeTestObject object = new AttributeTestObject();
+      object.setObjectAttributeLong("offheap.release", i);
+      objects.add(object);
+    }
+    long filled = AttributeArena.reserved();
+    assertTrue(filled - before >= 3L * AttributeArena.ROWS * 9);
+    assertEquals(4711, objects.get(4711).getObjectAttributeLong("offheap.release"));
+    objects = null;
+    for (int i = 0; i < 100 && AttributeArena.reserved() >= filled; i++) {
+      System.gc();
+      Thread.sleep(20);
+      for (int j = 0; j < 200; j++) {
+        new AttributeTestObject().setObjectAttribute("offheap.other", null);
+      }
+    }
+    assertTrue(AttributeArena.reserved() < filled);
+  }
+  
+  /**
+   * Das Verzeichnis der Blöcke wächst nicht mit dem höchsten Identifikator: nach dem Freigeben der
+   * älteren Objekte umfasst es nur noch die Blöcke der verbliebenen.
+   * @since 18.10.2026 19:35:31 agent | Realisierung
+   */
+  @Test
+  public void directoryTest() {
+    ArrayList<AttributeTestObject> objects = new ArrayList<>();
+    for (int i = 0; i < 8 * AttributeArena.ROWS; i++) {
+      AttributeTestObject object = new AttributeTestObject();
+      object.setObjectAttributeLong("offheap.directory", i);
+      objects.add(object);
+    }
+    AttributeArena arena = AttributeName.of("offheap.directory").arena;
+    assertTrue(arena.capacity() >= 8);
+    for (int i = 0; i < objects.size() - 10; i++) {
+      objects.get(i).releaseInterfaceWithAttribute();
+    }
+    assertTrue(String.valueOf(arena.capacity()), arena.capacity() <= 2);
+    assertEquals(objects.size() - 1, objects.get(objects.size() - 1).getObjectAttributeLong("offheap.directory"));
+    for (int i = objects.size() - 10; i < objects.size(); i++) {
+      objects.get(i).releaseInterfaceWithAttribute();
+    }
+    assertEquals(0, arena.capacity());
+  }
+  
+}
@@ -0,0 +1,176 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : PrimitiveAttributeTest
+ * Version     : 1
+ * Date        : 18.10.2026 12:58:02
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Prüft die primitiven Objekt-Attribute ohne Boxing.
+ * @author agent
+ * @since 18.10.2026 12:58:02 agent | Realisierung
+ */
+public class PrimitiveAttributeTest implements InterfaceWithAttributes {
+  /** @since 18.10.2026 12:58:10 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long   serialVersionUID = 1L;
+  
+  /* -- Deklaration ------------------------------------------------------------------------------- */
+  /*   -- Konstante ---------------------------------------------------------------- */
+  
+  private static final String KEY__COUNTER     = "primitive.counter";
+  private static final String KEY__TIMESTAMP   = "primitive.timestamp";
+  private static final String KEY__RATIO       = "primitive.ratio";
+  private static final String KEY__FLAG        = "primitive.flag";
+  private static final String KEY__HITS        = "primitive.hits";
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * @since 18.10.2026 12:58:31 agent | Realisierung
+   */
+  @Before
+  public void init() {
+    initInterfaceWithAttribute();
+  }
+  
+  /**
+   * @throws IOException Fehler beim Schließen des Journals
+   * @since 18.10.2026 19:11:20 agent | Realisierung
+   */
+  @After
+  public void reset() throws IOException {
+    InterfaceWithAttributesController.reset();
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * @since 18.10.2026 12:58:40 agent | Realisierung
+   */
+  @Test
+  public void getSetTest() {
+    assertEquals(0, getObjectAttributeLong(KEY__TIMESTAMP));
+    assertFalse(getObjectAttributeBoolean(KEY__FLAG));
+    
+    setObjectAttributeLong(KEY__TIMESTAMP, 1_700_000_000_000L);
+    setObjectAttributeInt(KEY__COUNTER, 7);
+    setObjectAttributeDouble(KEY__RATIO, 0.25);
+    setObjectAttributeBoolean(KEY__FLAG, true);
+    
+    assertEquals(1_700_000_000_000L, getObjectAttributeLong(KEY__TIMESTAMP));
+    assertEquals(7, getObjectAttributeInt(KEY__COUNTER));
+    assertEquals(0.25, getObjectAttributeDouble(KEY__RATIO), 0);
+    assertTrue(getObjectAttributeBoolean(KEY__FLAG));
+    
+    assertEquals(Long.valueOf(1_700_000_000_000L), getObjectAttribute(KEY__TIMESTAMP));
+    assertEquals(Integer.valueOf(7), getObjectAttribute(KEY__COUNTER));
+    assertEquals(Double.valueOf(0.25), getObjectAttribute(KEY__RATIO));
+    assertEquals(Boolean.TRUE, getObjectAttributes().get(KEY__FLAG));
+  }
+  
+  /**
+   * @since 18.10.2026 12:59:31 agent | Realisierung
+   */
+  @Test
+  public void addTest() {
+    assertEquals(1, addObjectAttributeLong(KEY__HITS, 1));
+    assertEquals(11, addObjectAttributeLong(KEY__HITS, 10));
+    setObjectAttribute(KEY__COUNTER, Integer.valueOf(Integer.MAX_VALUE));
+    assertEquals(Integer.MIN_VALUE, addObjectAttributeInt(KEY__COUNTER, 1));
+    assertEquals(1.5, addObjectAttributeDouble(KEY__RATIO, 1.5), 0);
+    assertEquals(1.75, addObjectAttributeDouble(KEY__RATIO, .25), 0);
+    setObjectAttribute(KEY__HITS, "kein Zähler");
+    try {
+      addObjectAttributeLong(KEY__HITS, 1);
+    } catch (ClassCastException e) {
+      return;
+    }
+    throw new AssertionError("ClassCastException erwartet");
+  }
+  
+  /**
+   * @since 18.10.2026 13:00:30 agent | Realisierung
+   * @throws Exception Fehler in einem Thread
+   */
+  @Test
+  public void concurrentAddTest() throws Exception {
+    List<Callable<Void>> tasks = new ArrayList<>();
+    for (int t = 0; t < 32; t++) {
+      tasks.add(() -> {
+        for (int i = 0; i < 10_000; i++) {
+          addObjectAttributeLong(KEY__HITS, 1);
+          addObjectAttributeDouble(KEY__RATIO, 1);
+        }
+        return null;
+      });
+    }
+    ConcurrentWeakRegistryTest.runAll(tasks);
+    assertEquals(320_000, getObjectAttributeLong(KEY__HITS));
+    assertEquals(320_000, getObjectAttributeDouble(KEY__RATIO), 0);
+  }
+  
+  /**
+   * Nach dem ersten Setzen erzeugen Änderungen und Lesezugriffe keine Objekte mehr.
+   * @since 18.10.2026 13:01:20 agent | Realisierung
+   */
+  @Test
+  public void allocationFreeTest() {
+    java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+    com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+    Assume.assumeTrue(threads.isThreadAllocatedMemorySupported());
+    threads.setThreadAllocatedMemoryEnabled(true);
+    long id = Thread.currentThread().getId();
+    
+    long sum = updates(1_000);
+    long before = threads.getThreadAllocatedBytes(id);
+    sum += updates(1_000_000);
+    long allocated = threads.getThreadAllocatedBytes(id) - before;
+    
+    assertTrue("Speicher belegt: " + allocated + " Bytes", allocated < 1_024);
+    assertTrue(sum > 0);
+  }
+  
+  /* -- Hilfsmethoden ----------------------------------------------------------------------------- */
+  
+  /**
+   * Führt Änderungen an primitiven Attributen aus.
+   * @param count Anzahl der Durchläufe
+   * @return Prüfsumme
+   * @since 18.10.2026 13:02:02 agent | Realisierung
+   */
+  private long updates(int count) {
+    long sum = 0;
+    for (int i = 0; i < count; i++) {
+      sum += addObjectAttributeLong(KEY__HITS, 1);
+      sum += addObjectAttributeInt(KEY__COUNTER, 1);
+      setObjectAttributeLong(KEY__TIMESTAMP, i);
+      setObjectAttributeDouble(KEY__RATIO, i * .5);
+      setObjectAttributeBoolean(KEY__FLAG, (i & 1) == 0);
+      sum += getObjectAttributeLong(KEY__TIMESTAMP);
+      sum += (long) getObjectAttributeDouble(KEY__RATIO);
+      sum += getObjectAttributeBoolean(KEY__FLAG) ? 1 : 0;
+    }
+    return sum;
+  }
+  
+}
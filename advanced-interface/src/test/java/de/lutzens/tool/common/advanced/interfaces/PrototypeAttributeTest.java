@@ -0,0 +1,114 @@
+/**
+ * Project     : LutzensAdvancedInterface
+ * Klasse      : PrototypeAttributeTest
+ * Version     : 1
+ * Date        : 18.10.2026 17:03:20
+ * Author      : agent
+ * Copyright(c): Lutz Hoffarth 2026
+ */
+package de.lutzens.tool.common.advanced.interfaces;
+
+import java.io.IOException;
+import java.util.HashMap;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Prüft die Vererbung von Objekt-Attributen über einen Prototyp.
+ * @author agent
+ * @since 18.10.2026 17:03:20 agent | Realisierung
+ */
+public class PrototypeAttributeTest {
+  /** @since 18.10.2026 17:03:24 agent | Realisierung */
+  @SuppressWarnings("unused")
+  private static final long serialVersionUID = 1L;
+  
+  /* -- Initialisierung --------------------------------------------------------------------------- */
+  
+  /**
+   * @throws IOException Fehler beim Schließen des Journals
+   * @since 18.10.2026 19:11:30 agent | Realisierung
+   */
+  @After
+  public void reset() throws IOException {
+    InterfaceWithAttributesController.reset();
+  }
+  
+  /* -- Logik ------------------------------------------------------------------------------------- */
+  
+  /**
+   * Ein lebender Prototyp wird direkt gelesen, eigene Werte überdecken ihn.
+   * @since 18.10.2026 17:03:31 agent | Realisierung
+   */
+  @Test
+  public void liveTest() {
+    AttributeTestObject prototype = new AttributeTestObject();
+    prototype.setObjectAttribute("prototype.name", "vorlage");
+    prototype.setObjectAttribute("prototype.color", "rot");
+    prototype.setObjectAttributeLong("prototype.counter", 10);
+    AttributeTestObject object = new AttributeTestObject();
+    object.setObjectAttributePrototype(prototype, true);
+    object.setObjectAttribute("prototype.color", null);
+    assertEquals("vorlage", object.getObjectAttribute("prototype.name"));
+    assertNull(object.getObjectAttribute("prototype.color"));
+    assertEquals(10, object.getObjectAttributeLong("prototype.counter"));
+    prototype.setObjectAttribute("prototype.name", "geändert");
+    assertEquals("geändert", object.getObjectAttribute("prototype.name"));
+    assertEquals(11, object.addObjectAttributeLong("prototype.counter", 1));
+    assertEquals(10, prototype.getObjectAttributeLong("prototype.counter"));
+    HashMap<String, Object> copy = object.getObjectAttributes();
+    assertEquals(3, copy.size());
+    assertTrue(copy.containsKey("prototype.color"));
+    assertNull(copy.get("prototype.color"));
+    AttributeTestObject grandchild = new AttributeTestObject();
+    grandchild.setObjectAttributePrototype(object, true);
+    assertEquals("geändert", grandchild.getObjectAttribute("prototype.name"));
+    assertEquals(Long.valueOf(11), grandchild.getObjectAttribute("prototype.counter"));
+    try {
+      prototype.setObjectAttributePrototype(grandchild, true);
+      fail("Zyklischer Prototyp");
+    } catch (IllegalArgumentException e) {
+      assertNull(prototype.getObjectAttribute("prototype.unknown"));
+    }
+    object.setObjectAttributePrototype(null, true);
+    assertNull(object.getObjectAttribute("prototype.name"));
+    assertEquals(11, object.getObjectAttributeLong("prototype.counter"));
+  }
+  
+  /**
+   * Ohne <code>live</code> gilt der geteilte Stand des Prototyps zum Zeitpunkt der Ableitung.
+   * @since 18.10.2026 17:03:51 agent | Realisierung
+   */
+  @Test
+  public void frozenTest() {
+    AttributeTestObject prototype = new AttributeTestObject();
+    prototype.setObjectAttribute("prototype.name", "vorlage");
+    prototype.setObjectAttributeInt("prototype.size", 3);
+    AttributesOfInterface attributes = InterfaceWithAttributesController.getObjectAttributes(prototype);
+    AttributeTestObject first = new AttributeTestObject();
+    AttributeTestObject second = new AttributeTestObject();
+    first.setObjectAttributePrototype(prototype, false);
+    second.setObjectAttributePrototype(prototype, false);
+    assertSame(attributes.frozen(), attributes.frozen());
+    prototype.setObjectAttribute("prototype.name", "geändert");
+    prototype.addObjectAttributeInt("prototype.size", 1);
+    assertEquals("vorlage", first.getObjectAttribute("prototype.name"));
+    assertEquals(3, second.getObjectAttributeInt("prototype.size"));
+    assertEquals(5, second.addObjectAttributeInt("prototype.size", 2));
+    assertEquals(3, first.getObjectAttributeInt("prototype.size"));
+    AttributeTestObject third = new AttributeTestObject();
+    third.setObjectAttributePrototype(prototype, false);
+    assertEquals("geändert", third.getObjectAttribute("prototype.name"));
+    AttributeTestObject copy = new AttributeTestObject();
+    copy.addObjectAttributes(first);
+    assertEquals("vorlage", copy.getObjectAttribute("prototype.name"));
+  }
+  
+}